@@ -0,0 +1,98 @@
+package com.titlark.entity;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 地区代码表加载器
+ * <p>
+ * 返回 {@link AreaCodeTableFile} 格式的数据，可通过 {@link AreaCodeMappingTable#reload(AreaCodeLoader)}
+ * 在运行时切换到新版本的代码表文件。
+ *
+ * @author lark
+ */
+@FunctionalInterface
+public interface AreaCodeLoader {
+
+    /**
+     * 默认的类路径资源
+     */
+    String DEFAULT_RESOURCE = "/com/titlark/entity/area-code.bin";
+
+    /**
+     * 加载代码表数据
+     *
+     * @return {@link AreaCodeTableFile} 格式的数据
+     * @throws IOException 异常
+     */
+    ByteBuffer load() throws IOException;
+
+    /**
+     * 从默认的类路径资源加载
+     *
+     * @return 加载器
+     */
+    static AreaCodeLoader classpath() {
+        return classpath(DEFAULT_RESOURCE);
+    }
+
+    /**
+     * 从类路径资源加载，按资源长度一次性读入
+     * <p>
+     * 使用匿名类而非 lambda，避免首次查询时引导 lambda 运行时的开销
+     *
+     * @param resource 资源路径
+     * @return 加载器
+     */
+    static AreaCodeLoader classpath(String resource) {
+        return new AreaCodeLoader() {
+            @Override
+            public ByteBuffer load() throws IOException {
+                try (InputStream in = AreaCodeLoader.class.getResourceAsStream(resource)) {
+                    if (null == in) {
+                        throw new FileNotFoundException(resource);
+                    }
+                    byte[] data = new byte[Math.max(in.available(), 16)];
+                    int length = 0;
+                    int len;
+                    while ((len = in.read(data, length, data.length - length)) != -1) {
+                        length += len;
+                        if (length == data.length) {
+                            // 长度与预估一致时多读一个字节确认结束，避免无谓的扩容
+                            int next = in.read();
+                            if (next == -1) {
+                                break;
+                            }
+                            data = Arrays.copyOf(data, data.length * 2);
+                            data[length++] = (byte) next;
+                        }
+                    }
+                    return ByteBuffer.wrap(data, 0, length);
+                }
+            }
+        };
+    }
+
+    /**
+     * 通过内存映射从文件加载
+     *
+     * @param path 代码表文件
+     * @return 加载器
+     */
+    static AreaCodeLoader file(Path path) {
+        return new AreaCodeLoader() {
+            @Override
+            public ByteBuffer load() throws IOException {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+        };
+    }
+}
@@ -1,15 +1,26 @@
 package com.titlark.entity;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
 /**
  * 全国省市县地区代码对照表
+ * <p>
+ * 对照表数据保存在类路径资源 {@link AreaCodeLoader#DEFAULT_RESOURCE} 中（格式见 {@link AreaCodeTableFile}），
+ * 在首次查询时加载一次，之后以按地区代码升序排列的 int[] 及平行的名称数组共享，
+ * 查询过程为二分查找，不产生任何对象分配，可被多线程并发调用。
  *
  * @author lark
  */
 public class AreaCodeMappingTable {
 
+    /**
+     * 当前使用的地区代码索引
+     */
+    private static volatile RegionIndex index;
+
+    private AreaCodeMappingTable() {
+    }
+
     /**
      * 获取身份证归属地 (根据身份证前6位)
      *
@@ -17,3645 +28,111 @@ public class AreaCodeMappingTable {
      * @return 身份证归属地
      */
     public static String getRegion(String first6DigitsIdCard) {
-        return getAreaCodeMappingTable().get(first6DigitsIdCard);
+        if (null == first6DigitsIdCard || first6DigitsIdCard.length() != 6) {
+            return null;
+        }
+        int areaCode = toAreaCode(first6DigitsIdCard, 0);
+        return areaCode < 0 ? null : getRegion(areaCode);
+    }
+
+    /**
+     * 获取地区名称
+     *
+     * @param areaCode 6位地区代码，如 110101
+     * @return 地区名称，不存在时返回 null
+     */
+    public static String getRegion(int areaCode) {
+        return getIndex().getName(areaCode);
+    }
+
+    /**
+     * 解析行政区划（省、市、县三级）
+     * <p>
+     * 6位代码不在对照表中时，依次回退到所属地级（前4位）和省级（前2位）代码，返回的是回退后的共享实例。
+     *
+     * @param first6DigitsIdCard 身份证前6位
+     * @return 行政区划，省级代码也不存在时返回 null
+     */
+    public static Region resolveRegion(String first6DigitsIdCard) {
+        if (null == first6DigitsIdCard || first6DigitsIdCard.length() != 6) {
+            return null;
+        }
+        int areaCode = toAreaCode(first6DigitsIdCard, 0);
+        return areaCode < 0 ? null : resolveRegion(areaCode);
+    }
+
+    /**
+     * 解析行政区划（省、市、县三级）
+     * <p>
+     * 6位代码不在对照表中时，依次回退到所属地级（前4位）和省级（前2位）代码，返回的是回退后的共享实例。
+     *
+     * @param areaCode 6位地区代码，如 110101
+     * @return 行政区划，省级代码也不存在时返回 null
+     */
+    public static Region resolveRegion(int areaCode) {
+        return getIndex().resolve(areaCode);
     }
 
     /**
-     * 获取全国省市县地区代码对照表
+     * 将字符序列中从 offset 开始的6位数字转换为地区代码
      *
-     * @return 地区代码对照表
+     * @param cs     字符序列，如身份证号码
+     * @param offset 起始位置
+     * @return 地区代码，包含非数字字符时返回 -1
      */
-    private static Map<String, String> getAreaCodeMappingTable() {
-        Map<String, String> map = new HashMap<>();
-        map.put("110000", "北京市");
-        map.put("110101", "北京市东城区");
-        map.put("110102", "北京市西城区");
-        map.put("110105", "北京市朝阳区");
-        map.put("110106", "北京市丰台区");
-        map.put("110107", "北京市石景山区");
-        map.put("110108", "北京市海淀区");
-        map.put("110109", "北京市门头沟区");
-        map.put("110111", "北京市房山区");
-        map.put("110112", "北京市通州区");
-        map.put("110113", "北京市顺义区");
-        map.put("110114", "北京市昌平区");
-        map.put("110115", "北京市大兴区");
-        map.put("110116", "北京市怀柔区");
-        map.put("110117", "北京市平谷区");
-        map.put("110118", "北京市密云区");
-        map.put("110119", "北京市延庆区");
-        map.put("120000", "天津市");
-        map.put("120101", "天津市和平区");
-        map.put("120102", "天津市河东区");
-        map.put("120103", "天津市河西区");
-        map.put("120104", "天津市南开区");
-        map.put("120105", "天津市河北区");
-        map.put("120106", "天津市红桥区");
-        map.put("120110", "天津市东丽区");
-        map.put("120111", "天津市西青区");
-        map.put("120112", "天津市津南区");
-        map.put("120113", "天津市北辰区");
-        map.put("120114", "天津市武清区");
-        map.put("120115", "天津市宝坻区");
-        map.put("120116", "天津市滨海新区");
-        map.put("120117", "天津市宁河区");
-        map.put("120118", "天津市静海区");
-        map.put("120119", "天津市蓟州区");
-        map.put("130000", "河北省");
-        map.put("130100", "河北省石家庄市");
-        map.put("130102", "河北省石家庄市长安区");
-        map.put("130104", "河北省石家庄市桥西区");
-        map.put("130105", "河北省石家庄市新华区");
-        map.put("130107", "河北省石家庄市井陉矿区");
-        map.put("130108", "河北省石家庄市裕华区");
-        map.put("130109", "河北省石家庄市藁城区");
-        map.put("130110", "河北省石家庄市鹿泉区");
-        map.put("130111", "河北省石家庄市栾城区");
-        map.put("130121", "河北省石家庄市井陉县");
-        map.put("130123", "河北省石家庄市正定县");
-        map.put("130125", "河北省石家庄市行唐县");
-        map.put("130126", "河北省石家庄市灵寿县");
-        map.put("130127", "河北省石家庄市高邑县");
-        map.put("130128", "河北省石家庄市深泽县");
-        map.put("130129", "河北省石家庄市赞皇县");
-        map.put("130130", "河北省石家庄市无极县");
-        map.put("130131", "河北省石家庄市平山县");
-        map.put("130132", "河北省石家庄市元氏县");
-        map.put("130133", "河北省石家庄市赵县");
-        map.put("130183", "河北省石家庄市晋州市");
-        map.put("130184", "河北省石家庄市新乐市");
-        map.put("130200", "河北省唐山市");
-        map.put("130202", "河北省唐山市路南区");
-        map.put("130203", "河北省唐山市路北区");
-        map.put("130204", "河北省唐山市古冶区");
-        map.put("130205", "河北省唐山市开平区");
-        map.put("130207", "河北省唐山市丰南区");
-        map.put("130208", "河北省唐山市丰润区");
-        map.put("130209", "河北省唐山市曹妃甸区");
-        map.put("130223", "河北省唐山市滦县");
-        map.put("130224", "河北省唐山市滦南县");
-        map.put("130225", "河北省唐山市乐亭县");
-        map.put("130227", "河北省唐山市迁西县");
-        map.put("130229", "河北省唐山市玉田县");
-        map.put("130281", "河北省唐山市遵化市");
-        map.put("130283", "河北省唐山市迁安市");
-        map.put("130300", "河北省秦皇岛市");
-        map.put("130302", "河北省秦皇岛市海港区");
-        map.put("130303", "河北省秦皇岛市山海关区");
-        map.put("130304", "河北省秦皇岛市北戴河区");
-        map.put("130306", "河北省秦皇岛市抚宁区");
-        map.put("130321", "河北省秦皇岛市青龙满族自治县");
-        map.put("130322", "河北省秦皇岛市昌黎县");
-        map.put("130324", "河北省秦皇岛市卢龙县");
-        map.put("130400", "河北省邯郸市");
-        map.put("130402", "河北省邯郸市邯山区");
-        map.put("130403", "河北省邯郸市丛台区");
-        map.put("130404", "河北省邯郸市复兴区");
-        map.put("130406", "河北省邯郸市峰峰矿区");
-        map.put("130407", "河北省邯郸市肥乡区");
-        map.put("130408", "河北省邯郸市永年区");
-        map.put("130423", "河北省邯郸市临漳县");
-        map.put("130424", "河北省邯郸市成安县");
-        map.put("130425", "河北省邯郸市大名县");
-        map.put("130426", "河北省邯郸市涉县");
-        map.put("130427", "河北省邯郸市磁县");
-        map.put("130430", "河北省邯郸市邱县");
-        map.put("130431", "河北省邯郸市鸡泽县");
-        map.put("130432", "河北省邯郸市广平县");
-        map.put("130433", "河北省邯郸市馆陶县");
-        map.put("130434", "河北省邯郸市魏县");
-        map.put("130435", "河北省邯郸市曲周县");
-        map.put("130481", "河北省邯郸市武安市");
-        map.put("130500", "河北省邢台市");
-        map.put("130502", "河北省邢台市桥东区");
-        map.put("130503", "河北省邢台市桥西区");
-        map.put("130521", "河北省邢台市邢台县");
-        map.put("130522", "河北省邢台市临城县");
-        map.put("130523", "河北省邢台市内丘县");
-        map.put("130524", "河北省邢台市柏乡县");
-        map.put("130525", "河北省邢台市隆尧县");
-        map.put("130526", "河北省邢台市任县");
-        map.put("130527", "河北省邢台市南和县");
-        map.put("130528", "河北省邢台市宁晋县");
-        map.put("130529", "河北省邢台市巨鹿县");
-        map.put("130530", "河北省邢台市新河县");
-        map.put("130531", "河北省邢台市广宗县");
-        map.put("130532", "河北省邢台市平乡县");
-        map.put("130533", "河北省邢台市威县");
-        map.put("130534", "河北省邢台市清河县");
-        map.put("130535", "河北省邢台市临西县");
-        map.put("130581", "河北省邢台市南宫市");
-        map.put("130582", "河北省邢台市沙河市");
-        map.put("130600", "河北省保定市");
-        map.put("130602", "河北省保定市竞秀区");
-        map.put("130606", "河北省保定市莲池区");
-        map.put("130607", "河北省保定市满城区");
-        map.put("130608", "河北省保定市清苑区");
-        map.put("130609", "河北省保定市徐水区");
-        map.put("130623", "河北省保定市涞水县");
-        map.put("130624", "河北省保定市阜平县");
-        map.put("130626", "河北省保定市定兴县");
-        map.put("130627", "河北省保定市唐县");
-        map.put("130628", "河北省保定市高阳县");
-        map.put("130629", "河北省保定市容城县");
-        map.put("130630", "河北省保定市涞源县");
-        map.put("130631", "河北省保定市望都县");
-        map.put("130632", "河北省保定市安新县");
-        map.put("130633", "河北省保定市易县");
-        map.put("130634", "河北省保定市曲阳县");
-        map.put("130635", "河北省保定市蠡县");
-        map.put("130636", "河北省保定市顺平县");
-        map.put("130637", "河北省保定市博野县");
-        map.put("130638", "河北省保定市雄县");
-        map.put("130681", "河北省保定市涿州市");
-        map.put("130683", "河北省保定市安国市");
-        map.put("130684", "河北省保定市高碑店市");
-        map.put("130700", "河北省张家口市");
-        map.put("130702", "河北省张家口市桥东区");
-        map.put("130703", "河北省张家口市桥西区");
-        map.put("130705", "河北省张家口市宣化区");
-        map.put("130706", "河北省张家口市下花园区");
-        map.put("130708", "河北省张家口市万全区");
-        map.put("130709", "河北省张家口市崇礼区");
-        map.put("130722", "河北省张家口市张北县");
-        map.put("130723", "河北省张家口市康保县");
-        map.put("130724", "河北省张家口市沽源县");
-        map.put("130725", "河北省张家口市尚义县");
-        map.put("130726", "河北省张家口市蔚县");
-        map.put("130727", "河北省张家口市阳原县");
-        map.put("130728", "河北省张家口市怀安县");
-        map.put("130730", "河北省张家口市怀来县");
-        map.put("130731", "河北省张家口市涿鹿县");
-        map.put("130732", "河北省张家口市赤城县");
-        map.put("130800", "河北省承德市");
-        map.put("130802", "河北省承德市双桥区");
-        map.put("130803", "河北省承德市双滦区");
-        map.put("130804", "河北省承德市鹰手营子矿区");
-        map.put("130821", "河北省承德市承德县");
-        map.put("130822", "河北省承德市兴隆县");
-        map.put("130824", "河北省承德市滦平县");
-        map.put("130825", "河北省承德市隆化县");
-        map.put("130826", "河北省承德市丰宁满族自治县");
-        map.put("130827", "河北省承德市宽城满族自治县");
-        map.put("130828", "河北省承德市围场满族蒙古族自治县");
-        map.put("130881", "河北省承德市平泉市");
-        map.put("130900", "河北省沧州市");
-        map.put("130902", "河北省沧州市新华区");
-        map.put("130903", "河北省沧州市运河区");
-        map.put("130921", "河北省沧州市沧县");
-        map.put("130922", "河北省沧州市青县");
-        map.put("130923", "河北省沧州市东光县");
-        map.put("130924", "河北省沧州市海兴县");
-        map.put("130925", "河北省沧州市盐山县");
-        map.put("130926", "河北省沧州市肃宁县");
-        map.put("130927", "河北省沧州市南皮县");
-        map.put("130928", "河北省沧州市吴桥县");
-        map.put("130929", "河北省沧州市献县");
-        map.put("130930", "河北省沧州市孟村回族自治县");
-        map.put("130981", "河北省沧州市泊头市");
-        map.put("130982", "河北省沧州市任丘市");
-        map.put("130983", "河北省沧州市黄骅市");
-        map.put("130984", "河北省沧州市河间市");
-        map.put("131000", "河北省廊坊市");
-        map.put("131002", "河北省廊坊市安次区");
-        map.put("131003", "河北省廊坊市广阳区");
-        map.put("131022", "河北省廊坊市固安县");
-        map.put("131023", "河北省廊坊市永清县");
-        map.put("131024", "河北省廊坊市香河县");
-        map.put("131025", "河北省廊坊市大城县");
-        map.put("131026", "河北省廊坊市文安县");
-        map.put("131028", "河北省廊坊市大厂回族自治县");
-        map.put("131081", "河北省廊坊市霸州市");
-        map.put("131082", "河北省廊坊市三河市");
-        map.put("131100", "河北省衡水市");
-        map.put("131102", "河北省衡水市桃城区");
-        map.put("131103", "河北省衡水市冀州区");
-        map.put("131121", "河北省衡水市枣强县");
-        map.put("131122", "河北省衡水市武邑县");
-        map.put("131123", "河北省衡水市武强县");
-        map.put("131124", "河北省衡水市饶阳县");
-        map.put("131125", "河北省衡水市安平县");
-        map.put("131126", "河北省衡水市故城县");
-        map.put("131127", "河北省衡水市景县");
-        map.put("131128", "河北省衡水市阜城县");
-        map.put("131182", "河北省衡水市深州市");
-        map.put("139001", "河北省定州市定州市");
-        map.put("139002", "河北省辛集市辛集市");
-        map.put("140000", "山西省");
-        map.put("140100", "山西省太原市");
-        map.put("140105", "山西省太原市小店区");
-        map.put("140106", "山西省太原市迎泽区");
-        map.put("140107", "山西省太原市杏花岭区");
-        map.put("140108", "山西省太原市尖草坪区");
-        map.put("140109", "山西省太原市万柏林区");
-        map.put("140110", "山西省太原市晋源区");
-        map.put("140121", "山西省太原市清徐县");
-        map.put("140122", "山西省太原市阳曲县");
-        map.put("140123", "山西省太原市娄烦县");
-        map.put("140181", "山西省太原市古交市");
-        map.put("140200", "山西省大同市");
-        map.put("140202", "山西省大同市城区");
-        map.put("140203", "山西省大同市矿区");
-        map.put("140211", "山西省大同市南郊区");
-        map.put("140212", "山西省大同市新荣区");
-        map.put("140221", "山西省大同市阳高县");
-        map.put("140222", "山西省大同市天镇县");
-        map.put("140223", "山西省大同市广灵县");
-        map.put("140224", "山西省大同市灵丘县");
-        map.put("140225", "山西省大同市浑源县");
-        map.put("140226", "山西省大同市左云县");
-        map.put("140227", "山西省大同市大同县");
-        map.put("140300", "山西省阳泉市");
-        map.put("140302", "山西省阳泉市城区");
-        map.put("140303", "山西省阳泉市矿区");
-        map.put("140311", "山西省阳泉市郊区");
-        map.put("140321", "山西省阳泉市平定县");
-        map.put("140322", "山西省阳泉市盂县");
-        map.put("140400", "山西省长治市");
-        map.put("140402", "山西省长治市城区");
-        map.put("140411", "山西省长治市郊区");
-        map.put("140421", "山西省长治市长治县");
-        map.put("140423", "山西省长治市襄垣县");
-        map.put("140424", "山西省长治市屯留县");
-        map.put("140425", "山西省长治市平顺县");
-        map.put("140426", "山西省长治市黎城县");
-        map.put("140427", "山西省长治市壶关县");
-        map.put("140428", "山西省长治市长子县");
-        map.put("140429", "山西省长治市武乡县");
-        map.put("140430", "山西省长治市沁县");
-        map.put("140431", "山西省长治市沁源县");
-        map.put("140481", "山西省长治市潞城市");
-        map.put("140500", "山西省晋城市");
-        map.put("140502", "山西省晋城市城区");
-        map.put("140521", "山西省晋城市沁水县");
-        map.put("140522", "山西省晋城市阳城县");
-        map.put("140524", "山西省晋城市陵川县");
-        map.put("140525", "山西省晋城市泽州县");
-        map.put("140581", "山西省晋城市高平市");
-        map.put("140600", "山西省朔州市");
-        map.put("140602", "山西省朔州市朔城区");
-        map.put("140603", "山西省朔州市平鲁区");
-        map.put("140621", "山西省朔州市山阴县");
-        map.put("140622", "山西省朔州市应县");
-        map.put("140623", "山西省朔州市右玉县");
-        map.put("140624", "山西省朔州市怀仁县");
-        map.put("140700", "山西省晋中市");
-        map.put("140702", "山西省晋中市榆次区");
-        map.put("140721", "山西省晋中市榆社县");
-        map.put("140722", "山西省晋中市左权县");
-        map.put("140723", "山西省晋中市和顺县");
-        map.put("140724", "山西省晋中市昔阳县");
-        map.put("140725", "山西省晋中市寿阳县");
-        map.put("140726", "山西省晋中市太谷县");
-        map.put("140727", "山西省晋中市祁县");
-        map.put("140728", "山西省晋中市平遥县");
-        map.put("140729", "山西省晋中市灵石县");
-        map.put("140781", "山西省晋中市介休市");
-        map.put("140800", "山西省运城市");
-        map.put("140802", "山西省运城市盐湖区");
-        map.put("140821", "山西省运城市临猗县");
-        map.put("140822", "山西省运城市万荣县");
-        map.put("140823", "山西省运城市闻喜县");
-        map.put("140824", "山西省运城市稷山县");
-        map.put("140825", "山西省运城市新绛县");
-        map.put("140826", "山西省运城市绛县");
-        map.put("140827", "山西省运城市垣曲县");
-        map.put("140828", "山西省运城市夏县");
-        map.put("140829", "山西省运城市平陆县");
-        map.put("140830", "山西省运城市芮城县");
-        map.put("140881", "山西省运城市永济市");
-        map.put("140882", "山西省运城市河津市");
-        map.put("140900", "山西省忻州市");
-        map.put("140902", "山西省忻州市忻府区");
-        map.put("140921", "山西省忻州市定襄县");
-        map.put("140922", "山西省忻州市五台县");
-        map.put("140923", "山西省忻州市代县");
-        map.put("140924", "山西省忻州市繁峙县");
-        map.put("140925", "山西省忻州市宁武县");
-        map.put("140926", "山西省忻州市静乐县");
-        map.put("140927", "山西省忻州市神池县");
-        map.put("140928", "山西省忻州市五寨县");
-        map.put("140929", "山西省忻州市岢岚县");
-        map.put("140930", "山西省忻州市河曲县");
-        map.put("140931", "山西省忻州市保德县");
-        map.put("140932", "山西省忻州市偏关县");
-        map.put("140981", "山西省忻州市原平市");
-        map.put("141000", "山西省临汾市");
-        map.put("141002", "山西省临汾市尧都区");
-        map.put("141021", "山西省临汾市曲沃县");
-        map.put("141022", "山西省临汾市翼城县");
-        map.put("141023", "山西省临汾市襄汾县");
-        map.put("141024", "山西省临汾市洪洞县");
-        map.put("141025", "山西省临汾市古县");
-        map.put("141026", "山西省临汾市安泽县");
-        map.put("141027", "山西省临汾市浮山县");
-        map.put("141028", "山西省临汾市吉县");
-        map.put("141029", "山西省临汾市乡宁县");
-        map.put("141030", "山西省临汾市大宁县");
-        map.put("141031", "山西省临汾市隰县");
-        map.put("141032", "山西省临汾市永和县");
-        map.put("141033", "山西省临汾市蒲县");
-        map.put("141034", "山西省临汾市汾西县");
-        map.put("141081", "山西省临汾市侯马市");
-        map.put("141082", "山西省临汾市霍州市");
-        map.put("141100", "山西省吕梁市");
-        map.put("141102", "山西省吕梁市离石区");
-        map.put("141121", "山西省吕梁市文水县");
-        map.put("141122", "山西省吕梁市交城县");
-        map.put("141123", "山西省吕梁市兴县");
-        map.put("141124", "山西省吕梁市临县");
-        map.put("141125", "山西省吕梁市柳林县");
-        map.put("141126", "山西省吕梁市石楼县");
-        map.put("141127", "山西省吕梁市岚县");
-        map.put("141128", "山西省吕梁市方山县");
-        map.put("141129", "山西省吕梁市中阳县");
-        map.put("141130", "山西省吕梁市交口县");
-        map.put("141181", "山西省吕梁市孝义市");
-        map.put("141182", "山西省吕梁市汾阳市");
-        map.put("150000", "内蒙古自治区");
-        map.put("150100", "内蒙古自治区呼和浩特市");
-        map.put("150102", "内蒙古自治区呼和浩特市新城区");
-        map.put("150103", "内蒙古自治区呼和浩特市回民区");
-        map.put("150104", "内蒙古自治区呼和浩特市玉泉区");
-        map.put("150105", "内蒙古自治区呼和浩特市赛罕区");
-        map.put("150121", "内蒙古自治区呼和浩特市土默特左旗");
-        map.put("150122", "内蒙古自治区呼和浩特市托克托县");
-        map.put("150123", "内蒙古自治区呼和浩特市和林格尔县");
-        map.put("150124", "内蒙古自治区呼和浩特市清水河县");
-        map.put("150125", "内蒙古自治区呼和浩特市武川县");
-        map.put("150200", "内蒙古自治区包头市");
-        map.put("150202", "内蒙古自治区包头市东河区");
-        map.put("150203", "内蒙古自治区包头市昆都仑区");
-        map.put("150204", "内蒙古自治区包头市青山区");
-        map.put("150205", "内蒙古自治区包头市石拐区");
-        map.put("150206", "内蒙古自治区包头市白云鄂博矿区");
-        map.put("150207", "内蒙古自治区包头市九原区");
-        map.put("150221", "内蒙古自治区包头市土默特右旗");
-        map.put("150222", "内蒙古自治区包头市固阳县");
-        map.put("150223", "内蒙古自治区包头市达尔罕茂明安联合旗");
-        map.put("150300", "内蒙古自治区乌海市");
-        map.put("150302", "内蒙古自治区乌海市海勃湾区");
-        map.put("150303", "内蒙古自治区乌海市海南区");
-        map.put("150304", "内蒙古自治区乌海市乌达区");
-        map.put("150400", "内蒙古自治区赤峰市");
-        map.put("150402", "内蒙古自治区赤峰市红山区");
-        map.put("150403", "内蒙古自治区赤峰市元宝山区");
-        map.put("150404", "内蒙古自治区赤峰市松山区");
-        map.put("150421", "内蒙古自治区赤峰市阿鲁科尔沁旗");
-        map.put("150422", "内蒙古自治区赤峰市巴林左旗");
-        map.put("150423", "内蒙古自治区赤峰市巴林右旗");
-        map.put("150424", "内蒙古自治区赤峰市林西县");
-        map.put("150425", "内蒙古自治区赤峰市克什克腾旗");
-        map.put("150426", "内蒙古自治区赤峰市翁牛特旗");
-        map.put("150428", "内蒙古自治区赤峰市喀喇沁旗");
-        map.put("150429", "内蒙古自治区赤峰市宁城县");
-        map.put("150430", "内蒙古自治区赤峰市敖汉旗");
-        map.put("150500", "内蒙古自治区通辽市");
-        map.put("150502", "内蒙古自治区通辽市科尔沁区");
-        map.put("150521", "内蒙古自治区通辽市科尔沁左翼中旗");
-        map.put("150522", "内蒙古自治区通辽市科尔沁左翼后旗");
-        map.put("150523", "内蒙古自治区通辽市开鲁县");
-        map.put("150524", "内蒙古自治区通辽市库伦旗");
-        map.put("150525", "内蒙古自治区通辽市奈曼旗");
-        map.put("150526", "内蒙古自治区通辽市扎鲁特旗");
-        map.put("150581", "内蒙古自治区通辽市霍林郭勒市");
-        map.put("150600", "内蒙古自治区鄂尔多斯市");
-        map.put("150602", "内蒙古自治区鄂尔多斯市东胜区");
-        map.put("150603", "内蒙古自治区鄂尔多斯市康巴什区");
-        map.put("150621", "内蒙古自治区鄂尔多斯市达拉特旗");
-        map.put("150622", "内蒙古自治区鄂尔多斯市准格尔旗");
-        map.put("150623", "内蒙古自治区鄂尔多斯市鄂托克前旗");
-        map.put("150624", "内蒙古自治区鄂尔多斯市鄂托克旗");
-        map.put("150625", "内蒙古自治区鄂尔多斯市杭锦旗");
-        map.put("150626", "内蒙古自治区鄂尔多斯市乌审旗");
-        map.put("150627", "内蒙古自治区鄂尔多斯市伊金霍洛旗");
-        map.put("150700", "内蒙古自治区呼伦贝尔市");
-        map.put("150702", "内蒙古自治区呼伦贝尔市海拉尔区");
-        map.put("150703", "内蒙古自治区呼伦贝尔市扎赉诺尔区");
-        map.put("150721", "内蒙古自治区呼伦贝尔市阿荣旗");
-        map.put("150722", "内蒙古自治区呼伦贝尔市莫力达瓦达斡尔族自治旗");
-        map.put("150723", "内蒙古自治区呼伦贝尔市鄂伦春自治旗");
-        map.put("150724", "内蒙古自治区呼伦贝尔市鄂温克族自治旗");
-        map.put("150725", "内蒙古自治区呼伦贝尔市陈巴尔虎旗");
-        map.put("150726", "内蒙古自治区呼伦贝尔市新巴尔虎左旗");
-        map.put("150727", "内蒙古自治区呼伦贝尔市新巴尔虎右旗");
-        map.put("150781", "内蒙古自治区呼伦贝尔市满洲里市");
-        map.put("150782", "内蒙古自治区呼伦贝尔市牙克石市");
-        map.put("150783", "内蒙古自治区呼伦贝尔市扎兰屯市");
-        map.put("150784", "内蒙古自治区呼伦贝尔市额尔古纳市");
-        map.put("150785", "内蒙古自治区呼伦贝尔市根河市");
-        map.put("150800", "内蒙古自治区巴彦淖尔市");
-        map.put("150802", "内蒙古自治区巴彦淖尔市临河区");
-        map.put("150821", "内蒙古自治区巴彦淖尔市五原县");
-        map.put("150822", "内蒙古自治区巴彦淖尔市磴口县");
-        map.put("150823", "内蒙古自治区巴彦淖尔市乌拉特前旗");
-        map.put("150824", "内蒙古自治区巴彦淖尔市乌拉特中旗");
-        map.put("150825", "内蒙古自治区巴彦淖尔市乌拉特后旗");
-        map.put("150826", "内蒙古自治区巴彦淖尔市杭锦后旗");
-        map.put("150900", "内蒙古自治区乌兰察布市");
-        map.put("150902", "内蒙古自治区乌兰察布市集宁区");
-        map.put("150921", "内蒙古自治区乌兰察布市卓资县");
-        map.put("150922", "内蒙古自治区乌兰察布市化德县");
-        map.put("150923", "内蒙古自治区乌兰察布市商都县");
-        map.put("150924", "内蒙古自治区乌兰察布市兴和县");
-        map.put("150925", "内蒙古自治区乌兰察布市凉城县");
-        map.put("150926", "内蒙古自治区乌兰察布市察哈尔右翼前旗");
-        map.put("150927", "内蒙古自治区乌兰察布市察哈尔右翼中旗");
-        map.put("150928", "内蒙古自治区乌兰察布市察哈尔右翼后旗");
-        map.put("150929", "内蒙古自治区乌兰察布市四子王旗");
-        map.put("150981", "内蒙古自治区乌兰察布市丰镇市");
-        map.put("152200", "内蒙古自治区兴安盟");
-        map.put("152201", "内蒙古自治区兴安盟乌兰浩特市");
-        map.put("152202", "内蒙古自治区兴安盟阿尔山市");
-        map.put("152221", "内蒙古自治区兴安盟科尔沁右翼前旗");
-        map.put("152222", "内蒙古自治区兴安盟科尔沁右翼中旗");
-        map.put("152223", "内蒙古自治区兴安盟扎赉特旗");
-        map.put("152224", "内蒙古自治区兴安盟突泉县");
-        map.put("152500", "内蒙古自治区锡林郭勒盟");
-        map.put("152501", "内蒙古自治区锡林郭勒盟二连浩特市");
-        map.put("152502", "内蒙古自治区锡林郭勒盟锡林浩特市");
-        map.put("152522", "内蒙古自治区锡林郭勒盟阿巴嘎旗");
-        map.put("152523", "内蒙古自治区锡林郭勒盟苏尼特左旗");
-        map.put("152524", "内蒙古自治区锡林郭勒盟苏尼特右旗");
-        map.put("152525", "内蒙古自治区锡林郭勒盟东乌珠穆沁旗");
-        map.put("152526", "内蒙古自治区锡林郭勒盟西乌珠穆沁旗");
-        map.put("152527", "内蒙古自治区锡林郭勒盟太仆寺旗");
-        map.put("152528", "内蒙古自治区锡林郭勒盟镶黄旗");
-        map.put("152529", "内蒙古自治区锡林郭勒盟正镶白旗");
-        map.put("152530", "内蒙古自治区锡林郭勒盟正蓝旗");
-        map.put("152531", "内蒙古自治区锡林郭勒盟多伦县");
-        map.put("152900", "内蒙古自治区阿拉善盟");
-        map.put("152921", "内蒙古自治区阿拉善盟阿拉善左旗");
-        map.put("152922", "内蒙古自治区阿拉善盟阿拉善右旗");
-        map.put("152923", "内蒙古自治区阿拉善盟额济纳旗");
-        map.put("210000", "辽宁省");
-        map.put("210100", "辽宁省沈阳市");
-        map.put("210102", "辽宁省沈阳市和平区");
-        map.put("210103", "辽宁省沈阳市沈河区");
-        map.put("210104", "辽宁省沈阳市大东区");
-        map.put("210105", "辽宁省沈阳市皇姑区");
-        map.put("210106", "辽宁省沈阳市铁西区");
-        map.put("210111", "辽宁省沈阳市苏家屯区");
-        map.put("210112", "辽宁省沈阳市浑南区");
-        map.put("210113", "辽宁省沈阳市沈北新区");
-        map.put("210114", "辽宁省沈阳市于洪区");
-        map.put("210115", "辽宁省沈阳市辽中区");
-        map.put("210123", "辽宁省沈阳市康平县");
-        map.put("210124", "辽宁省沈阳市法库县");
-        map.put("210181", "辽宁省沈阳市新民市");
-        map.put("210200", "辽宁省大连市");
-        map.put("210202", "辽宁省大连市中山区");
-        map.put("210203", "辽宁省大连市西岗区");
-        map.put("210204", "辽宁省大连市沙河口区");
-        map.put("210211", "辽宁省大连市甘井子区");
-        map.put("210212", "辽宁省大连市旅顺口区");
-        map.put("210213", "辽宁省大连市金州区");
-        map.put("210214", "辽宁省大连市普兰店区");
-        map.put("210224", "辽宁省大连市长海县");
-        map.put("210281", "辽宁省大连市瓦房店市");
-        map.put("210283", "辽宁省大连市庄河市");
-        map.put("210300", "辽宁省鞍山市");
-        map.put("210302", "辽宁省鞍山市铁东区");
-        map.put("210303", "辽宁省鞍山市铁西区");
-        map.put("210304", "辽宁省鞍山市立山区");
-        map.put("210311", "辽宁省鞍山市千山区");
-        map.put("210321", "辽宁省鞍山市台安县");
-        map.put("210323", "辽宁省鞍山市岫岩满族自治县");
-        map.put("210381", "辽宁省鞍山市海城市");
-        map.put("210400", "辽宁省抚顺市");
-        map.put("210402", "辽宁省抚顺市新抚区");
-        map.put("210403", "辽宁省抚顺市东洲区");
-        map.put("210404", "辽宁省抚顺市望花区");
-        map.put("210411", "辽宁省抚顺市顺城区");
-        map.put("210421", "辽宁省抚顺市抚顺县");
-        map.put("210422", "辽宁省抚顺市新宾满族自治县");
-        map.put("210423", "辽宁省抚顺市清原满族自治县");
-        map.put("210500", "辽宁省本溪市");
-        map.put("210502", "辽宁省本溪市平山区");
-        map.put("210503", "辽宁省本溪市溪湖区");
-        map.put("210504", "辽宁省本溪市明山区");
-        map.put("210505", "辽宁省本溪市南芬区");
-        map.put("210521", "辽宁省本溪市本溪满族自治县");
-        map.put("210522", "辽宁省本溪市桓仁满族自治县");
-        map.put("210600", "辽宁省丹东市");
-        map.put("210602", "辽宁省丹东市元宝区");
-        map.put("210603", "辽宁省丹东市振兴区");
-        map.put("210604", "辽宁省丹东市振安区");
-        map.put("210624", "辽宁省丹东市宽甸满族自治县");
-        map.put("210681", "辽宁省丹东市东港市");
-        map.put("210682", "辽宁省丹东市凤城市");
-        map.put("210700", "辽宁省锦州市");
-        map.put("210702", "辽宁省锦州市古塔区");
-        map.put("210703", "辽宁省锦州市凌河区");
-        map.put("210711", "辽宁省锦州市太和区");
-        map.put("210726", "辽宁省锦州市黑山县");
-        map.put("210727", "辽宁省锦州市义县");
-        map.put("210781", "辽宁省锦州市凌海市");
-        map.put("210782", "辽宁省锦州市北镇市");
-        map.put("210800", "辽宁省营口市");
-        map.put("210802", "辽宁省营口市站前区");
-        map.put("210803", "辽宁省营口市西市区");
-        map.put("210804", "辽宁省营口市鲅鱼圈区");
-        map.put("210811", "辽宁省营口市老边区");
-        map.put("210881", "辽宁省营口市盖州市");
-        map.put("210882", "辽宁省营口市大石桥市");
-        map.put("210900", "辽宁省阜新市");
-        map.put("210902", "辽宁省阜新市海州区");
-        map.put("210903", "辽宁省阜新市新邱区");
-        map.put("210904", "辽宁省阜新市太平区");
-        map.put("210905", "辽宁省阜新市清河门区");
-        map.put("210911", "辽宁省阜新市细河区");
-        map.put("210921", "辽宁省阜新市阜新蒙古族自治县");
-        map.put("210922", "辽宁省阜新市彰武县");
-        map.put("211000", "辽宁省辽阳市");
-        map.put("211002", "辽宁省辽阳市白塔区");
-        map.put("211003", "辽宁省辽阳市文圣区");
-        map.put("211004", "辽宁省辽阳市宏伟区");
-        map.put("211005", "辽宁省辽阳市弓长岭区");
-        map.put("211011", "辽宁省辽阳市太子河区");
-        map.put("211021", "辽宁省辽阳市辽阳县");
-        map.put("211081", "辽宁省辽阳市灯塔市");
-        map.put("211100", "辽宁省盘锦市");
-        map.put("211102", "辽宁省盘锦市双台子区");
-        map.put("211103", "辽宁省盘锦市兴隆台区");
-        map.put("211104", "辽宁省盘锦市大洼区");
-        map.put("211122", "辽宁省盘锦市盘山县");
-        map.put("211200", "辽宁省铁岭市");
-        map.put("211202", "辽宁省铁岭市银州区");
-        map.put("211204", "辽宁省铁岭市清河区");
-        map.put("211221", "辽宁省铁岭市铁岭县");
-        map.put("211223", "辽宁省铁岭市西丰县");
-        map.put("211224", "辽宁省铁岭市昌图县");
-        map.put("211281", "辽宁省铁岭市调兵山市");
-        map.put("211282", "辽宁省铁岭市开原市");
-        map.put("211300", "辽宁省朝阳市");
-        map.put("211302", "辽宁省朝阳市双塔区");
-        map.put("211303", "辽宁省朝阳市龙城区");
-        map.put("211321", "辽宁省朝阳市朝阳县");
-        map.put("211322", "辽宁省朝阳市建平县");
-        map.put("211324", "辽宁省朝阳市喀喇沁左翼蒙古族自治县");
-        map.put("211381", "辽宁省朝阳市北票市");
-        map.put("211382", "辽宁省朝阳市凌源市");
-        map.put("211400", "辽宁省葫芦岛市");
-        map.put("211402", "辽宁省葫芦岛市连山区");
-        map.put("211403", "辽宁省葫芦岛市龙港区");
-        map.put("211404", "辽宁省葫芦岛市南票区");
-        map.put("211421", "辽宁省葫芦岛市绥中县");
-        map.put("211422", "辽宁省葫芦岛市建昌县");
-        map.put("211481", "辽宁省葫芦岛市兴城市");
-        map.put("220000", "吉林省");
-        map.put("220100", "吉林省长春市");
-        map.put("220102", "吉林省长春市南关区");
-        map.put("220103", "吉林省长春市宽城区");
-        map.put("220104", "吉林省长春市朝阳区");
-        map.put("220105", "吉林省长春市二道区");
-        map.put("220106", "吉林省长春市绿园区");
-        map.put("220112", "吉林省长春市双阳区");
-        map.put("220113", "吉林省长春市九台区");
-        map.put("220122", "吉林省长春市农安县");
-        map.put("220182", "吉林省长春市榆树市");
-        map.put("220183", "吉林省长春市德惠市");
-        map.put("220200", "吉林省吉林市");
-        map.put("220202", "吉林省吉林市昌邑区");
-        map.put("220203", "吉林省吉林市龙潭区");
-        map.put("220204", "吉林省吉林市船营区");
-        map.put("220211", "吉林省吉林市丰满区");
-        map.put("220221", "吉林省吉林市永吉县");
-        map.put("220281", "吉林省吉林市蛟河市");
-        map.put("220282", "吉林省吉林市桦甸市");
-        map.put("220283", "吉林省吉林市舒兰市");
-        map.put("220284", "吉林省吉林市磐石市");
-        map.put("220300", "吉林省四平市");
-        map.put("220302", "吉林省四平市铁西区");
-        map.put("220303", "吉林省四平市铁东区");
-        map.put("220322", "吉林省四平市梨树县");
-        map.put("220323", "吉林省四平市伊通满族自治县");
-        map.put("220381", "吉林省四平市公主岭市");
-        map.put("220382", "吉林省四平市双辽市");
-        map.put("220400", "吉林省辽源市");
-        map.put("220402", "吉林省辽源市龙山区");
-        map.put("220403", "吉林省辽源市西安区");
-        map.put("220421", "吉林省辽源市东丰县");
-        map.put("220422", "吉林省辽源市东辽县");
-        map.put("220500", "吉林省通化市");
-        map.put("220502", "吉林省通化市东昌区");
-        map.put("220503", "吉林省通化市二道江区");
-        map.put("220521", "吉林省通化市通化县");
-        map.put("220523", "吉林省通化市辉南县");
-        map.put("220524", "吉林省通化市柳河县");
-        map.put("220581", "吉林省通化市梅河口市");
-        map.put("220582", "吉林省通化市集安市");
-        map.put("220600", "吉林省白山市");
-        map.put("220602", "吉林省白山市浑江区");
-        map.put("220605", "吉林省白山市江源区");
-        map.put("220621", "吉林省白山市抚松县");
-        map.put("220622", "吉林省白山市靖宇县");
-        map.put("220623", "吉林省白山市长白朝鲜族自治县");
-        map.put("220681", "吉林省白山市临江市");
-        map.put("220700", "吉林省松原市");
-        map.put("220702", "吉林省松原市宁江区");
-        map.put("220721", "吉林省松原市前郭尔罗斯蒙古族自治县");
-        map.put("220722", "吉林省松原市长岭县");
-        map.put("220723", "吉林省松原市乾安县");
-        map.put("220781", "吉林省松原市扶余市");
-        map.put("220800", "吉林省白城市");
-        map.put("220802", "吉林省白城市洮北区");
-        map.put("220821", "吉林省白城市镇赉县");
-        map.put("220822", "吉林省白城市通榆县");
-        map.put("220881", "吉林省白城市洮南市");
-        map.put("220882", "吉林省白城市大安市");
-        map.put("222400", "吉林省延边朝鲜族自治州");
-        map.put("222401", "吉林省延边朝鲜族自治州延吉市");
-        map.put("222402", "吉林省延边朝鲜族自治州图们市");
-        map.put("222403", "吉林省延边朝鲜族自治州敦化市");
-        map.put("222404", "吉林省延边朝鲜族自治州珲春市");
-        map.put("222405", "吉林省延边朝鲜族自治州龙井市");
-        map.put("222406", "吉林省延边朝鲜族自治州和龙市");
-        map.put("222424", "吉林省延边朝鲜族自治州汪清县");
-        map.put("222426", "吉林省延边朝鲜族自治州安图县");
-        map.put("230000", "黑龙江省");
-        map.put("230100", "黑龙江省哈尔滨市");
-        map.put("230102", "黑龙江省哈尔滨市道里区");
-        map.put("230103", "黑龙江省哈尔滨市南岗区");
-        map.put("230104", "黑龙江省哈尔滨市道外区");
-        map.put("230108", "黑龙江省哈尔滨市平房区");
-        map.put("230109", "黑龙江省哈尔滨市松北区");
-        map.put("230110", "黑龙江省哈尔滨市香坊区");
-        map.put("230111", "黑龙江省哈尔滨市呼兰区");
-        map.put("230112", "黑龙江省哈尔滨市阿城区");
-        map.put("230113", "黑龙江省哈尔滨市双城区");
-        map.put("230123", "黑龙江省哈尔滨市依兰县");
-        map.put("230124", "黑龙江省哈尔滨市方正县");
-        map.put("230125", "黑龙江省哈尔滨市宾县");
-        map.put("230126", "黑龙江省哈尔滨市巴彦县");
-        map.put("230127", "黑龙江省哈尔滨市木兰县");
-        map.put("230128", "黑龙江省哈尔滨市通河县");
-        map.put("230129", "黑龙江省哈尔滨市延寿县");
-        map.put("230183", "黑龙江省哈尔滨市尚志市");
-        map.put("230184", "黑龙江省哈尔滨市五常市");
-        map.put("230200", "黑龙江省齐齐哈尔市");
-        map.put("230202", "黑龙江省齐齐哈尔市龙沙区");
-        map.put("230203", "黑龙江省齐齐哈尔市建华区");
-        map.put("230204", "黑龙江省齐齐哈尔市铁锋区");
-        map.put("230205", "黑龙江省齐齐哈尔市昂昂溪区");
-        map.put("230206", "黑龙江省齐齐哈尔市富拉尔基区");
-        map.put("230207", "黑龙江省齐齐哈尔市碾子山区");
-        map.put("230208", "黑龙江省齐齐哈尔市梅里斯达斡尔族区");
-        map.put("230221", "黑龙江省齐齐哈尔市龙江县");
-        map.put("230223", "黑龙江省齐齐哈尔市依安县");
-        map.put("230224", "黑龙江省齐齐哈尔市泰来县");
-        map.put("230225", "黑龙江省齐齐哈尔市甘南县");
-        map.put("230227", "黑龙江省齐齐哈尔市富裕县");
-        map.put("230229", "黑龙江省齐齐哈尔市克山县");
-        map.put("230230", "黑龙江省齐齐哈尔市克东县");
-        map.put("230231", "黑龙江省齐齐哈尔市拜泉县");
-        map.put("230281", "黑龙江省齐齐哈尔市讷河市");
-        map.put("230300", "黑龙江省鸡西市");
-        map.put("230302", "黑龙江省鸡西市鸡冠区");
-        map.put("230303", "黑龙江省鸡西市恒山区");
-        map.put("230304", "黑龙江省鸡西市滴道区");
-        map.put("230305", "黑龙江省鸡西市梨树区");
-        map.put("230306", "黑龙江省鸡西市城子河区");
-        map.put("230307", "黑龙江省鸡西市麻山区");
-        map.put("230321", "黑龙江省鸡西市鸡东县");
-        map.put("230381", "黑龙江省鸡西市虎林市");
-        map.put("230382", "黑龙江省鸡西市密山市");
-        map.put("230400", "黑龙江省鹤岗市");
-        map.put("230402", "黑龙江省鹤岗市向阳区");
-        map.put("230403", "黑龙江省鹤岗市工农区");
-        map.put("230404", "黑龙江省鹤岗市南山区");
-        map.put("230405", "黑龙江省鹤岗市兴安区");
-        map.put("230406", "黑龙江省鹤岗市东山区");
-        map.put("230407", "黑龙江省鹤岗市兴山区");
-        map.put("230421", "黑龙江省鹤岗市萝北县");
-        map.put("230422", "黑龙江省鹤岗市绥滨县");
-        map.put("230500", "黑龙江省双鸭山市");
-        map.put("230502", "黑龙江省双鸭山市尖山区");
-        map.put("230503", "黑龙江省双鸭山市岭东区");
-        map.put("230505", "黑龙江省双鸭山市四方台区");
-        map.put("230506", "黑龙江省双鸭山市宝山区");
-        map.put("230521", "黑龙江省双鸭山市集贤县");
-        map.put("230522", "黑龙江省双鸭山市友谊县");
-        map.put("230523", "黑龙江省双鸭山市宝清县");
-        map.put("230524", "黑龙江省双鸭山市饶河县");
-        map.put("230600", "黑龙江省大庆市");
-        map.put("230602", "黑龙江省大庆市萨尔图区");
-        map.put("230603", "黑龙江省大庆市龙凤区");
-        map.put("230604", "黑龙江省大庆市让胡路区");
-        map.put("230605", "黑龙江省大庆市红岗区");
-        map.put("230606", "黑龙江省大庆市大同区");
-        map.put("230621", "黑龙江省大庆市肇州县");
-        map.put("230622", "黑龙江省大庆市肇源县");
-        map.put("230623", "黑龙江省大庆市林甸县");
-        map.put("230624", "黑龙江省大庆市杜尔伯特蒙古族自治县");
-        map.put("230700", "黑龙江省伊春市");
-        map.put("230702", "黑龙江省伊春市伊春区");
-        map.put("230703", "黑龙江省伊春市南岔区");
-        map.put("230704", "黑龙江省伊春市友好区");
-        map.put("230705", "黑龙江省伊春市西林区");
-        map.put("230706", "黑龙江省伊春市翠峦区");
-        map.put("230707", "黑龙江省伊春市新青区");
-        map.put("230708", "黑龙江省伊春市美溪区");
-        map.put("230709", "黑龙江省伊春市金山屯区");
-        map.put("230710", "黑龙江省伊春市五营区");
-        map.put("230711", "黑龙江省伊春市乌马河区");
-        map.put("230712", "黑龙江省伊春市汤旺河区");
-        map.put("230713", "黑龙江省伊春市带岭区");
-        map.put("230714", "黑龙江省伊春市乌伊岭区");
-        map.put("230715", "黑龙江省伊春市红星区");
-        map.put("230716", "黑龙江省伊春市上甘岭区");
-        map.put("230722", "黑龙江省伊春市嘉荫县");
-        map.put("230781", "黑龙江省伊春市铁力市");
-        map.put("230800", "黑龙江省佳木斯市");
-        map.put("230803", "黑龙江省佳木斯市向阳区");
-        map.put("230804", "黑龙江省佳木斯市前进区");
-        map.put("230805", "黑龙江省佳木斯市东风区");
-        map.put("230811", "黑龙江省佳木斯市郊区");
-        map.put("230822", "黑龙江省佳木斯市桦南县");
-        map.put("230826", "黑龙江省佳木斯市桦川县");
-        map.put("230828", "黑龙江省佳木斯市汤原县");
-        map.put("230881", "黑龙江省佳木斯市同江市");
-        map.put("230882", "黑龙江省佳木斯市富锦市");
-        map.put("230883", "黑龙江省佳木斯市抚远市");
-        map.put("230900", "黑龙江省七台河市");
-        map.put("230902", "黑龙江省七台河市新兴区");
-        map.put("230903", "黑龙江省七台河市桃山区");
-        map.put("230904", "黑龙江省七台河市茄子河区");
-        map.put("230921", "黑龙江省七台河市勃利县");
-        map.put("231000", "黑龙江省牡丹江市");
-        map.put("231002", "黑龙江省牡丹江市东安区");
-        map.put("231003", "黑龙江省牡丹江市阳明区");
-        map.put("231004", "黑龙江省牡丹江市爱民区");
-        map.put("231005", "黑龙江省牡丹江市西安区");
-        map.put("231025", "黑龙江省牡丹江市林口县");
-        map.put("231081", "黑龙江省牡丹江市绥芬河市");
-        map.put("231083", "黑龙江省牡丹江市海林市");
-        map.put("231084", "黑龙江省牡丹江市宁安市");
-        map.put("231085", "黑龙江省牡丹江市穆棱市");
-        map.put("231086", "黑龙江省牡丹江市东宁市");
-        map.put("231100", "黑龙江省黑河市");
-        map.put("231102", "黑龙江省黑河市爱辉区");
-        map.put("231121", "黑龙江省黑河市嫩江县");
-        map.put("231123", "黑龙江省黑河市逊克县");
-        map.put("231124", "黑龙江省黑河市孙吴县");
-        map.put("231181", "黑龙江省黑河市北安市");
-        map.put("231182", "黑龙江省黑河市五大连池市");
-        map.put("231200", "黑龙江省绥化市");
-        map.put("231202", "黑龙江省绥化市北林区");
-        map.put("231221", "黑龙江省绥化市望奎县");
-        map.put("231222", "黑龙江省绥化市兰西县");
-        map.put("231223", "黑龙江省绥化市青冈县");
-        map.put("231224", "黑龙江省绥化市庆安县");
-        map.put("231225", "黑龙江省绥化市明水县");
-        map.put("231226", "黑龙江省绥化市绥棱县");
-        map.put("231281", "黑龙江省绥化市安达市");
-        map.put("231282", "黑龙江省绥化市肇东市");
-        map.put("231283", "黑龙江省绥化市海伦市");
-        map.put("232700", "黑龙江省大兴安岭地区");
-        map.put("232701", "黑龙江省大兴安岭地区加格达奇区");
-        map.put("232721", "黑龙江省大兴安岭地区呼玛县");
-        map.put("232722", "黑龙江省大兴安岭地区塔河县");
-        map.put("232723", "黑龙江省大兴安岭地区漠河县");
-        map.put("310000", "上海市");
-        map.put("310101", "上海市黄浦区");
-        map.put("310104", "上海市徐汇区");
-        map.put("310105", "上海市长宁区");
-        map.put("310106", "上海市静安区");
-        map.put("310107", "上海市普陀区");
-        map.put("310109", "上海市虹口区");
-        map.put("310110", "上海市杨浦区");
-        map.put("310112", "上海市闵行区");
-        map.put("310113", "上海市宝山区");
-        map.put("310114", "上海市嘉定区");
-        map.put("310115", "上海市浦东新区");
-        map.put("310116", "上海市金山区");
-        map.put("310117", "上海市松江区");
-        map.put("310118", "上海市青浦区");
-        map.put("310120", "上海市奉贤区");
-        map.put("310151", "上海市崇明区");
-        map.put("320000", "江苏省");
-        map.put("320100", "江苏省南京市");
-        map.put("320102", "江苏省南京市玄武区");
-        map.put("320104", "江苏省南京市秦淮区");
-        map.put("320105", "江苏省南京市建邺区");
-        map.put("320106", "江苏省南京市鼓楼区");
-        map.put("320111", "江苏省南京市浦口区");
-        map.put("320113", "江苏省南京市栖霞区");
-        map.put("320114", "江苏省南京市雨花台区");
-        map.put("320115", "江苏省南京市江宁区");
-        map.put("320116", "江苏省南京市六合区");
-        map.put("320117", "江苏省南京市溧水区");
-        map.put("320118", "江苏省南京市高淳区");
-        map.put("320200", "江苏省无锡市");
-        map.put("320205", "江苏省无锡市锡山区");
-        map.put("320206", "江苏省无锡市惠山区");
-        map.put("320211", "江苏省无锡市滨湖区");
-        map.put("320213", "江苏省无锡市梁溪区");
-        map.put("320214", "江苏省无锡市新吴区");
-        map.put("320281", "江苏省无锡市江阴市");
-        map.put("320282", "江苏省无锡市宜兴市");
-        map.put("320300", "江苏省徐州市");
-        map.put("320302", "江苏省徐州市鼓楼区");
-        map.put("320303", "江苏省徐州市云龙区");
-        map.put("320305", "江苏省徐州市贾汪区");
-        map.put("320311", "江苏省徐州市泉山区");
-        map.put("320312", "江苏省徐州市铜山区");
-        map.put("320321", "江苏省徐州市丰县");
-        map.put("320322", "江苏省徐州市沛县");
-        map.put("320324", "江苏省徐州市睢宁县");
-        map.put("320381", "江苏省徐州市新沂市");
-        map.put("320382", "江苏省徐州市邳州市");
-        map.put("320400", "江苏省常州市");
-        map.put("320402", "江苏省常州市天宁区");
-        map.put("320404", "江苏省常州市钟楼区");
-        map.put("320411", "江苏省常州市新北区");
-        map.put("320412", "江苏省常州市武进区");
-        map.put("320413", "江苏省常州市金坛区");
-        map.put("320481", "江苏省常州市溧阳市");
-        map.put("320500", "江苏省苏州市");
-        map.put("320505", "江苏省苏州市虎丘区");
-        map.put("320506", "江苏省苏州市吴中区");
-        map.put("320507", "江苏省苏州市相城区");
-        map.put("320508", "江苏省苏州市姑苏区");
-        map.put("320509", "江苏省苏州市吴江区");
-        map.put("320581", "江苏省苏州市常熟市");
-        map.put("320582", "江苏省苏州市张家港市");
-        map.put("320583", "江苏省苏州市昆山市");
-        map.put("320585", "江苏省苏州市太仓市");
-        map.put("320600", "江苏省南通市");
-        map.put("320602", "江苏省南通市崇川区");
-        map.put("320611", "江苏省南通市港闸区");
-        map.put("320612", "江苏省南通市通州区");
-        map.put("320621", "江苏省南通市海安县");
-        map.put("320623", "江苏省南通市如东县");
-        map.put("320681", "江苏省南通市启东市");
-        map.put("320682", "江苏省南通市如皋市");
-        map.put("320684", "江苏省南通市海门市");
-        map.put("320700", "江苏省连云港市");
-        map.put("320703", "江苏省连云港市连云区");
-        map.put("320706", "江苏省连云港市海州区");
-        map.put("320707", "江苏省连云港市赣榆区");
-        map.put("320722", "江苏省连云港市东海县");
-        map.put("320723", "江苏省连云港市灌云县");
-        map.put("320724", "江苏省连云港市灌南县");
-        map.put("320800", "江苏省淮安市");
-        map.put("320803", "江苏省淮安市淮安区");
-        map.put("320804", "江苏省淮安市淮阴区");
-        map.put("320812", "江苏省淮安市清江浦区");
-        map.put("320813", "江苏省淮安市洪泽区");
-        map.put("320826", "江苏省淮安市涟水县");
-        map.put("320830", "江苏省淮安市盱眙县");
-        map.put("320831", "江苏省淮安市金湖县");
-        map.put("320900", "江苏省盐城市");
-        map.put("320902", "江苏省盐城市亭湖区");
-        map.put("320903", "江苏省盐城市盐都区");
-        map.put("320904", "江苏省盐城市大丰区");
-        map.put("320921", "江苏省盐城市响水县");
-        map.put("320922", "江苏省盐城市滨海县");
-        map.put("320923", "江苏省盐城市阜宁县");
-        map.put("320924", "江苏省盐城市射阳县");
-        map.put("320925", "江苏省盐城市建湖县");
-        map.put("320981", "江苏省盐城市东台市");
-        map.put("321000", "江苏省扬州市");
-        map.put("321002", "江苏省扬州市广陵区");
-        map.put("321003", "江苏省扬州市邗江区");
-        map.put("321012", "江苏省扬州市江都区");
-        map.put("321023", "江苏省扬州市宝应县");
-        map.put("321081", "江苏省扬州市仪征市");
-        map.put("321084", "江苏省扬州市高邮市");
-        map.put("321100", "江苏省镇江市");
-        map.put("321102", "江苏省镇江市京口区");
-        map.put("321111", "江苏省镇江市润州区");
-        map.put("321112", "江苏省镇江市丹徒区");
-        map.put("321181", "江苏省镇江市丹阳市");
-        map.put("321182", "江苏省镇江市扬中市");
-        map.put("321183", "江苏省镇江市句容市");
-        map.put("321200", "江苏省泰州市");
-        map.put("321202", "江苏省泰州市海陵区");
-        map.put("321203", "江苏省泰州市高港区");
-        map.put("321204", "江苏省泰州市姜堰区");
-        map.put("321281", "江苏省泰州市兴化市");
-        map.put("321282", "江苏省泰州市靖江市");
-        map.put("321283", "江苏省泰州市泰兴市");
-        map.put("321300", "江苏省宿迁市");
-        map.put("321302", "江苏省宿迁市宿城区");
-        map.put("321311", "江苏省宿迁市宿豫区");
-        map.put("321322", "江苏省宿迁市沭阳县");
-        map.put("321323", "江苏省宿迁市泗阳县");
-        map.put("321324", "江苏省宿迁市泗洪县");
-        map.put("330000", "浙江省");
-        map.put("330100", "浙江省杭州市");
-        map.put("330102", "浙江省杭州市上城区");
-        map.put("330103", "浙江省杭州市下城区");
-        map.put("330104", "浙江省杭州市江干区");
-        map.put("330105", "浙江省杭州市拱墅区");
-        map.put("330106", "浙江省杭州市西湖区");
-        map.put("330108", "浙江省杭州市滨江区");
-        map.put("330109", "浙江省杭州市萧山区");
-        map.put("330110", "浙江省杭州市余杭区");
-        map.put("330111", "浙江省杭州市富阳区");
-        map.put("330122", "浙江省杭州市桐庐县");
-        map.put("330127", "浙江省杭州市淳安县");
-        map.put("330182", "浙江省杭州市建德市");
-        map.put("330185", "浙江省杭州市临安市");
-        map.put("330200", "浙江省宁波市");
-        map.put("330203", "浙江省宁波市海曙区");
-        map.put("330205", "浙江省宁波市江北区");
-        map.put("330206", "浙江省宁波市北仑区");
-        map.put("330211", "浙江省宁波市镇海区");
-        map.put("330212", "浙江省宁波市鄞州区");
-        map.put("330213", "浙江省宁波市奉化区");
-        map.put("330225", "浙江省宁波市象山县");
-        map.put("330226", "浙江省宁波市宁海县");
-        map.put("330281", "浙江省宁波市余姚市");
-        map.put("330282", "浙江省宁波市慈溪市");
-        map.put("330300", "浙江省温州市");
-        map.put("330302", "浙江省温州市鹿城区");
-        map.put("330303", "浙江省温州市龙湾区");
-        map.put("330304", "浙江省温州市瓯海区");
-        map.put("330305", "浙江省温州市洞头区");
-        map.put("330324", "浙江省温州市永嘉县");
-        map.put("330326", "浙江省温州市平阳县");
-        map.put("330327", "浙江省温州市苍南县");
-        map.put("330328", "浙江省温州市文成县");
-        map.put("330329", "浙江省温州市泰顺县");
-        map.put("330381", "浙江省温州市瑞安市");
-        map.put("330382", "浙江省温州市乐清市");
-        map.put("330400", "浙江省嘉兴市");
-        map.put("330402", "浙江省嘉兴市南湖区");
-        map.put("330411", "浙江省嘉兴市秀洲区");
-        map.put("330421", "浙江省嘉兴市嘉善县");
-        map.put("330424", "浙江省嘉兴市海盐县");
-        map.put("330481", "浙江省嘉兴市海宁市");
-        map.put("330482", "浙江省嘉兴市平湖市");
-        map.put("330483", "浙江省嘉兴市,桐乡市");
-        map.put("330500", "浙江省湖州市");
-        map.put("330502", "浙江省湖州市吴兴区");
-        map.put("330503", "浙江省湖州市南浔区");
-        map.put("330521", "浙江省湖州市德清县");
-        map.put("330522", "浙江省湖州市长兴县");
-        map.put("330523", "浙江省湖州市安吉县");
-        map.put("330600", "浙江省绍兴市");
-        map.put("330602", "浙江省绍兴市越城区");
-        map.put("330603", "浙江省绍兴市柯桥区");
-        map.put("330604", "浙江省绍兴市上虞区");
-        map.put("330624", "浙江省绍兴市新昌县");
-        map.put("330681", "浙江省绍兴市诸暨市");
-        map.put("330683", "浙江省绍兴市嵊州市");
-        map.put("330700", "浙江省金华市");
-        map.put("330702", "浙江省金华市婺城区");
-        map.put("330703", "浙江省金华市金东区");
-        map.put("330723", "浙江省金华市武义县");
-        map.put("330726", "浙江省金华市浦江县");
-        map.put("330727", "浙江省金华市磐安县");
-        map.put("330781", "浙江省金华市兰溪市");
-        map.put("330782", "浙江省金华市义乌市");
-        map.put("330783", "浙江省金华市东阳市");
-        map.put("330784", "浙江省金华市永康市");
-        map.put("330800", "浙江省衢州市");
-        map.put("330802", "浙江省衢州市柯城区");
-        map.put("330803", "浙江省衢州市衢江区");
-        map.put("330822", "浙江省衢州市常山县");
-        map.put("330824", "浙江省衢州市开化县");
-        map.put("330825", "浙江省衢州市龙游县");
-        map.put("330881", "浙江省衢州市江山市");
-        map.put("330900", "浙江省舟山市");
-        map.put("330902", "浙江省舟山市定海区");
-        map.put("330903", "浙江省舟山市普陀区");
-        map.put("330921", "浙江省舟山市岱山县");
-        map.put("330922", "浙江省舟山市嵊泗县");
-        map.put("331000", "浙江省台州市");
-        map.put("331002", "浙江省台州市椒江区");
-        map.put("331003", "浙江省台州市黄岩区");
-        map.put("331004", "浙江省台州市路桥区");
-        map.put("331022", "浙江省台州市三门县");
-        map.put("331023", "浙江省台州市天台县");
-        map.put("331024", "浙江省台州市仙居县");
-        map.put("331081", "浙江省台州市温岭市");
-        map.put("331082", "浙江省台州市临海市");
-        map.put("331083", "浙江省台州市玉环市");
-        map.put("331100", "浙江省丽水市");
-        map.put("331102", "浙江省丽水市莲都区");
-        map.put("331121", "浙江省丽水市青田县");
-        map.put("331122", "浙江省丽水市缙云县");
-        map.put("331123", "浙江省丽水市遂昌县");
-        map.put("331124", "浙江省丽水市松阳县");
-        map.put("331125", "浙江省丽水市云和县");
-        map.put("331126", "浙江省丽水市庆元县");
-        map.put("331127", "浙江省丽水市景宁畲族自治县");
-        map.put("331181", "浙江省丽水市龙泉市");
-        map.put("340000", "安徽省");
-        map.put("340100", "安徽省合肥市");
-        map.put("340102", "安徽省合肥市瑶海区");
-        map.put("340103", "安徽省合肥市庐阳区");
-        map.put("340104", "安徽省合肥市蜀山区");
-        map.put("340111", "安徽省合肥市包河区");
-        map.put("340121", "安徽省合肥市长丰县");
-        map.put("340122", "安徽省合肥市肥东县");
-        map.put("340123", "安徽省合肥市肥西县");
-        map.put("340124", "安徽省合肥市庐江县");
-        map.put("340181", "安徽省合肥市巢湖市");
-        map.put("340200", "安徽省芜湖市");
-        map.put("340202", "安徽省芜湖市镜湖区");
-        map.put("340203", "安徽省芜湖市弋江区");
-        map.put("340207", "安徽省芜湖市鸠江区");
-        map.put("340208", "安徽省芜湖市三山区");
-        map.put("340221", "安徽省芜湖市芜湖县");
-        map.put("340222", "安徽省芜湖市繁昌县");
-        map.put("340223", "安徽省芜湖市南陵县");
-        map.put("340225", "安徽省芜湖市无为县");
-        map.put("340300", "安徽省蚌埠市");
-        map.put("340302", "安徽省蚌埠市龙子湖区");
-        map.put("340303", "安徽省蚌埠市蚌山区");
-        map.put("340304", "安徽省蚌埠市禹会区");
-        map.put("340311", "安徽省蚌埠市淮上区");
-        map.put("340321", "安徽省蚌埠市怀远县");
-        map.put("340322", "安徽省蚌埠市五河县");
-        map.put("340323", "安徽省蚌埠市固镇县");
-        map.put("340400", "安徽省淮南市");
-        map.put("340402", "安徽省淮南市大通区");
-        map.put("340403", "安徽省淮南市田家庵区");
-        map.put("340404", "安徽省淮南市谢家集区");
-        map.put("340405", "安徽省淮南市八公山区");
-        map.put("340406", "安徽省淮南市潘集区");
-        map.put("340421", "安徽省淮南市凤台县");
-        map.put("340422", "安徽省淮南市,寿县");
-        map.put("340500", "安徽省马鞍山市");
-        map.put("340503", "安徽省马鞍山市花山区");
-        map.put("340504", "安徽省马鞍山市雨山区");
-        map.put("340506", "安徽省马鞍山市博望区");
-        map.put("340521", "安徽省马鞍山市当涂县");
-        map.put("340522", "安徽省马鞍山市含山县");
-        map.put("340523", "安徽省马鞍山市和县");
-        map.put("340600", "安徽省淮北市");
-        map.put("340602", "安徽省淮北市杜集区");
-        map.put("340603", "安徽省淮北市相山区");
-        map.put("340604", "安徽省淮北市烈山区");
-        map.put("340621", "安徽省淮北市濉溪县");
-        map.put("340700", "安徽省铜陵市");
-        map.put("340705", "安徽省铜陵市铜官区");
-        map.put("340706", "安徽省铜陵市义安区");
-        map.put("340711", "安徽省铜陵市郊区");
-        map.put("340722", "安徽省铜陵市枞阳县");
-        map.put("340800", "安徽省安庆市");
-        map.put("340802", "安徽省安庆市迎江区");
-        map.put("340803", "安徽省安庆市大观区");
-        map.put("340811", "安徽省安庆市宜秀区");
-        map.put("340822", "安徽省安庆市怀宁县");
-        map.put("340824", "安徽省安庆市潜山县");
-        map.put("340825", "安徽省安庆市太湖县");
-        map.put("340826", "安徽省安庆市宿松县");
-        map.put("340827", "安徽省安庆市望江县");
-        map.put("340828", "安徽省安庆市岳西县");
-        map.put("340881", "安徽省安庆市桐城市");
-        map.put("341000", "安徽省黄山市");
-        map.put("341002", "安徽省黄山市屯溪区");
-        map.put("341003", "安徽省黄山市黄山区");
-        map.put("341004", "安徽省黄山市徽州区");
-        map.put("341021", "安徽省黄山市歙县");
-        map.put("341022", "安徽省黄山市休宁县");
-        map.put("341023", "安徽省黄山市黟县");
-        map.put("341024", "安徽省黄山市祁门县");
-        map.put("341100", "安徽省滁州市");
-        map.put("341102", "安徽省滁州市琅琊区");
-        map.put("341103", "安徽省滁州市南谯区");
-        map.put("341122", "安徽省滁州市来安县");
-        map.put("341124", "安徽省滁州市全椒县");
-        map.put("341125", "安徽省滁州市定远县");
-        map.put("341126", "安徽省滁州市凤阳县");
-        map.put("341181", "安徽省滁州市天长市");
-        map.put("341182", "安徽省滁州市明光市");
-        map.put("341200", "安徽省阜阳市");
-        map.put("341202", "安徽省阜阳市颍州区");
-        map.put("341203", "安徽省阜阳市颍东区");
-        map.put("341204", "安徽省阜阳市颍泉区");
-        map.put("341221", "安徽省阜阳市临泉县");
-        map.put("341222", "安徽省阜阳市太和县");
-        map.put("341225", "安徽省阜阳市阜南县");
-        map.put("341226", "安徽省阜阳市颍上县");
-        map.put("341282", "安徽省阜阳市界首市");
-        map.put("341300", "安徽省宿州市");
-        map.put("341302", "安徽省宿州市埇桥区");
-        map.put("341321", "安徽省宿州市砀山县");
-        map.put("341322", "安徽省宿州市萧县");
-        map.put("341323", "安徽省宿州市灵璧县");
-        map.put("341324", "安徽省宿州市泗县");
-        map.put("341500", "安徽省六安市");
-        map.put("341502", "安徽省六安市金安区");
-        map.put("341503", "安徽省六安市裕安区");
-        map.put("341504", "安徽省六安市叶集区");
-        map.put("341522", "安徽省六安市霍邱县");
-        map.put("341523", "安徽省六安市舒城县");
-        map.put("341524", "安徽省六安市金寨县");
-        map.put("341525", "安徽省六安市霍山县");
-        map.put("341600", "安徽省亳州市");
-        map.put("341602", "安徽省亳州市谯城区");
-        map.put("341621", "安徽省亳州市涡阳县");
-        map.put("341622", "安徽省亳州市蒙城县");
-        map.put("341623", "安徽省亳州市利辛县");
-        map.put("341700", "安徽省池州市");
-        map.put("341702", "安徽省池州市贵池区");
-        map.put("341721", "安徽省池州市东至县");
-        map.put("341722", "安徽省池州市石台县");
-        map.put("341723", "安徽省池州市青阳县");
-        map.put("341800", "安徽省宣城市");
-        map.put("341802", "安徽省宣城市宣州区");
-        map.put("341821", "安徽省宣城市郎溪县");
-        map.put("341822", "安徽省宣城市广德县");
-        map.put("341823", "安徽省宣城市泾县");
-        map.put("341824", "安徽省宣城市绩溪县");
-        map.put("341825", "安徽省宣城市旌德县");
-        map.put("341881", "安徽省宣城市宁国市");
-        map.put("350000", "福建省");
-        map.put("350100", "福建省福州市");
-        map.put("350102", "福建省福州市鼓楼区");
-        map.put("350103", "福建省福州市台江区");
-        map.put("350104", "福建省福州市仓山区");
-        map.put("350105", "福建省福州市马尾区");
-        map.put("350111", "福建省福州市晋安区");
-        map.put("350121", "福建省福州市闽侯县");
-        map.put("350122", "福建省福州市连江县");
-        map.put("350123", "福建省福州市罗源县");
-        map.put("350124", "福建省福州市闽清县");
-        map.put("350125", "福建省福州市永泰县");
-        map.put("350128", "福建省福州市平潭县");
-        map.put("350181", "福建省福州市福清市");
-        map.put("350182", "福建省福州市长乐市");
-        map.put("350200", "福建省厦门市");
-        map.put("350203", "福建省厦门市思明区");
-        map.put("350205", "福建省厦门市海沧区");
-        map.put("350206", "福建省厦门市湖里区");
-        map.put("350211", "福建省厦门市集美区");
-        map.put("350212", "福建省厦门市同安区");
-        map.put("350213", "福建省厦门市翔安区");
-        map.put("350300", "福建省莆田市");
-        map.put("350302", "福建省莆田市城厢区");
-        map.put("350303", "福建省莆田市涵江区");
-        map.put("350304", "福建省莆田市荔城区");
-        map.put("350305", "福建省莆田市秀屿区");
-        map.put("350322", "福建省莆田市仙游县");
-        map.put("350400", "福建省三明市");
-        map.put("350402", "福建省三明市梅列区");
-        map.put("350403", "福建省三明市三元区");
-        map.put("350421", "福建省三明市明溪县");
-        map.put("350423", "福建省三明市清流县");
-        map.put("350424", "福建省三明市宁化县");
-        map.put("350425", "福建省三明市大田县");
-        map.put("350426", "福建省三明市尤溪县");
-        map.put("350427", "福建省三明市沙县");
-        map.put("350428", "福建省三明市将乐县");
-        map.put("350429", "福建省三明市泰宁县");
-        map.put("350430", "福建省三明市建宁县");
-        map.put("350481", "福建省三明市永安市");
-        map.put("350500", "福建省泉州市");
-        map.put("350502", "福建省泉州市鲤城区");
-        map.put("350503", "福建省泉州市丰泽区");
-        map.put("350504", "福建省泉州市洛江区");
-        map.put("350505", "福建省泉州市泉港区");
-        map.put("350521", "福建省泉州市惠安县");
-        map.put("350524", "福建省泉州市安溪县");
-        map.put("350525", "福建省泉州市永春县");
-        map.put("350526", "福建省泉州市德化县");
-        map.put("350527", "福建省泉州市金门县");
-        map.put("350581", "福建省泉州市石狮市");
-        map.put("350582", "福建省泉州市晋江市");
-        map.put("350583", "福建省泉州市南安市");
-        map.put("350600", "福建省漳州市");
-        map.put("350602", "福建省漳州市芗城区");
-        map.put("350603", "福建省漳州市龙文区");
-        map.put("350622", "福建省漳州市云霄县");
-        map.put("350623", "福建省漳州市漳浦县");
-        map.put("350624", "福建省漳州市诏安县");
-        map.put("350625", "福建省漳州市长泰县");
-        map.put("350626", "福建省漳州市东山县");
-        map.put("350627", "福建省漳州市南靖县");
-        map.put("350628", "福建省漳州市平和县");
-        map.put("350629", "福建省漳州市华安县");
-        map.put("350681", "福建省漳州市龙海市");
-        map.put("350700", "福建省南平市");
-        map.put("350702", "福建省南平市延平区");
-        map.put("350703", "福建省南平市建阳区");
-        map.put("350721", "福建省南平市顺昌县");
-        map.put("350722", "福建省南平市浦城县");
-        map.put("350723", "福建省南平市光泽县");
-        map.put("350724", "福建省南平市松溪县");
-        map.put("350725", "福建省南平市政和县");
-        map.put("350781", "福建省南平市邵武市");
-        map.put("350782", "福建省南平市武夷山市");
-        map.put("350783", "福建省南平市建瓯市");
-        map.put("350800", "福建省龙岩市");
-        map.put("350802", "福建省龙岩市新罗区");
-        map.put("350803", "福建省龙岩市永定区");
-        map.put("350821", "福建省龙岩市长汀县");
-        map.put("350823", "福建省龙岩市上杭县");
-        map.put("350824", "福建省龙岩市武平县");
-        map.put("350825", "福建省龙岩市连城县");
-        map.put("350881", "福建省龙岩市漳平市");
-        map.put("350900", "福建省宁德市");
-        map.put("350902", "福建省宁德市蕉城区");
-        map.put("350921", "福建省宁德市霞浦县");
-        map.put("350922", "福建省宁德市古田县");
-        map.put("350923", "福建省宁德市屏南县");
-        map.put("350924", "福建省宁德市寿宁县");
-        map.put("350925", "福建省宁德市周宁县");
-        map.put("350926", "福建省宁德市柘荣县");
-        map.put("350981", "福建省宁德市福安市");
-        map.put("350982", "福建省宁德市福鼎市");
-        map.put("360000", "江西省");
-        map.put("360100", "江西省南昌市");
-        map.put("360102", "江西省南昌市东湖区");
-        map.put("360103", "江西省南昌市西湖区");
-        map.put("360104", "江西省南昌市青云谱区");
-        map.put("360105", "江西省南昌市湾里区");
-        map.put("360111", "江西省南昌市青山湖区");
-        map.put("360112", "江西省南昌市新建区");
-        map.put("360121", "江西省南昌市南昌县");
-        map.put("360123", "江西省南昌市安义县");
-        map.put("360124", "江西省南昌市进贤县");
-        map.put("360200", "江西省景德镇市");
-        map.put("360202", "江西省景德镇市昌江区");
-        map.put("360203", "江西省景德镇市珠山区");
-        map.put("360222", "江西省景德镇市浮梁县");
-        map.put("360281", "江西省景德镇市乐平市");
-        map.put("360300", "江西省萍乡市");
-        map.put("360302", "江西省萍乡市安源区");
-        map.put("360313", "江西省萍乡市湘东区");
-        map.put("360321", "江西省萍乡市莲花县");
-        map.put("360322", "江西省萍乡市上栗县");
-        map.put("360323", "江西省萍乡市芦溪县");
-        map.put("360400", "江西省九江市");
-        map.put("360402", "江西省九江市濂溪区");
-        map.put("360403", "江西省九江市浔阳区");
-        map.put("360421", "江西省九江市九江县");
-        map.put("360423", "江西省九江市武宁县");
-        map.put("360424", "江西省九江市修水县");
-        map.put("360425", "江西省九江市永修县");
-        map.put("360426", "江西省九江市德安县");
-        map.put("360428", "江西省九江市都昌县");
-        map.put("360429", "江西省九江市湖口县");
-        map.put("360430", "江西省九江市彭泽县");
-        map.put("360481", "江西省九江市瑞昌市");
-        map.put("360482", "江西省九江市共青城市");
-        map.put("360483", "江西省九江市庐山市");
-        map.put("360500", "江西省新余市");
-        map.put("360502", "江西省新余市渝水区");
-        map.put("360521", "江西省新余市分宜县");
-        map.put("360600", "江西省鹰潭市");
-        map.put("360602", "江西省鹰潭市月湖区");
-        map.put("360622", "江西省鹰潭市余江县");
-        map.put("360681", "江西省鹰潭市贵溪市");
-        map.put("360700", "江西省赣州市");
-        map.put("360702", "江西省赣州市章贡区");
-        map.put("360703", "江西省赣州市南康区");
-        map.put("360704", "江西省赣州市赣县区");
-        map.put("360722", "江西省赣州市信丰县");
-        map.put("360723", "江西省赣州市大余县");
-        map.put("360724", "江西省赣州市上犹县");
-        map.put("360725", "江西省赣州市崇义县");
-        map.put("360726", "江西省赣州市安远县");
-        map.put("360727", "江西省赣州市龙南县");
-        map.put("360728", "江西省赣州市定南县");
-        map.put("360729", "江西省赣州市全南县");
-        map.put("360730", "江西省赣州市宁都县");
-        map.put("360731", "江西省赣州市于都县");
-        map.put("360732", "江西省赣州市兴国县");
-        map.put("360733", "江西省赣州市会昌县");
-        map.put("360734", "江西省赣州市寻乌县");
-        map.put("360735", "江西省赣州市石城县");
-        map.put("360781", "江西省赣州市瑞金市");
-        map.put("360800", "江西省吉安市");
-        map.put("360802", "江西省吉安市吉州区");
-        map.put("360803", "江西省吉安市青原区");
-        map.put("360821", "江西省吉安市吉安县");
-        map.put("360822", "江西省吉安市吉水县");
-        map.put("360823", "江西省吉安市峡江县");
-        map.put("360824", "江西省吉安市新干县");
-        map.put("360825", "江西省吉安市永丰县");
-        map.put("360826", "江西省吉安市泰和县");
-        map.put("360827", "江西省吉安市遂川县");
-        map.put("360828", "江西省吉安市万安县");
-        map.put("360829", "江西省吉安市安福县");
-        map.put("360830", "江西省吉安市永新县");
-        map.put("360881", "江西省吉安市井冈山市");
-        map.put("360900", "江西省宜春市");
-        map.put("360902", "江西省宜春市袁州区");
-        map.put("360921", "江西省宜春市奉新县");
-        map.put("360922", "江西省宜春市万载县");
-        map.put("360923", "江西省宜春市上高县");
-        map.put("360924", "江西省宜春市宜丰县");
-        map.put("360925", "江西省宜春市靖安县");
-        map.put("360926", "江西省宜春市铜鼓县");
-        map.put("360981", "江西省宜春市丰城市");
-        map.put("360982", "江西省宜春市樟树市");
-        map.put("360983", "江西省宜春市高安市");
-        map.put("361000", "江西省抚州市");
-        map.put("361002", "江西省抚州市临川区");
-        map.put("361003", "江西省抚州市东乡区");
-        map.put("361021", "江西省抚州市南城县");
-        map.put("361022", "江西省抚州市黎川县");
-        map.put("361023", "江西省抚州市南丰县");
-        map.put("361024", "江西省抚州市崇仁县");
-        map.put("361025", "江西省抚州市乐安县");
-        map.put("361026", "江西省抚州市宜黄县");
-        map.put("361027", "江西省抚州市金溪县");
-        map.put("361028", "江西省抚州市资溪县");
-        map.put("361030", "江西省抚州市广昌县");
-        map.put("361100", "江西省上饶市");
-        map.put("361102", "江西省上饶市信州区");
-        map.put("361103", "江西省上饶市广丰区");
-        map.put("361121", "江西省上饶市上饶县");
-        map.put("361123", "江西省上饶市玉山县");
-        map.put("361124", "江西省上饶市铅山县");
-        map.put("361125", "江西省上饶市横峰县");
-        map.put("361126", "江西省上饶市弋阳县");
-        map.put("361127", "江西省上饶市余干县");
-        map.put("361128", "江西省上饶市鄱阳县");
-        map.put("361129", "江西省上饶市万年县");
-        map.put("361130", "江西省上饶市婺源县");
-        map.put("361181", "江西省上饶市德兴市");
-        map.put("370000", "山东省");
-        map.put("370100", "山东省济南市");
-        map.put("370102", "山东省济南市历下区");
-        map.put("370103", "山东省济南市市中区");
-        map.put("370104", "山东省济南市槐荫区");
-        map.put("370105", "山东省济南市天桥区");
-        map.put("370112", "山东省济南市历城区");
-        map.put("370113", "山东省济南市长清区");
-        map.put("370114", "山东省济南市章丘区");
-        map.put("370124", "山东省济南市平阴县");
-        map.put("370125", "山东省济南市济阳县");
-        map.put("370126", "山东省济南市商河县");
-        map.put("370200", "山东省青岛市");
-        map.put("370202", "山东省青岛市市南区");
-        map.put("370203", "山东省青岛市市北区");
-        map.put("370211", "山东省青岛市黄岛区");
-        map.put("370212", "山东省青岛市崂山区");
-        map.put("370213", "山东省青岛市李沧区");
-        map.put("370214", "山东省青岛市城阳区");
-        map.put("370281", "山东省青岛市胶州市");
-        map.put("370282", "山东省青岛市即墨市");
-        map.put("370283", "山东省青岛市平度市");
-        map.put("370285", "山东省青岛市莱西市");
-        map.put("370300", "山东省淄博市");
-        map.put("370302", "山东省淄博市淄川区");
-        map.put("370303", "山东省淄博市张店区");
-        map.put("370304", "山东省淄博市博山区");
-        map.put("370305", "山东省淄博市临淄区");
-        map.put("370306", "山东省淄博市周村区");
-        map.put("370321", "山东省淄博市桓台县");
-        map.put("370322", "山东省淄博市高青县");
-        map.put("370323", "山东省淄博市沂源县");
-        map.put("370400", "山东省枣庄市");
-        map.put("370402", "山东省枣庄市市中区");
-        map.put("370403", "山东省枣庄市薛城区");
-        map.put("370404", "山东省枣庄市峄城区");
-        map.put("370405", "山东省枣庄市台儿庄区");
-        map.put("370406", "山东省枣庄市山亭区");
-        map.put("370481", "山东省枣庄市滕州市");
-        map.put("370500", "山东省东营市");
-        map.put("370502", "山东省东营市东营区");
-        map.put("370503", "山东省东营市河口区");
-        map.put("370505", "山东省东营市垦利区");
-        map.put("370522", "山东省东营市利津县");
-        map.put("370523", "山东省东营市广饶县");
-        map.put("370600", "山东省烟台市");
-        map.put("370602", "山东省烟台市芝罘区");
-        map.put("370611", "山东省烟台市福山区");
-        map.put("370612", "山东省烟台市牟平区");
-        map.put("370613", "山东省烟台市莱山区");
-        map.put("370634", "山东省烟台市长岛县");
-        map.put("370681", "山东省烟台市龙口市");
-        map.put("370682", "山东省烟台市莱阳市");
-        map.put("370683", "山东省烟台市莱州市");
-        map.put("370684", "山东省烟台市蓬莱市");
-        map.put("370685", "山东省烟台市招远市");
-        map.put("370686", "山东省烟台市栖霞市");
-        map.put("370687", "山东省烟台市海阳市");
-        map.put("370700", "山东省潍坊市");
-        map.put("370702", "山东省潍坊市潍城区");
-        map.put("370703", "山东省潍坊市寒亭区");
-        map.put("370704", "山东省潍坊市坊子区");
-        map.put("370705", "山东省潍坊市奎文区");
-        map.put("370724", "山东省潍坊市临朐县");
-        map.put("370725", "山东省潍坊市昌乐县");
-        map.put("370781", "山东省潍坊市青州市");
-        map.put("370782", "山东省潍坊市诸城市");
-        map.put("370783", "山东省潍坊市寿光市");
-        map.put("370784", "山东省潍坊市安丘市");
-        map.put("370785", "山东省潍坊市高密市");
-        map.put("370786", "山东省潍坊市昌邑市");
-        map.put("370800", "山东省济宁市");
-        map.put("370811", "山东省济宁市任城区");
-        map.put("370812", "山东省济宁市兖州区");
-        map.put("370826", "山东省济宁市微山县");
-        map.put("370827", "山东省济宁市鱼台县");
-        map.put("370828", "山东省济宁市金乡县");
-        map.put("370829", "山东省济宁市嘉祥县");
-        map.put("370830", "山东省济宁市汶上县");
-        map.put("370831", "山东省济宁市泗水县");
-        map.put("370832", "山东省济宁市梁山县");
-        map.put("370881", "山东省济宁市曲阜市");
-        map.put("370883", "山东省济宁市邹城市");
-        map.put("370900", "山东省泰安市");
-        map.put("370902", "山东省泰安市泰山区");
-        map.put("370911", "山东省泰安市岱岳区");
-        map.put("370921", "山东省泰安市宁阳县");
-        map.put("370923", "山东省泰安市东平县");
-        map.put("370982", "山东省泰安市新泰市");
-        map.put("370983", "山东省泰安市肥城市");
-        map.put("371000", "山东省威海市");
-        map.put("371002", "山东省威海市环翠区");
-        map.put("371003", "山东省威海市文登区");
-        map.put("371082", "山东省威海市荣成市");
-        map.put("371083", "山东省威海市乳山市");
-        map.put("371100", "山东省日照市");
-        map.put("371102", "山东省日照市东港区");
-        map.put("371103", "山东省日照市岚山区");
-        map.put("371121", "山东省日照市五莲县");
-        map.put("371122", "山东省日照市莒县");
-        map.put("371200", "山东省莱芜市");
-        map.put("371202", "山东省莱芜市莱城区");
-        map.put("371203", "山东省莱芜市钢城区");
-        map.put("371300", "山东省临沂市");
-        map.put("371302", "山东省临沂市兰山区");
-        map.put("371311", "山东省临沂市罗庄区");
-        map.put("371312", "山东省临沂市河东区");
-        map.put("371321", "山东省临沂市沂南县");
-        map.put("371322", "山东省临沂市郯城县");
-        map.put("371323", "山东省临沂市沂水县");
-        map.put("371324", "山东省临沂市兰陵县");
-        map.put("371325", "山东省临沂市费县");
-        map.put("371326", "山东省临沂市平邑县");
-        map.put("371327", "山东省临沂市莒南县");
-        map.put("371328", "山东省临沂市蒙阴县");
-        map.put("371329", "山东省临沂市临沭县");
-        map.put("371400", "山东省德州市");
-        map.put("371402", "山东省德州市德城区");
-        map.put("371403", "山东省德州市陵城区");
-        map.put("371422", "山东省德州市宁津县");
-        map.put("371423", "山东省德州市庆云县");
-        map.put("371424", "山东省德州市临邑县");
-        map.put("371425", "山东省德州市齐河县");
-        map.put("371426", "山东省德州市平原县");
-        map.put("371427", "山东省德州市夏津县");
-        map.put("371428", "山东省德州市武城县");
-        map.put("371481", "山东省德州市乐陵市");
-        map.put("371482", "山东省德州市禹城市");
-        map.put("371500", "山东省聊城市");
-        map.put("371502", "山东省聊城市东昌府区");
-        map.put("371521", "山东省聊城市阳谷县");
-        map.put("371522", "山东省聊城市莘县");
-        map.put("371523", "山东省聊城市茌平县");
-        map.put("371524", "山东省聊城市东阿县");
-        map.put("371525", "山东省聊城市冠县");
-        map.put("371526", "山东省聊城市高唐县");
-        map.put("371581", "山东省聊城市临清市");
-        map.put("371600", "山东省滨州市");
-        map.put("371602", "山东省滨州市滨城区");
-        map.put("371603", "山东省滨州市沾化区");
-        map.put("371621", "山东省滨州市惠民县");
-        map.put("371622", "山东省滨州市阳信县");
-        map.put("371623", "山东省滨州市无棣县");
-        map.put("371625", "山东省滨州市博兴县");
-        map.put("371626", "山东省滨州市邹平县");
-        map.put("371700", "山东省菏泽市");
-        map.put("371702", "山东省菏泽市牡丹区");
-        map.put("371703", "山东省菏泽市定陶区");
-        map.put("371721", "山东省菏泽市曹县");
-        map.put("371722", "山东省菏泽市单县");
-        map.put("371723", "山东省菏泽市成武县");
-        map.put("371724", "山东省菏泽市巨野县");
-        map.put("371725", "山东省菏泽市郓城县");
-        map.put("371726", "山东省菏泽市鄄城县");
-        map.put("371728", "山东省菏泽市东明县");
-        map.put("410000", "河南省");
-        map.put("410100", "河南省郑州市");
-        map.put("410102", "河南省郑州市中原区");
-        map.put("410103", "河南省郑州市二七区");
-        map.put("410104", "河南省郑州市管城回族区");
-        map.put("410105", "河南省郑州市金水区");
-        map.put("410106", "河南省郑州市上街区");
-        map.put("410108", "河南省郑州市惠济区");
-        map.put("410122", "河南省郑州市中牟县");
-        map.put("410181", "河南省郑州市巩义市");
-        map.put("410182", "河南省郑州市荥阳市");
-        map.put("410183", "河南省郑州市新密市");
-        map.put("410184", "河南省郑州市新郑市");
-        map.put("410185", "河南省郑州市登封市");
-        map.put("410200", "河南省开封市");
-        map.put("410202", "河南省开封市龙亭区");
-        map.put("410203", "河南省开封市顺河回族区");
-        map.put("410204", "河南省开封市鼓楼区");
-        map.put("410205", "河南省开封市禹王台区");
-        map.put("410212", "河南省开封市祥符区");
-        map.put("410221", "河南省开封市杞县");
-        map.put("410222", "河南省开封市通许县");
-        map.put("410223", "河南省开封市尉氏县");
-        map.put("410225", "河南省开封市兰考县");
-        map.put("410300", "河南省洛阳市");
-        map.put("410302", "河南省洛阳市老城区");
-        map.put("410303", "河南省洛阳市西工区");
-        map.put("410304", "河南省洛阳市瀍河回族区");
-        map.put("410305", "河南省洛阳市涧西区");
-        map.put("410306", "河南省洛阳市吉利区");
-        map.put("410311", "河南省洛阳市洛龙区");
-        map.put("410322", "河南省洛阳市孟津县");
-        map.put("410323", "河南省洛阳市新安县");
-        map.put("410324", "河南省洛阳市栾川县");
-        map.put("410325", "河南省洛阳市嵩县");
-        map.put("410326", "河南省洛阳市汝阳县");
-        map.put("410327", "河南省洛阳市宜阳县");
-        map.put("410328", "河南省洛阳市洛宁县");
-        map.put("410329", "河南省洛阳市伊川县");
-        map.put("410381", "河南省洛阳市偃师市");
-        map.put("410400", "河南省平顶山市");
-        map.put("410402", "河南省平顶山市新华区");
-        map.put("410403", "河南省平顶山市卫东区");
-        map.put("410404", "河南省平顶山市石龙区");
-        map.put("410411", "河南省平顶山市湛河区");
-        map.put("410421", "河南省平顶山市宝丰县");
-        map.put("410422", "河南省平顶山市叶县");
-        map.put("410423", "河南省平顶山市鲁山县");
-        map.put("410425", "河南省平顶山市郏县");
-        map.put("410481", "河南省平顶山市舞钢市");
-        map.put("410482", "河南省平顶山市汝州市");
-        map.put("410500", "河南省安阳市");
-        map.put("410502", "河南省安阳市文峰区");
-        map.put("410503", "河南省安阳市北关区");
-        map.put("410505", "河南省安阳市殷都区");
-        map.put("410506", "河南省安阳市龙安区");
-        map.put("410522", "河南省安阳市安阳县");
-        map.put("410523", "河南省安阳市汤阴县");
-        map.put("410526", "河南省安阳市滑县");
-        map.put("410527", "河南省安阳市内黄县");
-        map.put("410581", "河南省安阳市林州市");
-        map.put("410600", "河南省鹤壁市");
-        map.put("410602", "河南省鹤壁市鹤山区");
-        map.put("410603", "河南省鹤壁市山城区");
-        map.put("410611", "河南省鹤壁市淇滨区");
-        map.put("410621", "河南省鹤壁市浚县");
-        map.put("410622", "河南省鹤壁市淇县");
-        map.put("410700", "河南省新乡市");
-        map.put("410702", "河南省新乡市红旗区");
-        map.put("410703", "河南省新乡市卫滨区");
-        map.put("410704", "河南省新乡市凤泉区");
-        map.put("410711", "河南省新乡市牧野区");
-        map.put("410721", "河南省新乡市新乡县");
-        map.put("410724", "河南省新乡市获嘉县");
-        map.put("410725", "河南省新乡市原阳县");
-        map.put("410726", "河南省新乡市延津县");
-        map.put("410727", "河南省新乡市封丘县");
-        map.put("410728", "河南省新乡市长垣县");
-        map.put("410781", "河南省新乡市卫辉市");
-        map.put("410782", "河南省新乡市辉县市");
-        map.put("410800", "河南省焦作市");
-        map.put("410802", "河南省焦作市解放区");
-        map.put("410803", "河南省焦作市中站区");
-        map.put("410804", "河南省焦作市马村区");
-        map.put("410811", "河南省焦作市山阳区");
-        map.put("410821", "河南省焦作市修武县");
-        map.put("410822", "河南省焦作市博爱县");
-        map.put("410823", "河南省焦作市武陟县");
-        map.put("410825", "河南省焦作市温县");
-        map.put("410882", "河南省焦作市沁阳市");
-        map.put("410883", "河南省焦作市孟州市");
-        map.put("410900", "河南省濮阳市");
-        map.put("410902", "河南省濮阳市华龙区");
-        map.put("410922", "河南省濮阳市清丰县");
-        map.put("410923", "河南省濮阳市南乐县");
-        map.put("410926", "河南省濮阳市范县");
-        map.put("410927", "河南省濮阳市台前县");
-        map.put("410928", "河南省濮阳市濮阳县");
-        map.put("411000", "河南省许昌市");
-        map.put("411002", "河南省许昌市魏都区");
-        map.put("411003", "河南省许昌市建安区");
-        map.put("411024", "河南省许昌市鄢陵县");
-        map.put("411025", "河南省许昌市襄城县");
-        map.put("411081", "河南省许昌市禹州市");
-        map.put("411082", "河南省许昌市长葛市");
-        map.put("411100", "河南省漯河市");
-        map.put("411102", "河南省漯河市源汇区");
-        map.put("411103", "河南省漯河市郾城区");
-        map.put("411104", "河南省漯河市召陵区");
-        map.put("411121", "河南省漯河市舞阳县");
-        map.put("411122", "河南省漯河市临颍县");
-        map.put("411200", "河南省三门峡市");
-        map.put("411202", "河南省三门峡市湖滨区");
-        map.put("411203", "河南省三门峡市陕州区");
-        map.put("411221", "河南省三门峡市渑池县");
-        map.put("411224", "河南省三门峡市卢氏县");
-        map.put("411281", "河南省三门峡市义马市");
-        map.put("411282", "河南省三门峡市灵宝市");
-        map.put("411300", "河南省南阳市");
-        map.put("411302", "河南省南阳市宛城区");
-        map.put("411303", "河南省南阳市卧龙区");
-        map.put("411321", "河南省南阳市南召县");
-        map.put("411322", "河南省南阳市方城县");
-        map.put("411323", "河南省南阳市西峡县");
-        map.put("411324", "河南省南阳市镇平县");
-        map.put("411325", "河南省南阳市内乡县");
-        map.put("411326", "河南省南阳市淅川县");
-        map.put("411327", "河南省南阳市社旗县");
-        map.put("411328", "河南省南阳市唐河县");
-        map.put("411329", "河南省南阳市新野县");
-        map.put("411330", "河南省南阳市桐柏县");
-        map.put("411381", "河南省南阳市邓州市");
-        map.put("411400", "河南省商丘市");
-        map.put("411402", "河南省商丘市梁园区");
-        map.put("411403", "河南省商丘市睢阳区");
-        map.put("411421", "河南省商丘市民权县");
-        map.put("411422", "河南省商丘市睢县");
-        map.put("411423", "河南省商丘市宁陵县");
-        map.put("411424", "河南省商丘市柘城县");
-        map.put("411425", "河南省商丘市虞城县");
-        map.put("411426", "河南省商丘市夏邑县");
-        map.put("411481", "河南省商丘市永城市");
-        map.put("411500", "河南省信阳市");
-        map.put("411502", "河南省信阳市浉河区");
-        map.put("411503", "河南省信阳市平桥区");
-        map.put("411521", "河南省信阳市罗山县");
-        map.put("411522", "河南省信阳市光山县");
-        map.put("411523", "河南省信阳市新县");
-        map.put("411524", "河南省信阳市商城县");
-        map.put("411525", "河南省信阳市固始县");
-        map.put("411526", "河南省信阳市潢川县");
-        map.put("411527", "河南省信阳市淮滨县");
-        map.put("411528", "河南省信阳市息县");
-        map.put("411600", "河南省周口市");
-        map.put("411602", "河南省周口市川汇区");
-        map.put("411621", "河南省周口市扶沟县");
-        map.put("411622", "河南省周口市西华县");
-        map.put("411623", "河南省周口市商水县");
-        map.put("411624", "河南省周口市沈丘县");
-        map.put("411625", "河南省周口市郸城县");
-        map.put("411626", "河南省周口市淮阳县");
-        map.put("411627", "河南省周口市太康县");
-        map.put("411628", "河南省周口市鹿邑县");
-        map.put("411681", "河南省周口市项城市");
-        map.put("411700", "河南省驻马店市");
-        map.put("411702", "河南省驻马店市驿城区");
-        map.put("411721", "河南省驻马店市西平县");
-        map.put("411722", "河南省驻马店市上蔡县");
-        map.put("411723", "河南省驻马店市平舆县");
-        map.put("411724", "河南省驻马店市正阳县");
-        map.put("411725", "河南省驻马店市确山县");
-        map.put("411726", "河南省驻马店市泌阳县");
-        map.put("411727", "河南省驻马店市汝南县");
-        map.put("411728", "河南省驻马店市遂平县");
-        map.put("411729", "河南省驻马店市新蔡县");
-        map.put("419001", "河南省济源市济源市");
-        map.put("420000", "湖北省");
-        map.put("420100", "湖北省武汉市");
-        map.put("420102", "湖北省武汉市江岸区");
-        map.put("420103", "湖北省武汉市江汉区");
-        map.put("420104", "湖北省武汉市硚口区");
-        map.put("420105", "湖北省武汉市汉阳区");
-        map.put("420106", "湖北省武汉市武昌区");
-        map.put("420107", "湖北省武汉市青山区");
-        map.put("420111", "湖北省武汉市洪山区");
-        map.put("420112", "湖北省武汉市东西湖区");
-        map.put("420113", "湖北省武汉市汉南区");
-        map.put("420114", "湖北省武汉市蔡甸区");
-        map.put("420115", "湖北省武汉市江夏区");
-        map.put("420116", "湖北省武汉市黄陂区");
-        map.put("420117", "湖北省武汉市新洲区");
-        map.put("420200", "湖北省黄石市");
-        map.put("420202", "湖北省黄石市黄石港区");
-        map.put("420203", "湖北省黄石市西塞山区");
-        map.put("420204", "湖北省黄石市下陆区");
-        map.put("420205", "湖北省黄石市铁山区");
-        map.put("420222", "湖北省黄石市阳新县");
-        map.put("420281", "湖北省黄石市大冶市");
-        map.put("420300", "湖北省十堰市");
-        map.put("420302", "湖北省十堰市茅箭区");
-        map.put("420303", "湖北省十堰市张湾区");
-        map.put("420304", "湖北省十堰市郧阳区");
-        map.put("420322", "湖北省十堰市郧西县");
-        map.put("420323", "湖北省十堰市竹山县");
-        map.put("420324", "湖北省十堰市竹溪县");
-        map.put("420325", "湖北省十堰市房县");
-        map.put("420381", "湖北省十堰市丹江口市");
-        map.put("420500", "湖北省宜昌市");
-        map.put("420502", "湖北省宜昌市西陵区");
-        map.put("420503", "湖北省宜昌市伍家岗区");
-        map.put("420504", "湖北省宜昌市点军区");
-        map.put("420505", "湖北省宜昌市猇亭区");
-        map.put("420506", "湖北省宜昌市夷陵区");
-        map.put("420525", "湖北省宜昌市远安县");
-        map.put("420526", "湖北省宜昌市兴山县");
-        map.put("420527", "湖北省宜昌市秭归县");
-        map.put("420528", "湖北省宜昌市长阳土家族自治县");
-        map.put("420529", "湖北省宜昌市五峰土家族自治县");
-        map.put("420581", "湖北省宜昌市宜都市");
-        map.put("420582", "湖北省宜昌市当阳市");
-        map.put("420583", "湖北省宜昌市枝江市");
-        map.put("420600", "湖北省襄阳市");
-        map.put("420602", "湖北省襄阳市襄城区");
-        map.put("420606", "湖北省襄阳市樊城区");
-        map.put("420607", "湖北省襄阳市襄州区");
-        map.put("420624", "湖北省襄阳市南漳县");
-        map.put("420625", "湖北省襄阳市谷城县");
-        map.put("420626", "湖北省襄阳市保康县");
-        map.put("420682", "湖北省襄阳市老河口市");
-        map.put("420683", "湖北省襄阳市枣阳市");
-        map.put("420684", "湖北省襄阳市宜城市");
-        map.put("420700", "湖北省鄂州市");
-        map.put("420702", "湖北省鄂州市梁子湖区");
-        map.put("420703", "湖北省鄂州市华容区");
-        map.put("420704", "湖北省鄂州市鄂城区");
-        map.put("420800", "湖北省荆门市");
-        map.put("420802", "湖北省荆门市东宝区");
-        map.put("420804", "湖北省荆门市掇刀区");
-        map.put("420821", "湖北省荆门市京山县");
-        map.put("420822", "湖北省荆门市沙洋县");
-        map.put("420881", "湖北省荆门市钟祥市");
-        map.put("420900", "湖北省孝感市");
-        map.put("420902", "湖北省孝感市孝南区");
-        map.put("420921", "湖北省孝感市孝昌县");
-        map.put("420922", "湖北省孝感市大悟县");
-        map.put("420923", "湖北省孝感市云梦县");
-        map.put("420981", "湖北省孝感市应城市");
-        map.put("420982", "湖北省孝感市安陆市");
-        map.put("420984", "湖北省孝感市汉川市");
-        map.put("421000", "湖北省荆州市");
-        map.put("421002", "湖北省荆州市沙市区");
-        map.put("421003", "湖北省荆州市荆州区");
-        map.put("421022", "湖北省荆州市公安县");
-        map.put("421023", "湖北省荆州市监利县");
-        map.put("421024", "湖北省荆州市江陵县");
-        map.put("421081", "湖北省荆州市石首市");
-        map.put("421083", "湖北省荆州市洪湖市");
-        map.put("421087", "湖北省荆州市松滋市");
-        map.put("421100", "湖北省黄冈市");
-        map.put("421102", "湖北省黄冈市黄州区");
-        map.put("421121", "湖北省黄冈市团风县");
-        map.put("421122", "湖北省黄冈市红安县");
-        map.put("421123", "湖北省黄冈市罗田县");
-        map.put("421124", "湖北省黄冈市英山县");
-        map.put("421125", "湖北省黄冈市浠水县");
-        map.put("421126", "湖北省黄冈市蕲春县");
-        map.put("421127", "湖北省黄冈市黄梅县");
-        map.put("421181", "湖北省黄冈市麻城市");
-        map.put("421182", "湖北省黄冈市武穴市");
-        map.put("421200", "湖北省咸宁市");
-        map.put("421202", "湖北省咸宁市咸安区");
-        map.put("421221", "湖北省咸宁市嘉鱼县");
-        map.put("421222", "湖北省咸宁市通城县");
-        map.put("421223", "湖北省咸宁市崇阳县");
-        map.put("421224", "湖北省咸宁市通山县");
-        map.put("421281", "湖北省咸宁市赤壁市");
-        map.put("421300", "湖北省随州市");
-        map.put("421303", "湖北省随州市曾都区");
-        map.put("421321", "湖北省随州市随县");
-        map.put("421381", "湖北省随州市广水市");
-        map.put("422800", "湖北省恩施土家族苗族自治州");
-        map.put("422801", "湖北省恩施土家族苗族自治州恩施市");
-        map.put("422802", "湖北省恩施土家族苗族自治州利川市");
-        map.put("422822", "湖北省恩施土家族苗族自治州建始县");
-        map.put("422823", "湖北省恩施土家族苗族自治州巴东县");
-        map.put("422825", "湖北省恩施土家族苗族自治州宣恩县");
-        map.put("422826", "湖北省恩施土家族苗族自治州咸丰县");
-        map.put("422827", "湖北省恩施土家族苗族自治州来凤县");
-        map.put("422828", "湖北省恩施土家族苗族自治州鹤峰县");
-        map.put("429004", "湖北省仙桃市仙桃市");
-        map.put("429005", "湖北省潜江市潜江市");
-        map.put("429006", "湖北省天门市天门市");
-        map.put("429021", "湖北省神农架林区神农架林区");
-        map.put("430000", "湖南省");
-        map.put("430100", "湖南省长沙市");
-        map.put("430102", "湖南省长沙市芙蓉区");
-        map.put("430103", "湖南省长沙市天心区");
-        map.put("430104", "湖南省长沙市岳麓区");
-        map.put("430105", "湖南省长沙市开福区");
-        map.put("430111", "湖南省长沙市雨花区");
-        map.put("430112", "湖南省长沙市望城区");
-        map.put("430121", "湖南省长沙市长沙县");
-        map.put("430181", "湖南省长沙市浏阳市");
-        map.put("430182", "湖南省长沙市宁乡市");
-        map.put("430200", "湖南省株洲市");
-        map.put("430202", "湖南省株洲市荷塘区");
-        map.put("430203", "湖南省株洲市芦淞区");
-        map.put("430204", "湖南省株洲市石峰区");
-        map.put("430211", "湖南省株洲市天元区");
-        map.put("430221", "湖南省株洲市株洲县");
-        map.put("430223", "湖南省株洲市攸县");
-        map.put("430224", "湖南省株洲市茶陵县");
-        map.put("430225", "湖南省株洲市炎陵县");
-        map.put("430281", "湖南省株洲市醴陵市");
-        map.put("430300", "湖南省湘潭市");
-        map.put("430302", "湖南省湘潭市雨湖区");
-        map.put("430304", "湖南省湘潭市岳塘区");
-        map.put("430321", "湖南省湘潭市湘潭县");
-        map.put("430381", "湖南省湘潭市湘乡市");
-        map.put("430382", "湖南省湘潭市韶山市");
-        map.put("430400", "湖南省衡阳市");
-        map.put("430405", "湖南省衡阳市珠晖区");
-        map.put("430406", "湖南省衡阳市雁峰区");
-        map.put("430407", "湖南省衡阳市石鼓区");
-        map.put("430408", "湖南省衡阳市蒸湘区");
-        map.put("430412", "湖南省衡阳市南岳区");
-        map.put("430421", "湖南省衡阳市衡阳县");
-        map.put("430422", "湖南省衡阳市衡南县");
-        map.put("430423", "湖南省衡阳市衡山县");
-        map.put("430424", "湖南省衡阳市衡东县");
-        map.put("430426", "湖南省衡阳市祁东县");
-        map.put("430481", "湖南省衡阳市耒阳市");
-        map.put("430482", "湖南省衡阳市常宁市");
-        map.put("430500", "湖南省邵阳市");
-        map.put("430502", "湖南省邵阳市双清区");
-        map.put("430503", "湖南省邵阳市大祥区");
-        map.put("430511", "湖南省邵阳市北塔区");
-        map.put("430521", "湖南省邵阳市邵东县");
-        map.put("430522", "湖南省邵阳市新邵县");
-        map.put("430523", "湖南省邵阳市邵阳县");
-        map.put("430524", "湖南省邵阳市隆回县");
-        map.put("430525", "湖南省邵阳市洞口县");
-        map.put("430527", "湖南省邵阳市绥宁县");
-        map.put("430528", "湖南省邵阳市新宁县");
-        map.put("430529", "湖南省邵阳市城步苗族自治县");
-        map.put("430581", "湖南省邵阳市武冈市");
-        map.put("430600", "湖南省岳阳市");
-        map.put("430602", "湖南省岳阳市岳阳楼区");
-        map.put("430603", "湖南省岳阳市云溪区");
-        map.put("430611", "湖南省岳阳市君山区");
-        map.put("430621", "湖南省岳阳市岳阳县");
-        map.put("430623", "湖南省岳阳市华容县");
-        map.put("430624", "湖南省岳阳市湘阴县");
-        map.put("430626", "湖南省岳阳市平江县");
-        map.put("430681", "湖南省岳阳市汨罗市");
-        map.put("430682", "湖南省岳阳市临湘市");
-        map.put("430700", "湖南省常德市");
-        map.put("430702", "湖南省常德市武陵区");
-        map.put("430703", "湖南省常德市鼎城区");
-        map.put("430721", "湖南省常德市安乡县");
-        map.put("430722", "湖南省常德市汉寿县");
-        map.put("430723", "湖南省常德市澧县");
-        map.put("430724", "湖南省常德市临澧县");
-        map.put("430725", "湖南省常德市桃源县");
-        map.put("430726", "湖南省常德市石门县");
-        map.put("430781", "湖南省常德市津市市");
-        map.put("430800", "湖南省张家界市");
-        map.put("430802", "湖南省张家界市永定区");
-        map.put("430811", "湖南省张家界市武陵源区");
-        map.put("430821", "湖南省张家界市慈利县");
-        map.put("430822", "湖南省张家界市桑植县");
-        map.put("430900", "湖南省益阳市");
-        map.put("430902", "湖南省益阳市资阳区");
-        map.put("430903", "湖南省益阳市赫山区");
-        map.put("430921", "湖南省益阳市南县");
-        map.put("430922", "湖南省益阳市桃江县");
-        map.put("430923", "湖南省益阳市安化县");
-        map.put("430981", "湖南省益阳市沅江市");
-        map.put("431000", "湖南省郴州市");
-        map.put("431002", "湖南省郴州市北湖区");
-        map.put("431003", "湖南省郴州市苏仙区");
-        map.put("431021", "湖南省郴州市桂阳县");
-        map.put("431022", "湖南省郴州市宜章县");
-        map.put("431023", "湖南省郴州市永兴县");
-        map.put("431024", "湖南省郴州市嘉禾县");
-        map.put("431025", "湖南省郴州市临武县");
-        map.put("431026", "湖南省郴州市汝城县");
-        map.put("431027", "湖南省郴州市桂东县");
-        map.put("431028", "湖南省郴州市安仁县");
-        map.put("431081", "湖南省郴州市资兴市");
-        map.put("431100", "湖南省永州市");
-        map.put("431102", "湖南省永州市零陵区");
-        map.put("431103", "湖南省永州市冷水滩区");
-        map.put("431121", "湖南省永州市祁阳县");
-        map.put("431122", "湖南省永州市东安县");
-        map.put("431123", "湖南省永州市双牌县");
-        map.put("431124", "湖南省永州市道县");
-        map.put("431125", "湖南省永州市江永县");
-        map.put("431126", "湖南省永州市宁远县");
-        map.put("431127", "湖南省永州市蓝山县");
-        map.put("431128", "湖南省永州市新田县");
-        map.put("431129", "湖南省永州市江华瑶族自治县");
-        map.put("431200", "湖南省怀化市");
-        map.put("431202", "湖南省怀化市鹤城区");
-        map.put("431221", "湖南省怀化市中方县");
-        map.put("431222", "湖南省怀化市沅陵县");
-        map.put("431223", "湖南省怀化市辰溪县");
-        map.put("431224", "湖南省怀化市溆浦县");
-        map.put("431225", "湖南省怀化市会同县");
-        map.put("431226", "湖南省怀化市麻阳苗族自治县");
-        map.put("431227", "湖南省怀化市新晃侗族自治县");
-        map.put("431228", "湖南省怀化市芷江侗族自治县");
-        map.put("431229", "湖南省怀化市靖州苗族侗族自治县");
-        map.put("431230", "湖南省怀化市通道侗族自治县");
-        map.put("431281", "湖南省怀化市洪江市");
-        map.put("431300", "湖南省娄底市");
-        map.put("431302", "湖南省娄底市娄星区");
-        map.put("431321", "湖南省娄底市双峰县");
-        map.put("431322", "湖南省娄底市新化县");
-        map.put("431381", "湖南省娄底市冷水江市");
-        map.put("431382", "湖南省娄底市涟源市");
-        map.put("433100", "湖南省湘西土家族苗族自治州");
-        map.put("433101", "湖南省湘西土家族苗族自治州吉首市");
-        map.put("433122", "湖南省湘西土家族苗族自治州泸溪县");
-        map.put("433123", "湖南省湘西土家族苗族自治州凤凰县");
-        map.put("433124", "湖南省湘西土家族苗族自治州花垣县");
-        map.put("433125", "湖南省湘西土家族苗族自治州保靖县");
-        map.put("433126", "湖南省湘西土家族苗族自治州古丈县");
-        map.put("433127", "湖南省湘西土家族苗族自治州永顺县");
-        map.put("433130", "湖南省湘西土家族苗族自治州龙山县");
-        map.put("440000", "广东省");
-        map.put("440100", "广东省广州市");
-        map.put("440103", "广东省广州市荔湾区");
-        map.put("440104", "广东省广州市越秀区");
-        map.put("440105", "广东省广州市海珠区");
-        map.put("440106", "广东省广州市天河区");
-        map.put("440111", "广东省广州市白云区");
-        map.put("440112", "广东省广州市黄埔区");
-        map.put("440113", "广东省广州市番禺区");
-        map.put("440114", "广东省广州市花都区");
-        map.put("440115", "广东省广州市南沙区");
-        map.put("440117", "广东省广州市从化区");
-        map.put("440118", "广东省广州市增城区");
-        map.put("440200", "广东省韶关市");
-        map.put("440203", "广东省韶关市武江区");
-        map.put("440204", "广东省韶关市浈江区");
-        map.put("440205", "广东省韶关市曲江区");
-        map.put("440222", "广东省韶关市始兴县");
-        map.put("440224", "广东省韶关市仁化县");
-        map.put("440229", "广东省韶关市翁源县");
-        map.put("440232", "广东省韶关市乳源瑶族自治县");
-        map.put("440233", "广东省韶关市新丰县");
-        map.put("440281", "广东省韶关市乐昌市");
-        map.put("440282", "广东省韶关市南雄市");
-        map.put("440300", "广东省深圳市");
-        map.put("440303", "广东省深圳市罗湖区");
-        map.put("440304", "广东省深圳市福田区");
-        map.put("440305", "广东省深圳市南山区");
-        map.put("440306", "广东省深圳市宝安区");
-        map.put("440307", "广东省深圳市龙岗区");
-        map.put("440308", "广东省深圳市盐田区");
-        map.put("440309", "广东省深圳市龙华区");
-        map.put("440310", "广东省深圳市坪山区");
-        map.put("440400", "广东省珠海市");
-        map.put("440402", "广东省珠海市香洲区");
-        map.put("440403", "广东省珠海市斗门区");
-        map.put("440404", "广东省珠海市金湾区");
-        map.put("440499", "广东省珠海市香洲区(由澳门特别行政区实施管辖)");
-        map.put("440500", "广东省汕头市");
-        map.put("440507", "广东省汕头市龙湖区");
-        map.put("440511", "广东省汕头市金平区");
-        map.put("440512", "广东省汕头市濠江区");
-        map.put("440513", "广东省汕头市潮阳区");
-        map.put("440514", "广东省汕头市潮南区");
-        map.put("440515", "广东省汕头市澄海区");
-        map.put("440523", "广东省汕头市南澳县");
-        map.put("440600", "广东省佛山市");
-        map.put("440604", "广东省佛山市禅城区");
-        map.put("440605", "广东省佛山市南海区");
-        map.put("440606", "广东省佛山市顺德区");
-        map.put("440607", "广东省佛山市三水区");
-        map.put("440608", "广东省佛山市高明区");
-        map.put("440700", "广东省江门市");
-        map.put("440703", "广东省江门市蓬江区");
-        map.put("440704", "广东省江门市江海区");
-        map.put("440705", "广东省江门市新会区");
-        map.put("440781", "广东省江门市台山市");
-        map.put("440783", "广东省江门市开平市");
-        map.put("440784", "广东省江门市鹤山市");
-        map.put("440785", "广东省江门市恩平市");
-        map.put("440800", "广东省湛江市");
-        map.put("440802", "广东省湛江市赤坎区");
-        map.put("440803", "广东省湛江市霞山区");
-        map.put("440804", "广东省湛江市坡头区");
-        map.put("440811", "广东省湛江市麻章区");
-        map.put("440823", "广东省湛江市遂溪县");
-        map.put("440825", "广东省湛江市徐闻县");
-        map.put("440881", "广东省湛江市廉江市");
-        map.put("440882", "广东省湛江市雷州市");
-        map.put("440883", "广东省湛江市吴川市");
-        map.put("440900", "广东省茂名市");
-        map.put("440902", "广东省茂名市茂南区");
-        map.put("440904", "广东省茂名市电白区");
-        map.put("440981", "广东省茂名市高州市");
-        map.put("440982", "广东省茂名市化州市");
-        map.put("440983", "广东省茂名市信宜市");
-        map.put("441200", "广东省肇庆市");
-        map.put("441202", "广东省肇庆市端州区");
-        map.put("441203", "广东省肇庆市鼎湖区");
-        map.put("441204", "广东省肇庆市高要区");
-        map.put("441223", "广东省肇庆市广宁县");
-        map.put("441224", "广东省肇庆市怀集县");
-        map.put("441225", "广东省肇庆市封开县");
-        map.put("441226", "广东省肇庆市德庆县");
-        map.put("441284", "广东省肇庆市四会市");
-        map.put("441300", "广东省惠州市");
-        map.put("441302", "广东省惠州市惠城区");
-        map.put("441303", "广东省惠州市惠阳区");
-        map.put("441322", "广东省惠州市博罗县");
-        map.put("441323", "广东省惠州市惠东县");
-        map.put("441324", "广东省惠州市龙门县");
-        map.put("441400", "广东省梅州市");
-        map.put("441402", "广东省梅州市梅江区");
-        map.put("441403", "广东省梅州市梅县区");
-        map.put("441422", "广东省梅州市大埔县");
-        map.put("441423", "广东省梅州市丰顺县");
-        map.put("441424", "广东省梅州市五华县");
-        map.put("441426", "广东省梅州市平远县");
-        map.put("441427", "广东省梅州市蕉岭县");
-        map.put("441481", "广东省梅州市兴宁市");
-        map.put("441500", "广东省汕尾市");
-        map.put("441502", "广东省汕尾市城区");
-        map.put("441521", "广东省汕尾市海丰县");
-        map.put("441523", "广东省汕尾市陆河县");
-        map.put("441581", "广东省汕尾市陆丰市");
-        map.put("441600", "广东省河源市");
-        map.put("441602", "广东省河源市源城区");
-        map.put("441621", "广东省河源市紫金县");
-        map.put("441622", "广东省河源市龙川县");
-        map.put("441623", "广东省河源市连平县");
-        map.put("441624", "广东省河源市和平县");
-        map.put("441625", "广东省河源市东源县");
-        map.put("441700", "广东省阳江市");
-        map.put("441702", "广东省阳江市江城区");
-        map.put("441704", "广东省阳江市阳东区");
-        map.put("441721", "广东省阳江市阳西县");
-        map.put("441781", "广东省阳江市阳春市");
-        map.put("441800", "广东省清远市");
-        map.put("441802", "广东省清远市清城区");
-        map.put("441803", "广东省清远市清新区");
-        map.put("441821", "广东省清远市佛冈县");
-        map.put("441823", "广东省清远市阳山县");
-        map.put("441825", "广东省清远市连山壮族瑶族自治县");
-        map.put("441826", "广东省清远市连南瑶族自治县");
-        map.put("441881", "广东省清远市英德市");
-        map.put("441882", "广东省清远市连州市");
-        map.put("441900", "广东省东莞市");
-        map.put("442000", "广东省中山市");
-        map.put("445100", "广东省潮州市");
-        map.put("445102", "广东省潮州市湘桥区");
-        map.put("445103", "广东省潮州市潮安区");
-        map.put("445122", "广东省潮州市饶平县");
-        map.put("445200", "广东省揭阳市");
-        map.put("445202", "广东省揭阳市榕城区");
-        map.put("445203", "广东省揭阳市揭东区");
-        map.put("445222", "广东省揭阳市揭西县");
-        map.put("445224", "广东省揭阳市惠来县");
-        map.put("445281", "广东省揭阳市普宁市");
-        map.put("445300", "广东省云浮市");
-        map.put("445302", "广东省云浮市云城区");
-        map.put("445303", "广东省云浮市云安区");
-        map.put("445321", "广东省云浮市新兴县");
-        map.put("445322", "广东省云浮市郁南县");
-        map.put("445381", "广东省云浮市罗定市");
-        map.put("450000", "广西壮族自治区");
-        map.put("450100", "广西壮族自治区南宁市");
-        map.put("450102", "广西壮族自治区南宁市兴宁区");
-        map.put("450103", "广西壮族自治区南宁市青秀区");
-        map.put("450105", "广西壮族自治区南宁市江南区");
-        map.put("450107", "广西壮族自治区南宁市西乡塘区");
-        map.put("450108", "广西壮族自治区南宁市良庆区");
-        map.put("450109", "广西壮族自治区南宁市邕宁区");
-        map.put("450110", "广西壮族自治区南宁市武鸣区");
-        map.put("450123", "广西壮族自治区南宁市隆安县");
-        map.put("450124", "广西壮族自治区南宁市马山县");
-        map.put("450125", "广西壮族自治区南宁市上林县");
-        map.put("450126", "广西壮族自治区南宁市宾阳县");
-        map.put("450127", "广西壮族自治区南宁市横县");
-        map.put("450200", "广西壮族自治区柳州市");
-        map.put("450202", "广西壮族自治区柳州市城中区");
-        map.put("450203", "广西壮族自治区柳州市鱼峰区");
-        map.put("450204", "广西壮族自治区柳州市柳南区");
-        map.put("450205", "广西壮族自治区柳州市柳北区");
-        map.put("450206", "广西壮族自治区柳州市柳江区");
-        map.put("450222", "广西壮族自治区柳州市柳城县");
-        map.put("450223", "广西壮族自治区柳州市鹿寨县");
-        map.put("450224", "广西壮族自治区柳州市融安县");
-        map.put("450225", "广西壮族自治区柳州市融水苗族自治县");
-        map.put("450226", "广西壮族自治区柳州市三江侗族自治县");
-        map.put("450300", "广西壮族自治区桂林市");
-        map.put("450302", "广西壮族自治区桂林市秀峰区");
-        map.put("450303", "广西壮族自治区桂林市叠彩区");
-        map.put("450304", "广西壮族自治区桂林市象山区");
-        map.put("450305", "广西壮族自治区桂林市七星区");
-        map.put("450311", "广西壮族自治区桂林市雁山区");
-        map.put("450312", "广西壮族自治区桂林市临桂区");
-        map.put("450321", "广西壮族自治区桂林市阳朔县");
-        map.put("450323", "广西壮族自治区桂林市灵川县");
-        map.put("450324", "广西壮族自治区桂林市全州县");
-        map.put("450325", "广西壮族自治区桂林市兴安县");
-        map.put("450326", "广西壮族自治区桂林市永福县");
-        map.put("450327", "广西壮族自治区桂林市灌阳县");
-        map.put("450328", "广西壮族自治区桂林市龙胜各族自治县");
-        map.put("450329", "广西壮族自治区桂林市资源县");
-        map.put("450330", "广西壮族自治区桂林市平乐县");
-        map.put("450331", "广西壮族自治区桂林市荔浦县");
-        map.put("450332", "广西壮族自治区桂林市恭城瑶族自治县");
-        map.put("450400", "广西壮族自治区梧州市");
-        map.put("450403", "广西壮族自治区梧州市万秀区");
-        map.put("450405", "广西壮族自治区梧州市长洲区");
-        map.put("450406", "广西壮族自治区梧州市龙圩区");
-        map.put("450421", "广西壮族自治区梧州市苍梧县");
-        map.put("450422", "广西壮族自治区梧州市藤县");
-        map.put("450423", "广西壮族自治区梧州市蒙山县");
-        map.put("450481", "广西壮族自治区梧州市岑溪市");
-        map.put("450500", "广西壮族自治区北海市");
-        map.put("450502", "广西壮族自治区北海市海城区");
-        map.put("450503", "广西壮族自治区北海市银海区");
-        map.put("450512", "广西壮族自治区北海市铁山港区");
-        map.put("450521", "广西壮族自治区北海市合浦县");
-        map.put("450600", "广西壮族自治区防城港市");
-        map.put("450602", "广西壮族自治区防城港市港口区");
-        map.put("450603", "广西壮族自治区防城港市防城区");
-        map.put("450621", "广西壮族自治区防城港市上思县");
-        map.put("450681", "广西壮族自治区防城港市东兴市");
-        map.put("450700", "广西壮族自治区钦州市");
-        map.put("450702", "广西壮族自治区钦州市钦南区");
-        map.put("450703", "广西壮族自治区钦州市钦北区");
-        map.put("450721", "广西壮族自治区钦州市灵山县");
-        map.put("450722", "广西壮族自治区钦州市浦北县");
-        map.put("450800", "广西壮族自治区贵港市");
-        map.put("450802", "广西壮族自治区贵港市港北区");
-        map.put("450803", "广西壮族自治区贵港市港南区");
-        map.put("450804", "广西壮族自治区贵港市覃塘区");
-        map.put("450821", "广西壮族自治区贵港市平南县");
-        map.put("450881", "广西壮族自治区贵港市桂平市");
-        map.put("450900", "广西壮族自治区玉林市");
-        map.put("450902", "广西壮族自治区玉林市玉州区");
-        map.put("450903", "广西壮族自治区玉林市福绵区");
-        map.put("450921", "广西壮族自治区玉林市容县");
-        map.put("450922", "广西壮族自治区玉林市陆川县");
-        map.put("450923", "广西壮族自治区玉林市博白县");
-        map.put("450924", "广西壮族自治区玉林市兴业县");
-        map.put("450981", "广西壮族自治区玉林市北流市");
-        map.put("451000", "广西壮族自治区百色市");
-        map.put("451002", "广西壮族自治区百色市右江区");
-        map.put("451021", "广西壮族自治区百色市田阳县");
-        map.put("451022", "广西壮族自治区百色市田东县");
-        map.put("451023", "广西壮族自治区百色市平果县");
-        map.put("451024", "广西壮族自治区百色市德保县");
-        map.put("451026", "广西壮族自治区百色市那坡县");
-        map.put("451027", "广西壮族自治区百色市凌云县");
-        map.put("451028", "广西壮族自治区百色市乐业县");
-        map.put("451029", "广西壮族自治区百色市田林县");
-        map.put("451030", "广西壮族自治区百色市西林县");
-        map.put("451031", "广西壮族自治区百色市隆林各族自治县");
-        map.put("451081", "广西壮族自治区百色市靖西市");
-        map.put("451100", "广西壮族自治区贺州市");
-        map.put("451102", "广西壮族自治区贺州市八步区");
-        map.put("451103", "广西壮族自治区贺州市平桂区");
-        map.put("451121", "广西壮族自治区贺州市昭平县");
-        map.put("451122", "广西壮族自治区贺州市钟山县");
-        map.put("451123", "广西壮族自治区贺州市富川瑶族自治县");
-        map.put("451200", "广西壮族自治区河池市");
-        map.put("451202", "广西壮族自治区河池市金城江区");
-        map.put("451203", "广西壮族自治区河池市宜州区");
-        map.put("451221", "广西壮族自治区河池市南丹县");
-        map.put("451222", "广西壮族自治区河池市天峨县");
-        map.put("451223", "广西壮族自治区河池市凤山县");
-        map.put("451224", "广西壮族自治区河池市东兰县");
-        map.put("451225", "广西壮族自治区河池市罗城仫佬族自治县");
-        map.put("451226", "广西壮族自治区河池市环江毛南族自治县");
-        map.put("451227", "广西壮族自治区河池市巴马瑶族自治县");
-        map.put("451228", "广西壮族自治区河池市都安瑶族自治县");
-        map.put("451229", "广西壮族自治区河池市大化瑶族自治县");
-        map.put("451300", "广西壮族自治区来宾市");
-        map.put("451302", "广西壮族自治区来宾市兴宾区");
-        map.put("451321", "广西壮族自治区来宾市忻城县");
-        map.put("451322", "广西壮族自治区来宾市象州县");
-        map.put("451323", "广西壮族自治区来宾市武宣县");
-        map.put("451324", "广西壮族自治区来宾市金秀瑶族自治县");
-        map.put("451381", "广西壮族自治区来宾市合山市");
-        map.put("451400", "广西壮族自治区崇左市");
-        map.put("451402", "广西壮族自治区崇左市江州区");
-        map.put("451421", "广西壮族自治区崇左市扶绥县");
-        map.put("451422", "广西壮族自治区崇左市宁明县");
-        map.put("451423", "广西壮族自治区崇左市龙州县");
-        map.put("451424", "广西壮族自治区崇左市大新县");
-        map.put("451425", "广西壮族自治区崇左市天等县");
-        map.put("451481", "广西壮族自治区崇左市凭祥市");
-        map.put("460000", "海南省");
-        map.put("460100", "海南省海口市");
-        map.put("460105", "海南省海口市秀英区");
-        map.put("460106", "海南省海口市龙华区");
-        map.put("460107", "海南省海口市琼山区");
-        map.put("460108", "海南省海口市美兰区");
-        map.put("460200", "海南省三亚市");
-        map.put("460202", "海南省三亚市海棠区");
-        map.put("460203", "海南省三亚市吉阳区");
-        map.put("460204", "海南省三亚市天涯区");
-        map.put("460205", "海南省三亚市崖州区");
-        map.put("460300", "海南省三沙市");
-        map.put("460321", "海南省三沙市西沙群岛");
-        map.put("460322", "海南省三沙市南沙群岛");
-        map.put("460323", "海南省三沙市中沙群岛的岛礁及其海域");
-        map.put("460400", "海南省儋州市");
-        map.put("469001", "海南省五指山市五指山市");
-        map.put("469002", "海南省琼海市琼海市");
-        map.put("469005", "海南省文昌市文昌市");
-        map.put("469006", "海南省万宁市万宁市");
-        map.put("469007", "海南省东方市东方市");
-        map.put("469021", "海南省定安县定安县");
-        map.put("469022", "海南省屯昌县屯昌县");
-        map.put("469023", "海南省澄迈县澄迈县");
-        map.put("469024", "海南省临高县临高县");
-        map.put("469025", "海南省白沙黎族自治县白沙黎族自治县");
-        map.put("469026", "海南省昌江黎族自治县昌江黎族自治县");
-        map.put("469027", "海南省乐东黎族自治县乐东黎族自治县");
-        map.put("469028", "海南省陵水黎族自治县陵水黎族自治县");
-        map.put("469029", "海南省保亭黎族苗族自治县保亭黎族苗族自治县");
-        map.put("469030", "海南省琼中黎族苗族自治县琼中黎族苗族自治县");
-        map.put("500000", "重庆市");
-        map.put("500101", "重庆市万州区");
-        map.put("500102", "重庆市涪陵区");
-        map.put("500103", "重庆市渝中区");
-        map.put("500104", "重庆市大渡口区");
-        map.put("500105", "重庆市江北区");
-        map.put("500106", "重庆市沙坪坝区");
-        map.put("500107", "重庆市九龙坡区");
-        map.put("500108", "重庆市南岸区");
-        map.put("500109", "重庆市北碚区");
-        map.put("500110", "重庆市綦江区");
-        map.put("500111", "重庆市大足区");
-        map.put("500112", "重庆市渝北区");
-        map.put("500113", "重庆市巴南区");
-        map.put("500114", "重庆市黔江区");
-        map.put("500115", "重庆市长寿区");
-        map.put("500116", "重庆市江津区");
-        map.put("500117", "重庆市合川区");
-        map.put("500118", "重庆市永川区");
-        map.put("500119", "重庆市南川区");
-        map.put("500120", "重庆市璧山区");
-        map.put("500151", "重庆市铜梁区");
-        map.put("500152", "重庆市潼南区");
-        map.put("500153", "重庆市荣昌区");
-        map.put("500154", "重庆市开州区");
-        map.put("500155", "重庆市梁平区");
-        map.put("500156", "重庆市武隆区");
-        map.put("500229", "重庆市城口县");
-        map.put("500230", "重庆市丰都县");
-        map.put("500231", "重庆市垫江县");
-        map.put("500233", "重庆市忠县");
-        map.put("500235", "重庆市云阳县");
-        map.put("500236", "重庆市奉节县");
-        map.put("500237", "重庆市巫山县");
-        map.put("500238", "重庆市巫溪县");
-        map.put("500240", ",重庆市石柱土家族自治县");
-        map.put("500241", ",重庆市秀山土家族苗族自治县");
-        map.put("500242", ",重庆市酉阳土家族苗族自治县");
-        map.put("500243", ",重庆市彭水苗族土家族自治县");
-        map.put("510000", "四川省");
-        map.put("510100", "四川省成都市");
-        map.put("510104", "四川省成都市锦江区");
-        map.put("510105", "四川省成都市青羊区");
-        map.put("510106", "四川省成都市金牛区");
-        map.put("510107", "四川省成都市武侯区");
-        map.put("510108", "四川省成都市成华区");
-        map.put("510112", "四川省成都市龙泉驿区");
-        map.put("510113", "四川省成都市青白江区");
-        map.put("510114", "四川省成都市新都区");
-        map.put("510115", "四川省成都市温江区");
-        map.put("510116", "四川省成都市双流区");
-        map.put("510117", "四川省成都市郫都区");
-        map.put("510121", "四川省成都市金堂县");
-        map.put("510129", "四川省成都市大邑县");
-        map.put("510131", "四川省成都市蒲江县");
-        map.put("510132", "四川省成都市新津县");
-        map.put("510181", "四川省成都市都江堰市");
-        map.put("510182", "四川省成都市彭州市");
-        map.put("510183", "四川省成都市邛崃市");
-        map.put("510184", "四川省成都市崇州市");
-        map.put("510185", "四川省成都市简阳市");
-        map.put("510300", "四川省自贡市");
-        map.put("510302", "四川省自贡市自流井区");
-        map.put("510303", "四川省自贡市贡井区");
-        map.put("510304", "四川省自贡市大安区");
-        map.put("510311", "四川省自贡市沿滩区");
-        map.put("510321", "四川省自贡市荣县");
-        map.put("510322", "四川省自贡市富顺县");
-        map.put("510400", "四川省攀枝花市");
-        map.put("510402", "四川省攀枝花市东区");
-        map.put("510403", "四川省攀枝花市西区");
-        map.put("510411", "四川省攀枝花市仁和区");
-        map.put("510421", "四川省攀枝花市米易县");
-        map.put("510422", "四川省攀枝花市盐边县");
-        map.put("510500", "四川省泸州市");
-        map.put("510502", "四川省泸州市江阳区");
-        map.put("510503", "四川省泸州市纳溪区");
-        map.put("510504", "四川省泸州市龙马潭区");
-        map.put("510521", "四川省泸州市泸县");
-        map.put("510522", "四川省泸州市合江县");
-        map.put("510524", "四川省泸州市叙永县");
-        map.put("510525", "四川省泸州市古蔺县");
-        map.put("510600", "四川省德阳市");
-        map.put("510603", "四川省德阳市旌阳区");
-        map.put("510623", "四川省德阳市中江县");
-        map.put("510626", "四川省德阳市罗江县");
-        map.put("510681", "四川省德阳市广汉市");
-        map.put("510682", "四川省德阳市什邡市");
-        map.put("510683", "四川省德阳市绵竹市");
-        map.put("510700", "四川省绵阳市");
-        map.put("510703", "四川省绵阳市涪城区");
-        map.put("510704", "四川省绵阳市游仙区");
-        map.put("510705", "四川省绵阳市安州区");
-        map.put("510722", "四川省绵阳市三台县");
-        map.put("510723", "四川省绵阳市盐亭县");
-        map.put("510725", "四川省绵阳市梓潼县");
-        map.put("510726", "四川省绵阳市北川羌族自治县");
-        map.put("510727", "四川省绵阳市平武县");
-        map.put("510781", "四川省绵阳市江油市");
-        map.put("510800", "四川省广元市");
-        map.put("510802", "四川省广元市利州区");
-        map.put("510811", "四川省广元市昭化区");
-        map.put("510812", "四川省广元市朝天区");
-        map.put("510821", "四川省广元市旺苍县");
-        map.put("510822", "四川省广元市青川县");
-        map.put("510823", "四川省广元市剑阁县");
-        map.put("510824", "四川省广元市苍溪县");
-        map.put("510900", "四川省遂宁市");
-        map.put("510903", "四川省遂宁市船山区");
-        map.put("510904", "四川省遂宁市安居区");
-        map.put("510921", "四川省遂宁市蓬溪县");
-        map.put("510922", "四川省遂宁市射洪县");
-        map.put("510923", "四川省遂宁市大英县");
-        map.put("511000", "四川省内江市");
-        map.put("511002", "四川省内江市市中区");
-        map.put("511011", "四川省内江市东兴区");
-        map.put("511024", "四川省内江市威远县");
-        map.put("511025", "四川省内江市资中县");
-        map.put("511083", "四川省内江市隆昌市");
-        map.put("511100", "四川省乐山市");
-        map.put("511102", "四川省乐山市市中区");
-        map.put("511111", "四川省乐山市沙湾区");
-        map.put("511112", "四川省乐山市五通桥区");
-        map.put("511113", "四川省乐山市金口河区");
-        map.put("511123", "四川省乐山市犍为县");
-        map.put("511124", "四川省乐山市井研县");
-        map.put("511126", "四川省乐山市夹江县");
-        map.put("511129", "四川省乐山市沐川县");
-        map.put("511132", "四川省乐山市峨边彝族自治县");
-        map.put("511133", "四川省乐山市马边彝族自治县");
-        map.put("511181", "四川省乐山市峨眉山市");
-        map.put("511300", "四川省南充市");
-        map.put("511302", "四川省南充市顺庆区");
-        map.put("511303", "四川省南充市高坪区");
-        map.put("511304", "四川省南充市嘉陵区");
-        map.put("511321", "四川省南充市南部县");
-        map.put("511322", "四川省南充市营山县");
-        map.put("511323", "四川省南充市蓬安县");
-        map.put("511324", "四川省南充市仪陇县");
-        map.put("511325", "四川省南充市西充县");
-        map.put("511381", "四川省南充市阆中市");
-        map.put("511400", "四川省眉山市");
-        map.put("511402", "四川省眉山市东坡区");
-        map.put("511403", "四川省眉山市彭山区");
-        map.put("511421", "四川省眉山市仁寿县");
-        map.put("511423", "四川省眉山市洪雅县");
-        map.put("511424", "四川省眉山市丹棱县");
-        map.put("511425", "四川省眉山市青神县");
-        map.put("511500", "四川省宜宾市");
-        map.put("511502", "四川省宜宾市翠屏区");
-        map.put("511503", "四川省宜宾市南溪区");
-        map.put("511521", "四川省宜宾市宜宾县");
-        map.put("511523", "四川省宜宾市江安县");
-        map.put("511524", "四川省宜宾市长宁县");
-        map.put("511525", "四川省宜宾市高县");
-        map.put("511526", "四川省宜宾市珙县");
-        map.put("511527", "四川省宜宾市筠连县");
-        map.put("511528", "四川省宜宾市兴文县");
-        map.put("511529", "四川省宜宾市屏山县");
-        map.put("511600", "四川省广安市");
-        map.put("511602", "四川省广安市广安区");
-        map.put("511603", "四川省广安市前锋区");
-        map.put("511621", "四川省广安市岳池县");
-        map.put("511622", "四川省广安市武胜县");
-        map.put("511623", "四川省广安市邻水县");
-        map.put("511681", "四川省广安市华蓥市");
-        map.put("511700", "四川省达州市");
-        map.put("511702", "四川省达州市通川区");
-        map.put("511703", "四川省达州市达川区");
-        map.put("511722", "四川省达州市宣汉县");
-        map.put("511723", "四川省达州市开江县");
-        map.put("511724", "四川省达州市大竹县");
-        map.put("511725", "四川省达州市渠县");
-        map.put("511781", "四川省达州市万源市");
-        map.put("511800", "四川省雅安市");
-        map.put("511802", "四川省雅安市雨城区");
-        map.put("511803", "四川省雅安市名山区");
-        map.put("511822", "四川省雅安市荥经县");
-        map.put("511823", "四川省雅安市汉源县");
-        map.put("511824", "四川省雅安市石棉县");
-        map.put("511825", "四川省雅安市天全县");
-        map.put("511826", "四川省雅安市芦山县");
-        map.put("511827", "四川省雅安市宝兴县");
-        map.put("511900", "四川省巴中市");
-        map.put("511902", "四川省巴中市巴州区");
-        map.put("511903", "四川省巴中市恩阳区");
-        map.put("511921", "四川省巴中市通江县");
-        map.put("511922", "四川省巴中市南江县");
-        map.put("511923", "四川省巴中市平昌县");
-        map.put("512000", "四川省资阳市");
-        map.put("512002", "四川省资阳市雁江区");
-        map.put("512021", "四川省资阳市安岳县");
-        map.put("512022", "四川省资阳市乐至县");
-        map.put("513200", "四川省阿坝藏族羌族自治州");
-        map.put("513201", "四川省阿坝藏族羌族自治州马尔康市");
-        map.put("513221", "四川省阿坝藏族羌族自治州汶川县");
-        map.put("513222", "四川省阿坝藏族羌族自治州理县");
-        map.put("513223", "四川省阿坝藏族羌族自治州茂县");
-        map.put("513224", "四川省阿坝藏族羌族自治州松潘县");
-        map.put("513225", "四川省阿坝藏族羌族自治州九寨沟县");
-        map.put("513226", "四川省阿坝藏族羌族自治州金川县");
-        map.put("513227", "四川省阿坝藏族羌族自治州小金县");
-        map.put("513228", "四川省阿坝藏族羌族自治州黑水县");
-        map.put("513230", "四川省阿坝藏族羌族自治州壤塘县");
-        map.put("513231", "四川省阿坝藏族羌族自治州阿坝县");
-        map.put("513232", "四川省阿坝藏族羌族自治州若尔盖县");
-        map.put("513233", "四川省阿坝藏族羌族自治州红原县");
-        map.put("513300", "四川省甘孜藏族自治州");
-        map.put("513301", "四川省甘孜藏族自治州康定市");
-        map.put("513322", "四川省甘孜藏族自治州泸定县");
-        map.put("513323", "四川省甘孜藏族自治州丹巴县");
-        map.put("513324", "四川省甘孜藏族自治州九龙县");
-        map.put("513325", "四川省甘孜藏族自治州雅江县");
-        map.put("513326", "四川省甘孜藏族自治州道孚县");
-        map.put("513327", "四川省甘孜藏族自治州炉霍县");
-        map.put("513328", "四川省甘孜藏族自治州甘孜县");
-        map.put("513329", "四川省甘孜藏族自治州新龙县");
-        map.put("513330", "四川省甘孜藏族自治州德格县");
-        map.put("513331", "四川省甘孜藏族自治州白玉县");
-        map.put("513332", "四川省甘孜藏族自治州石渠县");
-        map.put("513333", "四川省甘孜藏族自治州色达县");
-        map.put("513334", "四川省甘孜藏族自治州理塘县");
-        map.put("513335", "四川省甘孜藏族自治州巴塘县");
-        map.put("513336", "四川省甘孜藏族自治州乡城县");
-        map.put("513337", "四川省甘孜藏族自治州稻城县");
-        map.put("513338", "四川省甘孜藏族自治州得荣县");
-        map.put("513400", "四川省凉山彝族自治州");
-        map.put("513401", "四川省凉山彝族自治州西昌市");
-        map.put("513422", "四川省凉山彝族自治州木里藏族自治县");
-        map.put("513423", "四川省凉山彝族自治州盐源县");
-        map.put("513424", "四川省凉山彝族自治州德昌县");
-        map.put("513425", "四川省凉山彝族自治州会理县");
-        map.put("513426", "四川省凉山彝族自治州会东县");
-        map.put("513427", "四川省凉山彝族自治州宁南县");
-        map.put("513428", "四川省凉山彝族自治州普格县");
-        map.put("513429", "四川省凉山彝族自治州布拖县");
-        map.put("513430", "四川省凉山彝族自治州金阳县");
-        map.put("513431", "四川省凉山彝族自治州昭觉县");
-        map.put("513432", "四川省凉山彝族自治州喜德县");
-        map.put("513433", "四川省凉山彝族自治州冕宁县");
-        map.put("513434", "四川省凉山彝族自治州越西县");
-        map.put("513435", "四川省凉山彝族自治州甘洛县");
-        map.put("513436", "四川省凉山彝族自治州美姑县");
-        map.put("513437", "四川省凉山彝族自治州雷波县");
-        map.put("520000", "贵州省");
-        map.put("520100", "贵州省贵阳市");
-        map.put("520102", "贵州省贵阳市南明区");
-        map.put("520103", "贵州省贵阳市云岩区");
-        map.put("520111", "贵州省贵阳市花溪区");
-        map.put("520112", "贵州省贵阳市乌当区");
-        map.put("520113", "贵州省贵阳市白云区");
-        map.put("520115", "贵州省贵阳市观山湖区");
-        map.put("520121", "贵州省贵阳市开阳县");
-        map.put("520122", "贵州省贵阳市息烽县");
-        map.put("520123", "贵州省贵阳市修文县");
-        map.put("520181", "贵州省贵阳市清镇市");
-        map.put("520200", "贵州省六盘水市");
-        map.put("520201", "贵州省六盘水市钟山区");
-        map.put("520203", "贵州省六盘水市六枝特区");
-        map.put("520221", "贵州省六盘水市水城县");
-        map.put("520281", "贵州省六盘水市盘州市");
-        map.put("520300", "贵州省遵义市");
-        map.put("520302", "贵州省遵义市红花岗区");
-        map.put("520303", "贵州省遵义市汇川区");
-        map.put("520304", "贵州省遵义市播州区");
-        map.put("520322", "贵州省遵义市桐梓县");
-        map.put("520323", "贵州省遵义市绥阳县");
-        map.put("520324", "贵州省遵义市正安县");
-        map.put("520325", "贵州省遵义市道真仡佬族苗族自治县");
-        map.put("520326", "贵州省遵义市务川仡佬族苗族自治县");
-        map.put("520327", "贵州省遵义市凤冈县");
-        map.put("520328", "贵州省遵义市湄潭县");
-        map.put("520329", "贵州省遵义市余庆县");
-        map.put("520330", "贵州省遵义市习水县");
-        map.put("520381", "贵州省遵义市赤水市");
-        map.put("520382", "贵州省遵义市仁怀市");
-        map.put("520400", "贵州省安顺市");
-        map.put("520402", "贵州省安顺市西秀区");
-        map.put("520403", "贵州省安顺市平坝区");
-        map.put("520422", "贵州省安顺市普定县");
-        map.put("520423", "贵州省安顺市镇宁布依族苗族自治县");
-        map.put("520424", "贵州省安顺市关岭布依族苗族自治县");
-        map.put("520425", "贵州省安顺市紫云苗族布依族自治县");
-        map.put("520500", "贵州省毕节市");
-        map.put("520502", "贵州省毕节市七星关区");
-        map.put("520521", "贵州省毕节市大方县");
-        map.put("520522", "贵州省毕节市黔西县");
-        map.put("520523", "贵州省毕节市金沙县");
-        map.put("520524", "贵州省毕节市织金县");
-        map.put("520525", "贵州省毕节市纳雍县");
-        map.put("520526", "贵州省毕节市威宁彝族回族苗族自治县");
-        map.put("520527", "贵州省毕节市赫章县");
-        map.put("520600", "贵州省铜仁市");
-        map.put("520602", "贵州省铜仁市碧江区");
-        map.put("520603", "贵州省铜仁市万山区");
-        map.put("520621", "贵州省铜仁市江口县");
-        map.put("520622", "贵州省铜仁市玉屏侗族自治县");
-        map.put("520623", "贵州省铜仁市石阡县");
-        map.put("520624", "贵州省铜仁市思南县");
-        map.put("520625", "贵州省铜仁市印江土家族苗族自治县");
-        map.put("520626", "贵州省铜仁市德江县");
-        map.put("520627", "贵州省铜仁市沿河土家族自治县");
-        map.put("520628", "贵州省铜仁市松桃苗族自治县");
-        map.put("522300", "贵州省黔西南布依族苗族自治州");
-        map.put("522301", "贵州省黔西南布依族苗族自治州兴义市");
-        map.put("522322", "贵州省黔西南布依族苗族自治州兴仁县");
-        map.put("522323", "贵州省黔西南布依族苗族自治州普安县");
-        map.put("522324", "贵州省黔西南布依族苗族自治州晴隆县");
-        map.put("522325", "贵州省黔西南布依族苗族自治州贞丰县");
-        map.put("522326", "贵州省黔西南布依族苗族自治州望谟县");
-        map.put("522327", "贵州省黔西南布依族苗族自治州册亨县");
-        map.put("522328", "贵州省黔西南布依族苗族自治州安龙县");
-        map.put("522600", "贵州省黔东南苗族侗族自治州");
-        map.put("522601", "贵州省黔东南苗族侗族自治州凯里市");
-        map.put("522622", "贵州省黔东南苗族侗族自治州黄平县");
-        map.put("522623", "贵州省黔东南苗族侗族自治州施秉县");
-        map.put("522624", "贵州省黔东南苗族侗族自治州三穗县");
-        map.put("522625", "贵州省黔东南苗族侗族自治州镇远县");
-        map.put("522626", "贵州省黔东南苗族侗族自治州岑巩县");
-        map.put("522627", "贵州省黔东南苗族侗族自治州天柱县");
-        map.put("522628", "贵州省黔东南苗族侗族自治州锦屏县");
-        map.put("522629", "贵州省黔东南苗族侗族自治州剑河县");
-        map.put("522630", "贵州省黔东南苗族侗族自治州台江县");
-        map.put("522631", "贵州省黔东南苗族侗族自治州黎平县");
-        map.put("522632", "贵州省黔东南苗族侗族自治州榕江县");
-        map.put("522633", "贵州省黔东南苗族侗族自治州从江县");
-        map.put("522634", "贵州省黔东南苗族侗族自治州雷山县");
-        map.put("522635", "贵州省黔东南苗族侗族自治州麻江县");
-        map.put("522636", "贵州省黔东南苗族侗族自治州丹寨县");
-        map.put("522700", "贵州省黔南布依族苗族自治州");
-        map.put("522701", "贵州省黔南布依族苗族自治州都匀市");
-        map.put("522702", "贵州省黔南布依族苗族自治州福泉市");
-        map.put("522722", "贵州省黔南布依族苗族自治州荔波县");
-        map.put("522723", "贵州省黔南布依族苗族自治州贵定县");
-        map.put("522725", "贵州省黔南布依族苗族自治州瓮安县");
-        map.put("522726", "贵州省黔南布依族苗族自治州独山县");
-        map.put("522727", "贵州省黔南布依族苗族自治州平塘县");
-        map.put("522728", "贵州省黔南布依族苗族自治州罗甸县");
-        map.put("522729", "贵州省黔南布依族苗族自治州长顺县");
-        map.put("522730", "贵州省黔南布依族苗族自治州龙里县");
-        map.put("522731", "贵州省黔南布依族苗族自治州惠水县");
-        map.put("522732", "贵州省黔南布依族苗族自治州三都水族自治县");
-        map.put("530000", "云南省");
-        map.put("530100", "云南省昆明市");
-        map.put("530102", "云南省昆明市五华区");
-        map.put("530103", "云南省昆明市盘龙区");
-        map.put("530111", "云南省昆明市官渡区");
-        map.put("530112", "云南省昆明市西山区");
-        map.put("530113", "云南省昆明市东川区");
-        map.put("530114", "云南省昆明市呈贡区");
-        map.put("530115", "云南省昆明市晋宁区");
-        map.put("530124", "云南省昆明市富民县");
-        map.put("530125", "云南省昆明市宜良县");
-        map.put("530126", "云南省昆明市石林彝族自治县");
-        map.put("530127", "云南省昆明市嵩明县");
-        map.put("530128", "云南省昆明市禄劝彝族苗族自治县");
-        map.put("530129", "云南省昆明市寻甸回族彝族自治县");
-        map.put("530181", "云南省昆明市安宁市");
-        map.put("530300", "云南省曲靖市");
-        map.put("530302", "云南省曲靖市麒麟区");
-        map.put("530303", "云南省曲靖市沾益区");
-        map.put("530321", "云南省曲靖市马龙县");
-        map.put("530322", "云南省曲靖市陆良县");
-        map.put("530323", "云南省曲靖市师宗县");
-        map.put("530324", "云南省曲靖市罗平县");
-        map.put("530325", "云南省曲靖市富源县");
-        map.put("530326", "云南省曲靖市会泽县");
-        map.put("530381", "云南省曲靖市宣威市");
-        map.put("530400", "云南省玉溪市");
-        map.put("530402", "云南省玉溪市红塔区");
-        map.put("530403", "云南省玉溪市江川区");
-        map.put("530422", "云南省玉溪市澄江县");
-        map.put("530423", "云南省玉溪市通海县");
-        map.put("530424", "云南省玉溪市华宁县");
-        map.put("530425", "云南省玉溪市易门县");
-        map.put("530426", "云南省玉溪市峨山彝族自治县");
-        map.put("530427", "云南省玉溪市新平彝族傣族自治县");
-        map.put("530428", "云南省玉溪市元江哈尼族彝族傣族自治县");
-        map.put("530500", "云南省保山市");
-        map.put("530502", "云南省保山市隆阳区");
-        map.put("530521", "云南省保山市施甸县");
-        map.put("530523", "云南省保山市龙陵县");
-        map.put("530524", "云南省保山市昌宁县");
-        map.put("530581", "云南省保山市腾冲市");
-        map.put("530600", "云南省昭通市");
-        map.put("530602", "云南省昭通市昭阳区");
-        map.put("530621", "云南省昭通市鲁甸县");
-        map.put("530622", "云南省昭通市巧家县");
-        map.put("530623", "云南省昭通市盐津县");
-        map.put("530624", "云南省昭通市大关县");
-        map.put("530625", "云南省昭通市永善县");
-        map.put("530626", "云南省昭通市绥江县");
-        map.put("530627", "云南省昭通市镇雄县");
-        map.put("530628", "云南省昭通市彝良县");
-        map.put("530629", "云南省昭通市威信县");
-        map.put("530630", "云南省昭通市水富县");
-        map.put("530700", "云南省丽江市");
-        map.put("530702", "云南省丽江市古城区");
-        map.put("530721", "云南省丽江市玉龙纳西族自治县");
-        map.put("530722", "云南省丽江市永胜县");
-        map.put("530723", "云南省丽江市华坪县");
-        map.put("530724", "云南省丽江市宁蒗彝族自治县");
-        map.put("530800", "云南省普洱市");
-        map.put("530802", "云南省普洱市思茅区");
-        map.put("530821", "云南省普洱市宁洱哈尼族彝族自治县");
-        map.put("530822", "云南省普洱市墨江哈尼族自治县");
-        map.put("530823", "云南省普洱市景东彝族自治县");
-        map.put("530824", "云南省普洱市景谷傣族彝族自治县");
-        map.put("530825", "云南省普洱市镇沅彝族哈尼族拉祜族自治县");
-        map.put("530826", "云南省普洱市江城哈尼族彝族自治县");
-        map.put("530827", "云南省普洱市孟连傣族拉祜族佤族自治县");
-        map.put("530828", "云南省普洱市澜沧拉祜族自治县");
-        map.put("530829", "云南省普洱市西盟佤族自治县");
-        map.put("530900", "云南省临沧市");
-        map.put("530902", "云南省临沧市临翔区");
-        map.put("530921", "云南省临沧市凤庆县");
-        map.put("530922", "云南省临沧市云县");
-        map.put("530923", "云南省临沧市永德县");
-        map.put("530924", "云南省临沧市镇康县");
-        map.put("530925", "云南省临沧市双江拉祜族佤族布朗族傣族自治县");
-        map.put("530926", "云南省临沧市耿马傣族佤族自治县");
-        map.put("530927", "云南省临沧市沧源佤族自治县");
-        map.put("532300", "云南省楚雄彝族自治州");
-        map.put("532301", "云南省楚雄彝族自治州楚雄市");
-        map.put("532322", "云南省楚雄彝族自治州双柏县");
-        map.put("532323", "云南省楚雄彝族自治州牟定县");
-        map.put("532324", "云南省楚雄彝族自治州南华县");
-        map.put("532325", "云南省楚雄彝族自治州姚安县");
-        map.put("532326", "云南省楚雄彝族自治州大姚县");
-        map.put("532327", "云南省楚雄彝族自治州永仁县");
-        map.put("532328", "云南省楚雄彝族自治州元谋县");
-        map.put("532329", "云南省楚雄彝族自治州武定县");
-        map.put("532331", "云南省楚雄彝族自治州禄丰县");
-        map.put("532500", "云南省红河哈尼族彝族自治州");
-        map.put("532501", "云南省红河哈尼族彝族自治州个旧市");
-        map.put("532502", "云南省红河哈尼族彝族自治州开远市");
-        map.put("532503", "云南省红河哈尼族彝族自治州蒙自市");
-        map.put("532504", "云南省红河哈尼族彝族自治州弥勒市");
-        map.put("532523", "云南省红河哈尼族彝族自治州屏边苗族自治县");
-        map.put("532524", "云南省红河哈尼族彝族自治州建水县");
-        map.put("532525", "云南省红河哈尼族彝族自治州石屏县");
-        map.put("532527", "云南省红河哈尼族彝族自治州泸西县");
-        map.put("532528", "云南省红河哈尼族彝族自治州元阳县");
-        map.put("532529", "云南省红河哈尼族彝族自治州红河县");
-        map.put("532530", "云南省红河哈尼族彝族自治州金平苗族瑶族傣族自治县");
-        map.put("532531", "云南省红河哈尼族彝族自治州绿春县");
-        map.put("532532", "云南省红河哈尼族彝族自治州河口瑶族自治县");
-        map.put("532600", "云南省文山壮族苗族自治州");
-        map.put("532601", "云南省文山壮族苗族自治州文山市");
-        map.put("532622", "云南省文山壮族苗族自治州砚山县");
-        map.put("532623", "云南省文山壮族苗族自治州西畴县");
-        map.put("532624", "云南省文山壮族苗族自治州麻栗坡县");
-        map.put("532625", "云南省文山壮族苗族自治州马关县");
-        map.put("532626", "云南省文山壮族苗族自治州丘北县");
-        map.put("532627", "云南省文山壮族苗族自治州广南县");
-        map.put("532628", "云南省文山壮族苗族自治州富宁县");
-        map.put("532800", "云南省西双版纳傣族自治州");
-        map.put("532801", "云南省西双版纳傣族自治州景洪市");
-        map.put("532822", "云南省西双版纳傣族自治州勐海县");
-        map.put("532823", "云南省西双版纳傣族自治州勐腊县");
-        map.put("532900", "云南省大理白族自治州");
-        map.put("532901", "云南省大理白族自治州大理市");
-        map.put("532922", "云南省大理白族自治州漾濞彝族自治县");
-        map.put("532923", "云南省大理白族自治州祥云县");
-        map.put("532924", "云南省大理白族自治州宾川县");
-        map.put("532925", "云南省大理白族自治州弥渡县");
-        map.put("532926", "云南省大理白族自治州南涧彝族自治县");
-        map.put("532927", "云南省大理白族自治州巍山彝族回族自治县");
-        map.put("532928", "云南省大理白族自治州永平县");
-        map.put("532929", "云南省大理白族自治州云龙县");
-        map.put("532930", "云南省大理白族自治州洱源县");
-        map.put("532931", "云南省大理白族自治州剑川县");
-        map.put("532932", "云南省大理白族自治州鹤庆县");
-        map.put("533100", "云南省德宏傣族景颇族自治州");
-        map.put("533102", "云南省德宏傣族景颇族自治州瑞丽市");
-        map.put("533103", "云南省德宏傣族景颇族自治州芒市");
-        map.put("533122", "云南省德宏傣族景颇族自治州梁河县");
-        map.put("533123", "云南省德宏傣族景颇族自治州盈江县");
-        map.put("533124", "云南省德宏傣族景颇族自治州陇川县");
-        map.put("533300", "云南省怒江傈僳族自治州");
-        map.put("533301", "云南省怒江傈僳族自治州泸水市");
-        map.put("533323", "云南省怒江傈僳族自治州福贡县");
-        map.put("533324", "云南省怒江傈僳族自治州贡山独龙族怒族自治县");
-        map.put("533325", "云南省怒江傈僳族自治州兰坪白族普米族自治县");
-        map.put("533400", "云南省迪庆藏族自治州");
-        map.put("533401", "云南省迪庆藏族自治州香格里拉市");
-        map.put("533422", "云南省迪庆藏族自治州德钦县");
-        map.put("533423", "云南省迪庆藏族自治州维西傈僳族自治县");
-        map.put("540000", "西藏自治区");
-        map.put("540100", "西藏自治区拉萨市");
-        map.put("540102", "西藏自治区拉萨市城关区");
-        map.put("540103", "西藏自治区拉萨市堆龙德庆区");
-        map.put("540121", "西藏自治区拉萨市林周县");
-        map.put("540122", "西藏自治区拉萨市当雄县");
-        map.put("540123", "西藏自治区拉萨市尼木县");
-        map.put("540124", "西藏自治区拉萨市曲水县");
-        map.put("540126", "西藏自治区拉萨市达孜县");
-        map.put("540127", "西藏自治区拉萨市墨竹工卡县");
-        map.put("540200", "西藏自治区日喀则市");
-        map.put("540202", "西藏自治区日喀则市桑珠孜区");
-        map.put("540221", "西藏自治区日喀则市南木林县");
-        map.put("540222", "西藏自治区日喀则市江孜县");
-        map.put("540223", "西藏自治区日喀则市定日县");
-        map.put("540224", "西藏自治区日喀则市萨迦县");
-        map.put("540225", "西藏自治区日喀则市拉孜县");
-        map.put("540226", "西藏自治区日喀则市昂仁县");
-        map.put("540227", "西藏自治区日喀则市谢通门县");
-        map.put("540228", "西藏自治区日喀则市白朗县");
-        map.put("540229", "西藏自治区日喀则市仁布县");
-        map.put("540230", "西藏自治区日喀则市康马县");
-        map.put("540231", "西藏自治区日喀则市定结县");
-        map.put("540232", "西藏自治区日喀则市仲巴县");
-        map.put("540233", "西藏自治区日喀则市亚东县");
-        map.put("540234", "西藏自治区日喀则市吉隆县");
-        map.put("540235", "西藏自治区日喀则市聂拉木县");
-        map.put("540236", "西藏自治区日喀则市萨嘎县");
-        map.put("540237", "西藏自治区日喀则市岗巴县");
-        map.put("540300", "西藏自治区昌都市");
-        map.put("540302", "西藏自治区昌都市卡若区");
-        map.put("540321", "西藏自治区昌都市江达县");
-        map.put("540322", "西藏自治区昌都市贡觉县");
-        map.put("540323", "西藏自治区昌都市类乌齐县");
-        map.put("540324", "西藏自治区昌都市丁青县");
-        map.put("540325", "西藏自治区昌都市察雅县");
-        map.put("540326", "西藏自治区昌都市八宿县");
-        map.put("540327", "西藏自治区昌都市左贡县");
-        map.put("540328", "西藏自治区昌都市芒康县");
-        map.put("540329", "西藏自治区昌都市洛隆县");
-        map.put("540330", "西藏自治区昌都市边坝县");
-        map.put("540400", "西藏自治区林芝市");
-        map.put("540402", "西藏自治区林芝市巴宜区");
-        map.put("540421", "西藏自治区林芝市工布江达县");
-        map.put("540422", "西藏自治区林芝市米林县");
-        map.put("540423", "西藏自治区林芝市墨脱县");
-        map.put("540424", "西藏自治区林芝市波密县");
-        map.put("540425", "西藏自治区林芝市察隅县");
-        map.put("540426", "西藏自治区林芝市朗县");
-        map.put("540500", "西藏自治区山南市");
-        map.put("540502", "西藏自治区山南市乃东区");
-        map.put("540521", "西藏自治区山南市扎囊县");
-        map.put("540522", "西藏自治区山南市贡嘎县");
-        map.put("540523", "西藏自治区山南市桑日县");
-        map.put("540524", "西藏自治区山南市琼结县");
-        map.put("540525", "西藏自治区山南市曲松县");
-        map.put("540526", "西藏自治区山南市措美县");
-        map.put("540527", "西藏自治区山南市洛扎县");
-        map.put("540528", "西藏自治区山南市加查县");
-        map.put("540529", "西藏自治区山南市隆子县");
-        map.put("540530", "西藏自治区山南市错那县");
-        map.put("540531", "西藏自治区山南市浪卡子县");
-        map.put("542400", "西藏自治区那曲地区");
-        map.put("542421", "西藏自治区那曲地区那曲县");
-        map.put("542422", "西藏自治区那曲地区嘉黎县");
-        map.put("542423", "西藏自治区那曲地区比如县");
-        map.put("542424", "西藏自治区那曲地区聂荣县");
-        map.put("542425", "西藏自治区那曲地区安多县");
-        map.put("542426", "西藏自治区那曲地区申扎县");
-        map.put("542427", "西藏自治区那曲地区索县");
-        map.put("542428", "西藏自治区那曲地区班戈县");
-        map.put("542429", "西藏自治区那曲地区巴青县");
-        map.put("542430", "西藏自治区那曲地区尼玛县");
-        map.put("542431", "西藏自治区那曲地区双湖县");
-        map.put("542500", "西藏自治区阿里地区");
-        map.put("542521", "西藏自治区阿里地区普兰县");
-        map.put("542522", "西藏自治区阿里地区札达县");
-        map.put("542523", "西藏自治区阿里地区噶尔县");
-        map.put("542524", "西藏自治区阿里地区日土县");
-        map.put("542525", "西藏自治区阿里地区革吉县");
-        map.put("542526", "西藏自治区阿里地区改则县");
-        map.put("542527", "西藏自治区阿里地区措勤县");
-        map.put("610000", "陕西省");
-        map.put("610100", "陕西省西安市");
-        map.put("610102", "陕西省西安市新城区");
-        map.put("610103", "陕西省西安市碑林区");
-        map.put("610104", "陕西省西安市莲湖区");
-        map.put("610111", "陕西省西安市灞桥区");
-        map.put("610112", "陕西省西安市未央区");
-        map.put("610113", "陕西省西安市雁塔区");
-        map.put("610114", "陕西省西安市阎良区");
-        map.put("610115", "陕西省西安市临潼区");
-        map.put("610116", "陕西省西安市长安区");
-        map.put("610117", "陕西省西安市高陵区");
-        map.put("610118", "陕西省西安市鄠邑区");
-        map.put("610122", "陕西省西安市蓝田县");
-        map.put("610124", "陕西省西安市周至县");
-        map.put("610200", "陕西省铜川市");
-        map.put("610202", "陕西省铜川市王益区");
-        map.put("610203", "陕西省铜川市印台区");
-        map.put("610204", "陕西省铜川市耀州区");
-        map.put("610222", "陕西省铜川市宜君县");
-        map.put("610300", "陕西省宝鸡市");
-        map.put("610302", "陕西省宝鸡市渭滨区");
-        map.put("610303", "陕西省宝鸡市金台区");
-        map.put("610304", "陕西省宝鸡市陈仓区");
-        map.put("610322", "陕西省宝鸡市凤翔县");
-        map.put("610323", "陕西省宝鸡市岐山县");
-        map.put("610324", "陕西省宝鸡市扶风县");
-        map.put("610326", "陕西省宝鸡市眉县");
-        map.put("610327", "陕西省宝鸡市陇县");
-        map.put("610328", "陕西省宝鸡市千阳县");
-        map.put("610329", "陕西省宝鸡市麟游县");
-        map.put("610330", "陕西省宝鸡市凤县");
-        map.put("610331", "陕西省宝鸡市太白县");
-        map.put("610400", "陕西省咸阳市");
-        map.put("610402", "陕西省咸阳市秦都区");
-        map.put("610403", "陕西省咸阳市杨陵区");
-        map.put("610404", "陕西省咸阳市渭城区");
-        map.put("610422", "陕西省咸阳市三原县");
-        map.put("610423", "陕西省咸阳市泾阳县");
-        map.put("610424", "陕西省咸阳市乾县");
-        map.put("610425", "陕西省咸阳市礼泉县");
-        map.put("610426", "陕西省咸阳市永寿县");
-        map.put("610427", "陕西省咸阳市彬县");
-        map.put("610428", "陕西省咸阳市长武县");
-        map.put("610429", "陕西省咸阳市旬邑县");
-        map.put("610430", "陕西省咸阳市淳化县");
-        map.put("610431", "陕西省咸阳市武功县");
-        map.put("610481", "陕西省咸阳市兴平市");
-        map.put("610500", "陕西省渭南市");
-        map.put("610502", "陕西省渭南市临渭区");
-        map.put("610503", "陕西省渭南市华州区");
-        map.put("610522", "陕西省渭南市潼关县");
-        map.put("610523", "陕西省渭南市大荔县");
-        map.put("610524", "陕西省渭南市合阳县");
-        map.put("610525", "陕西省渭南市澄城县");
-        map.put("610526", "陕西省渭南市蒲城县");
-        map.put("610527", "陕西省渭南市白水县");
-        map.put("610528", "陕西省渭南市富平县");
-        map.put("610581", "陕西省渭南市韩城市");
-        map.put("610582", "陕西省渭南市华阴市");
-        map.put("610600", "陕西省延安市");
-        map.put("610602", "陕西省延安市宝塔区");
-        map.put("610603", "陕西省延安市安塞区");
-        map.put("610621", "陕西省延安市延长县");
-        map.put("610622", "陕西省延安市延川县");
-        map.put("610623", "陕西省延安市子长县");
-        map.put("610625", "陕西省延安市志丹县");
-        map.put("610626", "陕西省延安市吴起县");
-        map.put("610627", "陕西省延安市甘泉县");
-        map.put("610628", "陕西省延安市富县");
-        map.put("610629", "陕西省延安市洛川县");
-        map.put("610630", "陕西省延安市宜川县");
-        map.put("610631", "陕西省延安市黄龙县");
-        map.put("610632", "陕西省延安市黄陵县");
-        map.put("610700", "陕西省汉中市");
-        map.put("610702", "陕西省汉中市汉台区");
-        map.put("610721", "陕西省汉中市南郑县");
-        map.put("610722", "陕西省汉中市城固县");
-        map.put("610723", "陕西省汉中市洋县");
-        map.put("610724", "陕西省汉中市西乡县");
-        map.put("610725", "陕西省汉中市勉县");
-        map.put("610726", "陕西省汉中市宁强县");
-        map.put("610727", "陕西省汉中市略阳县");
-        map.put("610728", "陕西省汉中市镇巴县");
-        map.put("610729", "陕西省汉中市留坝县");
-        map.put("610730", "陕西省汉中市佛坪县");
-        map.put("610800", "陕西省榆林市");
-        map.put("610802", "陕西省榆林市榆阳区");
-        map.put("610803", "陕西省榆林市横山区");
-        map.put("610822", "陕西省榆林市府谷县");
-        map.put("610824", "陕西省榆林市靖边县");
-        map.put("610825", "陕西省榆林市定边县");
-        map.put("610826", "陕西省榆林市绥德县");
-        map.put("610827", "陕西省榆林市米脂县");
-        map.put("610828", "陕西省榆林市佳县");
-        map.put("610829", "陕西省榆林市吴堡县");
-        map.put("610830", "陕西省榆林市清涧县");
-        map.put("610831", "陕西省榆林市子洲县");
-        map.put("610881", "陕西省榆林市神木市");
-        map.put("610900", "陕西省安康市");
-        map.put("610902", "陕西省安康市汉滨区");
-        map.put("610921", "陕西省安康市汉阴县");
-        map.put("610922", "陕西省安康市石泉县");
-        map.put("610923", "陕西省安康市宁陕县");
-        map.put("610924", "陕西省安康市紫阳县");
-        map.put("610925", "陕西省安康市岚皋县");
-        map.put("610926", "陕西省安康市平利县");
-        map.put("610927", "陕西省安康市镇坪县");
-        map.put("610928", "陕西省安康市旬阳县");
-        map.put("610929", "陕西省安康市白河县");
-        map.put("611000", "陕西省商洛市");
-        map.put("611002", "陕西省商洛市商州区");
-        map.put("611021", "陕西省商洛市洛南县");
-        map.put("611022", "陕西省商洛市丹凤县");
-        map.put("611023", "陕西省商洛市商南县");
-        map.put("611024", "陕西省商洛市山阳县");
-        map.put("611025", "陕西省商洛市镇安县");
-        map.put("611026", "陕西省商洛市柞水县");
-        map.put("620000", "甘肃省");
-        map.put("620100", "甘肃省兰州市");
-        map.put("620102", "甘肃省兰州市城关区");
-        map.put("620103", "甘肃省兰州市七里河区");
-        map.put("620104", "甘肃省兰州市西固区");
-        map.put("620105", "甘肃省兰州市安宁区");
-        map.put("620111", "甘肃省兰州市红古区");
-        map.put("620121", "甘肃省兰州市永登县");
-        map.put("620122", "甘肃省兰州市皋兰县");
-        map.put("620123", "甘肃省兰州市榆中县");
-        map.put("620200", "甘肃省嘉峪关市");
-        map.put("620201", "甘肃省嘉峪关市嘉峪关市");
-        map.put("620300", "甘肃省金昌市");
-        map.put("620302", "甘肃省金昌市金川区");
-        map.put("620321", "甘肃省金昌市永昌县");
-        map.put("620400", "甘肃省白银市");
-        map.put("620402", "甘肃省白银市白银区");
-        map.put("620403", "甘肃省白银市平川区");
-        map.put("620421", "甘肃省白银市靖远县");
-        map.put("620422", "甘肃省白银市会宁县");
-        map.put("620423", "甘肃省白银市景泰县");
-        map.put("620500", "甘肃省天水市");
-        map.put("620502", "甘肃省天水市秦州区");
-        map.put("620503", "甘肃省天水市麦积区");
-        map.put("620521", "甘肃省天水市清水县");
-        map.put("620522", "甘肃省天水市秦安县");
-        map.put("620523", "甘肃省天水市甘谷县");
-        map.put("620524", "甘肃省天水市武山县");
-        map.put("620525", "甘肃省天水市张家川回族自治县");
-        map.put("620600", "甘肃省武威市");
-        map.put("620602", "甘肃省武威市凉州区");
-        map.put("620621", "甘肃省武威市民勤县");
-        map.put("620622", "甘肃省武威市古浪县");
-        map.put("620623", "甘肃省武威市天祝藏族自治县");
-        map.put("620700", "甘肃省张掖市");
-        map.put("620702", "甘肃省张掖市甘州区");
-        map.put("620721", "甘肃省张掖市肃南裕固族自治县");
-        map.put("620722", "甘肃省张掖市民乐县");
-        map.put("620723", "甘肃省张掖市临泽县");
-        map.put("620724", "甘肃省张掖市高台县");
-        map.put("620725", "甘肃省张掖市山丹县");
-        map.put("620800", "甘肃省平凉市");
-        map.put("620802", "甘肃省平凉市崆峒区");
-        map.put("620821", "甘肃省平凉市泾川县");
-        map.put("620822", "甘肃省平凉市灵台县");
-        map.put("620823", "甘肃省平凉市崇信县");
-        map.put("620824", "甘肃省平凉市华亭县");
-        map.put("620825", "甘肃省平凉市庄浪县");
-        map.put("620826", "甘肃省平凉市静宁县");
-        map.put("620900", "甘肃省酒泉市");
-        map.put("620902", "甘肃省酒泉市肃州区");
-        map.put("620921", "甘肃省酒泉市金塔县");
-        map.put("620922", "甘肃省酒泉市瓜州县");
-        map.put("620923", "甘肃省酒泉市肃北蒙古族自治县");
-        map.put("620924", "甘肃省酒泉市阿克塞哈萨克族自治县");
-        map.put("620981", "甘肃省酒泉市玉门市");
-        map.put("620982", "甘肃省酒泉市敦煌市");
-        map.put("621000", "甘肃省庆阳市");
-        map.put("621002", "甘肃省庆阳市西峰区");
-        map.put("621021", "甘肃省庆阳市庆城县");
-        map.put("621022", "甘肃省庆阳市环县");
-        map.put("621023", "甘肃省庆阳市华池县");
-        map.put("621024", "甘肃省庆阳市合水县");
-        map.put("621025", "甘肃省庆阳市正宁县");
-        map.put("621026", "甘肃省庆阳市宁县");
-        map.put("621027", "甘肃省庆阳市镇原县");
-        map.put("621100", "甘肃省定西市");
-        map.put("621102", "甘肃省定西市安定区");
-        map.put("621121", "甘肃省定西市通渭县");
-        map.put("621122", "甘肃省定西市陇西县");
-        map.put("621123", "甘肃省定西市渭源县");
-        map.put("621124", "甘肃省定西市临洮县");
-        map.put("621125", "甘肃省定西市漳县");
-        map.put("621126", "甘肃省定西市岷县");
-        map.put("621200", "甘肃省陇南市");
-        map.put("621202", "甘肃省陇南市武都区");
-        map.put("621221", "甘肃省陇南市成县");
-        map.put("621222", "甘肃省陇南市文县");
-        map.put("621223", "甘肃省陇南市宕昌县");
-        map.put("621224", "甘肃省陇南市康县");
-        map.put("621225", "甘肃省陇南市西和县");
-        map.put("621226", "甘肃省陇南市礼县");
-        map.put("621227", "甘肃省陇南市徽县");
-        map.put("621228", "甘肃省陇南市两当县");
-        map.put("622900", "甘肃省临夏回族自治州");
-        map.put("622901", "甘肃省临夏回族自治州临夏市");
-        map.put("622921", "甘肃省临夏回族自治州临夏县");
-        map.put("622922", "甘肃省临夏回族自治州康乐县");
-        map.put("622923", "甘肃省临夏回族自治州永靖县");
-        map.put("622924", "甘肃省临夏回族自治州广河县");
-        map.put("622925", "甘肃省临夏回族自治州和政县");
-        map.put("622926", "甘肃省临夏回族自治州东乡族自治县");
-        map.put("622927", "甘肃省临夏回族自治州积石山保安族东乡族撒拉族自治县");
-        map.put("623000", "甘肃省甘南藏族自治州");
-        map.put("623001", "甘肃省甘南藏族自治州合作市");
-        map.put("623021", "甘肃省甘南藏族自治州临潭县");
-        map.put("623022", "甘肃省甘南藏族自治州卓尼县");
-        map.put("623023", "甘肃省甘南藏族自治州舟曲县");
-        map.put("623024", "甘肃省甘南藏族自治州迭部县");
-        map.put("623025", "甘肃省甘南藏族自治州玛曲县");
-        map.put("623026", "甘肃省甘南藏族自治州碌曲县");
-        map.put("623027", "甘肃省甘南藏族自治州夏河县");
-        map.put("630000", "青海省");
-        map.put("630100", "青海省西宁市");
-        map.put("630102", "青海省西宁市城东区");
-        map.put("630103", "青海省西宁市城中区");
-        map.put("630104", "青海省西宁市城西区");
-        map.put("630105", "青海省西宁市城北区");
-        map.put("630121", "青海省西宁市大通回族土族自治县");
-        map.put("630122", "青海省西宁市湟中县");
-        map.put("630123", "青海省西宁市湟源县");
-        map.put("630200", "青海省海东市");
-        map.put("630202", "青海省海东市乐都区");
-        map.put("630203", "青海省海东市平安区");
-        map.put("630222", "青海省海东市民和回族土族自治县");
-        map.put("630223", "青海省海东市互助土族自治县");
-        map.put("630224", "青海省海东市化隆回族自治县");
-        map.put("630225", "青海省海东市循化撒拉族自治县");
-        map.put("632200", "青海省海北藏族自治州");
-        map.put("632221", "青海省海北藏族自治州门源回族自治县");
-        map.put("632222", "青海省海北藏族自治州祁连县");
-        map.put("632223", "青海省海北藏族自治州海晏县");
-        map.put("632224", "青海省海北藏族自治州刚察县");
-        map.put("632300", "青海省黄南藏族自治州");
-        map.put("632321", "青海省黄南藏族自治州同仁县");
-        map.put("632322", "青海省黄南藏族自治州尖扎县");
-        map.put("632323", "青海省黄南藏族自治州泽库县");
-        map.put("632324", "青海省黄南藏族自治州河南蒙古族自治县");
-        map.put("632500", "青海省海南藏族自治州");
-        map.put("632521", "青海省海南藏族自治州共和县");
-        map.put("632522", "青海省海南藏族自治州同德县");
-        map.put("632523", "青海省海南藏族自治州贵德县");
-        map.put("632524", "青海省海南藏族自治州兴海县");
-        map.put("632525", "青海省海南藏族自治州贵南县");
-        map.put("632600", "青海省果洛藏族自治州");
-        map.put("632621", "青海省果洛藏族自治州玛沁县");
-        map.put("632622", "青海省果洛藏族自治州班玛县");
-        map.put("632623", "青海省果洛藏族自治州甘德县");
-        map.put("632624", "青海省果洛藏族自治州达日县");
-        map.put("632625", "青海省果洛藏族自治州久治县");
-        map.put("632626", "青海省果洛藏族自治州玛多县");
-        map.put("632700", "青海省玉树藏族自治州");
-        map.put("632701", "青海省玉树藏族自治州玉树市");
-        map.put("632722", "青海省玉树藏族自治州杂多县");
-        map.put("632723", "青海省玉树藏族自治州称多县");
-        map.put("632724", "青海省玉树藏族自治州治多县");
-        map.put("632725", "青海省玉树藏族自治州囊谦县");
-        map.put("632726", "青海省玉树藏族自治州曲麻莱县");
-        map.put("632800", "青海省海西蒙古族藏族自治州");
-        map.put("632801", "青海省海西蒙古族藏族自治州格尔木市");
-        map.put("632802", "青海省海西蒙古族藏族自治州德令哈市");
-        map.put("632821", "青海省海西蒙古族藏族自治州乌兰县");
-        map.put("632822", "青海省海西蒙古族藏族自治州都兰县");
-        map.put("632823", "青海省海西蒙古族藏族自治州天峻县");
-        map.put("632824", "青海省海西蒙古族藏族自治州冷湖行政区");
-        map.put("632825", "青海省海西蒙古族藏族自治州大柴旦行政区");
-        map.put("632826", "青海省海西蒙古族藏族自治州茫崖行政区");
-        map.put("640000", "宁夏回族自治区");
-        map.put("640100", "宁夏回族自治区银川市");
-        map.put("640104", "宁夏回族自治区银川市兴庆区");
-        map.put("640105", "宁夏回族自治区银川市西夏区");
-        map.put("640106", "宁夏回族自治区银川市金凤区");
-        map.put("640121", "宁夏回族自治区银川市永宁县");
-        map.put("640122", "宁夏回族自治区银川市贺兰县");
-        map.put("640181", "宁夏回族自治区银川市灵武市");
-        map.put("640200", "宁夏回族自治区石嘴山市");
-        map.put("640202", "宁夏回族自治区石嘴山市大武口区");
-        map.put("640205", "宁夏回族自治区石嘴山市惠农区");
-        map.put("640221", "宁夏回族自治区石嘴山市平罗县");
-        map.put("640300", "宁夏回族自治区吴忠市");
-        map.put("640302", "宁夏回族自治区吴忠市利通区");
-        map.put("640303", "宁夏回族自治区吴忠市红寺堡区");
-        map.put("640323", "宁夏回族自治区吴忠市盐池县");
-        map.put("640324", "宁夏回族自治区吴忠市同心县");
-        map.put("640381", "宁夏回族自治区吴忠市青铜峡市");
-        map.put("640400", "宁夏回族自治区固原市");
-        map.put("640402", "宁夏回族自治区固原市原州区");
-        map.put("640422", "宁夏回族自治区固原市西吉县");
-        map.put("640423", "宁夏回族自治区固原市隆德县");
-        map.put("640424", "宁夏回族自治区固原市泾源县");
-        map.put("640425", "宁夏回族自治区固原市彭阳县");
-        map.put("640500", "宁夏回族自治区中卫市");
-        map.put("640502", "宁夏回族自治区中卫市沙坡头区");
-        map.put("640521", "宁夏回族自治区中卫市中宁县");
-        map.put("640522", "宁夏回族自治区中卫市海原县");
-        map.put("650000", "新疆维吾尔自治区");
-        map.put("650100", "新疆维吾尔自治区乌鲁木齐市");
-        map.put("650102", "新疆维吾尔自治区乌鲁木齐市天山区");
-        map.put("650103", "新疆维吾尔自治区乌鲁木齐市沙依巴克区");
-        map.put("650104", "新疆维吾尔自治区乌鲁木齐市新市区");
-        map.put("650105", "新疆维吾尔自治区乌鲁木齐市水磨沟区");
-        map.put("650106", "新疆维吾尔自治区乌鲁木齐市头屯河区");
-        map.put("650107", "新疆维吾尔自治区乌鲁木齐市达坂城区");
-        map.put("650109", "新疆维吾尔自治区乌鲁木齐市米东区");
-        map.put("650121", "新疆维吾尔自治区乌鲁木齐市乌鲁木齐县");
-        map.put("650200", "新疆维吾尔自治区克拉玛依市");
-        map.put("650202", "新疆维吾尔自治区克拉玛依市独山子区");
-        map.put("650203", "新疆维吾尔自治区克拉玛依市克拉玛依区");
-        map.put("650204", "新疆维吾尔自治区克拉玛依市白碱滩区");
-        map.put("650205", "新疆维吾尔自治区克拉玛依市乌尔禾区");
-        map.put("650400", "新疆维吾尔自治区吐鲁番市");
-        map.put("650402", "新疆维吾尔自治区吐鲁番市高昌区");
-        map.put("650421", "新疆维吾尔自治区吐鲁番市鄯善县");
-        map.put("650422", "新疆维吾尔自治区吐鲁番市托克逊县");
-        map.put("650500", "新疆维吾尔自治区哈密市");
-        map.put("650502", "新疆维吾尔自治区哈密市伊州区");
-        map.put("650521", "新疆维吾尔自治区哈密市巴里坤哈萨克自治县");
-        map.put("650522", "新疆维吾尔自治区哈密市伊吾县");
-        map.put("652300", "新疆维吾尔自治区昌吉回族自治州");
-        map.put("652301", "新疆维吾尔自治区昌吉回族自治州昌吉市");
-        map.put("652302", "新疆维吾尔自治区昌吉回族自治州阜康市");
-        map.put("652323", "新疆维吾尔自治区昌吉回族自治州呼图壁县");
-        map.put("652324", "新疆维吾尔自治区昌吉回族自治州玛纳斯县");
-        map.put("652325", "新疆维吾尔自治区昌吉回族自治州奇台县");
-        map.put("652327", "新疆维吾尔自治区昌吉回族自治州吉木萨尔县");
-        map.put("652328", "新疆维吾尔自治区昌吉回族自治州木垒哈萨克自治县");
-        map.put("652700", "新疆维吾尔自治区博尔塔拉蒙古自治州");
-        map.put("652701", "新疆维吾尔自治区博尔塔拉蒙古自治州博乐市");
-        map.put("652702", "新疆维吾尔自治区博尔塔拉蒙古自治州阿拉山口市");
-        map.put("652722", "新疆维吾尔自治区博尔塔拉蒙古自治州精河县");
-        map.put("652723", "新疆维吾尔自治区博尔塔拉蒙古自治州温泉县");
-        map.put("652800", "新疆维吾尔自治区巴音郭楞蒙古自治州");
-        map.put("652801", "新疆维吾尔自治区巴音郭楞蒙古自治州库尔勒市");
-        map.put("652822", "新疆维吾尔自治区巴音郭楞蒙古自治州轮台县");
-        map.put("652823", "新疆维吾尔自治区巴音郭楞蒙古自治州尉犁县");
-        map.put("652824", "新疆维吾尔自治区巴音郭楞蒙古自治州若羌县");
-        map.put("652825", "新疆维吾尔自治区巴音郭楞蒙古自治州且末县");
-        map.put("652826", "新疆维吾尔自治区巴音郭楞蒙古自治州焉耆回族自治县");
-        map.put("652827", "新疆维吾尔自治区巴音郭楞蒙古自治州和静县");
-        map.put("652828", "新疆维吾尔自治区巴音郭楞蒙古自治州和硕县");
-        map.put("652829", "新疆维吾尔自治区巴音郭楞蒙古自治州博湖县");
-        map.put("652900", "新疆维吾尔自治区阿克苏地区");
-        map.put("652901", "新疆维吾尔自治区阿克苏地区阿克苏市");
-        map.put("652922", "新疆维吾尔自治区阿克苏地区温宿县");
-        map.put("652923", "新疆维吾尔自治区阿克苏地区库车县");
-        map.put("652924", "新疆维吾尔自治区阿克苏地区沙雅县");
-        map.put("652925", "新疆维吾尔自治区阿克苏地区新和县");
-        map.put("652926", "新疆维吾尔自治区阿克苏地区拜城县");
-        map.put("652927", "新疆维吾尔自治区阿克苏地区乌什县");
-        map.put("652928", "新疆维吾尔自治区阿克苏地区阿瓦提县");
-        map.put("652929", "新疆维吾尔自治区阿克苏地区柯坪县");
-        map.put("653000", "新疆维吾尔自治区克孜勒苏柯尔克孜自治州");
-        map.put("653001", "新疆维吾尔自治区克孜勒苏柯尔克孜自治州阿图什市");
-        map.put("653022", "新疆维吾尔自治区克孜勒苏柯尔克孜自治州阿克陶县");
-        map.put("653023", "新疆维吾尔自治区克孜勒苏柯尔克孜自治州阿合奇县");
-        map.put("653024", "新疆维吾尔自治区克孜勒苏柯尔克孜自治州乌恰县");
-        map.put("653100", "新疆维吾尔自治区喀什地区");
-        map.put("653101", "新疆维吾尔自治区喀什地区喀什市");
-        map.put("653121", "新疆维吾尔自治区喀什地区疏附县");
-        map.put("653122", "新疆维吾尔自治区喀什地区疏勒县");
-        map.put("653123", "新疆维吾尔自治区喀什地区英吉沙县");
-        map.put("653124", "新疆维吾尔自治区喀什地区泽普县");
-        map.put("653125", "新疆维吾尔自治区喀什地区莎车县");
-        map.put("653126", "新疆维吾尔自治区喀什地区叶城县");
-        map.put("653127", "新疆维吾尔自治区喀什地区麦盖提县");
-        map.put("653128", "新疆维吾尔自治区喀什地区岳普湖县");
-        map.put("653129", "新疆维吾尔自治区喀什地区伽师县");
-        map.put("653130", "新疆维吾尔自治区喀什地区巴楚县");
-        map.put("653131", "新疆维吾尔自治区喀什地区塔什库尔干塔吉克自治县");
-        map.put("653200", "新疆维吾尔自治区和田地区");
-        map.put("653201", "新疆维吾尔自治区和田地区和田市");
-        map.put("653221", "新疆维吾尔自治区和田地区和田县");
-        map.put("653222", "新疆维吾尔自治区和田地区墨玉县");
-        map.put("653223", "新疆维吾尔自治区和田地区皮山县");
-        map.put("653224", "新疆维吾尔自治区和田地区洛浦县");
-        map.put("653225", "新疆维吾尔自治区和田地区策勒县");
-        map.put("653226", "新疆维吾尔自治区和田地区于田县");
-        map.put("653227", "新疆维吾尔自治区和田地区民丰县");
-        map.put("654000", "新疆维吾尔自治区伊犁哈萨克自治州");
-        map.put("654002", "新疆维吾尔自治区伊犁哈萨克自治州伊宁市");
-        map.put("654003", "新疆维吾尔自治区伊犁哈萨克自治州奎屯市");
-        map.put("654004", "新疆维吾尔自治区伊犁哈萨克自治州霍尔果斯市");
-        map.put("654021", "新疆维吾尔自治区伊犁哈萨克自治州伊宁县");
-        map.put("654022", "新疆维吾尔自治区伊犁哈萨克自治州察布查尔锡伯自治县");
-        map.put("654023", "新疆维吾尔自治区伊犁哈萨克自治州霍城县");
-        map.put("654024", "新疆维吾尔自治区伊犁哈萨克自治州巩留县");
-        map.put("654025", "新疆维吾尔自治区伊犁哈萨克自治州新源县");
-        map.put("654026", "新疆维吾尔自治区伊犁哈萨克自治州昭苏县");
-        map.put("654027", "新疆维吾尔自治区伊犁哈萨克自治州特克斯县");
-        map.put("654028", "新疆维吾尔自治区伊犁哈萨克自治州尼勒克县");
-        map.put("654200", "新疆维吾尔自治区塔城地区");
-        map.put("654201", "新疆维吾尔自治区塔城地区塔城市");
-        map.put("654202", "新疆维吾尔自治区塔城地区乌苏市");
-        map.put("654221", "新疆维吾尔自治区塔城地区额敏县");
-        map.put("654223", "新疆维吾尔自治区塔城地区沙湾县");
-        map.put("654224", "新疆维吾尔自治区塔城地区托里县");
-        map.put("654225", "新疆维吾尔自治区塔城地区裕民县");
-        map.put("654226", "新疆维吾尔自治区塔城地区和布克赛尔蒙古自治县");
-        map.put("654300", "新疆维吾尔自治区阿勒泰地区");
-        map.put("654301", "新疆维吾尔自治区阿勒泰地区阿勒泰市");
-        map.put("654321", "新疆维吾尔自治区阿勒泰地区布尔津县");
-        map.put("654322", "新疆维吾尔自治区阿勒泰地区富蕴县");
-        map.put("654323", "新疆维吾尔自治区阿勒泰地区福海县");
-        map.put("654324", "新疆维吾尔自治区阿勒泰地区哈巴河县");
-        map.put("654325", "新疆维吾尔自治区阿勒泰地区青河县");
-        map.put("654326", "新疆维吾尔自治区阿勒泰地区吉木乃县");
-        map.put("659001", "新疆维吾尔自治区石河子市石河子市");
-        map.put("659002", "新疆维吾尔自治区阿拉尔市阿拉尔市");
-        map.put("659003", "新疆维吾尔自治区图木舒克市图木舒克市");
-        map.put("659004", "新疆维吾尔自治区五家渠市五家渠市");
-        map.put("659005", "新疆维吾尔自治区北屯市北屯市");
-        map.put("659006", "新疆维吾尔自治区铁门关市铁门关市");
-        map.put("659007", "新疆维吾尔自治区双河市双河市");
-        map.put("659008", "新疆维吾尔自治区可克达拉市可克达拉市");
-        map.put("659009", "新疆维吾尔自治区昆玉市昆玉市");
-        map.put("710000", "台湾省");
-        map.put("710100", "台湾省台北市");
-        map.put("710101", "台湾省台北市中正区");
-        map.put("710102", "台湾省台北市大同区");
-        map.put("710103", "台湾省台北市中山区");
-        map.put("710104", "台湾省台北市松山区");
-        map.put("710105", "台湾省台北市大安区");
-        map.put("710106", "台湾省台北市万华区");
-        map.put("710107", "台湾省台北市信义区");
-        map.put("710108", "台湾省台北市士林区");
-        map.put("710109", "台湾省台北市北投区");
-        map.put("710110", "台湾省台北市内湖区");
-        map.put("710111", "台湾省台北市南港区");
-        map.put("710112", "台湾省台北市文山区");
-        map.put("710200", "台湾省高雄市");
-        map.put("710201", "台湾省高雄市新兴区");
-        map.put("710202", "台湾省高雄市前金区");
-        map.put("710203", "台湾省高雄市苓雅区");
-        map.put("710204", "台湾省高雄市盐埕区");
-        map.put("710205", "台湾省高雄市鼓山区");
-        map.put("710206", "台湾省高雄市旗津区");
-        map.put("710207", "台湾省高雄市前镇区");
-        map.put("710208", "台湾省高雄市三民区");
-        map.put("710209", "台湾省高雄市左营区");
-        map.put("710210", "台湾省高雄市楠梓区");
-        map.put("710211", "台湾省高雄市小港区");
-        map.put("710242", "台湾省高雄市仁武区");
-        map.put("710243", "台湾省高雄市大社区");
-        map.put("710244", "台湾省高雄市冈山区");
-        map.put("710245", "台湾省高雄市路竹区");
-        map.put("710246", "台湾省高雄市阿莲区");
-        map.put("710247", "台湾省高雄市田寮区");
-        map.put("710248", "台湾省高雄市燕巢区");
-        map.put("710249", "台湾省高雄市桥头区");
-        map.put("710250", "台湾省高雄市梓官区");
-        map.put("710251", "台湾省高雄市弥陀区");
-        map.put("710252", "台湾省高雄市永安区");
-        map.put("710253", "台湾省高雄市湖内区");
-        map.put("710254", "台湾省高雄市凤山区");
-        map.put("710255", "台湾省高雄市大寮区");
-        map.put("710256", "台湾省高雄市林园区");
-        map.put("710257", "台湾省高雄市鸟松区");
-        map.put("710258", "台湾省高雄市大树区");
-        map.put("710259", "台湾省高雄市旗山区");
-        map.put("710260", "台湾省高雄市美浓区");
-        map.put("710261", "台湾省高雄市六龟区");
-        map.put("710262", "台湾省高雄市内门区");
-        map.put("710263", "台湾省高雄市杉林区");
-        map.put("710264", "台湾省高雄市甲仙区");
-        map.put("710265", "台湾省高雄市桃源区");
-        map.put("710266", "台湾省高雄市那玛夏区");
-        map.put("710267", "台湾省高雄市茂林区");
-        map.put("710268", "台湾省高雄市茄萣区");
-        map.put("710300", "台湾省台南市");
-        map.put("710301", "台湾省台南市中西区");
-        map.put("710302", "台湾省台南市东区");
-        map.put("710303", "台湾省台南市南区");
-        map.put("710304", "台湾省台南市北区");
-        map.put("710305", "台湾省台南市安平区");
-        map.put("710306", "台湾省台南市安南区");
-        map.put("710339", "台湾省台南市永康区");
-        map.put("710340", "台湾省台南市归仁区");
-        map.put("710341", "台湾省台南市新化区");
-        map.put("710342", "台湾省台南市左镇区");
-        map.put("710343", "台湾省台南市玉井区");
-        map.put("710344", "台湾省台南市楠西区");
-        map.put("710345", "台湾省台南市南化区");
-        map.put("710346", "台湾省台南市仁德区");
-        map.put("710347", "台湾省台南市关庙区");
-        map.put("710348", "台湾省台南市龙崎区");
-        map.put("710349", "台湾省台南市官田区");
-        map.put("710350", "台湾省台南市麻豆区");
-        map.put("710351", "台湾省台南市佳里区");
-        map.put("710352", "台湾省台南市西港区");
-        map.put("710353", "台湾省台南市七股区");
-        map.put("710354", "台湾省台南市将军区");
-        map.put("710355", "台湾省台南市学甲区");
-        map.put("710356", "台湾省台南市北门区");
-        map.put("710357", "台湾省台南市新营区");
-        map.put("710358", "台湾省台南市后壁区");
-        map.put("710359", "台湾省台南市白河区");
-        map.put("710360", "台湾省台南市东山区");
-        map.put("710361", "台湾省台南市六甲区");
-        map.put("710362", "台湾省台南市下营区");
-        map.put("710363", "台湾省台南市柳营区");
-        map.put("710364", "台湾省台南市盐水区");
-        map.put("710365", "台湾省台南市善化区");
-        map.put("710366", "台湾省台南市大内区");
-        map.put("710367", "台湾省台南市山上区");
-        map.put("710368", "台湾省台南市新市区");
-        map.put("710369", "台湾省台南市安定区");
-        map.put("710400", "台湾省台中市");
-        map.put("710401", "台湾省台中市中区");
-        map.put("710402", "台湾省台中市东区");
-        map.put("710403", "台湾省台中市南区");
-        map.put("710404", "台湾省台中市西区");
-        map.put("710405", "台湾省台中市北区");
-        map.put("710406", "台湾省台中市北屯区");
-        map.put("710407", "台湾省台中市西屯区");
-        map.put("710408", "台湾省台中市南屯区");
-        map.put("710431", "台湾省台中市太平区");
-        map.put("710432", "台湾省台中市大里区");
-        map.put("710433", "台湾省台中市雾峰区");
-        map.put("710434", "台湾省台中市乌日区");
-        map.put("710435", "台湾省台中市丰原区");
-        map.put("710436", "台湾省台中市后里区");
-        map.put("710437", "台湾省台中市石冈区");
-        map.put("710438", "台湾省台中市东势区");
-        map.put("710439", "台湾省台中市和平区");
-        map.put("710440", "台湾省台中市新社区");
-        map.put("710441", "台湾省台中市潭子区");
-        map.put("710442", "台湾省台中市大雅区");
-        map.put("710443", "台湾省台中市神冈区");
-        map.put("710444", "台湾省台中市大肚区");
-        map.put("710445", "台湾省台中市沙鹿区");
-        map.put("710446", "台湾省台中市龙井区");
-        map.put("710447", "台湾省台中市梧栖区");
-        map.put("710448", "台湾省台中市清水区");
-        map.put("710449", "台湾省台中市大甲区");
-        map.put("710450", "台湾省台中市外埔区");
-        map.put("710451", "台湾省台中市大安区");
-        map.put("710600", "台湾省南投县");
-        map.put("710614", "台湾省南投县南投市");
-        map.put("710615", "台湾省南投县中寮乡");
-        map.put("710616", "台湾省南投县草屯镇");
-        map.put("710617", "台湾省南投县国姓乡");
-        map.put("710618", "台湾省南投县埔里镇");
-        map.put("710619", "台湾省南投县仁爱乡");
-        map.put("710620", "台湾省南投县名间乡");
-        map.put("710621", "台湾省南投县集集镇");
-        map.put("710622", "台湾省南投县水里乡");
-        map.put("710623", "台湾省南投县鱼池乡");
-        map.put("710624", "台湾省南投县信义乡");
-        map.put("710625", "台湾省南投县竹山镇");
-        map.put("710626", "台湾省南投县鹿谷乡");
-        map.put("710700", "台湾省基隆市");
-        map.put("710701", "台湾省基隆市仁爱区");
-        map.put("710702", "台湾省基隆市信义区");
-        map.put("710703", "台湾省基隆市中正区");
-        map.put("710704", "台湾省基隆市中山区");
-        map.put("710705", "台湾省基隆市安乐区");
-        map.put("710706", "台湾省基隆市暖暖区");
-        map.put("710707", "台湾省基隆市七堵区");
-        map.put("710800", "台湾省新竹市");
-        map.put("710801", "台湾省新竹市东区");
-        map.put("710802", "台湾省新竹市北区");
-        map.put("710803", "台湾省新竹市香山区");
-        map.put("710900", "台湾省嘉义市");
-        map.put("710901", "台湾省嘉义市东区");
-        map.put("710902", "台湾省嘉义市西区");
-        map.put("711100", "台湾省新北市");
-        map.put("711130", "台湾省新北市万里区");
-        map.put("711131", "台湾省新北市金山区");
-        map.put("711132", "台湾省新北市板桥区");
-        map.put("711133", "台湾省新北市汐止区");
-        map.put("711134", "台湾省新北市深坑区");
-        map.put("711135", "台湾省新北市石碇区");
-        map.put("711136", "台湾省新北市瑞芳区");
-        map.put("711137", "台湾省新北市平溪区");
-        map.put("711138", "台湾省新北市双溪区");
-        map.put("711139", "台湾省新北市贡寮区");
-        map.put("711140", "台湾省新北市新店区");
-        map.put("711141", "台湾省新北市坪林区");
-        map.put("711142", "台湾省新北市乌来区");
-        map.put("711143", "台湾省新北市永和区");
-        map.put("711144", "台湾省新北市中和区");
-        map.put("711145", "台湾省新北市土城区");
-        map.put("711146", "台湾省新北市三峡区");
-        map.put("711147", "台湾省新北市树林区");
-        map.put("711148", "台湾省新北市莺歌区");
-        map.put("711149", "台湾省新北市三重区");
-        map.put("711150", "台湾省新北市新庄区");
-        map.put("711151", "台湾省新北市泰山区");
-        map.put("711152", "台湾省新北市林口区");
-        map.put("711153", "台湾省新北市芦洲区");
-        map.put("711154", "台湾省新北市五股区");
-        map.put("711155", "台湾省新北市八里区");
-        map.put("711156", "台湾省新北市淡水区");
-        map.put("711157", "台湾省新北市三芝区");
-        map.put("711158", "台湾省新北市石门区");
-        map.put("711200", "台湾省宜兰县");
-        map.put("711214", "台湾省宜兰县宜兰市");
-        map.put("711215", "台湾省宜兰县头城镇");
-        map.put("711216", "台湾省宜兰县礁溪乡");
-        map.put("711217", "台湾省宜兰县壮围乡");
-        map.put("711218", "台湾省宜兰县员山乡");
-        map.put("711219", "台湾省宜兰县罗东镇");
-        map.put("711220", "台湾省宜兰县三星乡");
-        map.put("711221", "台湾省宜兰县大同乡");
-        map.put("711222", "台湾省宜兰县五结乡");
-        map.put("711223", "台湾省宜兰县冬山乡");
-        map.put("711224", "台湾省宜兰县苏澳镇");
-        map.put("711225", "台湾省宜兰县南澳乡");
-        map.put("711300", "台湾省新竹县");
-        map.put("711314", "台湾省新竹县竹北市");
-        map.put("711315", "台湾省新竹县湖口乡");
-        map.put("711316", "台湾省新竹县新丰乡");
-        map.put("711317", "台湾省新竹县新埔镇");
-        map.put("711318", "台湾省新竹县关西镇");
-        map.put("711319", "台湾省新竹县芎林乡");
-        map.put("711320", "台湾省新竹县宝山乡");
-        map.put("711321", "台湾省新竹县竹东镇");
-        map.put("711322", "台湾省新竹县五峰乡");
-        map.put("711323", "台湾省新竹县横山乡");
-        map.put("711324", "台湾省新竹县尖石乡");
-        map.put("711325", "台湾省新竹县北埔乡");
-        map.put("711326", "台湾省新竹县峨眉乡");
-        map.put("711400", "台湾省桃园市");
-        map.put("711414", "台湾省桃园市中坜区");
-        map.put("711415", "台湾省桃园市平镇区");
-        map.put("711416", "台湾省桃园市龙潭区");
-        map.put("711417", "台湾省桃园市杨梅区");
-        map.put("711418", "台湾省桃园市新屋区");
-        map.put("711419", "台湾省桃园市观音区");
-        map.put("711420", "台湾省桃园市桃园区");
-        map.put("711421", "台湾省桃园市龟山区");
-        map.put("711422", "台湾省桃园市八德区");
-        map.put("711423", "台湾省桃园市大溪区");
-        map.put("711424", "台湾省桃园市复兴区");
-        map.put("711425", "台湾省桃园市大园区");
-        map.put("711426", "台湾省桃园市芦竹区");
-        map.put("711500", "台湾省苗栗县");
-        map.put("711519", "台湾省苗栗县竹南镇");
-        map.put("711520", "台湾省苗栗县头份市");
-        map.put("711521", "台湾省苗栗县三湾乡");
-        map.put("711522", "台湾省苗栗县南庄乡");
-        map.put("711523", "台湾省苗栗县狮潭乡");
-        map.put("711524", "台湾省苗栗县后龙镇");
-        map.put("711525", "台湾省苗栗县通霄镇");
-        map.put("711526", "台湾省苗栗县苑里镇");
-        map.put("711527", "台湾省苗栗县苗栗市");
-        map.put("711528", "台湾省苗栗县造桥乡");
-        map.put("711529", "台湾省苗栗县头屋乡");
-        map.put("711530", "台湾省苗栗县公馆乡");
-        map.put("711531", "台湾省苗栗县大湖乡");
-        map.put("711532", "台湾省苗栗县泰安乡");
-        map.put("711533", "台湾省苗栗县铜锣乡");
-        map.put("711534", "台湾省苗栗县三义乡");
-        map.put("711535", "台湾省苗栗县西湖乡");
-        map.put("711536", "台湾省苗栗县卓兰镇");
-        map.put("711700", "台湾省彰化县");
-        map.put("711727", "台湾省彰化县彰化市");
-        map.put("711728", "台湾省彰化县芬园乡");
-        map.put("711729", "台湾省彰化县花坛乡");
-        map.put("711730", "台湾省彰化县秀水乡");
-        map.put("711731", "台湾省彰化县鹿港镇");
-        map.put("711732", "台湾省彰化县福兴乡");
-        map.put("711733", "台湾省彰化县线西乡");
-        map.put("711734", "台湾省彰化县和美镇");
-        map.put("711735", "台湾省彰化县伸港乡");
-        map.put("711736", "台湾省彰化县员林市");
-        map.put("711737", "台湾省彰化县社头乡");
-        map.put("711738", "台湾省彰化县永靖乡");
-        map.put("711739", "台湾省彰化县埔心乡");
-        map.put("711740", "台湾省彰化县溪湖镇");
-        map.put("711741", "台湾省彰化县大村乡");
-        map.put("711742", "台湾省彰化县埔盐乡");
-        map.put("711743", "台湾省彰化县田中镇");
-        map.put("711744", "台湾省彰化县北斗镇");
-        map.put("711745", "台湾省彰化县田尾乡");
-        map.put("711746", "台湾省彰化县埤头乡");
-        map.put("711747", "台湾省彰化县溪州乡");
-        map.put("711748", "台湾省彰化县竹塘乡");
-        map.put("711749", "台湾省彰化县二林镇");
-        map.put("711750", "台湾省彰化县大城乡");
-        map.put("711751", "台湾省彰化县芳苑乡");
-        map.put("711752", "台湾省彰化县二水乡");
-        map.put("711900", "台湾省嘉义县");
-        map.put("711919", "台湾省嘉义县番路乡");
-        map.put("711920", "台湾省嘉义县梅山乡");
-        map.put("711921", "台湾省嘉义县竹崎乡");
-        map.put("711922", "台湾省嘉义县阿里山乡");
-        map.put("711923", "台湾省嘉义县中埔乡");
-        map.put("711924", "台湾省嘉义县大埔乡");
-        map.put("711925", "台湾省嘉义县水上乡");
-        map.put("711926", "台湾省嘉义县鹿草乡");
-        map.put("711927", "台湾省嘉义县太保市");
-        map.put("711928", "台湾省嘉义县朴子市");
-        map.put("711929", "台湾省嘉义县东石乡");
-        map.put("711930", "台湾省嘉义县六脚乡");
-        map.put("711931", "台湾省嘉义县新港乡");
-        map.put("711932", "台湾省嘉义县民雄乡");
-        map.put("711933", "台湾省嘉义县大林镇");
-        map.put("711934", "台湾省嘉义县溪口乡");
-        map.put("711935", "台湾省嘉义县义竹乡");
-        map.put("711936", "台湾省嘉义县布袋镇");
-        map.put("712100", "台湾省云林县");
-        map.put("712121", "台湾省云林县斗南镇");
-        map.put("712122", "台湾省云林县大埤乡");
-        map.put("712123", "台湾省云林县虎尾镇");
-        map.put("712124", "台湾省云林县土库镇");
-        map.put("712125", "台湾省云林县褒忠乡");
-        map.put("712126", "台湾省云林县东势乡");
-        map.put("712127", "台湾省云林县台西乡");
-        map.put("712128", "台湾省云林县仑背乡");
-        map.put("712129", "台湾省云林县麦寮乡");
-        map.put("712130", "台湾省云林县斗六市");
-        map.put("712131", "台湾省云林县林内乡");
-        map.put("712132", "台湾省云林县古坑乡");
-        map.put("712133", "台湾省云林县莿桐乡");
-        map.put("712134", "台湾省云林县西螺镇");
-        map.put("712135", "台湾省云林县二仑乡");
-        map.put("712136", "台湾省云林县北港镇");
-        map.put("712137", "台湾省云林县水林乡");
-        map.put("712138", "台湾省云林县口湖乡");
-        map.put("712139", "台湾省云林县四湖乡");
-        map.put("712140", "台湾省云林县元长乡");
-        map.put("712400", "台湾省屏东县");
-        map.put("712434", "台湾省屏东县屏东市");
-        map.put("712435", "台湾省屏东县三地门乡");
-        map.put("712436", "台湾省屏东县雾台乡");
-        map.put("712437", "台湾省屏东县玛家乡");
-        map.put("712438", "台湾省屏东县九如乡");
-        map.put("712439", "台湾省屏东县里港乡");
-        map.put("712440", "台湾省屏东县高树乡");
-        map.put("712441", "台湾省屏东县盐埔乡");
-        map.put("712442", "台湾省屏东县长治乡");
-        map.put("712443", "台湾省屏东县麟洛乡");
-        map.put("712444", "台湾省屏东县竹田乡");
-        map.put("712445", "台湾省屏东县内埔乡");
-        map.put("712446", "台湾省屏东县万丹乡");
-        map.put("712447", "台湾省屏东县潮州镇");
-        map.put("712448", "台湾省屏东县泰武乡");
-        map.put("712449", "台湾省屏东县来义乡");
-        map.put("712450", "台湾省屏东县万峦乡");
-        map.put("712451", "台湾省屏东县崁顶乡");
-        map.put("712452", "台湾省屏东县新埤乡");
-        map.put("712453", "台湾省屏东县南州乡");
-        map.put("712454", "台湾省屏东县林边乡");
-        map.put("712455", "台湾省屏东县东港镇");
-        map.put("712456", "台湾省屏东县琉球乡");
-        map.put("712457", "台湾省屏东县佳冬乡");
-        map.put("712458", "台湾省屏东县新园乡");
-        map.put("712459", "台湾省屏东县枋寮乡");
-        map.put("712460", "台湾省屏东县枋山乡");
-        map.put("712461", "台湾省屏东县春日乡");
-        map.put("712462", "台湾省屏东县狮子乡");
-        map.put("712463", "台湾省屏东县车城乡");
-        map.put("712464", "台湾省屏东县牡丹乡");
-        map.put("712465", "台湾省屏东县恒春镇");
-        map.put("712466", "台湾省屏东县满州乡");
-        map.put("712500", "台湾省台东县");
-        map.put("712517", "台湾省台东县台东市");
-        map.put("712518", "台湾省台东县绿岛乡");
-        map.put("712519", "台湾省台东县兰屿乡");
-        map.put("712520", "台湾省台东县延平乡");
-        map.put("712521", "台湾省台东县卑南乡");
-        map.put("712522", "台湾省台东县鹿野乡");
-        map.put("712523", "台湾省台东县关山镇");
-        map.put("712524", "台湾省台东县海端乡");
-        map.put("712525", "台湾省台东县池上乡");
-        map.put("712526", "台湾省台东县东河乡");
-        map.put("712527", "台湾省台东县成功镇");
-        map.put("712528", "台湾省台东县长滨乡");
-        map.put("712529", "台湾省台东县金峰乡");
-        map.put("712530", "台湾省台东县大武乡");
-        map.put("712531", "台湾省台东县达仁乡");
-        map.put("712532", "台湾省台东县太麻里乡");
-        map.put("712600", "台湾省花莲县");
-        map.put("712615", "台湾省花莲县花莲市");
-        map.put("712616", "台湾省花莲县新城乡");
-        map.put("712618", "台湾省花莲县秀林乡");
-        map.put("712619", "台湾省花莲县吉安乡");
-        map.put("712620", "台湾省花莲县寿丰乡");
-        map.put("712621", "台湾省花莲县凤林镇");
-        map.put("712622", "台湾省花莲县光复乡");
-        map.put("712623", "台湾省花莲县丰滨乡");
-        map.put("712624", "台湾省花莲县瑞穗乡");
-        map.put("712625", "台湾省花莲县万荣乡");
-        map.put("712626", "台湾省花莲县玉里镇");
-        map.put("712627", "台湾省花莲县卓溪乡");
-        map.put("712628", "台湾省花莲县富里乡");
-        map.put("712700", "台湾省澎湖县");
-        map.put("712707", "台湾省澎湖县马公市");
-        map.put("712708", "台湾省澎湖县西屿乡");
-        map.put("712709", "台湾省澎湖县望安乡");
-        map.put("712710", "台湾省澎湖县七美乡");
-        map.put("712711", "台湾省澎湖县白沙乡");
-        map.put("712712", "台湾省澎湖县湖西乡");
-        map.put("810000", "香港特别行政区香港特别行政区");
-        map.put("810101", "香港特别行政区香港特别行政区中西区");
-        map.put("810102", "香港特别行政区香港特别行政区东区");
-        map.put("810103", "香港特别行政区香港特别行政区九龙城区");
-        map.put("810104", "香港特别行政区香港特别行政区观塘区");
-        map.put("810105", "香港特别行政区香港特别行政区南区");
-        map.put("810106", "香港特别行政区香港特别行政区深水埗区");
-        map.put("810107", "香港特别行政区香港特别行政区湾仔区");
-        map.put("810108", "香港特别行政区香港特别行政区黄大仙区");
-        map.put("810109", "香港特别行政区香港特别行政区油尖旺区");
-        map.put("810110", "香港特别行政区香港特别行政区离岛区");
-        map.put("810111", "香港特别行政区香港特别行政区葵青区");
-        map.put("810112", "香港特别行政区香港特别行政区北区");
-        map.put("810113", "香港特别行政区香港特别行政区西贡区");
-        map.put("810114", "香港特别行政区香港特别行政区沙田区");
-        map.put("810115", "香港特别行政区香港特别行政区屯门区");
-        map.put("810116", "香港特别行政区香港特别行政区大埔区");
-        map.put("810117", "香港特别行政区香港特别行政区荃湾区");
-        map.put("810118", "香港特别行政区香港特别行政区元朗区");
-        map.put("820000", "澳门特别行政区澳门特别行政区");
-        map.put("820101", "澳门特别行政区澳门特别行政区澳门半岛");
-        map.put("820102", "澳门特别行政区澳门特别行政区凼仔");
-        map.put("820103", "澳门特别行政区澳门特别行政区路凼城");
-        map.put("820104", "澳门特别行政区澳门特别行政区路环");
+    public static int toAreaCode(CharSequence cs, int offset) {
+        int areaCode = 0;
+        for (int i = offset; i < offset + 6; i++) {
+            int digit = cs.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            areaCode = areaCode * 10 + digit;
+        }
+        return areaCode;
+    }
+
+    /**
+     * 使用指定的加载器重新加载对照表，加载成功后原子替换，正在进行的查询不受影响
+     *
+     * @param loader 代码表加载器
+     * @return 加载的条目数
+     */
+    public static synchronized int reload(AreaCodeLoader loader) {
+        RegionIndex newIndex = load(loader);
+        index = newIndex;
+        return newIndex.size();
+    }
 
-        return map;
+    /**
+     * 获取地区代码索引，首次调用时从默认资源加载
+     *
+     * @return 地区代码索引
+     */
+    private static RegionIndex getIndex() {
+        RegionIndex current = index;
+        if (null == current) {
+            synchronized (AreaCodeMappingTable.class) {
+                current = index;
+                if (null == current) {
+                    index = current = load(AreaCodeLoader.classpath());
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 加载地区代码索引
+     *
+     * @param loader 代码表加载器
+     * @return 地区代码索引
+     */
+    private static RegionIndex load(AreaCodeLoader loader) {
+        try {
+            return AreaCodeTableFile.read(loader.load());
+        } catch (IOException e) {
+            throw new RuntimeException("加载地区代码表失败", e);
+        }
     }
 }
@@ -0,0 +1,101 @@
+package com.titlark.entity;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 地区代码表文件格式（大端字节序）
+ * <pre>
+ * int      魔数 0x41524541（"AREA"）
+ * int      版本号
+ * int      条目数 n
+ * int[n]   升序排列的地区代码
+ * int[n+1] 各名称在字符串池中的起始偏移，最后一项为字符串池长度
+ * byte[]   UTF-8 编码的名称字符串池
+ * </pre>
+ *
+ * @author lark
+ */
+public class AreaCodeTableFile {
+
+    /**
+     * 魔数
+     */
+    static final int MAGIC = 0x41524541;
+
+    /**
+     * 版本号
+     */
+    static final int VERSION = 1;
+
+    private AreaCodeTableFile() {
+    }
+
+    /**
+     * 写出代码表文件
+     *
+     * @param table 地区代码与名称的对照表
+     * @param out   输出流（不会被关闭）
+     * @throws IOException 异常
+     */
+    public static void write(Map<Integer, String> table, OutputStream out) throws IOException {
+        SortedMap<Integer, String> sorted = table instanceof SortedMap ? (SortedMap<Integer, String>) table : new TreeMap<>(table);
+        byte[][] names = new byte[sorted.size()][];
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(sorted.size());
+        int i = 0;
+        for (Map.Entry<Integer, String> entry : sorted.entrySet()) {
+            dos.writeInt(entry.getKey());
+            names[i++] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+        }
+        int offset = 0;
+        for (byte[] name : names) {
+            dos.writeInt(offset);
+            offset += name.length;
+        }
+        dos.writeInt(offset);
+        for (byte[] name : names) {
+            dos.write(name);
+        }
+        dos.flush();
+    }
+
+    /**
+     * 读取代码表文件
+     *
+     * @param buffer 代码表数据
+     * @return 地区代码索引
+     */
+    static RegionIndex read(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate();
+        if (data.getInt() != MAGIC || data.getInt() != VERSION) {
+            throw new IllegalArgumentException("无效的地区代码表文件");
+        }
+        int count = data.getInt();
+        int[] codes = new int[count];
+        data.asIntBuffer().get(codes);
+        data.position(data.position() + count * 4);
+        int[] offsets = new int[count + 1];
+        data.asIntBuffer().get(offsets);
+        data.position(data.position() + (count + 1) * 4);
+        byte[] pool = new byte[offsets[count]];
+        data.get(pool);
+
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && codes[i] <= codes[i - 1]) {
+                throw new IllegalArgumentException("地区代码未按升序排列：" + codes[i]);
+            }
+            names[i] = new String(pool, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+        return new RegionIndex(codes, names);
+    }
+}
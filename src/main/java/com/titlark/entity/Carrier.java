@@ -0,0 +1,79 @@
+package com.titlark.entity;
+
+/**
+ * 手机号码所属运营商
+ * <p>
+ * {@link #getCode()} 与声明顺序一致，用于批量分类时以 int 表示运营商。
+ *
+ * @author lark
+ */
+public enum Carrier {
+
+    UNKNOWN("未知"),
+    CHINA_MOBILE("中国移动"),
+    CHINA_UNICOM("中国联通"),
+    CHINA_TELECOM("中国电信"),
+    CHINA_BROADNET("中国广电"),
+    MOBILE_VIRTUAL("中国移动虚拟运营商"),
+    UNICOM_VIRTUAL("中国联通虚拟运营商"),
+    TELECOM_VIRTUAL("中国电信虚拟运营商");
+
+    /**
+     * 按代码索引的运营商
+     */
+    private static final Carrier[] VALUES = values();
+
+    /**
+     * 运营商名称
+     */
+    private final String label;
+
+    Carrier(String label) {
+        this.label = label;
+    }
+
+    /**
+     * 根据代码获取运营商
+     *
+     * @param code 运营商代码
+     * @return 运营商，代码无效时返回 {@link #UNKNOWN}
+     */
+    public static Carrier of(int code) {
+        return code > 0 && code < VALUES.length ? VALUES[code] : UNKNOWN;
+    }
+
+    public int getCode() {
+        return ordinal();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 获取承载网络所属的基础运营商，虚拟运营商返回其转售的基础运营商
+     *
+     * @return 基础运营商
+     */
+    public Carrier getHost() {
+        switch (this) {
+            case MOBILE_VIRTUAL:
+                return CHINA_MOBILE;
+            case UNICOM_VIRTUAL:
+                return CHINA_UNICOM;
+            case TELECOM_VIRTUAL:
+                return CHINA_TELECOM;
+            default:
+                return this;
+        }
+    }
+
+    /**
+     * 是否为虚拟运营商
+     *
+     * @return true：虚拟运营商 false：基础运营商
+     */
+    public boolean isVirtual() {
+        return getHost() != this;
+    }
+}
@@ -0,0 +1,133 @@
+package com.titlark.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 身份证号码解析结果
+ * <p>
+ * 不可变，出生日期以 yyyyMMdd 形式的 int 保存，地区名称在调用 {@link #getRegion()} 时才查询。
+ *
+ * @author lark
+ */
+public final class IdCardInfo {
+
+    /**
+     * 出生日期，如 19491231
+     */
+    private final int birthday;
+    /**
+     * 是否为男性
+     */
+    private final boolean male;
+    /**
+     * 6位地区代码
+     */
+    private final int areaCode;
+
+    public IdCardInfo(int birthday, boolean male, int areaCode) {
+        this.birthday = birthday;
+        this.male = male;
+        this.areaCode = areaCode;
+    }
+
+    /**
+     * 获取出生日期
+     *
+     * @return yyyyMMdd 形式的出生日期，如 19491231
+     */
+    public int getBirthday() {
+        return birthday;
+    }
+
+    public int getBirthYear() {
+        return birthday / 10000;
+    }
+
+    public int getBirthMonth() {
+        return birthday / 100 % 100;
+    }
+
+    public int getBirthDayOfMonth() {
+        return birthday % 100;
+    }
+
+    public LocalDate getBirthDate() {
+        return LocalDate.of(getBirthYear(), getBirthMonth(), getBirthDayOfMonth());
+    }
+
+    /**
+     * 获取截至今天的周岁年龄
+     *
+     * @return 年龄
+     */
+    public int getAge() {
+        return getAge(LocalDate.now());
+    }
+
+    /**
+     * 获取截至指定日期的周岁年龄
+     *
+     * @param today 计算年龄的日期
+     * @return 年龄
+     */
+    public int getAge(LocalDate today) {
+        int age = today.getYear() - getBirthYear();
+        if (today.getMonthValue() * 100 + today.getDayOfMonth() < birthday % 10000) {
+            age--;
+        }
+        return age;
+    }
+
+    public boolean isMale() {
+        return male;
+    }
+
+    /**
+     * 获取性别
+     *
+     * @return 男或女
+     */
+    public String getGender() {
+        return male ? "男" : "女";
+    }
+
+    public int getAreaCode() {
+        return areaCode;
+    }
+
+    /**
+     * 获取归属地名称
+     *
+     * @return 归属地名称，地区代码未收录时返回 null
+     */
+    public String getRegion() {
+        return AreaCodeMappingTable.getRegion(areaCode);
+    }
+
+    /**
+     * 获取归属地的省、市、县三级行政区划
+     *
+     * @return 行政区划，地区代码未收录时回退到所属市、省，均未收录时返回 null
+     */
+    public Region resolveRegion() {
+        return AreaCodeMappingTable.resolveRegion(areaCode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IdCardInfo)) return false;
+        IdCardInfo that = (IdCardInfo) o;
+        return birthday == that.birthday && male == that.male && areaCode == that.areaCode;
+    }
+
+    @Override
+    public int hashCode() {
+        return (areaCode * 31 + birthday) * 2 + (male ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "IdCardInfo{birthday=" + birthday + ", gender=" + getGender() + ", areaCode=" + areaCode + '}';
+    }
+}
@@ -0,0 +1,72 @@
+package com.titlark.entity;
+
+/**
+ * 可复用的身份证号码解析结果
+ * <p>
+ * 供批量处理时由调用方持有并反复填充，避免每条记录创建对象，非线程安全。
+ *
+ * @author lark
+ */
+public final class MutableIdCardInfo {
+
+    /**
+     * 出生日期，如 19491231
+     */
+    private int birthday;
+    /**
+     * 是否为男性
+     */
+    private boolean male;
+    /**
+     * 6位地区代码
+     */
+    private int areaCode;
+
+    /**
+     * 填充解析结果
+     *
+     * @param birthday yyyyMMdd 形式的出生日期
+     * @param male     是否为男性
+     * @param areaCode 6位地区代码
+     */
+    public void set(int birthday, boolean male, int areaCode) {
+        this.birthday = birthday;
+        this.male = male;
+        this.areaCode = areaCode;
+    }
+
+    /**
+     * 获取出生日期
+     *
+     * @return yyyyMMdd 形式的出生日期，如 19491231
+     */
+    public int getBirthday() {
+        return birthday;
+    }
+
+    public boolean isMale() {
+        return male;
+    }
+
+    public int getAreaCode() {
+        return areaCode;
+    }
+
+    /**
+     * 获取归属地的省、市、县三级行政区划
+     *
+     * @return 行政区划，均未收录时返回 null
+     */
+    public Region resolveRegion() {
+        return AreaCodeMappingTable.resolveRegion(areaCode);
+    }
+
+    /**
+     * 转换为不可变的解析结果
+     *
+     * @return 解析结果
+     */
+    public IdCardInfo toIdCardInfo() {
+        return new IdCardInfo(birthday, male, areaCode);
+    }
+}
@@ -0,0 +1,242 @@
+package com.titlark.entity;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 手机号码号段（前7位）归属地表
+ * <p>
+ * 相邻号段的归属地大多相同，因此只保存归属地发生变化的号段，每条记录表示从该号段起直到下一条记录之前的号段都属于同一地区。
+ * 文件格式（大端字节序）：
+ * <pre>
+ * int      魔数 0x50485347（"PHSG"）
+ * int      版本号
+ * int      记录数 n
+ * int      每个数据块的记录数 b
+ * int      数据块数 m
+ * int[m]   各数据块第一条记录的号段
+ * int[m]   各数据块在数据区中的起始偏移
+ * byte[]   数据区：每条记录为 varint(与上一条记录的号段差值) + varint(6位地区代码，0 表示未分配)
+ * </pre>
+ * 查询时对数据块索引二分查找，再在块内顺序解码，数据区保留在内存映射的缓冲区中，不占用堆内存，查询不产生对象分配。
+ *
+ * @author lark
+ */
+public final class PhoneSegmentTable {
+
+    /**
+     * 魔数
+     */
+    private static final int MAGIC = 0x50485347;
+
+    /**
+     * 版本号
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * 默认每个数据块的记录数
+     */
+    private static final int DEFAULT_BLOCK_SIZE = 16;
+
+    /**
+     * 各数据块第一条记录的号段
+     */
+    private final int[] blockSegments;
+    /**
+     * 各数据块在数据区中的起始偏移
+     */
+    private final int[] blockOffsets;
+    /**
+     * 每个数据块的记录数
+     */
+    private final int blockSize;
+    /**
+     * 记录数
+     */
+    private final int size;
+    /**
+     * 数据区
+     */
+    private final ByteBuffer data;
+
+    private PhoneSegmentTable(int[] blockSegments, int[] blockOffsets, int blockSize, int size, ByteBuffer data) {
+        this.blockSegments = blockSegments;
+        this.blockOffsets = blockOffsets;
+        this.blockSize = blockSize;
+        this.size = size;
+        this.data = data;
+    }
+
+    /**
+     * 通过内存映射加载号段表文件
+     *
+     * @param path 号段表文件
+     * @return 号段表
+     * @throws IOException 异常
+     */
+    public static PhoneSegmentTable map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 读取号段表
+     *
+     * @param buffer 号段表数据，读取后数据区直接引用该缓冲区
+     * @return 号段表
+     */
+    public static PhoneSegmentTable read(ByteBuffer buffer) {
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IllegalArgumentException("无效的号段表文件");
+        }
+        int size = header.getInt();
+        int blockSize = header.getInt();
+        int blockCount = header.getInt();
+        int[] blockSegments = new int[blockCount];
+        int[] blockOffsets = new int[blockCount];
+        header.asIntBuffer().get(blockSegments);
+        header.position(header.position() + blockCount * 4);
+        header.asIntBuffer().get(blockOffsets);
+        header.position(header.position() + blockCount * 4);
+        return new PhoneSegmentTable(blockSegments, blockOffsets, blockSize, size, header.slice());
+    }
+
+    /**
+     * 写出号段表文件
+     *
+     * @param segments 号段（前7位）与6位地区代码的对照表，相邻且地区相同的号段会被合并
+     * @param out      输出流（不会被关闭）
+     * @throws IOException 异常
+     */
+    public static void write(Map<Integer, Integer> segments, OutputStream out) throws IOException {
+        SortedMap<Integer, Integer> sorted = segments instanceof SortedMap ? (SortedMap<Integer, Integer>) segments : new TreeMap<>(segments);
+        // 合并为区间起点：号段不连续或地区变化时产生一条新记录，空缺处以地区代码 0 表示
+        int[] starts = new int[sorted.size() * 2];
+        int[] areaCodes = new int[sorted.size() * 2];
+        int count = 0;
+        int next = -1;
+        for (Map.Entry<Integer, Integer> entry : sorted.entrySet()) {
+            int segment = entry.getKey();
+            int areaCode = entry.getValue();
+            if (segment != next && count > 0 && areaCodes[count - 1] != 0) {
+                starts[count] = next;
+                areaCodes[count++] = 0;
+            }
+            if (count == 0 || areaCodes[count - 1] != areaCode) {
+                starts[count] = segment;
+                areaCodes[count++] = areaCode;
+            }
+            next = segment + 1;
+        }
+        if (count > 0) {
+            starts[count] = next;
+            areaCodes[count++] = 0;
+        }
+
+        int blockCount = (count + DEFAULT_BLOCK_SIZE - 1) / DEFAULT_BLOCK_SIZE;
+        int[] blockSegments = new int[blockCount];
+        int[] blockOffsets = new int[blockCount];
+        ByteBuffer encoded = ByteBuffer.allocate(count * 10);
+        for (int i = 0; i < count; i++) {
+            if (i % DEFAULT_BLOCK_SIZE == 0) {
+                blockSegments[i / DEFAULT_BLOCK_SIZE] = starts[i];
+                blockOffsets[i / DEFAULT_BLOCK_SIZE] = encoded.position();
+            }
+            writeVarint(encoded, i % DEFAULT_BLOCK_SIZE == 0 ? 0 : starts[i] - starts[i - 1]);
+            writeVarint(encoded, areaCodes[i]);
+        }
+
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(count);
+        dos.writeInt(DEFAULT_BLOCK_SIZE);
+        dos.writeInt(blockCount);
+        for (int segment : blockSegments) {
+            dos.writeInt(segment);
+        }
+        for (int offset : blockOffsets) {
+            dos.writeInt(offset);
+        }
+        dos.write(encoded.array(), 0, encoded.position());
+        dos.flush();
+    }
+
+    /**
+     * 记录数（合并后的区间数）
+     *
+     * @return 记录数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 查询号段的归属地
+     *
+     * @param segment 号段，即手机号码前7位，如 1381234
+     * @return 6位地区代码，未收录时返回 0
+     */
+    public int getAreaCode(int segment) {
+        int block = Arrays.binarySearch(blockSegments, segment);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        if (block < 0) {
+            return 0;
+        }
+        int end = Math.min(blockSize, size - block * blockSize);
+        int position = blockOffsets[block];
+        int start = blockSegments[block];
+        int areaCode = 0;
+        for (int i = 0; i < end; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data.get(position++);
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            start += delta;
+            if (start > segment) {
+                break;
+            }
+            int value = 0;
+            shift = 0;
+            do {
+                b = data.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            areaCode = value;
+        }
+        return areaCode;
+    }
+
+    /**
+     * 写入 varint
+     *
+     * @param buffer 缓冲区
+     * @param value  非负整数
+     */
+    private static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
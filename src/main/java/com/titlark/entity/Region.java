@@ -0,0 +1,130 @@
+package com.titlark.entity;
+
+/**
+ * 行政区划（省、市、县三级）
+ * <p>
+ * 实例由 {@link AreaCodeMappingTable} 在构建索引时一次性创建并共享，不可变，可作为分组统计的键使用。
+ * 某一级不存在时（如直辖市没有地级市一级），对应的代码为 0，名称为 null。
+ *
+ * @author lark
+ */
+public final class Region {
+
+    /**
+     * 省级
+     */
+    public static final int LEVEL_PROVINCE = 1;
+    /**
+     * 地级
+     */
+    public static final int LEVEL_CITY = 2;
+    /**
+     * 县级
+     */
+    public static final int LEVEL_COUNTY = 3;
+
+    /**
+     * 地区代码
+     */
+    private final int code;
+    /**
+     * 省级代码
+     */
+    private final int provinceCode;
+    /**
+     * 地级代码
+     */
+    private final int cityCode;
+    /**
+     * 县级代码
+     */
+    private final int countyCode;
+    /**
+     * 省级名称
+     */
+    private final String province;
+    /**
+     * 地级名称
+     */
+    private final String city;
+    /**
+     * 县级名称
+     */
+    private final String county;
+    /**
+     * 完整名称，如：北京市东城区
+     */
+    private final String name;
+
+    Region(int code, int provinceCode, int cityCode, int countyCode,
+           String province, String city, String county, String name) {
+        this.code = code;
+        this.provinceCode = provinceCode;
+        this.cityCode = cityCode;
+        this.countyCode = countyCode;
+        this.province = province;
+        this.city = city;
+        this.county = county;
+        this.name = name;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public int getProvinceCode() {
+        return provinceCode;
+    }
+
+    public int getCityCode() {
+        return cityCode;
+    }
+
+    public int getCountyCode() {
+        return countyCode;
+    }
+
+    public String getProvince() {
+        return province;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getCounty() {
+        return county;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取行政区划级别
+     *
+     * @return {@link #LEVEL_PROVINCE}、{@link #LEVEL_CITY} 或 {@link #LEVEL_COUNTY}
+     */
+    public int getLevel() {
+        if (countyCode != 0) return LEVEL_COUNTY;
+        if (cityCode != 0) return LEVEL_CITY;
+        return LEVEL_PROVINCE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Region)) return false;
+        return code == ((Region) o).code;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return code + " " + name;
+    }
+}
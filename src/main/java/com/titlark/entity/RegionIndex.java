@@ -0,0 +1,121 @@
+package com.titlark.entity;
+
+import java.util.Arrays;
+
+/**
+ * 地区代码索引
+ * <p>
+ * 按地区代码升序排列的 int[] 及平行的名称、行政区划数组，构建后不可变，查询为二分查找且不产生对象分配。
+ *
+ * @author lark
+ */
+final class RegionIndex {
+
+    /**
+     * 升序排列的地区代码
+     */
+    private final int[] codes;
+    /**
+     * 与 codes 一一对应的地区名称
+     */
+    private final String[] names;
+    /**
+     * 与 codes 一一对应的行政区划
+     */
+    private final Region[] regions;
+
+    RegionIndex(int[] codes, String[] names) {
+        this.codes = codes;
+        this.names = names;
+        this.regions = buildRegions(codes, names);
+    }
+
+    /**
+     * 条目数
+     *
+     * @return 条目数
+     */
+    int size() {
+        return codes.length;
+    }
+
+    /**
+     * 获取地区名称
+     *
+     * @param areaCode 6位地区代码
+     * @return 地区名称，不存在时返回 null
+     */
+    String getName(int areaCode) {
+        int index = Arrays.binarySearch(codes, areaCode);
+        return index < 0 ? null : names[index];
+    }
+
+    /**
+     * 解析行政区划，依次回退到地级、省级代码
+     *
+     * @param areaCode 6位地区代码
+     * @return 行政区划，不存在时返回 null
+     */
+    Region resolve(int areaCode) {
+        int index = Arrays.binarySearch(codes, areaCode);
+        if (index < 0) {
+            index = Arrays.binarySearch(codes, areaCode / 100 * 100);
+        }
+        if (index < 0) {
+            index = Arrays.binarySearch(codes, areaCode / 10000 * 10000);
+        }
+        return index < 0 ? null : regions[index];
+    }
+
+    /**
+     * 构建三级行政区划
+     * <p>
+     * 代码升序排列时省级代码（xx0000）排在其下属地区之前，地级代码（xxxx00）排在其下属县级之前，
+     * 因此顺序遍历即可复用上级已拆分好的名称，同一省、市的名称字符串全表共享。
+     *
+     * @param codes 升序排列的地区代码
+     * @param names 与 codes 一一对应的完整名称
+     * @return 与 codes 一一对应的行政区划
+     */
+    private static Region[] buildRegions(int[] codes, String[] names) {
+        Region[] regions = new Region[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            int code = codes[i];
+            String name = names[i];
+            int provinceCode = code / 10000 * 10000;
+            int cityCode = code / 100 * 100;
+            if (code == provinceCode) {
+                regions[i] = new Region(code, code, 0, 0, name, null, null, name);
+                continue;
+            }
+            int provinceIndex = Arrays.binarySearch(codes, 0, i, provinceCode);
+            Region province = provinceIndex < 0 ? null : regions[provinceIndex];
+            if (code == cityCode) {
+                regions[i] = new Region(code, null == province ? 0 : provinceCode, code, 0,
+                        null == province ? null : province.getProvince(), stripPrefix(name, province), null, name);
+                continue;
+            }
+            int cityIndex = Arrays.binarySearch(codes, 0, i, cityCode);
+            Region city = cityIndex < 0 ? null : regions[cityIndex];
+            Region parent = null != city ? city : province;
+            regions[i] = new Region(code, null == province ? 0 : provinceCode, null == city ? 0 : cityCode, code,
+                    null == province ? null : province.getProvince(), null == city ? null : city.getCity(),
+                    stripPrefix(name, parent), name);
+        }
+        return regions;
+    }
+
+    /**
+     * 去掉完整名称中上级地区的名称前缀
+     *
+     * @param name   完整名称
+     * @param parent 上级地区
+     * @return 本级名称
+     */
+    private static String stripPrefix(String name, Region parent) {
+        if (null == parent || !name.startsWith(parent.getName()) || name.length() == parent.getName().length()) {
+            return name;
+        }
+        return name.substring(parent.getName().length());
+    }
+}
@@ -0,0 +1,78 @@
+package com.titlark.entity;
+
+import java.time.Instant;
+
+/**
+ * 雪花算法 ID 的解码结果
+ * <p>
+ * 不可变。热点路径上请直接使用生成器的 timestampOf、sequenceOf 等位运算方法，避免创建对象。
+ *
+ * @author lark
+ */
+public final class SnowflakeId {
+
+    private final long id;
+    /**
+     * 生成时间，毫秒时间戳
+     */
+    private final long timestamp;
+    private final long datacenterId;
+    private final long machineId;
+    private final long sequence;
+
+    public SnowflakeId(long id, long timestamp, long datacenterId, long machineId, long sequence) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.datacenterId = datacenterId;
+        this.machineId = machineId;
+        this.sequence = sequence;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * 获取生成时间
+     *
+     * @return 毫秒时间戳
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Instant getInstant() {
+        return Instant.ofEpochMilli(timestamp);
+    }
+
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    public long getMachineId() {
+        return machineId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SnowflakeId)) return false;
+        SnowflakeId that = (SnowflakeId) o;
+        return id == that.id && timestamp == that.timestamp;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "SnowflakeId{id=" + id + ", timestamp=" + timestamp + ", datacenterId=" + datacenterId
+                + ", machineId=" + machineId + ", sequence=" + sequence + '}';
+    }
+}
@@ -2,24 +2,103 @@ package com.titlark.mask;
 
 /**
  * 数据脱敏
+ * <p>
+ * 每个脱敏方法都提供三种输出方式：返回新字符串、追加到调用方的 {@link StringBuilder}、写入调用方的 char[]。
+ * 脱敏符号连续段按符号预先生成并缓存，写出时整段复制，不产生中间字符串。
  */
 public class DataMaskingUtil {
     /**
      * 默认脱敏符号：*
      */
-    private static String DEFAULT_MASK_SYMBOL = "*";
+    private static volatile MaskRun maskRun = new MaskRun("*");
 
     private DataMaskingUtil() {
     }
 
     public static String maskName(String name) {
         if (name == null || name.length() <= 1) return name;
-        return name.charAt(0) + maskSymbolRepeat(name.length() - 1);
+        return maskName(name, new StringBuilder(1 + maskRun.length(name.length() - 1))).toString();
+    }
+
+    /**
+     * 姓名脱敏：保留第一个字符，追加到 out
+     *
+     * @param name 姓名
+     * @param out  输出
+     * @return out
+     */
+    public static StringBuilder maskName(CharSequence name, StringBuilder out) {
+        return maskName(name, maskRun, out);
+    }
+
+    /**
+     * 姓名脱敏：保留第一个字符，使用指定的脱敏符号，追加到 out
+     *
+     * @param name 姓名
+     * @param run  脱敏符号连续段
+     * @param out  输出
+     * @return out
+     */
+    static StringBuilder maskName(CharSequence name, MaskRun run, StringBuilder out) {
+        if (name == null) return out;
+        if (name.length() <= 1) return out.append(name);
+        out.append(name.charAt(0));
+        return run.appendTo(out, name.length() - 1);
+    }
+
+    /**
+     * 姓名脱敏：保留第一个字符，写入 dest
+     *
+     * @param name   姓名
+     * @param dest   目标数组，需保证有足够的空间
+     * @param offset 写入的起始位置
+     * @return 写入的字符数
+     */
+    public static int maskName(CharSequence name, char[] dest, int offset) {
+        if (name == null) return 0;
+        if (name.length() <= 1) return copy(name, 0, name.length(), dest, offset);
+        MaskRun run = maskRun;
+        dest[offset] = name.charAt(0);
+        return 1 + run.copyTo(dest, offset + 1, name.length() - 1);
     }
 
     public static String maskIdCard(String idCard) {
         if (idCard == null || idCard.length() < 10) return idCard;
-        return idCard.substring(0, 6) + maskSymbolRepeat(8) + idCard.substring(idCard.length() - 4);
+        MaskRun run = maskRun;
+        return maskIdCard(idCard, new StringBuilder(10 + run.length(8))).toString();
+    }
+
+    /**
+     * 身份证号码脱敏：保留前6位和后4位，中间固定替换为8个脱敏符号，追加到 out
+     *
+     * @param idCard 身份证号码
+     * @param out    输出
+     * @return out
+     */
+    public static StringBuilder maskIdCard(CharSequence idCard, StringBuilder out) {
+        if (idCard == null) return out;
+        if (idCard.length() < 10) return out.append(idCard);
+        MaskRun run = maskRun;
+        out.append(idCard, 0, 6);
+        run.appendTo(out, 8);
+        return out.append(idCard, idCard.length() - 4, idCard.length());
+    }
+
+    /**
+     * 身份证号码脱敏：保留前6位和后4位，中间固定替换为8个脱敏符号，写入 dest
+     *
+     * @param idCard 身份证号码
+     * @param dest   目标数组，需保证有足够的空间
+     * @param offset 写入的起始位置
+     * @return 写入的字符数
+     */
+    public static int maskIdCard(CharSequence idCard, char[] dest, int offset) {
+        if (idCard == null) return 0;
+        if (idCard.length() < 10) return copy(idCard, 0, idCard.length(), dest, offset);
+        MaskRun run = maskRun;
+        int written = copy(idCard, 0, 6, dest, offset);
+        written += run.copyTo(dest, offset + written, 8);
+        return written + copy(idCard, idCard.length() - 4, idCard.length(), dest, offset + written);
     }
 
     /**
@@ -33,32 +112,79 @@ public class DataMaskingUtil {
     public static String mask(String maskData, int startIndex, int endIndex) {
         if (maskData == null || maskData.isEmpty()) return maskData;
         if (startIndex == endIndex) return maskData;
+        return mask(maskData, startIndex, endIndex, new StringBuilder(maskData.length() + maskRun.length(1))).toString();
+    }
+
+    /**
+     * 根据索引替换脱敏符号（整段替换为一个脱敏符号），追加到 out
+     *
+     * @param maskData   待脱敏数据
+     * @param startIndex 开始索引
+     * @param endIndex   结束索引（不包含）
+     * @param out        输出
+     * @return out
+     */
+    public static StringBuilder mask(CharSequence maskData, int startIndex, int endIndex, StringBuilder out) {
+        if (maskData == null) return out;
+        if (maskData.length() == 0 || startIndex == endIndex) return out.append(maskData);
         if (startIndex > maskData.length()) startIndex = 0;
         if (endIndex > maskData.length()) endIndex = maskData.length();
-        return maskData.substring(0, startIndex) + DEFAULT_MASK_SYMBOL + maskData.substring(endIndex);
+        MaskRun run = maskRun;
+        out.append(maskData, 0, startIndex);
+        run.appendTo(out, 1);
+        return out.append(maskData, endIndex, maskData.length());
+    }
 
+    /**
+     * 根据索引替换脱敏符号（整段替换为一个脱敏符号），写入 dest
+     *
+     * @param maskData   待脱敏数据
+     * @param startIndex 开始索引
+     * @param endIndex   结束索引（不包含）
+     * @param dest       目标数组，需保证有足够的空间
+     * @param offset     写入的起始位置
+     * @return 写入的字符数
+     */
+    public static int mask(CharSequence maskData, int startIndex, int endIndex, char[] dest, int offset) {
+        if (maskData == null) return 0;
+        if (maskData.length() == 0 || startIndex == endIndex) return copy(maskData, 0, maskData.length(), dest, offset);
+        if (startIndex > maskData.length()) startIndex = 0;
+        if (endIndex > maskData.length()) endIndex = maskData.length();
+        MaskRun run = maskRun;
+        int written = copy(maskData, 0, startIndex, dest, offset);
+        written += run.copyTo(dest, offset + written, 1);
+        return written + copy(maskData, endIndex, maskData.length(), dest, offset + written);
     }
 
     /**
      * 设置脱敏符号
+     * <p>
+     * 该设置全局生效，需要按场景使用不同符号时请使用 {@link MaskingPolicy}
      *
-     * @param maskSymbol 脱敏符号
+     * @param maskSymbol 脱敏符号，为 null 或空字符串时恢复为 *
      */
     public static void setDefaultMaskSymbol(String maskSymbol) {
-        DataMaskingUtil.DEFAULT_MASK_SYMBOL = maskSymbol;
+        DataMaskingUtil.maskRun = new MaskRun(maskSymbol == null || maskSymbol.isEmpty() ? "*" : maskSymbol);
     }
 
     /**
-     * 获取脱敏符号填充数据
+     * 复制字符序列的一段到数组
      *
-     * @param repeatCount
-     * @return
+     * @param src    字符序列
+     * @param start  开始索引
+     * @param end    结束索引（不包含）
+     * @param dest   目标数组
+     * @param offset 写入的起始位置
+     * @return 复制的字符数
      */
-    private static String maskSymbolRepeat(int repeatCount) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < repeatCount; i++) {
-            sb.append(DEFAULT_MASK_SYMBOL);
+    private static int copy(CharSequence src, int start, int end, char[] dest, int offset) {
+        if (src instanceof String) {
+            ((String) src).getChars(start, end, dest, offset);
+        } else {
+            for (int i = start; i < end; i++) {
+                dest[offset + i - start] = src.charAt(i);
+            }
         }
-        return sb.toString();
+        return end - start;
     }
 }
@@ -0,0 +1,292 @@
+package com.titlark.mask;
+
+import com.titlark.security.SignatureUtil;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 保留格式的确定性脱敏（假名化）
+ * <p>
+ * 与 {@link DataMaskingUtil} 用 * 替换不同，这里把需要隐藏的部分替换为由密钥和原值经 HMAC-SHA256 计算出的假名：
+ * 长度不变，数字仍为数字、字母仍为同样大小写的字母，其余字符保持原样。同一密钥下相同的原值总是得到相同的结果，
+ * 脱敏后的数据仍可用于关联查询；没有密钥则无法由结果推算原值。
+ * <p>
+ * 数字部分使用以 HMAC-SHA256 为轮函数的 Feistel 网络（类似 FF1）做保留格式的置换，调整值（tweak）为保留的前后缀等其余字符，
+ * 因此前后缀相同的两个不同原值不会得到相同的结果，例如手机号码中间 4 位的 10000 种取值一一对应。
+ * <p>
+ * 每个线程持有各自的 {@link Mac} 实例和最近结果的 LRU 缓存，线程之间没有竞争，重复出现的值不再计算 HMAC。
+ * 线程私有的数据不引用本对象；在线程池中使用时，可在任务结束后调用 {@link #removeContext()} 释放当前线程的缓存。
+ */
+public final class DataTokenizer {
+
+    /**
+     * 默认每个线程缓存的结果数
+     */
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+
+    private static final int ID_CARD = 0;
+    private static final int PHONE = 1;
+    private static final int EMAIL = 2;
+
+    /**
+     * Feistel 网络的轮数
+     */
+    private static final int ROUNDS = 10;
+
+    /**
+     * 每次置换的最大数字位数，两半各不超过 9 位，相加不会溢出
+     */
+    private static final int MAX_FEISTEL_DIGITS = 18;
+
+    private static final long[] POW10 = new long[MAX_FEISTEL_DIGITS / 2 + 2];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final int cacheSize;
+    private final ThreadLocal<Context> context;
+
+    /**
+     * @param key 密钥
+     */
+    public DataTokenizer(String key) {
+        this(key.getBytes(StandardCharsets.UTF_8), DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param key       密钥
+     * @param cacheSize 每个线程缓存的结果数，为 0 时不缓存
+     */
+    public DataTokenizer(byte[] key, int cacheSize) {
+        byte[] secret = key.clone();
+        this.cacheSize = cacheSize;
+        this.context = ThreadLocal.withInitial(() -> new Context(secret, cacheSize));
+    }
+
+    /**
+     * 释放当前线程的 HMAC 实例及缓存，下次使用时重新创建
+     */
+    public void removeContext() {
+        context.remove();
+    }
+
+    /**
+     * 身份证号码：保留前6位和后4位，中间替换为假名
+     *
+     * @param idCard 身份证号码
+     * @return 脱敏后的身份证号码
+     */
+    public String tokenizeIdCard(String idCard) {
+        if (idCard == null || idCard.length() < 10) return idCard;
+        return tokenize(ID_CARD, idCard, 6, idCard.length() - 4);
+    }
+
+    /**
+     * 手机号码：保留前3位和后4位，中间替换为假名
+     *
+     * @param phone 手机号码
+     * @return 脱敏后的手机号码
+     */
+    public String tokenizePhone(String phone) {
+        if (phone == null || phone.length() < 8) return phone;
+        return tokenize(PHONE, phone, 3, phone.length() - 4);
+    }
+
+    /**
+     * 邮箱：保留用户名的第一个字符和域名，用户名其余部分替换为假名
+     *
+     * @param email 邮箱
+     * @return 脱敏后的邮箱
+     */
+    public String tokenizeEmail(String email) {
+        if (email == null) return null;
+        int at = email.indexOf('@');
+        if (at <= 1) return email;
+        return tokenize(EMAIL, email, 1, at);
+    }
+
+    private String tokenize(int type, String value, int start, int end) {
+        Context ctx = context.get();
+        Map<String, String> cache = ctx.cache(type);
+        String token = cache.get(value);
+        if (token == null) {
+            token = ctx.compute(type, value, start, end);
+            if (cacheSize > 0) {
+                cache.put(value, token);
+            }
+        }
+        return token;
+    }
+
+    /**
+     * 线程私有的 HMAC 实例及缓存
+     */
+    private static final class Context {
+        private final Mac mac;
+        private final byte[] stream;
+        private final LruCache idCards;
+        private final LruCache phones;
+        private final LruCache emails;
+
+        Context(byte[] key, int cacheSize) {
+            this.mac = SignatureUtil.createHmacSha256(key);
+            this.stream = new byte[mac.getMacLength()];
+            this.idCards = new LruCache(cacheSize);
+            this.phones = new LruCache(cacheSize);
+            this.emails = new LruCache(cacheSize);
+        }
+
+        Map<String, String> cache(int type) {
+            switch (type) {
+                case ID_CARD:
+                    return idCards;
+                case PHONE:
+                    return phones;
+                default:
+                    return emails;
+            }
+        }
+
+        /**
+         * 替换 [start, end) 中的数字和字母：数字经 Feistel 置换，字母以 HMAC(类型 + 原值 + 块序号) 作为伪随机流逐个替换
+         */
+        String compute(int type, String value, int start, int end) {
+            char[] chars = value.toCharArray();
+            int[] digits = new int[end - start];
+            int digitCount = 0;
+            boolean letters = false;
+            for (int i = start; i < end; i++) {
+                char c = chars[i];
+                if (c >= '0' && c <= '9') {
+                    digits[digitCount++] = i;
+                } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    letters = true;
+                }
+            }
+            if (digitCount > 0) {
+                permuteDigits(type, chars, digits, digitCount);
+            }
+            if (letters) {
+                replaceLetters(type, value, chars, start, end);
+            }
+            return new String(chars);
+        }
+
+        /**
+         * 以原值中除待替换数字以外的部分为调整值，每 18 位数字为一组做 Feistel 置换
+         */
+        private void permuteDigits(int type, char[] chars, int[] digits, int digitCount) {
+            char[] masked = chars.clone();
+            for (int k = 0; k < digitCount; k++) {
+                masked[digits[k]] = '0';
+            }
+            byte[] tweak = new String(masked).getBytes(StandardCharsets.UTF_8);
+            for (int offset = 0, chunk = 0; offset < digitCount; offset += MAX_FEISTEL_DIGITS, chunk++) {
+                int n = Math.min(MAX_FEISTEL_DIGITS, digitCount - offset);
+                int u = n / 2;
+                int v = n - u;
+                long a = 0;
+                long b = 0;
+                for (int k = 0; k < u; k++) {
+                    a = a * 10 + (chars[digits[offset + k]] - '0');
+                }
+                for (int k = u; k < n; k++) {
+                    b = b * 10 + (chars[digits[offset + k]] - '0');
+                }
+                for (int round = 0; round < ROUNDS; round++) {
+                    int m = (round & 1) == 0 ? u : v;
+                    long c = (a + roundFunction(type, tweak, chunk, round, b, m)) % POW10[m];
+                    a = b;
+                    b = c;
+                }
+                for (int k = u - 1; k >= 0; k--, a /= 10) {
+                    chars[digits[offset + k]] = (char) ('0' + a % 10);
+                }
+                for (int k = n - 1; k >= u; k--, b /= 10) {
+                    chars[digits[offset + k]] = (char) ('0' + b % 10);
+                }
+            }
+        }
+
+        /**
+         * 轮函数 F = HMAC(类型 + 调整值 + 组号 + 轮数 + 右半部分) mod 10^m
+         */
+        private long roundFunction(int type, byte[] tweak, int chunk, int round, long half, int m) {
+            mac.update((byte) type);
+            mac.update(tweak);
+            mac.update((byte) chunk);
+            mac.update((byte) round);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                mac.update((byte) (half >>> shift));
+            }
+            try {
+                mac.doFinal(stream, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+            long r = 0;
+            for (int k = 0; k < 8; k++) {
+                r = (r << 8) | (stream[k] & 0xFF);
+            }
+            return (r & Long.MAX_VALUE) % POW10[m];
+        }
+
+        private void replaceLetters(int type, String value, char[] chars, int start, int end) {
+            byte[] data = value.getBytes(StandardCharsets.UTF_8);
+            int block = 0;
+            int position = stream.length;
+            for (int i = start; i < end; i++) {
+                char c = chars[i];
+                boolean lower = c >= 'a' && c <= 'z';
+                boolean upper = c >= 'A' && c <= 'Z';
+                if (!lower && !upper) {
+                    continue;
+                }
+                if (position == stream.length) {
+                    nextBlock(type, data, block++);
+                    position = 0;
+                }
+                int r = stream[position++] & 0xFF;
+                chars[i] = (char) ((lower ? 'a' : 'A') + r % 26);
+            }
+        }
+
+        private void nextBlock(int type, byte[] data, int block) {
+            mac.update((byte) type);
+            mac.update(data);
+            mac.update((byte) block);
+            try {
+                mac.doFinal(stream, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 按访问顺序淘汰的缓存
+     */
+    private static final class LruCache extends LinkedHashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        LruCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
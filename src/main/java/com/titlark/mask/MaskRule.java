@@ -0,0 +1,72 @@
+package com.titlark.mask;
+
+/**
+ * 字段脱敏规则：保留前 keepFirst 个和后 keepLast 个字符，中间替换为脱敏符号
+ * <p>
+ * fixedWidth 大于等于 0 时中间固定替换为 fixedWidth 个符号，否则按被替换的字符数逐个替换；
+ * 长度不足以同时保留首尾时整体替换。email 模式下规则只作用于 @ 之前的用户名部分。
+ * 姓名规则与 {@link DataMaskingUtil#maskName(String)} 一致，单个字符的姓名不脱敏。
+ */
+final class MaskRule {
+
+    private final int keepFirst;
+    private final int keepLast;
+    private final int fixedWidth;
+    private final boolean email;
+    private final boolean name;
+
+    MaskRule(int keepFirst, int keepLast, int fixedWidth, boolean email) {
+        this(keepFirst, keepLast, fixedWidth, email, false);
+    }
+
+    private MaskRule(int keepFirst, int keepLast, int fixedWidth, boolean email, boolean name) {
+        if (keepFirst < 0 || keepLast < 0) {
+            throw new IllegalArgumentException("保留的字符数不能为负数");
+        }
+        this.keepFirst = keepFirst;
+        this.keepLast = keepLast;
+        this.fixedWidth = fixedWidth;
+        this.email = email;
+        this.name = name;
+    }
+
+    /**
+     * 姓名规则：保留第一个字符
+     *
+     * @return 规则
+     */
+    static MaskRule name() {
+        return new MaskRule(1, 0, -1, false, true);
+    }
+
+    /**
+     * 脱敏并追加到 out
+     *
+     * @param value 待脱敏数据
+     * @param run   脱敏符号连续段
+     * @param out   输出
+     * @return out
+     */
+    StringBuilder apply(CharSequence value, MaskRun run, StringBuilder out) {
+        if (name) {
+            return DataMaskingUtil.maskName(value, run, out);
+        }
+        int end = value.length();
+        if (email) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) == '@') {
+                    end = i;
+                    break;
+                }
+            }
+        }
+        if (end <= keepFirst + keepLast) {
+            run.appendTo(out, fixedWidth >= 0 ? fixedWidth : end);
+        } else {
+            out.append(value, 0, keepFirst);
+            run.appendTo(out, fixedWidth >= 0 ? fixedWidth : end - keepFirst - keepLast);
+            out.append(value, end - keepLast, end);
+        }
+        return out.append(value, end, value.length());
+    }
+}
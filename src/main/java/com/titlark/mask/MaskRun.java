@@ -0,0 +1,64 @@
+package com.titlark.mask;
+
+/**
+ * 脱敏符号连续段，按符号预先生成，写出时整段复制
+ */
+final class MaskRun {
+    /**
+     * 预生成的符号个数，超出时分段写出
+     */
+    private static final int RUN_COUNT = 64;
+    /**
+     * 脱敏符号
+     */
+    private final String symbol;
+    /**
+     * RUN_COUNT 个脱敏符号，以 char[] 保存以便批量复制
+     */
+    private final char[] run;
+
+    MaskRun(String symbol) {
+        if (symbol == null || symbol.isEmpty()) {
+            throw new IllegalArgumentException("脱敏符号不能为空");
+        }
+        this.symbol = symbol;
+        this.run = new char[symbol.length() * RUN_COUNT];
+        for (int i = 0; i < RUN_COUNT; i++) {
+            symbol.getChars(0, symbol.length(), run, i * symbol.length());
+        }
+    }
+
+    String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * count 个脱敏符号的长度
+     *
+     * @param count 脱敏符号个数
+     * @return 长度
+     */
+    int length(int count) {
+        return symbol.length() * count;
+    }
+
+    StringBuilder appendTo(StringBuilder out, int count) {
+        while (count > 0) {
+            int n = Math.min(count, RUN_COUNT);
+            out.append(run, 0, symbol.length() * n);
+            count -= n;
+        }
+        return out;
+    }
+
+    int copyTo(char[] dest, int offset, int count) {
+        int written = 0;
+        while (count > 0) {
+            int n = Math.min(count, RUN_COUNT);
+            System.arraycopy(run, 0, dest, offset + written, symbol.length() * n);
+            written += symbol.length() * n;
+            count -= n;
+        }
+        return written;
+    }
+}
@@ -0,0 +1,281 @@
+package com.titlark.mask;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 脱敏策略
+ * <p>
+ * 通过 {@link #builder()} 按字段名配置脱敏规则，构建后不可变、线程安全，可在多线程间共享。
+ * 应用于对象时，每个类的字段访问器只解析一次并缓存。
+ * <pre>
+ * MaskingPolicy policy = MaskingPolicy.builder()
+ *         .name("name")
+ *         .phone("mobile")
+ *         .email("email")
+ *         .build();
+ * Map&lt;String, Object&gt; masked = policy.apply(record);
+ * </pre>
+ */
+public final class MaskingPolicy {
+
+    /**
+     * 脱敏符号连续段
+     */
+    private final MaskRun run;
+    /**
+     * 字段名与脱敏规则
+     */
+    private final Map<String, MaskRule> rules;
+    /**
+     * 各类需要脱敏的字段
+     */
+    private final ClassValue<Field[]> fields = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            return resolveFields(type);
+        }
+    };
+
+    private MaskingPolicy(Builder builder) {
+        this.run = new MaskRun(builder.maskSymbol);
+        this.rules = Collections.unmodifiableMap(new HashMap<>(builder.rules));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 按字段规则脱敏
+     *
+     * @param field 字段名
+     * @param value 字段值
+     * @return 脱敏后的值，字段未配置规则或值为 null 时原样返回
+     */
+    public String mask(String field, String value) {
+        MaskRule rule = rules.get(field);
+        if (rule == null || value == null) {
+            return value;
+        }
+        return rule.apply(value, run, new StringBuilder(value.length() + run.length(1))).toString();
+    }
+
+    /**
+     * 按字段规则脱敏并追加到 out
+     *
+     * @param field 字段名
+     * @param value 字段值
+     * @param out   输出
+     * @return out
+     */
+    public StringBuilder mask(String field, CharSequence value, StringBuilder out) {
+        if (value == null) {
+            return out;
+        }
+        MaskRule rule = rules.get(field);
+        return rule == null ? out.append(value) : rule.apply(value, run, out);
+    }
+
+    /**
+     * 对记录脱敏，返回新的记录，原记录不变
+     * <p>
+     * 只处理配置了规则且值为 {@link CharSequence} 的字段，其余字段原样复制
+     *
+     * @param record 记录
+     * @return 脱敏后的记录
+     */
+    public Map<String, Object> apply(Map<String, ?> record) {
+        Map<String, Object> masked = new LinkedHashMap<>(record);
+        applyInPlace(masked);
+        return masked;
+    }
+
+    /**
+     * 直接在记录上脱敏
+     *
+     * @param record 记录
+     */
+    public void applyInPlace(Map<String, Object> record) {
+        for (Map.Entry<String, MaskRule> entry : rules.entrySet()) {
+            Object value = record.get(entry.getKey());
+            if (value instanceof CharSequence) {
+                CharSequence cs = (CharSequence) value;
+                record.put(entry.getKey(), entry.getValue().apply(cs, run, new StringBuilder(cs.length() + run.length(1))).toString());
+            }
+        }
+    }
+
+    /**
+     * 直接在对象上脱敏，处理配置了规则的 String 类型字段（含父类字段）
+     *
+     * @param bean 对象
+     * @param <T>  对象类型
+     * @return bean
+     */
+    public <T> T apply(T bean) {
+        if (bean == null) {
+            return null;
+        }
+        try {
+            for (Field field : fields.get(bean.getClass())) {
+                String value = (String) field.get(bean);
+                if (value != null) {
+                    MaskRule rule = rules.get(field.getName());
+                    field.set(bean, rule.apply(value, run, new StringBuilder(value.length() + run.length(1))).toString());
+                }
+            }
+            return bean;
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("脱敏失败:" + bean.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * 解析类中需要脱敏的字段
+     *
+     * @param type 类
+     * @return 配置了规则的非静态、非 final 的 String 字段
+     */
+    private Field[] resolveFields(Class<?> type) {
+        List<Field> resolved = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (field.getType() == String.class && rules.containsKey(field.getName())
+                        && !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                    field.setAccessible(true);
+                    resolved.add(field);
+                }
+            }
+        }
+        return resolved.toArray(new Field[0]);
+    }
+
+    /**
+     * 脱敏策略构建器，非线程安全
+     */
+    public static final class Builder {
+
+        private String maskSymbol = "*";
+        private final Map<String, MaskRule> rules = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 设置脱敏符号，默认为 *
+         *
+         * @param maskSymbol 脱敏符号
+         * @return this
+         */
+        public Builder maskSymbol(String maskSymbol) {
+            this.maskSymbol = maskSymbol;
+            return this;
+        }
+
+        /**
+         * 保留前 n 个字符
+         *
+         * @param field 字段名
+         * @param n     保留的字符数
+         * @return this
+         */
+        public Builder keepFirst(String field, int n) {
+            return rule(field, new MaskRule(n, 0, -1, false));
+        }
+
+        /**
+         * 保留后 n 个字符
+         *
+         * @param field 字段名
+         * @param n     保留的字符数
+         * @return this
+         */
+        public Builder keepLast(String field, int n) {
+            return rule(field, new MaskRule(0, n, -1, false));
+        }
+
+        /**
+         * 保留前 first 个和后 last 个字符
+         *
+         * @param field 字段名
+         * @param first 保留的开头字符数
+         * @param last  保留的结尾字符数
+         * @return this
+         */
+        public Builder keepFirstLast(String field, int first, int last) {
+            return rule(field, new MaskRule(first, last, -1, false));
+        }
+
+        /**
+         * 整体替换为固定个数的脱敏符号，不暴露原始长度
+         *
+         * @param field 字段名
+         * @param width 脱敏符号个数
+         * @return this
+         * @throws IllegalArgumentException 个数为负数
+         */
+        public Builder fixedWidth(String field, int width) {
+            if (width < 0) {
+                throw new IllegalArgumentException("脱敏符号个数不能为负数：" + width);
+            }
+            return rule(field, new MaskRule(0, 0, width, false));
+        }
+
+        /**
+         * 姓名：保留第一个字符，与 {@link DataMaskingUtil#maskName(String)} 一致，单个字符的姓名不脱敏
+         *
+         * @param field 字段名
+         * @return this
+         */
+        public Builder name(String field) {
+            return rule(field, MaskRule.name());
+        }
+
+        /**
+         * 手机号码：保留前3位和后4位，如 138****5678
+         *
+         * @param field 字段名
+         * @return this
+         */
+        public Builder phone(String field) {
+            return keepFirstLast(field, 3, 4);
+        }
+
+        /**
+         * 身份证号码：保留前6位和后4位，中间固定为8个脱敏符号
+         *
+         * @param field 字段名
+         * @return this
+         */
+        public Builder idCard(String field) {
+            return rule(field, new MaskRule(6, 4, 8, false));
+        }
+
+        /**
+         * 邮箱：用户名只保留第一个字符，域名不变，如 a***@163.com
+         *
+         * @param field 字段名
+         * @return this
+         */
+        public Builder email(String field) {
+            return rule(field, new MaskRule(1, 0, -1, true));
+        }
+
+        private Builder rule(String field, MaskRule rule) {
+            rules.put(field, rule);
+            return this;
+        }
+
+        public MaskingPolicy build() {
+            return new MaskingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.titlark.mask;
+
+import com.titlark.utils.EmailUtil;
+import com.titlark.utils.IDCardUtil;
+import com.titlark.utils.PhoneUtil;
+
+import java.io.IOException;
+
+/**
+ * 敏感信息扫描器，识别文本中的18位身份证号码、手机号码和邮箱并脱敏
+ * <p>
+ * 按字符逐个输入，把由字母、数字及 ._%+-@ 组成的连续片段视为一个候选词，候选词结束时一次性判断类型（邮箱看整个候选词，
+ * 手机号码和身份证号码看其中的数字串），
+ * 不使用正则表达式，也不需要缓存整条消息。候选词超过 {@link #MAX_TOKEN_LENGTH} 时不可能整体是邮箱，
+ * 已完整的数字串照常判断后输出，此后只保留当前的数字串（最多 {@link #MAX_DIGIT_RUN} 个字符），
+ * 因此长 base64、URL 编码的片段末尾的手机号码也能识别，预读长度仍有上限。非线程安全。
+ */
+final class PiiScanner {
+
+    /**
+     * 候选词的最大长度（邮箱最长 254 个字符）
+     */
+    static final int MAX_TOKEN_LENGTH = 256;
+
+    /**
+     * 可能是敏感信息的数字串的最大长度（身份证号码 18 位）
+     */
+    private static final int MAX_DIGIT_RUN = 18;
+
+    /**
+     * 输出缓冲区大小
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    private static final String EMAIL = "email";
+    private static final String PHONE = "phone";
+    private static final String ID_CARD = "idCard";
+
+    /**
+     * 候选词字符表
+     */
+    private static final boolean[] TOKEN_CHARS = new boolean[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) TOKEN_CHARS[c] = true;
+        for (char c = 'a'; c <= 'z'; c++) TOKEN_CHARS[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) TOKEN_CHARS[c] = true;
+        for (char c : "._%+-@".toCharArray()) TOKEN_CHARS[c] = true;
+    }
+
+    /**
+     * 输出目标
+     */
+    interface Sink {
+        void write(char[] buf, int off, int len) throws IOException;
+    }
+
+    private final Sink sink;
+    private final MaskingPolicy policy;
+    private final char[] token = new char[MAX_TOKEN_LENGTH];
+    private int tokenLength;
+    /**
+     * 当前候选词已超长，token 中只保留当前的数字串
+     */
+    private boolean overflow;
+    /**
+     * 超长候选词中当前的数字串超过 {@link #MAX_DIGIT_RUN}，直到数字串结束都直接输出
+     */
+    private boolean longRun;
+    private final char[] output = new char[OUTPUT_BUFFER_SIZE];
+    private int outputLength;
+    private final TokenView view = new TokenView();
+    private final StringBuilder masked = new StringBuilder(MAX_TOKEN_LENGTH);
+
+    PiiScanner(Sink sink, String maskSymbol) {
+        this.sink = sink;
+        this.policy = MaskingPolicy.builder().maskSymbol(maskSymbol).email(EMAIL).phone(PHONE).idCard(ID_CARD).build();
+    }
+
+    void write(char c) throws IOException {
+        if (c < 128 && TOKEN_CHARS[c]) {
+            if (overflow) {
+                writeOverflow(c);
+            } else if (tokenLength == MAX_TOKEN_LENGTH) {
+                startOverflow();
+                writeOverflow(c);
+            } else {
+                token[tokenLength++] = c;
+            }
+            return;
+        }
+        endToken();
+        emit(c);
+    }
+
+    /**
+     * 候选词超长：已完整的数字串判断后输出，末尾尚未结束的数字串移到 token 开头继续跟踪
+     *
+     * @throws IOException 异常
+     */
+    private void startOverflow() throws IOException {
+        int runStart = tokenLength;
+        while (runStart > 0 && isDigit(token[runStart - 1])) {
+            runStart--;
+        }
+        if (tokenLength - runStart > MAX_DIGIT_RUN) {
+            runStart = tokenLength;
+            longRun = true;
+        }
+        emitDigitRuns(0, runStart);
+        System.arraycopy(token, runStart, token, 0, tokenLength - runStart);
+        tokenLength -= runStart;
+        overflow = true;
+    }
+
+    /**
+     * 超长候选词中的字符：数字暂存到数字串结束，其余字符直接输出
+     *
+     * @param c 字符
+     * @throws IOException 异常
+     */
+    private void writeOverflow(char c) throws IOException {
+        if (isDigit(c)) {
+            if (longRun) {
+                emit(c);
+            } else if (tokenLength == MAX_DIGIT_RUN) {
+                emit(token, 0, tokenLength);
+                tokenLength = 0;
+                longRun = true;
+                emit(c);
+            } else {
+                token[tokenLength++] = c;
+            }
+            return;
+        }
+        // 17 位数字后紧跟的 X 是身份证号码的校验码，随数字串一起判断
+        boolean checkDigit = (c == 'X' || c == 'x') && !longRun && tokenLength == MAX_DIGIT_RUN - 1;
+        if (checkDigit) {
+            token[tokenLength++] = c;
+        }
+        emitDigitRuns(0, tokenLength);
+        tokenLength = 0;
+        longRun = false;
+        if (!checkDigit) {
+            emit(c);
+        }
+    }
+
+    void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(cbuf[i]);
+        }
+    }
+
+    void write(CharSequence cs, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(cs.charAt(i));
+        }
+    }
+
+    /**
+     * 输出已经确定的内容，尚未结束的候选词继续保留，避免敏感信息被拆分到两次输出中而漏判
+     *
+     * @throws IOException 异常
+     */
+    void flush() throws IOException {
+        if (outputLength > 0) {
+            sink.write(output, 0, outputLength);
+            outputLength = 0;
+        }
+    }
+
+    /**
+     * 输入结束，判断最后一个候选词并输出全部内容
+     *
+     * @throws IOException 异常
+     */
+    void finish() throws IOException {
+        endToken();
+        flush();
+    }
+
+    /**
+     * 候选词结束，判断类型并输出
+     * <p>
+     * 整个候选词（去掉首尾的标点）是邮箱时整体脱敏；否则在其中查找以非数字字符分隔的最长数字串，
+     * 11 位按手机号码、18 位（末位可为 X）按身份证号码判断，带 86 / 0086 国家代码的 13 / 15 位数字串判断其后 11 位，
+     * 因此 +8613812345678、tel:+86...、uid13812345678 等带前缀的形式也能识别。
+     *
+     * @throws IOException 异常
+     */
+    private void endToken() throws IOException {
+        if (overflow) {
+            emitDigitRuns(0, tokenLength);
+            tokenLength = 0;
+            overflow = false;
+            longRun = false;
+            return;
+        }
+        if (tokenLength == 0) {
+            return;
+        }
+        // 首尾的标点不属于候选词
+        int start = 0;
+        int end = tokenLength;
+        while (end > start && (token[end - 1] == '.' || token[end - 1] == '-')) {
+            end--;
+        }
+        while (start < end && !Character.isLetterOrDigit(token[start])) {
+            start++;
+        }
+        if (end - start >= 6 && EmailUtil.isValidEmail(view.reset(start, end))) {
+            emit(token, 0, start);
+            emitMasked(EMAIL, start, end);
+            emit(token, end, tokenLength - end);
+        } else {
+            emitDigitRuns(0, tokenLength);
+        }
+        tokenLength = 0;
+    }
+
+    /**
+     * 逐个检查候选词 [from, to) 中的数字串，手机号码和身份证号码脱敏，其余原样输出
+     *
+     * @param from 开始位置
+     * @param to   结束位置
+     * @throws IOException 异常
+     */
+    private void emitDigitRuns(int from, int to) throws IOException {
+        int i = from;
+        while (i < to) {
+            if (!isDigit(token[i])) {
+                emit(token[i++]);
+                continue;
+            }
+            int j = i;
+            while (j < to && isDigit(token[j])) {
+                j++;
+            }
+            // 17 位数字后紧跟的 X 是身份证号码的校验码
+            if (j - i == 17 && j < to && (token[j] == 'X' || token[j] == 'x')) {
+                j++;
+            }
+            int length = j - i;
+            if (length == 11 && PhoneUtil.isValidPhoneNumber(view.reset(i, j))) {
+                emitMasked(PHONE, i, j);
+            } else if (length == 18 && IDCardUtil.isValidIdCard(view.reset(i, j))) {
+                emitMasked(ID_CARD, i, j);
+            } else if (length == 13 && startsWith(i, "86") && PhoneUtil.isValidPhoneNumber(view.reset(i + 2, j))) {
+                emit(token, i, 2);
+                emitMasked(PHONE, i + 2, j);
+            } else if (length == 15 && startsWith(i, "0086") && PhoneUtil.isValidPhoneNumber(view.reset(i + 4, j))) {
+                emit(token, i, 4);
+                emitMasked(PHONE, i + 4, j);
+            } else {
+                emit(token, i, length);
+            }
+            i = j;
+        }
+    }
+
+    private void emitMasked(String type, int start, int end) throws IOException {
+        masked.setLength(0);
+        policy.mask(type, view.reset(start, end), masked);
+        for (int i = 0; i < masked.length(); i++) {
+            emit(masked.charAt(i));
+        }
+    }
+
+    private boolean startsWith(int offset, String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (token[offset + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void emit(char c) throws IOException {
+        if (outputLength == output.length) {
+            flush();
+        }
+        output[outputLength++] = c;
+    }
+
+    private void emit(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            emit(cbuf[i]);
+        }
+    }
+
+    /**
+     * 当前候选词中 [offset, offset + length) 的只读视图，避免判断时创建字符串
+     */
+    private final class TokenView implements CharSequence {
+        private int offset;
+        private int length;
+
+        TokenView reset(int start, int end) {
+            this.offset = start;
+            this.length = end - start;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return token[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(token, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(token, offset, length);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.titlark.mask;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 敏感信息脱敏字节输出流，适用于 UTF-8 等兼容 ASCII 的编码
+ * <p>
+ * 身份证号码、手机号码和邮箱均由 ASCII 字符组成，多字节字符的每个字节都大于 0x7F，不会被误判，
+ * 因此无需解码即可按字节扫描。{@link #flush()} 不会输出尚未结束的候选词，在 {@link #close()} 时才输出全部内容。非线程安全。
+ */
+public class PiiScrubbingOutputStream extends FilterOutputStream {
+
+    private final PiiScanner scanner;
+    private final byte[] buffer = new byte[8192];
+
+    public PiiScrubbingOutputStream(OutputStream out) {
+        this(out, "*");
+    }
+
+    /**
+     * @param out        输出流
+     * @param maskSymbol 脱敏符号，需为 ASCII 字符（输出时按单字节写出，非 ASCII 字符无法还原为原编码），
+     *                   需要 ● 等符号时请使用 {@link PiiScrubbingWriter}
+     * @throws IllegalArgumentException 脱敏符号为空或含有非 ASCII 字符
+     */
+    public PiiScrubbingOutputStream(OutputStream out, String maskSymbol) {
+        super(out);
+        if (maskSymbol == null || maskSymbol.isEmpty()) {
+            throw new IllegalArgumentException("脱敏符号不能为空");
+        }
+        for (int i = 0; i < maskSymbol.length(); i++) {
+            if (maskSymbol.charAt(i) > 0x7F) {
+                throw new IllegalArgumentException("字节输出流的脱敏符号只能是 ASCII 字符: " + maskSymbol);
+            }
+        }
+        this.scanner = new PiiScanner(this::writeChars, maskSymbol);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        scanner.write((char) (b & 0xFF));
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            scanner.write((char) (b[i] & 0xFF));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        scanner.flush();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            scanner.finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * 扫描器输出的字符均来自单个字节，直接还原为字节写出
+     */
+    private void writeChars(char[] cbuf, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = Math.min(len, buffer.length);
+            for (int i = 0; i < n; i++) {
+                buffer[i] = (byte) cbuf[off + i];
+            }
+            out.write(buffer, 0, n);
+            off += n;
+            len -= n;
+        }
+    }
+}
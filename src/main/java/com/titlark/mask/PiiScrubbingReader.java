@@ -0,0 +1,116 @@
+package com.titlark.mask;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * 敏感信息脱敏输入流，读取到的文本中的18位身份证号码、手机号码和邮箱已被脱敏
+ * <p>
+ * 单次遍历，预读长度有上限。非线程安全。
+ */
+public class PiiScrubbingReader extends FilterReader {
+
+    private final PiiScanner scanner;
+    private final char[] input = new char[8192];
+    private final char[] single = new char[1];
+    /**
+     * 已脱敏、待读取的内容
+     */
+    private char[] pending = new char[8192 + PiiScanner.MAX_TOKEN_LENGTH];
+    private int pendingPosition;
+    private int pendingLimit;
+    private boolean eof;
+
+    public PiiScrubbingReader(Reader in) {
+        this(in, "*");
+    }
+
+    /**
+     * @param in         输入流
+     * @param maskSymbol 脱敏符号
+     */
+    public PiiScrubbingReader(Reader in, String maskSymbol) {
+        super(in);
+        this.scanner = new PiiScanner(this::append, maskSymbol);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(single, 0, 1) == -1 ? -1 : single[0];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (pendingPosition == pendingLimit) {
+            if (eof) {
+                return -1;
+            }
+            pendingPosition = pendingLimit = 0;
+            int n = in.read(input, 0, input.length);
+            if (n == -1) {
+                eof = true;
+                scanner.finish();
+            } else {
+                scanner.write(input, 0, n);
+                scanner.flush();
+            }
+        }
+        int n = Math.min(len, pendingLimit - pendingPosition);
+        System.arraycopy(pending, pendingPosition, cbuf, off, n);
+        pendingPosition += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0L) {
+            throw new IllegalArgumentException("skip value is negative");
+        }
+        char[] skipped = new char[(int) Math.min(n, 8192)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(skipped, 0, (int) Math.min(remaining, skipped.length));
+            if (read == -1) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return pendingPosition < pendingLimit || in.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+
+    /**
+     * 接收扫描器的输出
+     */
+    private void append(char[] cbuf, int off, int len) {
+        if (pendingLimit + len > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLimit + len));
+        }
+        System.arraycopy(cbuf, off, pending, pendingLimit, len);
+        pendingLimit += len;
+    }
+}
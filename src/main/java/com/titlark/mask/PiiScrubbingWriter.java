@@ -0,0 +1,59 @@
+package com.titlark.mask;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 敏感信息脱敏输出流，写入的文本中的18位身份证号码、手机号码和邮箱会被脱敏后再写出
+ * <p>
+ * 可包装在日志输出之前使用，单次遍历，预读长度有上限。{@link #flush()} 不会输出尚未结束的候选词，
+ * 在 {@link #close()} 时才输出全部内容。非线程安全。
+ */
+public class PiiScrubbingWriter extends FilterWriter {
+
+    private final PiiScanner scanner;
+
+    public PiiScrubbingWriter(Writer out) {
+        this(out, "*");
+    }
+
+    /**
+     * @param out        输出流
+     * @param maskSymbol 脱敏符号
+     */
+    public PiiScrubbingWriter(Writer out, String maskSymbol) {
+        super(out);
+        this.scanner = new PiiScanner(this.out::write, maskSymbol);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        scanner.write((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        scanner.write(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        scanner.write(str, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        scanner.flush();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            scanner.finish();
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.titlark.security;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.util.Base64;
 
@@ -52,6 +55,24 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * 创建 HMAC-SHA256 实例，计算结果与 {@link #signature(String, String)} 使用的算法一致
+     * <p>
+     * 返回的实例已用密钥初始化，可重复调用 update/doFinal，但非线程安全，多线程使用时应每个线程持有一个实例
+     *
+     * @param key 密钥
+     * @return HMAC-SHA256 实例
+     */
+    public static Mac createHmacSha256(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("创建 HMAC-SHA256 失败", e);
+        }
+    }
+
     /**
      * 手动实现 HMAC-SHA256
      *
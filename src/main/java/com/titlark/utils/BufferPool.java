@@ -0,0 +1,250 @@
+package com.titlark.utils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓冲区池
+ * <p>
+ * 按 2 的幂划分大小级别（1K ~ 4M），申请时向上取整到所在级别，超出最大级别的直接分配且不回收。
+ * 归还的缓冲区默认进入各级别有界的共享队列，因此为每个任务新建的短命线程归还的缓冲区也能被其他线程借到；
+ * 同一线程归还超过 {@link #LOCAL_THRESHOLD} 次后视为长期存活的线程，此后在每个级别缓存一个缓冲区，
+ * 反复申请、归还几乎没有竞争。
+ * 堆内模式可同时借出 byte[] 和堆内 {@link ByteBuffer}；直接内存模式只借出直接 {@link ByteBuffer}。
+ * <pre>
+ * byte[] buffer = BufferPool.heap().acquireArray(8192);
+ * try {
+ *     ...
+ * } finally {
+ *     BufferPool.heap().release(buffer);
+ * }
+ * </pre>
+ */
+public final class BufferPool {
+
+    private static final int MIN_SHIFT = 10;
+    private static final int MAX_SHIFT = 22;
+    private static final int CLASS_COUNT = MAX_SHIFT - MIN_SHIFT + 1;
+
+    /**
+     * 每个级别共享队列的默认容量
+     */
+    private static final int DEFAULT_POOLED_PER_CLASS = 16;
+
+    /**
+     * 线程归还超过该次数后才使用线程缓存，短命线程的缓冲区不会随线程一起被丢弃
+     */
+    static final int LOCAL_THRESHOLD = 64;
+
+    private static final BufferPool HEAP = new BufferPool(false, DEFAULT_POOLED_PER_CLASS);
+    private static final BufferPool DIRECT = new BufferPool(true, DEFAULT_POOLED_PER_CLASS);
+
+    private final boolean direct;
+    /**
+     * 每个级别的共享队列，元素为 byte[] 或直接 ByteBuffer
+     */
+    private final ArrayBlockingQueue<Object>[] shared;
+    /**
+     * 每个线程在每个级别缓存的一个缓冲区
+     */
+    private final ThreadLocal<LocalCache> local = ThreadLocal.withInitial(LocalCache::new);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param direct           是否使用直接内存
+     * @param pooledPerClass   每个级别共享队列的容量
+     */
+    public BufferPool(boolean direct, int pooledPerClass) {
+        this.direct = direct;
+        this.shared = newQueues(CLASS_COUNT);
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            shared[i] = new ArrayBlockingQueue<>(pooledPerClass);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArrayBlockingQueue<Object>[] newQueues(int count) {
+        // 不能直接创建泛型数组，元素类型在此处统一，转换是安全的
+        return (ArrayBlockingQueue<Object>[]) new ArrayBlockingQueue<?>[count];
+    }
+
+    /**
+     * 共享的堆内缓冲区池
+     *
+     * @return 缓冲区池
+     */
+    public static BufferPool heap() {
+        return HEAP;
+    }
+
+    /**
+     * 共享的直接内存缓冲区池
+     *
+     * @return 缓冲区池
+     */
+    public static BufferPool direct() {
+        return DIRECT;
+    }
+
+    /**
+     * 借出长度不小于 minLength 的字节数组，用完后通过 {@link #release(byte[])} 归还
+     *
+     * @param minLength 最小长度
+     * @return 字节数组
+     */
+    public byte[] acquireArray(int minLength) {
+        if (direct) {
+            throw new UnsupportedOperationException("直接内存缓冲区池不能借出字节数组");
+        }
+        int index = classIndex(minLength);
+        if (index < 0) {
+            misses.increment();
+            return new byte[minLength];
+        }
+        Object pooled = poll(index);
+        return pooled != null ? (byte[]) pooled : new byte[1 << (index + MIN_SHIFT)];
+    }
+
+    /**
+     * 归还字节数组；长度不是级别大小的数组直接丢弃。归还后不能再使用，也不能重复归还
+     *
+     * @param array 字节数组
+     */
+    public void release(byte[] array) {
+        if (!direct && array != null) {
+            offer(array, array.length);
+        }
+    }
+
+    /**
+     * 借出容量不小于 minCapacity 的缓冲区，position 为 0、limit 为容量；用完后通过 {@link #release(ByteBuffer)} 归还
+     *
+     * @param minCapacity 最小容量
+     * @return 缓冲区
+     */
+    public ByteBuffer acquire(int minCapacity) {
+        int index = classIndex(minCapacity);
+        if (index < 0) {
+            misses.increment();
+            return allocate(minCapacity);
+        }
+        Object pooled = poll(index);
+        if (pooled == null) {
+            return allocate(1 << (index + MIN_SHIFT));
+        }
+        if (direct) {
+            ByteBuffer buffer = (ByteBuffer) pooled;
+            buffer.clear();
+            return buffer;
+        }
+        return ByteBuffer.wrap((byte[]) pooled);
+    }
+
+    /**
+     * 归还缓冲区；容量不是级别大小或类型与本池不符的缓冲区直接丢弃。归还后不能再使用，也不能重复归还
+     *
+     * @param buffer 缓冲区
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.isDirect() != direct) {
+            return;
+        }
+        if (direct) {
+            offer(buffer, buffer.capacity());
+        } else if (buffer.hasArray() && buffer.arrayOffset() == 0) {
+            offer(buffer.array(), buffer.capacity());
+        }
+    }
+
+    private Object poll(int index) {
+        Object[] cache = local.get().slots;
+        Object pooled = cache[index];
+        if (pooled != null) {
+            cache[index] = null;
+        } else {
+            pooled = shared[index].poll();
+        }
+        if (pooled != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return pooled;
+    }
+
+    private void offer(Object buffer, int capacity) {
+        int index = classIndex(capacity);
+        if (index < 0 || 1 << (index + MIN_SHIFT) != capacity) {
+            return;
+        }
+        LocalCache cache = local.get();
+        if (cache.releases < LOCAL_THRESHOLD) {
+            cache.releases++;
+            shared[index].offer(buffer);
+        } else if (cache.slots[index] == null) {
+            cache.slots[index] = buffer;
+        } else {
+            shared[index].offer(buffer);
+        }
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * 所在的大小级别
+     *
+     * @param size 大小
+     * @return 级别，超出最大级别时返回 -1
+     */
+    private static int classIndex(int size) {
+        if (size > 1 << MAX_SHIFT) {
+            return -1;
+        }
+        if (size <= 1 << MIN_SHIFT) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * 从池中借到缓冲区的次数
+     *
+     * @return 次数
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 池中没有可用缓冲区而新分配的次数
+     *
+     * @return 次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 线程缓存
+     */
+    private static final class LocalCache {
+        private final Object[] slots = new Object[CLASS_COUNT];
+        /**
+         * 已归还的次数，达到 {@link #LOCAL_THRESHOLD} 后不再计数
+         */
+        private int releases;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPool{direct=" + direct + ", hits=" + getHitCount() + ", misses=" + getMissCount() + '}';
+    }
+}
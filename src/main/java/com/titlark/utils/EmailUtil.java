@@ -1,7 +1,7 @@
 package com.titlark.utils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * 邮箱工具类
@@ -10,8 +10,38 @@ import java.util.regex.Pattern;
  */
 public class EmailUtil {
 
-    // 定义邮箱的正则表达式
-    private static final String emailRegex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    /**
+     * 用户名允许的字符：a-zA-Z0-9._%+-
+     */
+    private static final int LOCAL = 1;
+    /**
+     * 域名允许的字符：a-zA-Z0-9.-
+     */
+    private static final int DOMAIN = 2;
+    /**
+     * 顶级域名允许的字符：a-zA-Z
+     */
+    private static final int ALPHA = 4;
+
+    /**
+     * ASCII 字符分类表
+     */
+    private static final byte[] CHAR_CLASS = new byte[128];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASS[c] = LOCAL | DOMAIN | ALPHA;
+            CHAR_CLASS[c - 'a' + 'A'] = LOCAL | DOMAIN | ALPHA;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            CHAR_CLASS[c] = LOCAL | DOMAIN;
+        }
+        CHAR_CLASS['.'] = LOCAL | DOMAIN;
+        CHAR_CLASS['-'] = LOCAL | DOMAIN;
+        CHAR_CLASS['_'] = LOCAL;
+        CHAR_CLASS['%'] = LOCAL;
+        CHAR_CLASS['+'] = LOCAL;
+    }
 
     private EmailUtil() {
     }
@@ -23,14 +53,134 @@ public class EmailUtil {
      * @return true：合法的邮箱 false：不合法的邮箱
      */
     public static boolean isValidEmail(String email) {
+        return isValidEmail((CharSequence) email);
+    }
+
+    /**
+     * 判断邮箱是否是合法的邮箱
+     * <p>
+     * 等价于正则 ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$，单次遍历查表校验，不产生对象分配
+     *
+     * @param email 邮箱地址
+     * @return true：合法的邮箱 false：不合法的邮箱
+     */
+    public static boolean isValidEmail(CharSequence email) {
         if (null == email) {
             return false;
         }
-        // 编译正则表达式
-        Pattern pattern = Pattern.compile(emailRegex);
-        // 匹配邮箱
-        Matcher matcher = pattern.matcher(email);
-        return matcher.matches();
+        int length = email.length();
+        int at = -1;
+        int lastDot = -1;
+        // 最后一个点之后是否全为字母
+        boolean alphaTail = false;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c >= CHAR_CLASS.length) {
+                return false;
+            }
+            int charClass = CHAR_CLASS[c];
+            if (at < 0) {
+                if (c == '@') {
+                    at = i;
+                } else if ((charClass & LOCAL) == 0) {
+                    return false;
+                }
+            } else if ((charClass & DOMAIN) == 0) {
+                return false;
+            } else if (c == '.') {
+                lastDot = i;
+                alphaTail = true;
+            } else {
+                alphaTail &= (charClass & ALPHA) != 0;
+            }
+        }
+        return isValidLayout(length, at, lastDot, alphaTail);
+    }
+
+    /**
+     * 判断邮箱是否是合法的邮箱
+     *
+     * @param utf8   UTF-8 编码的数据，非 ASCII 字节一律视为不合法
+     * @param offset 邮箱的起始位置
+     * @param length 邮箱的字节长度
+     * @return true：合法的邮箱 false：不合法的邮箱
+     */
+    public static boolean isValidEmail(byte[] utf8, int offset, int length) {
+        if (null == utf8) {
+            return false;
+        }
+        int at = -1;
+        int lastDot = -1;
+        boolean alphaTail = false;
+        for (int i = 0; i < length; i++) {
+            byte b = utf8[offset + i];
+            if (b < 0) {
+                return false;
+            }
+            int charClass = CHAR_CLASS[b];
+            if (at < 0) {
+                if (b == '@') {
+                    at = i;
+                } else if ((charClass & LOCAL) == 0) {
+                    return false;
+                }
+            } else if ((charClass & DOMAIN) == 0) {
+                return false;
+            } else if (b == '.') {
+                lastDot = i;
+                alphaTail = true;
+            } else {
+                alphaTail &= (charClass & ALPHA) != 0;
+            }
+        }
+        return isValidLayout(length, at, lastDot, alphaTail);
+    }
+
+    /**
+     * 批量校验邮箱
+     *
+     * @param emails 邮箱地址
+     * @return 合法的邮箱对应的下标被置位
+     */
+    public static BitSet validateAll(CharSequence[] emails) {
+        BitSet result = new BitSet(emails.length);
+        for (int i = 0; i < emails.length; i++) {
+            if (isValidEmail(emails[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量校验邮箱
+     *
+     * @param emails 邮箱地址
+     * @return 合法的邮箱对应的下标被置位
+     */
+    public static BitSet validateAll(List<? extends CharSequence> emails) {
+        BitSet result = new BitSet(emails.size());
+        int i = 0;
+        for (CharSequence email : emails) {
+            if (isValidEmail(email)) {
+                result.set(i);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    /**
+     * 校验各部分的位置：用户名至少1位，域名在最后一个点之前至少1位，顶级域名至少2个字母
+     *
+     * @param length    邮箱长度
+     * @param at        @ 的位置
+     * @param lastDot   域名中最后一个点的位置
+     * @param alphaTail 最后一个点之后是否全为字母
+     * @return true：合法 false：不合法
+     */
+    private static boolean isValidLayout(int length, int at, int lastDot, boolean alphaTail) {
+        return at > 0 && lastDot > at + 1 && length - lastDot > 2 && alphaTail;
     }
 
 }
@@ -0,0 +1,82 @@
+package com.titlark.utils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于文件锁分配工作节点标识，适用于同一台机器上的多个进程
+ * <p>
+ * 每个标识对应目录下的一个 worker-&lt;id&gt;.lock 文件，进程持有其文件锁期间标识归其所有；
+ * 进程退出后操作系统自动释放文件锁，无需续租。
+ */
+public class FileLockWorkerIdAllocator implements WorkerIdAllocator {
+
+    private final Path directory;
+    private FileChannel channel;
+    /**
+     * {@link #isValid()} 在生成每个 ID 时调用，不加锁读取
+     */
+    private volatile FileLock lock;
+
+    public FileLockWorkerIdAllocator(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public synchronized long acquire(long maxWorkerId) throws IOException {
+        if (lock != null) {
+            throw new IllegalStateException("已经申请过工作节点标识");
+        }
+        Files.createDirectories(directory);
+        // 从本机散列的位置开始探测，多个进程同时启动时减少冲突
+        long start = Math.floorMod(HostHashWorkerIdAllocator.hash(), maxWorkerId + 1);
+        for (long i = 0; i <= maxWorkerId; i++) {
+            long workerId = (start + i) % (maxWorkerId + 1);
+            if (tryLock(directory.resolve("worker-" + workerId + ".lock"))) {
+                return workerId;
+            }
+        }
+        throw new IOException("没有可用的工作节点标识：" + directory);
+    }
+
+    private boolean tryLock(Path file) throws IOException {
+        FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock fileLock = null;
+        try {
+            fileLock = fileChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // 同一个 JVM 中的其他分配器已持有该锁
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+        if (fileLock == null) {
+            fileChannel.close();
+            return false;
+        }
+        this.channel = fileChannel;
+        this.lock = fileLock;
+        return true;
+    }
+
+    @Override
+    public boolean isValid() {
+        FileLock current = lock;
+        return current != null && current.isValid();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (lock != null) {
+            lock.release();
+            channel.close();
+            lock = null;
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.titlark.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于文件的号段存储，每个 key 对应目录下的一个 &lt;key&gt;.segment 文件，内容为下一个号段的起始 ID
+ * <p>
+ * 读写时持有文件锁，可供同一台机器上的多个进程共用；同一进程中请共用一个实例。
+ */
+public class FileSegmentStore implements SegmentStore {
+
+    private final Path directory;
+    private final long initialValue;
+
+    public FileSegmentStore(Path directory) {
+        this(directory, 1L);
+    }
+
+    /**
+     * @param directory    存放号段文件的目录
+     * @param initialValue 每个 key 的第一个 ID
+     */
+    public FileSegmentStore(Path directory, long initialValue) {
+        this.directory = directory;
+        this.initialValue = initialValue;
+    }
+
+    @Override
+    public synchronized long nextSegment(String key, long step) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(key + ".segment");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(), 64));
+                while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+                    // 读满为止
+                }
+                String content = new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII).trim();
+                long first = content.isEmpty() ? initialValue : Long.parseLong(content);
+                byte[] next = Long.toString(first + step).getBytes(StandardCharsets.US_ASCII);
+                // 数值只增不减，位数不会变少：先覆盖写再截断，中途崩溃也不会丢失已占用的号段
+                channel.write(ByteBuffer.wrap(next), 0);
+                channel.truncate(next.length);
+                channel.force(false);
+                return first;
+            } finally {
+                lock.release();
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("号段文件已损坏：" + file, e);
+        }
+    }
+}
@@ -4,13 +4,30 @@ import javax.net.ssl.*;
 import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 文件工具类
@@ -24,6 +41,42 @@ public class FileUtil {
      */
     private static final int DEFAULT_BUFFER_SIZE = 1024;
 
+    /**
+     * 拷贝文件时 transferTo 每次传输的最大字节数，超过 2G 的文件分多次传输
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * transferTo 不可用时拷贝文件使用的直接缓冲区大小
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 并行拷贝时每个任务负责的区间大小
+     */
+    private static final long PARALLEL_RANGE_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * 并行拷贝时每个线程使用的直接缓冲区大小
+     */
+    private static final int PARALLEL_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 读文件时每次 FileChannel.read 的最大字节数；读入堆内数组时 JDK 会按本次读取的长度申请临时直接缓冲区并缓存，
+     * 分段读取避免为大文件申请同样大的直接内存
+     */
+    private static final int READ_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * 数组的最大长度
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * 流式 Base64 编解码的缓冲区大小
+     */
+    private static final int BASE64_BUFFER_SIZE = 8192;
+
     /**
      * 读取文件
      *
@@ -44,12 +97,7 @@ public class FileUtil {
      * @throws IOException 异常
      */
     public static byte[] read(String inFilePath, int bufferSize) {
-        try (FileInputStream fis = new FileInputStream(inFilePath)) {
-            return convert(fis, bufferSize);
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
+        return read(new File(inFilePath), bufferSize);
     }
 
     /**
@@ -65,15 +113,65 @@ public class FileUtil {
 
     /**
      * 读取文件
+     * <p>
+     * 按文件大小一次性分配数组，通过 {@link FileChannel#read} 直接填充，不经过 ByteArrayOutputStream 的扩容和复制；
+     * 大小未知（如 /proc 下的文件）时才按 bufferSize 流式读取。
      *
      * @param inFile     输入文件
-     * @param bufferSize 缓冲区大小
+     * @param bufferSize 文件大小未知时使用的缓冲区大小
      * @return 文件字节数组
      * @throws IOException 异常
      */
     public static byte[] read(File inFile, int bufferSize) {
-        try (FileInputStream fis = new FileInputStream(inFile)) {
-            return convert(fis, bufferSize);
+        try (FileChannel channel = FileChannel.open(inFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return convert(Channels.newInputStream(channel), bufferSize);
+            }
+            if (size > MAX_ARRAY_SIZE) {
+                throw new IOException("文件过大：" + inFile);
+            }
+            byte[] data = new byte[(int) size];
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.position() < data.length) {
+                buffer.limit(Math.min(data.length, buffer.position() + READ_CHUNK_SIZE));
+                if (channel.read(buffer) == -1) {
+                    // 读取期间文件被截短
+                    return Arrays.copyOf(data, buffer.position());
+                }
+            }
+            return data;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 以只读内存映射的方式读取文件，不复制到堆内存
+     *
+     * @param inFilePath 输入文件路径
+     * @return 只读的文件内容
+     */
+    public static MappedByteBuffer readMapped(String inFilePath) {
+        return readMapped(new File(inFilePath));
+    }
+
+    /**
+     * 以只读内存映射的方式读取文件，不复制到堆内存
+     * <p>
+     * 映射在缓冲区被垃圾回收前一直有效，关闭文件不影响读取；单个缓冲区最多 2G，超过时返回 null。
+     *
+     * @param inFile 输入文件
+     * @return 只读的文件内容
+     */
+    public static MappedByteBuffer readMapped(File inFile) {
+        try (FileChannel channel = FileChannel.open(inFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("文件超过 2G，无法映射为一个缓冲区：" + inFile);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
         } catch (IOException e) {
             e.printStackTrace();
             return null;
@@ -283,18 +381,19 @@ public class FileUtil {
      * @param bufferSize  缓冲区大小
      */
     public static boolean write(InputStream inputStream, File outFile, int bufferSize) {
-        try (BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(outFile.toPath()))) {
+        byte[] buffer = BufferPool.heap().acquireArray(bufferSize);
+        try (OutputStream os = Files.newOutputStream(outFile.toPath())) {
             int len = 0;
-            byte[] buffer = new byte[bufferSize];
             while ((len = inputStream.read(buffer)) != -1) {
-                bos.write(buffer, 0, len);
+                os.write(buffer, 0, len);
             }
-            bos.flush();
             inputStream.close();
             return true;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
+        } finally {
+            BufferPool.heap().release(buffer);
         }
     }
 
@@ -316,9 +415,9 @@ public class FileUtil {
      * @param bufferSize   缓冲区大小
      */
     public static boolean write(InputStream inputStream, OutputStream outputStream, int bufferSize) {
+        byte[] buffer = BufferPool.heap().acquireArray(bufferSize);
         try {
             int len = 0;
-            byte[] buffer = new byte[bufferSize];
             while ((len = inputStream.read(buffer)) != -1) {
                 outputStream.write(buffer, 0, len);
             }
@@ -328,6 +427,8 @@ public class FileUtil {
         } catch (IOException e) {
             e.printStackTrace();
             return false;
+        } finally {
+            BufferPool.heap().release(buffer);
         }
     }
 
@@ -349,11 +450,10 @@ public class FileUtil {
      * @param bufferSize   缓冲区大小
      */
     public static boolean write(byte[] data, OutputStream outputStream, int bufferSize) {
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
-            int len = 0;
-            byte[] buffer = new byte[bufferSize];
-            while ((len = bais.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, len);
+        try {
+            // 数据已在内存中，按 bufferSize 分块直接写出，无需再复制到缓冲区
+            for (int offset = 0; offset < data.length; offset += bufferSize) {
+                outputStream.write(data, offset, Math.min(bufferSize, data.length - offset));
             }
             outputStream.close();
             return true;
@@ -383,8 +483,8 @@ public class FileUtil {
      * @throws IOException 异常
      */
     public static byte[] convert(InputStream inputStream, int bufferSize) {
+        byte[] buffer = BufferPool.heap().acquireArray(bufferSize);
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[bufferSize];
             int len = 0;
             while ((len = inputStream.read(buffer)) != -1) {
                 baos.write(buffer, 0, len);
@@ -393,6 +493,8 @@ public class FileUtil {
         } catch (IOException e) {
             e.printStackTrace();
             return null;
+        } finally {
+            BufferPool.heap().release(buffer);
         }
     }
 
@@ -414,7 +516,7 @@ public class FileUtil {
      * @return true：拷贝成功 false：拷贝失败
      */
     public static boolean copyFile(String inFilePath, String outFilePath) {
-        return copyFile(inFilePath, outFilePath, DEFAULT_BUFFER_SIZE);
+        return copyFile(new File(inFilePath), new File(outFilePath));
     }
 
     /**
@@ -437,7 +539,7 @@ public class FileUtil {
      * @return true：拷贝成功 false：拷贝失败
      */
     public static boolean copyFile(File inFile, File outFile) {
-        return copyFile(inFile, outFile, DEFAULT_BUFFER_SIZE);
+        return copy(inFile, outFile) != null;
     }
 
     /**
@@ -445,20 +547,256 @@ public class FileUtil {
      *
      * @param inFile     输入文件
      * @param outFile    输出文件
-     * @param bufferSize 缓冲区大小
+     * @param bufferSize transferTo 不可用时使用的缓冲区大小
      * @return true：拷贝成功 false：拷贝失败
      */
     public static boolean copyFile(File inFile, File outFile, int bufferSize) {
-        try (FileInputStream fis = new FileInputStream(inFile); FileOutputStream fos = new FileOutputStream(outFile)) {
-            int len = 0;
-            byte[] buffer = new byte[bufferSize];
-            while ((len = fis.read(buffer)) != -1) {
-                fos.write(buffer, 0, len);
+        return copy(inFile, outFile, bufferSize) != null;
+    }
+
+    /**
+     * 拷贝文件并统计拷贝速度
+     *
+     * @param inFile  输入文件
+     * @param outFile 输出文件
+     * @return 拷贝结果，拷贝失败时返回 null
+     */
+    public static CopyResult copy(File inFile, File outFile) {
+        return copy(inFile, outFile, COPY_BUFFER_SIZE);
+    }
+
+    /**
+     * 拷贝文件并统计拷贝速度
+     * <p>
+     * 优先使用 {@link FileChannel#transferTo}，由操作系统在内核中完成拷贝（Linux 上为 sendfile），数据不经过 JVM 堆；
+     * 大文件分块传输，transferTo 无法继续时改用直接缓冲区读写剩余部分。
+     *
+     * @param inFile     输入文件
+     * @param outFile    输出文件
+     * @param bufferSize transferTo 不可用时使用的缓冲区大小
+     * @return 拷贝结果，拷贝失败时返回 null
+     */
+    public static CopyResult copy(File inFile, File outFile, int bufferSize) {
+        return copy(inFile, outFile, bufferSize, null);
+    }
+
+    /**
+     * 拷贝文件并统计拷贝速度
+     *
+     * @param inFile     输入文件
+     * @param outFile    输出文件
+     * @param bufferSize transferTo 不可用时使用的缓冲区大小
+     * @param listener   进度监听器，可以为 null
+     * @return 拷贝结果，拷贝失败时返回 null
+     */
+    public static CopyResult copy(File inFile, File outFile, int bufferSize, ProgressListener listener) {
+        long start = System.nanoTime();
+        try {
+            long copied = transfer(inFile, outFile, bufferSize, new Progress(inFile.length(), listener));
+            return new CopyResult(copied, System.nanoTime() - start);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 优先以 transferTo 分块拷贝，无法继续时改用直接缓冲区
+     *
+     * @param inFile     输入文件
+     * @param outFile    输出文件
+     * @param bufferSize 缓冲区大小
+     * @param progress   拷贝进度
+     * @return 拷贝的字节数
+     * @throws IOException 异常
+     */
+    private static long transfer(File inFile, File outFile, int bufferSize, Progress progress) throws IOException {
+        try (FileChannel in = FileChannel.open(inFile.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(outFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = in.transferTo(position, Math.min(size - position, TRANSFER_CHUNK_SIZE), out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                progress.add(transferred);
             }
-            return true;
-        } catch (Exception e) {
+            long remaining = copyBuffered(in, out, position, bufferSize);
+            progress.add(remaining);
+            return position + remaining;
+        }
+    }
+
+    /**
+     * 多线程拷贝大文件：按区间拆分成多个任务，由 parallelism 个线程并发地按位置读写，缓冲区从直接内存缓冲区池中借用
+     *
+     * @param inFile      输入文件
+     * @param outFile     输出文件
+     * @param parallelism 并发线程数
+     * @param listener    进度监听器，可以为 null，会在多个线程中调用
+     * @return 拷贝结果，拷贝失败时返回 null
+     */
+    public static CopyResult copyParallel(File inFile, File outFile, int parallelism, ProgressListener listener) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("并发线程数必须大于 0：" + parallelism);
+        }
+        long size = inFile.length();
+        if (parallelism == 1 || size <= PARALLEL_RANGE_SIZE) {
+            return copy(inFile, outFile, COPY_BUFFER_SIZE, listener);
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = newCopyExecutor(parallelism);
+        try (FileChannel in = FileChannel.open(inFile.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(outFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Progress progress = new Progress(size, listener);
+            List<Future<?>> futures = new ArrayList<>();
+            for (long position = 0; position < size; position += PARALLEL_RANGE_SIZE) {
+                long from = position;
+                long to = Math.min(size, position + PARALLEL_RANGE_SIZE);
+                futures.add(executor.submit(() -> {
+                    copyRange(in, out, from, to, progress);
+                    return null;
+                }));
+            }
+            await(futures);
+            return new CopyResult(progress.copied.get(), System.nanoTime() - start);
+        } catch (IOException e) {
             e.printStackTrace();
-            return false;
+            return null;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 拷贝 [from, to) 区间，缓冲区从直接内存缓冲区池中借用
+     */
+    private static void copyRange(FileChannel in, FileChannel out, long from, long to, Progress progress) throws IOException {
+        ByteBuffer buffer = BufferPool.direct().acquire(PARALLEL_BUFFER_SIZE);
+        try {
+            long position = from;
+            while (position < to) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), to - position));
+                int len = in.read(buffer, position);
+                if (len == -1) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer, position + buffer.position());
+                }
+                position += len;
+                progress.add(len);
+            }
+        } finally {
+            BufferPool.direct().release(buffer);
+        }
+    }
+
+    /**
+     * 拷贝目录，目录结构按顺序创建，文件由 parallelism 个线程并发拷贝
+     *
+     * @param sourceDir   源目录
+     * @param targetDir   目标目录
+     * @param parallelism 并发线程数
+     * @param listener    进度监听器，可以为 null，会在多个线程中调用
+     * @return 拷贝结果，拷贝失败时返回 null
+     */
+    public static CopyResult copyDirectory(File sourceDir, File targetDir, int parallelism, ProgressListener listener) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("并发线程数必须大于 0：" + parallelism);
+        }
+        long start = System.nanoTime();
+        Path source = sourceDir.toPath();
+        Path target = targetDir.toPath();
+        ExecutorService executor = newCopyExecutor(parallelism);
+        try {
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(source)) {
+                files = paths.collect(Collectors.toList());
+            }
+            long total = 0;
+            for (Path path : files) {
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(target.resolve(source.relativize(path)));
+                } else if (Files.isRegularFile(path)) {
+                    total += Files.size(path);
+                }
+            }
+            Progress progress = new Progress(total, listener);
+            List<Future<?>> futures = new ArrayList<>();
+            for (Path path : files) {
+                if (Files.isRegularFile(path)) {
+                    File outFile = target.resolve(source.relativize(path)).toFile();
+                    futures.add(executor.submit(() -> transfer(path.toFile(), outFile, COPY_BUFFER_SIZE, progress)));
+                }
+            }
+            await(futures);
+            return new CopyResult(progress.copied.get(), System.nanoTime() - start);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 等待所有任务完成，任务中的异常以 IOException 抛出
+     */
+    private static void await(List<Future<?>> futures) throws IOException {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("拷贝被中断");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
+    private static ExecutorService newCopyExecutor(int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "file-copy");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 通过直接缓冲区从 position 开始拷贝到文件末尾
+     *
+     * @param in         输入通道
+     * @param out        输出通道
+     * @param position   开始位置
+     * @param bufferSize 缓冲区大小
+     * @return 拷贝的字节数
+     * @throws IOException 异常
+     */
+    private static long copyBuffered(FileChannel in, FileChannel out, long position, int bufferSize) throws IOException {
+        if (position >= in.size()) {
+            return 0;
+        }
+        ByteBuffer buffer = BufferPool.direct().acquire(bufferSize);
+        try {
+            long copied = 0;
+            int len;
+            while ((len = in.read(buffer, position + copied)) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer, position + copied + len - buffer.remaining());
+                }
+                buffer.clear();
+                copied += len;
+            }
+            return copied;
+        } finally {
+            BufferPool.direct().release(buffer);
         }
     }
 
@@ -482,6 +820,41 @@ public class FileUtil {
         return Base64.getEncoder().encodeToString(read(inFile));
     }
 
+    /**
+     * 以 Base64 编码流式写出文件内容，不把整个文件读入内存
+     *
+     * @param inFile       输入文件
+     * @param outputStream 输出流，写完后刷新但不关闭
+     * @return true：写入成功 false：写入失败
+     */
+    public static boolean writeBase64(File inFile, OutputStream outputStream) {
+        byte[] buffer = BufferPool.heap().acquireArray(BASE64_BUFFER_SIZE);
+        try (InputStream is = Files.newInputStream(inFile.toPath());
+             OutputStream os = Base64.getEncoder().wrap(new NonClosingOutputStream(outputStream))) {
+            int len = 0;
+            while ((len = is.read(buffer)) != -1) {
+                os.write(buffer, 0, len);
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+    }
+
+    /**
+     * 以 Base64 编码流式写出文件内容，不把整个文件读入内存
+     *
+     * @param inFile 输入文件
+     * @param writer 输出，写完后刷新但不关闭
+     * @return true：写入成功 false：写入失败
+     */
+    public static boolean writeBase64(File inFile, Writer writer) {
+        return writeBase64(inFile, new WriterOutputStream(writer));
+    }
+
     /**
      * Base64 转换为文件
      *
@@ -490,7 +863,7 @@ public class FileUtil {
      * @return true：写入文件成功 false：写入文件失败
      */
     public static boolean convertFile(String base64String, String outFilePath) {
-        return write(Base64.getDecoder().decode(base64String), outFilePath);
+        return convertFile(base64String, new File(outFilePath));
     }
 
     /**
@@ -501,7 +874,84 @@ public class FileUtil {
      * @return true：写入文件成功 false：写入文件失败
      */
     public static boolean convertFile(String base64String, File outFile) {
-        return write(Base64.getDecoder().decode(base64String), outFile);
+        return convertFile((CharSequence) base64String, outFile);
+    }
+
+    /**
+     * Base64 转换为文件，直接从字符序列中流式解码，不创建中间的字符串或完整的字节数组
+     *
+     * @param base64  base64字符序列，如 StringBuilder 或 JSON 解析器给出的字段视图
+     * @param outFile 输出文件
+     * @return true：写入文件成功 false：写入文件失败
+     */
+    public static boolean convertFile(CharSequence base64, File outFile) {
+        return convertFile(new CharSequenceInputStream(base64), outFile);
+    }
+
+    /**
+     * Base64 转换为文件，流式解码
+     *
+     * @param reader  base64字符流，不会被关闭
+     * @param outFile 输出文件
+     * @return true：写入文件成功 false：写入文件失败
+     */
+    public static boolean convertFile(Reader reader, File outFile) {
+        return convertFile(new ReaderInputStream(reader), outFile);
+    }
+
+    /**
+     * Base64 转换为文件，流式解码
+     * <p>
+     * 先解码到同一目录下的临时文件，成功后再替换输出文件；输入不是合法的 Base64 时删除临时文件，原有的输出文件保持不变。
+     * 输出文件是符号链接时替换其指向的文件，链接本身保留；输出文件被替换为新文件，POSIX 权限沿用原文件，所有者不保留。
+     *
+     * @param inputStream base64字节流，不会被关闭
+     * @param outFile     输出文件
+     * @return true：写入文件成功 false：写入文件失败
+     */
+    public static boolean convertFile(InputStream inputStream, File outFile) {
+        byte[] buffer = BufferPool.heap().acquireArray(BASE64_BUFFER_SIZE);
+        // 解码流本身不持有资源，不关闭它以免关闭调用方的输入流
+        InputStream is = Base64.getDecoder().wrap(inputStream);
+        Path target = outFile.toPath().toAbsolutePath();
+        Path temp = null;
+        try {
+            boolean exists = Files.exists(target);
+            if (exists) {
+                target = target.toRealPath();
+            }
+            temp = target.resolveSibling("." + target.getFileName() + "." + System.nanoTime() + ".tmp");
+            try (OutputStream os = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                int len = 0;
+                while ((len = is.read(buffer)) != -1) {
+                    os.write(buffer, 0, len);
+                }
+            }
+            if (exists) {
+                try {
+                    Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+                } catch (UnsupportedOperationException ignored) {
+                    // 非 POSIX 文件系统
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+            return false;
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
     }
 
     /**
@@ -648,20 +1098,226 @@ public class FileUtil {
      * @return
      */
     public static boolean merge(List<String> filePathList, String targetFilePath) {
-        try (BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(Paths.get(targetFilePath)))) {
+        byte[] buffer = BufferPool.heap().acquireArray(1024 * 1024);
+        try (OutputStream os = Files.newOutputStream(Paths.get(targetFilePath))) {
             for (String filePath : filePathList) {
-                BufferedInputStream bis = new BufferedInputStream(Files.newInputStream(Paths.get(filePath)));
-                int len = 0;
-                byte[] buffer = new byte[1024 * 1024];
-                while (-1 != (len = bis.read(buffer))) {
-                    bos.write(buffer, 0, len);
+                try (InputStream is = Files.newInputStream(Paths.get(filePath))) {
+                    int len = 0;
+                    while (-1 != (len = is.read(buffer))) {
+                        os.write(buffer, 0, len);
+                    }
                 }
-                bis.close();
             }
             return true;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+    }
+
+    /**
+     * 关闭时只刷新、不关闭被包装的输出流
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * 把 ASCII 字节写入 Writer，关闭时只刷新
+     */
+    private static final class WriterOutputStream extends OutputStream {
+        private final Writer writer;
+        private final char[] chars = new char[BASE64_BUFFER_SIZE];
+
+        WriterOutputStream(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writer.write(b & 0xFF);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, chars.length);
+                for (int i = 0; i < n; i++) {
+                    chars[i] = (char) (b[off + i] & 0xFF);
+                }
+                writer.write(chars, 0, n);
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 以字节流的方式读取字符序列；Base64 只含 ASCII 字符，其他字符转换为 0xFF，由解码器报错
+     */
+    private static final class CharSequenceInputStream extends InputStream {
+        private final CharSequence chars;
+        private int position;
+
+        CharSequenceInputStream(CharSequence chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int read() {
+            return position < chars.length() ? ascii(chars.charAt(position++)) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            int remaining = chars.length() - position;
+            if (remaining <= 0) {
+                return len == 0 ? 0 : -1;
+            }
+            int n = Math.min(len, remaining);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = ascii(chars.charAt(position++));
+            }
+            return n;
+        }
+    }
+
+    /**
+     * 以字节流的方式读取字符流；Base64 只含 ASCII 字符，其他字符转换为 0xFF，由解码器报错
+     */
+    private static final class ReaderInputStream extends InputStream {
+        private final Reader reader;
+        private final char[] chars = new char[BASE64_BUFFER_SIZE];
+
+        ReaderInputStream(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = reader.read();
+            return c == -1 ? -1 : ascii((char) c) & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int n = reader.read(chars, 0, Math.min(len, chars.length));
+            for (int i = 0; i < n; i++) {
+                b[off + i] = ascii(chars[i]);
+            }
+            return n;
+        }
+    }
+
+    private static byte ascii(char c) {
+        return c < 0x80 ? (byte) c : (byte) 0xFF;
+    }
+
+    /**
+     * 拷贝进度监听器
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * 拷贝进度变化时调用
+         *
+         * @param copiedBytes 已拷贝的字节数
+         * @param totalBytes  总字节数
+         */
+        void onProgress(long copiedBytes, long totalBytes);
+    }
+
+    /**
+     * 拷贝进度，多个线程共同累加
+     */
+    private static final class Progress {
+        private final AtomicLong copied = new AtomicLong();
+        private final long total;
+        private final ProgressListener listener;
+
+        Progress(long total, ProgressListener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        void add(long bytes) {
+            if (bytes == 0) {
+                return;
+            }
+            long current = copied.addAndGet(bytes);
+            if (listener != null) {
+                listener.onProgress(current, total);
+            }
+        }
+    }
+
+    /**
+     * 文件拷贝结果
+     */
+    public static final class CopyResult {
+        /**
+         * 拷贝的字节数
+         */
+        private final long bytes;
+        /**
+         * 耗时（纳秒）
+         */
+        private final long nanos;
+
+        public CopyResult(long bytes, long nanos) {
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * 获取拷贝速度
+         *
+         * @return 每秒字节数
+         */
+        public double getBytesPerSecond() {
+            return nanos == 0 ? 0 : bytes * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return formatFileSize(bytes) + "，" + nanos / 1_000_000 + "ms，" + formatFileSize((long) getBytesPerSecond()) + "/s";
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.titlark.utils;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.util.Enumeration;
+
+/**
+ * 由 MAC 地址、IP 地址和进程号散列得到工作节点标识
+ * <p>
+ * 不需要任何协调，但不同进程可能得到相同的标识，只适合作为其他分配方式不可用时的兜底。
+ */
+public class HostHashWorkerIdAllocator implements WorkerIdAllocator {
+
+    @Override
+    public long acquire(long maxWorkerId) {
+        return Math.floorMod(hash(), maxWorkerId + 1);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * MAC 地址、IP 地址和进程号的散列值，获取失败的部分忽略
+     *
+     * @return 散列值
+     */
+    static long hash() {
+        long hash = 17;
+        try {
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements()) {
+                NetworkInterface networkInterface = interfaces.nextElement();
+                byte[] mac = networkInterface.getHardwareAddress();
+                if (mac != null && !networkInterface.isLoopback()) {
+                    for (byte b : mac) {
+                        hash = hash * 31 + (b & 0xFF);
+                    }
+                    break;
+                }
+            }
+        } catch (Exception ignored) {
+        }
+        try {
+            for (byte b : InetAddress.getLocalHost().getAddress()) {
+                hash = hash * 31 + (b & 0xFF);
+            }
+        } catch (Exception ignored) {
+        }
+        // 形如 pid@hostname
+        hash = hash * 31 + ManagementFactory.getRuntimeMXBean().getName().hashCode();
+        // 混合高低位，避免取模时只用到低位
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
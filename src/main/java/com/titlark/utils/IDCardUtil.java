@@ -1,12 +1,14 @@
 package com.titlark.utils;
 
 import com.titlark.entity.AreaCodeMappingTable;
+import com.titlark.entity.IdCardInfo;
+import com.titlark.entity.MutableIdCardInfo;
+import com.titlark.entity.Region;
 
-import java.time.LocalDate;
-import java.time.Period;
-import java.time.format.DateTimeFormatter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 身份证工具类
@@ -16,9 +18,19 @@ import java.util.regex.Pattern;
 public class IDCardUtil {
 
     /**
-     * 18位身份证正则
+     * 校验码计算的加权因子（ISO 7064:1983.MOD 11-2）
      */
-    private static final String ID_CARD_REGEX = "^[1-9]\\d{5}(18|19|20)\\d{2}(0[1-9]|1[0-2])(0[1-9]|[12]\\d|3[01])\\d{3}[0-9Xx]$";
+    private static final int[] WEIGHT = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
+    /**
+     * 校验码对照表，下标为加权和对 11 取模的结果
+     */
+    private static final char[] CHECK_CODE = {'1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2'};
+
+    /**
+     * 每月最大天数，下标为月份，二月按闰年计，平年单独判断
+     */
+    private static final int[] MAX_DAYS_OF_MONTH = {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 
     private IDCardUtil() {
     }
@@ -30,28 +42,268 @@ public class IDCardUtil {
      * @return true：合法的身份证号码 false：不合法的身份证号码
      */
     public static boolean isValidIdCard(String idCard) {
-        if (null == idCard || idCard.length() != 18) {
+        return isValidIdCard((CharSequence) idCard);
+    }
+
+    /**
+     * 校验身份证号码是否合法，同时支持18位和15位（第一代）身份证号码
+     * <p>
+     * 单次遍历完成长度、数字、出生日期（含真实的月份天数）及校验位的校验，不使用正则表达式，不产生对象分配
+     *
+     * @param idCard 身份证号码
+     * @return true：合法的身份证号码 false：不合法的身份证号码
+     */
+    public static boolean isValidIdCard(CharSequence idCard) {
+        return decodeBirthday(idCard) >= 0;
+    }
+
+    /**
+     * 解析身份证号码，只校验一次
+     *
+     * @param idCard 身份证号码
+     * @return 解析结果
+     */
+    public static IdCardInfo parse(CharSequence idCard) {
+        int birthday = decodeBirthday(idCard);
+        if (birthday < 0) {
+            throw new RuntimeException("无效的身份证号码");
+        }
+        return new IdCardInfo(birthday, isMale(idCard), AreaCodeMappingTable.toAreaCode(idCard, 0));
+    }
+
+    /**
+     * 解析身份证号码并填充到调用方提供的对象中，不产生对象分配，适用于批量处理
+     *
+     * @param idCard 身份证号码
+     * @param info   解析结果
+     * @return true：解析成功 false：不合法的身份证号码，此时 info 不会被修改
+     */
+    public static boolean parse(CharSequence idCard, MutableIdCardInfo info) {
+        int birthday = decodeBirthday(idCard);
+        if (birthday < 0) {
             return false;
         }
-        Pattern pattern = Pattern.compile(ID_CARD_REGEX);
-        Matcher matcher = pattern.matcher(idCard);
-        return matcher.matches() && checkChecksum(idCard);
+        info.set(birthday, isMale(idCard), AreaCodeMappingTable.toAreaCode(idCard, 0));
+        return true;
     }
 
     /**
-     * 校验身份证的校验位
+     * 单次遍历完成校验并解码出生日期
      *
      * @param idCard 身份证号码
-     * @return true：合法的校验码 false：不合法的校验码
+     * @return yyyyMMdd 形式的出生日期，不合法的身份证号码返回 -1
      */
-    private static boolean checkChecksum(String idCard) {
-        int[] weight = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
-        char[] checkCode = {'1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2'};
+    private static int decodeBirthday(CharSequence idCard) {
+        if (null == idCard) {
+            return -1;
+        }
+        if (idCard.length() == 15) {
+            return decodeLegacyBirthday(idCard);
+        }
+        if (idCard.length() != 18) {
+            return -1;
+        }
         int sum = 0;
+        int birthday = 0;
         for (int i = 0; i < 17; i++) {
-            sum += (idCard.charAt(i) - '0') * weight[i];
+            int digit = idCard.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            sum += digit * WEIGHT[i];
+            // 第7到14位为出生日期 yyyyMMdd
+            if (i >= 6 && i < 14) {
+                birthday = birthday * 10 + digit;
+            }
+        }
+        // 地址码首位不能为0
+        if (idCard.charAt(0) == '0' || CHECK_CODE[sum % 11] != idCard.charAt(17)) {
+            return -1;
         }
-        return checkCode[sum % 11] == idCard.charAt(17);
+        return isValidBirthday(birthday / 10000, birthday / 100 % 100, birthday % 100) ? birthday : -1;
+    }
+
+    /**
+     * 校验15位身份证号码并解码出生日期
+     * <p>
+     * 15位身份证号码为：6位地址码 + 6位出生日期（yyMMdd，年份省略了19）+ 3位顺序码，没有校验位
+     *
+     * @param idCard 15位身份证号码
+     * @return yyyyMMdd 形式的出生日期，不合法的身份证号码返回 -1
+     */
+    private static int decodeLegacyBirthday(CharSequence idCard) {
+        int birthday = 0;
+        for (int i = 0; i < 15; i++) {
+            int digit = idCard.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            if (i >= 6 && i < 12) {
+                birthday = birthday * 10 + digit;
+            }
+        }
+        if (idCard.charAt(0) == '0') {
+            return -1;
+        }
+        birthday += 19000000;
+        return isValidBirthday(birthday / 10000, birthday / 100 % 100, birthday % 100) ? birthday : -1;
+    }
+
+    /**
+     * 根据顺序码判断性别，奇数为男性，偶数为女性
+     *
+     * @param idCard 合法的身份证号码
+     * @return true：男性 false：女性
+     */
+    private static boolean isMale(CharSequence idCard) {
+        // 顺序码的最后一位：18位为第17位，15位为第15位
+        return ((idCard.charAt(idCard.length() == 15 ? 14 : 16) - '0') & 1) == 1;
+    }
+
+    /**
+     * 15位身份证号码升级为18位
+     *
+     * @param idCard15 15位身份证号码
+     * @return 18位身份证号码
+     */
+    public static String upgradeTo18(CharSequence idCard15) {
+        char[] idCard18 = new char[18];
+        upgradeTo18(idCard15, idCard18, 0);
+        return new String(idCard18);
+    }
+
+    /**
+     * 15位身份证号码升级为18位，结果写入调用方提供的数组，不产生对象分配
+     * <p>
+     * 在出生年份前补 19，并按 ISO 7064:1983.MOD 11-2 计算第18位校验码
+     *
+     * @param idCard15 15位身份证号码
+     * @param dest     目标数组
+     * @param offset   写入的起始位置，需保证之后有18个字符的空间
+     */
+    public static void upgradeTo18(CharSequence idCard15, char[] dest, int offset) {
+        if (null == idCard15 || idCard15.length() != 15 || decodeLegacyBirthday(idCard15) < 0) {
+            throw new RuntimeException("无效的15位身份证号码");
+        }
+        writeUpgraded(idCard15, dest, offset);
+    }
+
+    /**
+     * 将已校验的15位身份证号码按18位格式写入数组
+     *
+     * @param idCard15 合法的15位身份证号码
+     * @param dest     目标数组
+     * @param offset   写入的起始位置
+     */
+    private static void writeUpgraded(CharSequence idCard15, char[] dest, int offset) {
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            char c = i < 6 ? idCard15.charAt(i) : i == 6 ? '1' : i == 7 ? '9' : idCard15.charAt(i - 2);
+            dest[offset + i] = c;
+            sum += (c - '0') * WEIGHT[i];
+        }
+        dest[offset + 17] = CHECK_CODE[sum % 11];
+    }
+
+    /**
+     * 批量将15位身份证号码升级为18位
+     * <p>
+     * 逐条惰性转换，合法的15位身份证号码升级为18位，其余数据原样输出，适用于数据迁移
+     *
+     * @param idCards 身份证号码
+     * @return 转换后的身份证号码
+     */
+    public static Iterator<String> upgradeTo18(Iterator<? extends CharSequence> idCards) {
+        return new Iterator<String>() {
+            /**
+             * 复用的转换缓冲区
+             */
+            private final char[] buffer = new char[18];
+
+            @Override
+            public boolean hasNext() {
+                return idCards.hasNext();
+            }
+
+            @Override
+            public String next() {
+                CharSequence idCard = idCards.next();
+                if (null == idCard || idCard.length() != 15 || decodeLegacyBirthday(idCard) < 0) {
+                    return null == idCard ? null : idCard.toString();
+                }
+                writeUpgraded(idCard, buffer, 0);
+                return new String(buffer);
+            }
+        };
+    }
+
+    /**
+     * 批量将15位身份证号码升级为18位
+     * <p>
+     * 合法的15位身份证号码升级为18位，其余数据原样输出，适用于数据迁移，支持并行流
+     *
+     * @param idCards 身份证号码
+     * @return 转换后的身份证号码
+     */
+    public static Stream<String> upgradeTo18(Stream<? extends CharSequence> idCards) {
+        return idCards.map(idCard -> {
+            if (null == idCard || idCard.length() != 15 || decodeLegacyBirthday(idCard) < 0) {
+                return null == idCard ? null : idCard.toString();
+            }
+            char[] idCard18 = new char[18];
+            writeUpgraded(idCard, idCard18, 0);
+            return new String(idCard18);
+        });
+    }
+
+    /**
+     * 批量校验身份证号码
+     *
+     * @param idCards 身份证号码
+     * @return 合法的身份证号码对应的下标被置位
+     */
+    public static BitSet validateAll(CharSequence[] idCards) {
+        BitSet result = new BitSet(idCards.length);
+        for (int i = 0; i < idCards.length; i++) {
+            if (isValidIdCard(idCards[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量校验身份证号码
+     *
+     * @param idCards 身份证号码
+     * @return 合法的身份证号码对应的下标被置位
+     */
+    public static BitSet validateAll(List<? extends CharSequence> idCards) {
+        BitSet result = new BitSet(idCards.size());
+        int i = 0;
+        for (CharSequence idCard : idCards) {
+            if (isValidIdCard(idCard)) {
+                result.set(i);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    /**
+     * 校验出生日期，年份限定在 1800 ~ 2099 年
+     *
+     * @param year  年
+     * @param month 月
+     * @param day   日
+     * @return true：合法的出生日期 false：不合法的出生日期
+     */
+    private static boolean isValidBirthday(int year, int month, int day) {
+        if (year < 1800 || year > 2099 || month < 1 || month > 12 || day < 1 || day > MAX_DAYS_OF_MONTH[month]) {
+            return false;
+        }
+        // 平年二月只有28天
+        return month != 2 || day != 29 || (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0));
     }
 
     /**
@@ -64,7 +316,8 @@ public class IDCardUtil {
         if (!isValidIdCard(idCard)) {
             throw new RuntimeException("无效的身份证号码");
         }
-        return idCard.substring(6, 14); // 身份证号码的出生日期在第7到第14位
+        // 18位身份证号码的出生日期在第7到第14位，15位的在第7到第12位且省略了年份的前两位
+        return idCard.length() == 15 ? "19" + idCard.substring(6, 12) : idCard.substring(6, 14);
     }
 
     /**
@@ -74,23 +327,7 @@ public class IDCardUtil {
      * @return 年龄，如果身份证号码无效则返回 -1
      */
     public static int getAge(String idCard) {
-        // 校验是否是合法的身份证号码
-        if (!isValidIdCard(idCard)) {
-            throw new RuntimeException("无效的身份证号码");
-        }
-        try {
-            // 提取出生日期
-            String birthDateStr = idCard.substring(6, 14); // 取第7到14位
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-            LocalDate birthDate = LocalDate.parse(birthDateStr, formatter);
-            // 获取当前日期
-            LocalDate currentDate = LocalDate.now();
-            // 计算年龄
-            return Period.between(birthDate, currentDate).getYears();
-        } catch (Exception e) {
-            // 如果日期解析失败，返回无效年龄
-            return -1;
-        }
+        return parse(idCard).getAge();
     }
 
     /**
@@ -100,20 +337,7 @@ public class IDCardUtil {
      * @return 男或女
      */
     public static String getGender(String idCard) {
-        // 校验是否是合法的身份证号码
-        if (!isValidIdCard(idCard)) {
-            throw new RuntimeException("无效的身份证号码");
-        }
-        // 获取倒数第二位
-        char genderChar = idCard.charAt(16);
-        // 判断是否是数字
-        if (!Character.isDigit(genderChar)) {
-            throw new RuntimeException("无效的身份证号码");
-        }
-        int genderNumber = Character.getNumericValue(genderChar);
-
-        // 奇数为男性，偶数为女性
-        return (genderNumber % 2 == 0) ? "女" : "男";
+        return parse(idCard).getGender();
     }
 
     /**
@@ -126,9 +350,21 @@ public class IDCardUtil {
         if (!isValidIdCard(idCard)) {
             throw new RuntimeException("无效的身份证号码");
         }
-        String regionCode = idCard.substring(0, 6); // 身份证号码的前6位是地址码
-        // 此处可根据 regionCode 查询一个省市县的映射表
-        return AreaCodeMappingTable.getRegion(regionCode);
+        // 身份证号码的前6位是地址码
+        return AreaCodeMappingTable.getRegion(AreaCodeMappingTable.toAreaCode(idCard, 0));
+    }
+
+    /**
+     * 获取身份证归属地的省、市、县三级行政区划 (根据身份证前6位)
+     *
+     * @param idCard 身份证号码
+     * @return 行政区划，地区代码未收录时回退到所属市、省，均未收录时返回 null
+     */
+    public static Region resolveRegion(String idCard) {
+        if (!isValidIdCard(idCard)) {
+            throw new RuntimeException("无效的身份证号码");
+        }
+        return AreaCodeMappingTable.resolveRegion(AreaCodeMappingTable.toAreaCode(idCard, 0));
     }
 
 }
\ No newline at end of file
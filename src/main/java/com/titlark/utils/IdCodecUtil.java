@@ -0,0 +1,247 @@
+package com.titlark.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 定长、可排序的 ID 字符串编码
+ * <p>
+ * 把 long（按无符号数处理，雪花算法 ID 均为非负数）编码为定长的 Crockford Base32（13 位）或 Base62（11 位）字符串。
+ * 两种字母表都按 ASCII 升序排列并在左侧补 0，因此编码结果按字典序排序与数值排序一致，可直接作为有序的索引键。
+ *
+ * @author lark
+ */
+public class IdCodecUtil {
+
+    /**
+     * Base32 编码长度：13 × 5 = 65 位
+     */
+    public static final int BASE32_LENGTH = 13;
+
+    /**
+     * Base62 编码长度：62^11 &gt; 2^64
+     */
+    public static final int BASE62_LENGTH = 11;
+
+    /**
+     * Crockford Base32 字母表，去掉了容易混淆的 I、L、O、U
+     */
+    private static final char[] BASE32_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final char[] BASE62_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    /**
+     * 字符到数值的映射，-1 表示无效字符
+     */
+    private static final byte[] BASE32_VALUES = new byte[128];
+    private static final byte[] BASE62_VALUES = new byte[128];
+
+    /**
+     * 无符号 long 的最大值除以 62，用于判断解码溢出
+     */
+    private static final long BASE62_OVERFLOW = Long.divideUnsigned(-1L, 62);
+
+    static {
+        Arrays.fill(BASE32_VALUES, (byte) -1);
+        Arrays.fill(BASE62_VALUES, (byte) -1);
+        for (int i = 0; i < BASE32_ALPHABET.length; i++) {
+            BASE32_VALUES[BASE32_ALPHABET[i]] = (byte) i;
+            BASE32_VALUES[Character.toLowerCase(BASE32_ALPHABET[i])] = (byte) i;
+        }
+        // Crockford 解码时容错：I、L 视为 1，O 视为 0
+        BASE32_VALUES['I'] = BASE32_VALUES['i'] = BASE32_VALUES['L'] = BASE32_VALUES['l'] = 1;
+        BASE32_VALUES['O'] = BASE32_VALUES['o'] = 0;
+        for (int i = 0; i < BASE62_ALPHABET.length; i++) {
+            BASE62_VALUES[BASE62_ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private IdCodecUtil() {
+    }
+
+    /**
+     * 编码为 13 位 Crockford Base32
+     *
+     * @param id id
+     * @return 编码结果
+     */
+    public static String toBase32(long id) {
+        char[] chars = new char[BASE32_LENGTH];
+        toBase32(id, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 编码为 13 位 Crockford Base32 并写入字符数组
+     *
+     * @param id     id
+     * @param dest   目标数组
+     * @param offset 写入位置
+     * @return 写入的字符数，即 {@link #BASE32_LENGTH}
+     */
+    public static int toBase32(long id, char[] dest, int offset) {
+        for (int i = offset + BASE32_LENGTH - 1; i >= offset; i--) {
+            dest[i] = BASE32_ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return BASE32_LENGTH;
+    }
+
+    /**
+     * 编码为 13 位 Crockford Base32 并以 ASCII 写入字节数组
+     *
+     * @param id     id
+     * @param dest   目标数组
+     * @param offset 写入位置
+     * @return 写入的字节数，即 {@link #BASE32_LENGTH}
+     */
+    public static int toBase32(long id, byte[] dest, int offset) {
+        for (int i = offset + BASE32_LENGTH - 1; i >= offset; i--) {
+            dest[i] = (byte) BASE32_ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return BASE32_LENGTH;
+    }
+
+    /**
+     * 解码 13 位 Crockford Base32，不区分大小写
+     *
+     * @param text 编码结果
+     * @return id
+     */
+    public static long fromBase32(CharSequence text) {
+        if (text.length() != BASE32_LENGTH) {
+            throw new IllegalArgumentException("无效的 Base32 编码：" + text);
+        }
+        long id = 0;
+        for (int i = 0; i < BASE32_LENGTH; i++) {
+            int value = valueOf(BASE32_VALUES, text.charAt(i));
+            if (value < 0 || i == 0 && value > 15) {
+                throw new IllegalArgumentException("无效的 Base32 编码：" + text);
+            }
+            id = id << 5 | value;
+        }
+        return id;
+    }
+
+    /**
+     * 从字节数组中解码 13 位 Crockford Base32
+     *
+     * @param src    ASCII 编码的字节数组
+     * @param offset 起始位置
+     * @return id
+     */
+    public static long fromBase32(byte[] src, int offset) {
+        long id = 0;
+        for (int i = 0; i < BASE32_LENGTH; i++) {
+            int value = valueOf(BASE32_VALUES, (char) (src[offset + i] & 0xFF));
+            if (value < 0 || i == 0 && value > 15) {
+                throw new IllegalArgumentException("无效的 Base32 编码：" + new String(src, offset, BASE32_LENGTH, StandardCharsets.ISO_8859_1));
+            }
+            id = id << 5 | value;
+        }
+        return id;
+    }
+
+    /**
+     * 编码为 11 位 Base62
+     *
+     * @param id id
+     * @return 编码结果
+     */
+    public static String toBase62(long id) {
+        char[] chars = new char[BASE62_LENGTH];
+        toBase62(id, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 编码为 11 位 Base62 并写入字符数组
+     *
+     * @param id     id
+     * @param dest   目标数组
+     * @param offset 写入位置
+     * @return 写入的字符数，即 {@link #BASE62_LENGTH}
+     */
+    public static int toBase62(long id, char[] dest, int offset) {
+        for (int i = offset + BASE62_LENGTH - 1; i >= offset; i--) {
+            // 只有最高位为 1 时第一次需要无符号除法
+            long quotient = id >= 0 ? id / 62 : Long.divideUnsigned(id, 62);
+            dest[i] = BASE62_ALPHABET[(int) (id - quotient * 62)];
+            id = quotient;
+        }
+        return BASE62_LENGTH;
+    }
+
+    /**
+     * 编码为 11 位 Base62 并以 ASCII 写入字节数组
+     *
+     * @param id     id
+     * @param dest   目标数组
+     * @param offset 写入位置
+     * @return 写入的字节数，即 {@link #BASE62_LENGTH}
+     */
+    public static int toBase62(long id, byte[] dest, int offset) {
+        for (int i = offset + BASE62_LENGTH - 1; i >= offset; i--) {
+            long quotient = id >= 0 ? id / 62 : Long.divideUnsigned(id, 62);
+            dest[i] = (byte) BASE62_ALPHABET[(int) (id - quotient * 62)];
+            id = quotient;
+        }
+        return BASE62_LENGTH;
+    }
+
+    /**
+     * 解码 11 位 Base62，区分大小写
+     *
+     * @param text 编码结果
+     * @return id
+     */
+    public static long fromBase62(CharSequence text) {
+        if (text.length() != BASE62_LENGTH) {
+            throw new IllegalArgumentException("无效的 Base62 编码：" + text);
+        }
+        long id = 0;
+        for (int i = 0; i < BASE62_LENGTH; i++) {
+            int value = valueOf(BASE62_VALUES, text.charAt(i));
+            if (!isValid62(id, value)) {
+                throw new IllegalArgumentException("无效的 Base62 编码：" + text);
+            }
+            id = id * 62 + value;
+        }
+        return id;
+    }
+
+    /**
+     * 从字节数组中解码 11 位 Base62
+     *
+     * @param src    ASCII 编码的字节数组
+     * @param offset 起始位置
+     * @return id
+     */
+    public static long fromBase62(byte[] src, int offset) {
+        long id = 0;
+        for (int i = 0; i < BASE62_LENGTH; i++) {
+            int value = valueOf(BASE62_VALUES, (char) (src[offset + i] & 0xFF));
+            if (!isValid62(id, value)) {
+                throw new IllegalArgumentException("无效的 Base62 编码：" + new String(src, offset, BASE62_LENGTH, StandardCharsets.ISO_8859_1));
+            }
+            id = id * 62 + value;
+        }
+        return id;
+    }
+
+    /**
+     * 字符有效且 id * 62 + value 不超出无符号 long 的范围
+     */
+    private static boolean isValid62(long id, int value) {
+        if (value < 0 || Long.compareUnsigned(id, BASE62_OVERFLOW) > 0) {
+            return false;
+        }
+        // 无符号溢出时结果会回绕到更小的值
+        return Long.compareUnsigned(id * 62 + value, id * 62) >= 0;
+    }
+
+    private static int valueOf(byte[] values, char c) {
+        return c < 128 ? values[c] : -1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.titlark.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 进程内的号段存储，用于测试或单机场景
+ */
+public class InMemorySegmentStore implements SegmentStore {
+
+    private final ConcurrentMap<String, AtomicLong> values = new ConcurrentHashMap<>();
+    private final long initialValue;
+
+    public InMemorySegmentStore() {
+        this(1L);
+    }
+
+    /**
+     * @param initialValue 每个 key 的第一个 ID
+     */
+    public InMemorySegmentStore(long initialValue) {
+        this.initialValue = initialValue;
+    }
+
+    @Override
+    public long nextSegment(String key, long step) {
+        AtomicLong value = values.get(key);
+        if (value == null) {
+            value = values.computeIfAbsent(key, k -> new AtomicLong(initialValue));
+        }
+        return value.getAndAdd(step);
+    }
+}
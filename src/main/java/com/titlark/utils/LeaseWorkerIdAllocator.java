@@ -0,0 +1,278 @@
+package com.titlark.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于共享目录租约分配工作节点标识，适用于挂载了同一目录（如 NFS）的多台机器
+ * <p>
+ * 每个标识对应目录下的一个 worker-&lt;id&gt;.lease 文件，内容为持有者和租约到期时间。
+ * 申请时占用不存在或已过期的租约，之后由后台守护线程每隔租期的三分之一续租一次。
+ * 检查租约与写入租约之间以独占创建的 worker-&lt;id&gt;.lease.lock 文件互斥，过期租约的抢占和续租不会互相覆盖；
+ * 持有锁的进程崩溃后，超过租期的锁文件视为失效并被清除。
+ * <p>
+ * 续租时发现租约已被他人占用，或到期前一直未能续租，{@link #isValid()} 返回 false，
+ * 使用本分配器的 {@link SnowflakeGenerator} 随即拒绝生成 ID，避免与接手该标识的进程产生重复的 ID。
+ */
+public class LeaseWorkerIdAllocator implements WorkerIdAllocator {
+
+    private final Path directory;
+    private final long leaseMillis;
+    private final String owner = UUID.randomUUID().toString();
+    private Path leaseFile;
+    private ScheduledExecutorService renewer;
+    /**
+     * 已申请到租约且未被他人占用
+     */
+    private volatile boolean valid;
+    /**
+     * 本进程最近一次写入的租约到期时间
+     */
+    private volatile long expiresAt;
+
+    /**
+     * @param directory   共享目录
+     * @param leaseMillis 租期（毫秒）
+     */
+    public LeaseWorkerIdAllocator(Path directory, long leaseMillis) {
+        if (leaseMillis < 3) {
+            throw new IllegalArgumentException("租期过短：" + leaseMillis);
+        }
+        this.directory = directory;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Override
+    public synchronized long acquire(long maxWorkerId) throws IOException {
+        if (leaseFile != null) {
+            throw new IllegalStateException("已经申请过工作节点标识");
+        }
+        Files.createDirectories(directory);
+        long start = Math.floorMod(HostHashWorkerIdAllocator.hash(), maxWorkerId + 1);
+        for (long i = 0; i <= maxWorkerId; i++) {
+            long workerId = (start + i) % (maxWorkerId + 1);
+            Path file = directory.resolve("worker-" + workerId + ".lease");
+            if (tryAcquire(file)) {
+                leaseFile = file;
+                valid = true;
+                startRenewer();
+                return workerId;
+            }
+        }
+        throw new IOException("没有可用的工作节点标识：" + directory);
+    }
+
+    /**
+     * 在锁内占用不存在或已过期的租约；锁被其他进程持有时视为该标识正在被占用
+     */
+    private boolean tryAcquire(Path file) throws IOException {
+        Path lock = lock(file);
+        if (lock == null) {
+            return false;
+        }
+        try {
+            if (expiresAt(file) > System.currentTimeMillis()) {
+                return false;
+            }
+            write(file);
+            return true;
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * 独占创建租约的锁文件
+     *
+     * @param file 租约文件
+     * @return 锁文件，已被其他进程持有时返回 null
+     */
+    private Path lock(Path file) throws IOException {
+        Path lock = file.resolveSibling(file.getFileName() + ".lock");
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                Files.write(lock, owner.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                return lock;
+            } catch (FileAlreadyExistsException e) {
+                if (!removeStaleLock(lock)) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 清除持有者崩溃后遗留的锁文件：先原子地改名，再确认改名的确实是过期的锁，否则放回原处
+     *
+     * @param lock 锁文件
+     * @return 锁文件已不存在
+     */
+    private boolean removeStaleLock(Path lock) throws IOException {
+        long modified;
+        try {
+            modified = Files.getLastModifiedTime(lock).toMillis();
+        } catch (NoSuchFileException e) {
+            return true;
+        }
+        if (modified + leaseMillis > System.currentTimeMillis()) {
+            return false;
+        }
+        Path stale = lock.resolveSibling(lock.getFileName() + "." + owner);
+        try {
+            Files.move(lock, stale, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return true;
+        }
+        if (Files.getLastModifiedTime(stale).toMillis() + leaseMillis > System.currentTimeMillis()) {
+            // 检查之后其他进程已经清除了旧锁并重新加锁，把新锁放回去
+            try {
+                Files.move(stale, lock);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(stale);
+            }
+            return false;
+        }
+        Files.deleteIfExists(stale);
+        return true;
+    }
+
+    private void unlock(Path lock) throws IOException {
+        if (owner.equals(owner(lock))) {
+            Files.deleteIfExists(lock);
+        }
+    }
+
+    /**
+     * 写入本进程的租约，先写临时文件再原子替换，其他进程不会读到写了一半的租约
+     */
+    private void write(Path file) throws IOException {
+        long expires = System.currentTimeMillis() + leaseMillis;
+        Path temp = file.resolveSibling(file.getFileName() + "." + owner + ".tmp");
+        Files.write(temp, (owner + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        expiresAt = expires;
+    }
+
+    /**
+     * 读取租约的到期时间；内容损坏时以修改时间加租期计算
+     *
+     * @param file 租约文件
+     * @return 到期时间，文件不存在时返回 0
+     */
+    private long expiresAt(Path file) throws IOException {
+        try {
+            String[] lines = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n");
+            if (lines.length == 2) {
+                try {
+                    return Long.parseLong(lines[1].trim());
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            return Files.getLastModifiedTime(file).toMillis() + leaseMillis;
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    private String owner(Path file) throws IOException {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n")[0];
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void startRenewer() {
+        renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "worker-id-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = leaseMillis / 3;
+        renewer.scheduleWithFixedDelay(this::renewQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void renewQuietly() {
+        try {
+            renew();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 在锁内续租；租约已被他人占用时标记为无效并停止续租。锁被占用或访问失败时等下一次再续，
+     * 到期前仍未续上则 {@link #isValid()} 返回 false
+     *
+     * @throws IOException 访问共享目录失败
+     */
+    synchronized void renew() throws IOException {
+        if (!valid) {
+            return;
+        }
+        Path lock = lock(leaseFile);
+        if (lock == null) {
+            return;
+        }
+        try {
+            if (!owner.equals(owner(leaseFile))) {
+                valid = false;
+                renewer.shutdown();
+                return;
+            }
+            write(leaseFile);
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /**
+     * 已申请到租约、未被他人占用且未过期
+     *
+     * @return 是否有效
+     */
+    @Override
+    public boolean isValid() {
+        return valid && System.currentTimeMillis() < expiresAt;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (renewer != null) {
+            renewer.shutdownNow();
+            renewer = null;
+        }
+        if (leaseFile != null) {
+            if (valid) {
+                Path lock = lock(leaseFile);
+                if (lock != null) {
+                    try {
+                        if (owner.equals(owner(leaseFile))) {
+                            Files.deleteIfExists(leaseFile);
+                        }
+                    } finally {
+                        unlock(lock);
+                    }
+                }
+            }
+            valid = false;
+            leaseFile = null;
+        }
+    }
+}
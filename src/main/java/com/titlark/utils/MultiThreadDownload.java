@@ -70,6 +70,7 @@ public class MultiThreadDownload {
 
         @Override
         public void run() {
+            byte[] buffer = BufferPool.heap().acquireArray(8192);
             try {
                 HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
                 conn.setRequestMethod("GET");
@@ -81,7 +82,6 @@ public class MultiThreadDownload {
                     RandomAccessFile raf = new RandomAccessFile(destPath, "rw");
                     raf.seek(startIndex);
                     int len = 0;
-                    byte[] buffer = new byte[1024];
                     InputStream is = conn.getInputStream();
                     while (-1 != (len = is.read(buffer))) {
                         raf.write(buffer, 0, len);
@@ -90,6 +90,8 @@ public class MultiThreadDownload {
                 }
             } catch (Exception e) {
                 e.printStackTrace();
+            } finally {
+                BufferPool.heap().release(buffer);
             }
         }
     }
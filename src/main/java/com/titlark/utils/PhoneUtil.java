@@ -1,6 +1,12 @@
 package com.titlark.utils;
 
-import java.util.regex.Pattern;
+import com.titlark.entity.AreaCodeMappingTable;
+import com.titlark.entity.Carrier;
+import com.titlark.entity.PhoneSegmentTable;
+import com.titlark.entity.Region;
+
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * 手机号码工具类
@@ -9,8 +15,49 @@ import java.util.regex.Pattern;
  */
 public class PhoneUtil {
 
-    // 手机号正则表达式
-    private static final String PHONE_REGEX = "^1[3-9]\\d{9}$";
+    /**
+     * 手机号码长度
+     */
+    private static final int PHONE_LENGTH = 11;
+
+    /**
+     * 号段与运营商对照表，下标为号码前4位减去1000，值为运营商代码
+     */
+    private static final byte[] CARRIER_BY_PREFIX = new byte[1000];
+
+    /**
+     * 号段归属地表
+     */
+    private static volatile PhoneSegmentTable segmentTable;
+
+    static {
+        // 中国移动
+        registerSegments(Carrier.CHINA_MOBILE, 135, 136, 137, 138, 139, 144, 147, 148, 150, 151, 152, 157, 158, 159,
+                172, 178, 182, 183, 184, 187, 188, 195, 197, 198);
+        for (int prefix = 1340; prefix <= 1348; prefix++) {
+            registerPrefix(prefix, Carrier.CHINA_MOBILE);
+        }
+        // 中国联通
+        registerSegments(Carrier.CHINA_UNICOM, 130, 131, 132, 140, 145, 146, 155, 156, 166, 175, 176, 185, 186, 196);
+        // 中国电信（含 1349、1740 卫星号段）
+        registerSegments(Carrier.CHINA_TELECOM, 133, 141, 149, 153, 173, 174, 177, 180, 181, 189, 190, 191, 193, 199);
+        registerPrefix(1349, Carrier.CHINA_TELECOM);
+        // 中国广电
+        registerSegments(Carrier.CHINA_BROADNET, 192);
+        // 虚拟运营商
+        registerSegments(Carrier.MOBILE_VIRTUAL, 165);
+        registerSegments(Carrier.UNICOM_VIRTUAL, 167, 171);
+        registerSegments(Carrier.TELECOM_VIRTUAL, 162);
+        for (int prefix : new int[]{1700, 1701, 1702}) {
+            registerPrefix(prefix, Carrier.TELECOM_VIRTUAL);
+        }
+        for (int prefix : new int[]{1703, 1705, 1706}) {
+            registerPrefix(prefix, Carrier.MOBILE_VIRTUAL);
+        }
+        for (int prefix : new int[]{1704, 1707, 1708, 1709}) {
+            registerPrefix(prefix, Carrier.UNICOM_VIRTUAL);
+        }
+    }
 
     private PhoneUtil() {
     }
@@ -22,10 +69,211 @@ public class PhoneUtil {
      * @return true：合法的手机号码 false：不合法的手机号码
      */
     public static boolean isValidPhoneNumber(String phoneNumber) {
-        return Pattern.matches(PHONE_REGEX, phoneNumber);
+        return isValidPhoneNumber((CharSequence) phoneNumber);
+    }
+
+    /**
+     * 是否是中国大陆手机号码
+     * <p>
+     * 等价于正则 ^1[3-9]\d{9}$，逐字符校验，不产生对象分配
+     *
+     * @param phoneNumber 手机号码（以 13x、14x、15x、16x、17x、18x、19x 开头的 11 位数字）
+     * @return true：合法的手机号码 false：不合法的手机号码
+     */
+    public static boolean isValidPhoneNumber(CharSequence phoneNumber) {
+        if (null == phoneNumber || phoneNumber.length() != PHONE_LENGTH) {
+            return false;
+        }
+        if (phoneNumber.charAt(0) != '1' || phoneNumber.charAt(1) < '3' || phoneNumber.charAt(1) > '9') {
+            return false;
+        }
+        for (int i = 2; i < PHONE_LENGTH; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否是中国大陆手机号码
+     *
+     * @param utf8   UTF-8 编码的数据
+     * @param offset 手机号码的起始位置
+     * @param length 手机号码的字节长度
+     * @return true：合法的手机号码 false：不合法的手机号码
+     */
+    public static boolean isValidPhoneNumber(byte[] utf8, int offset, int length) {
+        if (null == utf8 || length != PHONE_LENGTH) {
+            return false;
+        }
+        if (utf8[offset] != '1' || utf8[offset + 1] < '3' || utf8[offset + 1] > '9') {
+            return false;
+        }
+        for (int i = offset + 2; i < offset + PHONE_LENGTH; i++) {
+            byte b = utf8[i];
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 批量校验手机号码
+     *
+     * @param phoneNumbers 手机号码
+     * @return 合法的手机号码对应的下标被置位
+     */
+    public static BitSet validateAll(CharSequence[] phoneNumbers) {
+        BitSet result = new BitSet(phoneNumbers.length);
+        for (int i = 0; i < phoneNumbers.length; i++) {
+            if (isValidPhoneNumber(phoneNumbers[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量校验手机号码
+     *
+     * @param phoneNumbers 手机号码
+     * @return 合法的手机号码对应的下标被置位
+     */
+    public static BitSet validateAll(List<? extends CharSequence> phoneNumbers) {
+        BitSet result = new BitSet(phoneNumbers.size());
+        int i = 0;
+        for (CharSequence phoneNumber : phoneNumbers) {
+            if (isValidPhoneNumber(phoneNumber)) {
+                result.set(i);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    /**
+     * 获取手机号码所属运营商
+     * <p>
+     * 按号码前4位查表，一次数组访问，不产生对象分配
+     *
+     * @param phoneNumber 手机号码
+     * @return 运营商，不合法的手机号码或未分配的号段返回 {@link Carrier#UNKNOWN}
+     */
+    public static Carrier getCarrier(CharSequence phoneNumber) {
+        return Carrier.of(getCarrierCode(phoneNumber));
+    }
+
+    /**
+     * 获取手机号码所属运营商代码
+     *
+     * @param phoneNumber 手机号码
+     * @return 运营商代码，见 {@link Carrier#getCode()}
+     */
+    public static int getCarrierCode(CharSequence phoneNumber) {
+        if (!isValidPhoneNumber(phoneNumber)) {
+            return Carrier.UNKNOWN.getCode();
+        }
+        int prefix = (phoneNumber.charAt(1) - '0') * 100 + (phoneNumber.charAt(2) - '0') * 10 + (phoneNumber.charAt(3) - '0');
+        return CARRIER_BY_PREFIX[prefix];
+    }
+
+    /**
+     * 批量获取手机号码所属运营商代码
+     *
+     * @param phoneNumbers 手机号码
+     * @return 与 phoneNumbers 一一对应的运营商代码，见 {@link Carrier#getCode()}
+     */
+    public static int[] classifyAll(CharSequence[] phoneNumbers) {
+        int[] carrierCodes = new int[phoneNumbers.length];
+        classifyAll(phoneNumbers, carrierCodes);
+        return carrierCodes;
+    }
+
+    /**
+     * 批量获取手机号码所属运营商代码，结果写入调用方提供的数组
+     *
+     * @param phoneNumbers 手机号码
+     * @param carrierCodes 运营商代码，长度不能小于 phoneNumbers
+     */
+    public static void classifyAll(CharSequence[] phoneNumbers, int[] carrierCodes) {
+        for (int i = 0; i < phoneNumbers.length; i++) {
+            carrierCodes[i] = getCarrierCode(phoneNumbers[i]);
+        }
+    }
+
+    /**
+     * 登记3位号段
+     *
+     * @param carrier  运营商
+     * @param segments 3位号段，如 135
+     */
+    private static void registerSegments(Carrier carrier, int... segments) {
+        for (int segment : segments) {
+            for (int i = 0; i < 10; i++) {
+                registerPrefix(segment * 10 + i, carrier);
+            }
+        }
+    }
+
+    /**
+     * 登记4位号段
+     *
+     * @param prefix  4位号段，如 1349
+     * @param carrier 运营商
+     */
+    private static void registerPrefix(int prefix, Carrier carrier) {
+        CARRIER_BY_PREFIX[prefix - 1000] = (byte) carrier.getCode();
     }
 
-    /*public static String getPhoneLocation(String phoneNumber) {
+    /**
+     * 设置号段归属地表，如 {@code PhoneUtil.setSegmentTable(PhoneSegmentTable.map(path))}
+     *
+     * @param table 号段归属地表，为 null 时清除
+     */
+    public static void setSegmentTable(PhoneSegmentTable table) {
+        segmentTable = table;
+    }
 
-    }*/
+    /**
+     * 获取手机号码归属地
+     *
+     * @param phoneNumber 手机号码
+     * @return 归属地名称，如：河北省石家庄市，不合法的手机号码、未设置号段表或号段未收录时返回 null
+     */
+    public static String getPhoneLocation(CharSequence phoneNumber) {
+        int areaCode = getAreaCode(phoneNumber);
+        return areaCode == 0 ? null : AreaCodeMappingTable.getRegion(areaCode);
+    }
+
+    /**
+     * 获取手机号码归属地的省、市行政区划
+     *
+     * @param phoneNumber 手机号码
+     * @return 行政区划，不合法的手机号码、未设置号段表或号段未收录时返回 null
+     */
+    public static Region resolvePhoneRegion(CharSequence phoneNumber) {
+        int areaCode = getAreaCode(phoneNumber);
+        return areaCode == 0 ? null : AreaCodeMappingTable.resolveRegion(areaCode);
+    }
+
+    /**
+     * 获取手机号码号段对应的地区代码
+     *
+     * @param phoneNumber 手机号码
+     * @return 6位地区代码，无法确定时返回 0
+     */
+    private static int getAreaCode(CharSequence phoneNumber) {
+        PhoneSegmentTable table = segmentTable;
+        if (null == table || !isValidPhoneNumber(phoneNumber)) {
+            return 0;
+        }
+        int segment = 0;
+        for (int i = 0; i < 7; i++) {
+            segment = segment * 10 + (phoneNumber.charAt(i) - '0');
+        }
+        return table.getAreaCode(segment);
+    }
 }
@@ -0,0 +1,151 @@
+package com.titlark.utils;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 号段模式的 ID 分配器（双缓冲）
+ * <p>
+ * 每次从 {@link SegmentStore} 取一段连续的 ID 放在内存中，通过原子自增无锁分配，生成的 ID 稠密且单调递增；
+ * 当前号段用掉 10% 时异步预取下一个号段，当前号段用完时直接切换，存储每 step 个 ID 只访问一次。
+ * 进程重启后未用完的号段会被跳过。
+ * <pre>
+ * SegmentIdAllocator allocator = new SegmentIdAllocator(new FileSegmentStore(dir), "t_order", 10000);
+ * long id = allocator.nextId();
+ * </pre>
+ */
+public class SegmentIdAllocator {
+
+    /**
+     * 默认的预取线程池，守护线程
+     */
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "segment-id-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SegmentStore store;
+    private final String key;
+    private final long step;
+    private final Executor executor;
+    private volatile Segment current;
+    /**
+     * 正在预取或已预取好的下一个号段
+     */
+    private CompletableFuture<Segment> next;
+
+    public SegmentIdAllocator(SegmentStore store, String key, long step) {
+        this(store, key, step, PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * @param store    号段存储
+     * @param key      业务标识
+     * @param step     号段长度
+     * @param executor 执行预取的线程池
+     */
+    public SegmentIdAllocator(SegmentStore store, String key, long step, Executor executor) {
+        if (step < 1) {
+            throw new IllegalArgumentException("号段长度必须大于 0：" + step);
+        }
+        this.store = store;
+        this.key = key;
+        this.step = step;
+        this.executor = executor;
+    }
+
+    /**
+     * 产生下一个ID
+     *
+     * @return id
+     */
+    public long nextId() {
+        for (; ; ) {
+            Segment segment = current;
+            if (segment != null) {
+                long id = segment.cursor.getAndIncrement();
+                if (id < segment.end) {
+                    if (id == segment.prefetchAt) {
+                        prefetch(segment);
+                    }
+                    return id;
+                }
+            }
+            switchSegment(segment);
+        }
+    }
+
+    /**
+     * 当前号段用到 10% 时开始异步预取下一个号段
+     *
+     * @param segment 当前号段
+     */
+    private synchronized void prefetch(Segment segment) {
+        if (current == segment && next == null) {
+            next = CompletableFuture.supplyAsync(this::loadUnchecked, executor);
+        }
+    }
+
+    /**
+     * 当前号段用完时切换到预取好的号段，预取尚未完成则等待，预取失败或没有预取则同步加载
+     *
+     * @param exhausted 已用完的号段
+     */
+    private synchronized void switchSegment(Segment exhausted) {
+        if (current != exhausted) {
+            // 其他线程已经切换
+            return;
+        }
+        CompletableFuture<Segment> future = next;
+        next = null;
+        Segment segment = null;
+        if (future != null) {
+            try {
+                segment = future.join();
+            } catch (CompletionException e) {
+                e.printStackTrace();
+            }
+        }
+        current = segment != null ? segment : loadUnchecked();
+    }
+
+    private Segment loadUnchecked() {
+        try {
+            return new Segment(store.nextSegment(key, step), step);
+        } catch (IOException e) {
+            throw new RuntimeException("获取号段失败：" + key, e);
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getStep() {
+        return step;
+    }
+
+    /**
+     * 内存中的号段 [cursor, end)
+     */
+    private static final class Segment {
+        final AtomicLong cursor;
+        final long end;
+        /**
+         * 分配到该 ID 时触发预取
+         */
+        final long prefetchAt;
+
+        Segment(long start, long step) {
+            this.cursor = new AtomicLong(start);
+            this.end = start + step;
+            this.prefetchAt = start + step / 10;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.titlark.utils;
+
+import java.io.IOException;
+
+/**
+ * 号段存储，{@link SegmentIdAllocator} 从中按号段取号
+ * <p>
+ * 实现需要保证同一个 key 的号段在所有进程之间不重叠，通常对应数据库中的一行 max_id 记录。
+ *
+ * @see InMemorySegmentStore
+ * @see FileSegmentStore
+ */
+public interface SegmentStore {
+
+    /**
+     * 为 key 占用 [返回值, 返回值 + step) 的号段
+     *
+     * @param key  业务标识，如表名
+     * @param step 号段长度
+     * @return 号段的第一个 ID
+     * @throws IOException 访问存储失败
+     */
+    long nextSegment(String key, long step) throws IOException;
+}
@@ -1,5 +1,9 @@
 package com.titlark.utils;
 
+import com.titlark.entity.SnowflakeId;
+
+import java.time.Instant;
+
 /**
  * 雪花算法
  */
@@ -53,10 +57,15 @@ public class SnowFlakeUtil {
      */
     private final static long TIMESTMP_LEFT = DATACENTER_LEFT + DATACENTER_BIT;
 
-    private static long datacenterId;  //数据中心
-    private static long machineId;    //机器标识
-    private static long sequence = 0L; //序列号
-    private static long lastStmp = -1L;//上一次时间戳
+    /**
+     * 时间戳部分的最大值（41位）
+     */
+    private final static long MAX_TIMESTAMP = -1L ^ (-1L << (63 - TIMESTMP_LEFT));
+
+    /**
+     * 实际生成 ID 的无锁生成器，修改数据中心或机器标识时替换为新的实例并共享原有状态
+     */
+    private static volatile SnowflakeGenerator generator = SnowflakeGenerator.builder().build();
 
     /**
      * 此处无参构造私有，同时没有给出有参构造，在于避免以下两点问题：
@@ -67,75 +76,134 @@ public class SnowFlakeUtil {
     }
 
     public static long getMachineId() {
-        return machineId;
+        return generator.getMachineId();
     }
 
-    public static void setMachineId(long machineId) {
-        SnowFlakeUtil.machineId = machineId;
+    public static synchronized void setMachineId(long machineId) {
+        if (machineId < 0 || machineId > MAX_MACHINE_NUM) {
+            throw new IllegalArgumentException("机器标识的取值范围为 0 ~ " + MAX_MACHINE_NUM + "：" + machineId);
+        }
+        generator = generator.withWorker(generator.getDatacenterId(), machineId);
     }
 
     public static long getDatacenterId() {
-        return datacenterId;
+        return generator.getDatacenterId();
     }
 
-    public static void setDatacenterId(long datacenterId) {
-        SnowFlakeUtil.datacenterId = datacenterId;
+    public static synchronized void setDatacenterId(long datacenterId) {
+        if (datacenterId < 0 || datacenterId > MAX_DATACENTER_NUM) {
+            throw new IllegalArgumentException("数据中心的取值范围为 0 ~ " + MAX_DATACENTER_NUM + "：" + datacenterId);
+        }
+        generator = generator.withWorker(datacenterId, generator.getMachineId());
+    }
+
+    /**
+     * 通过分配器自动设置数据中心和机器标识，分配器不可用时退回到由本机 MAC、IP 和进程号散列得到的标识；
+     * 租约失效后 {@link #nextId()} 抛出 {@link IllegalStateException}
+     *
+     * @param allocator 工作节点标识分配器，进程运行期间不要关闭
+     * @return 工作节点标识：数据中心 &lt;&lt; 5 | 机器标识
+     */
+    public static synchronized long assignWorkerId(WorkerIdAllocator allocator) {
+        long workerId = SnowflakeGenerator.acquireWorkerId(allocator, -1L ^ (-1L << (DATACENTER_BIT + MACHINE_BIT)));
+        generator = generator.withWorker(workerId, allocator);
+        return workerId;
+    }
+
+    /**
+     * 设置时钟回拨的处理策略
+     *
+     * @param clockStrategy   时钟回拨策略
+     * @param toleranceMillis 可容忍的回拨或借用毫秒数
+     */
+    public static synchronized void setClockStrategy(SnowflakeGenerator.ClockStrategy clockStrategy, long toleranceMillis) {
+        generator = generator.withClockStrategy(clockStrategy, toleranceMillis);
     }
 
     /**
      * 产生下一个ID
      *
      * @return id
+     * @see SnowflakeGenerator#nextId()
      */
-    public static synchronized long nextId() {
-        // 获取当前时间戳
-        long currStmp = getCurrentTimestamp();
+    public static long nextId() {
+        return generator.nextId();
+    }
 
-        // 如果当前时间戳小于上次时间戳则抛出异常
-        if (currStmp < lastStmp) {
-            throw new RuntimeException("Clock moved backwards.  Refusing to generate id");
-        }
-        // 相同毫秒内
-        if (currStmp == lastStmp) {
-            //相同毫秒内，序列号自增
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            //同一毫秒的序列数已经达到最大
-            if (sequence == 0L) {
-                // 获取下一时间的时间戳并赋值给当前时间戳
-                currStmp = getNextMill();
-            }
-        } else {
-            //不同毫秒内，序列号置为0
-            sequence = 0L;
-        }
-        // 当前时间戳存档记录，用于下次产生id时对比是否为相同时间戳
-        lastStmp = currStmp;
+    /**
+     * 批量产生ID，批量插入时整批只需一次同步
+     *
+     * @param n 数量
+     * @return 递增的 id 数组
+     * @see SnowflakeGenerator#nextIds(int)
+     */
+    public static long[] nextIds(int n) {
+        return generator.nextIds(n);
+    }
+
+    /**
+     * 批量产生ID并写入数组
+     *
+     * @param dest 目标数组
+     * @see SnowflakeGenerator#nextIds(long[])
+     */
+    public static void nextIds(long[] dest) {
+        generator.nextIds(dest);
+    }
 
-        return (currStmp - START_STMP) << TIMESTMP_LEFT //时间戳部分
-                | datacenterId << DATACENTER_LEFT      //数据中心部分
-                | machineId << MACHINE_LEFT            //机器标识部分
-                | sequence;                            //序列号部分
+    /**
+     * 解码 ID
+     *
+     * @param id id
+     * @return 解码结果
+     */
+    public static SnowflakeId decode(long id) {
+        return new SnowflakeId(id, timestampOf(id), datacenterIdOf(id), machineIdOf(id), sequenceOf(id));
     }
 
     /**
-     * 获取下一时间的时间戳
+     * 获取 ID 的生成时间
      *
-     * @return 下一时间戳
+     * @param id id
+     * @return 毫秒时间戳
      */
-    private static long getNextMill() {
-        long mill = getCurrentTimestamp();
-        while (mill <= lastStmp) {
-            mill = getCurrentTimestamp();
-        }
-        return mill;
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTMP_LEFT) + START_STMP;
+    }
+
+    public static long datacenterIdOf(long id) {
+        return id >>> DATACENTER_LEFT & MAX_DATACENTER_NUM;
+    }
+
+    public static long machineIdOf(long id) {
+        return id >>> MACHINE_LEFT & MAX_MACHINE_NUM;
+    }
+
+    public static long sequenceOf(long id) {
+        return id & MAX_SEQUENCE;
+    }
+
+    /**
+     * 指定时刻（毫秒）生成的 ID 的最小值，与 {@link #maxIdFor(Instant)} 一起把时间范围转换为主键范围，
+     * 如 id BETWEEN minIdFor(from) AND maxIdFor(to)；早于起始时间戳时返回 0，超出可表示的范围时按最大的时间戳计算
+     *
+     * @param instant 时刻
+     * @return 最小的 id
+     */
+    public static long minIdFor(Instant instant) {
+        long timestamp = instant.toEpochMilli() - START_STMP;
+        return timestamp < 0 ? 0 : Math.min(timestamp, MAX_TIMESTAMP) << TIMESTMP_LEFT;
     }
 
     /**
-     * 获取当前的时间戳
+     * 指定时刻（毫秒）生成的 ID 的最大值；早于起始时间戳时返回 -1，即不存在这样的 ID，
+     * 超出可表示的范围时返回 {@link Long#MAX_VALUE}
      *
-     * @return 当前时间戳
+     * @param instant 时刻
+     * @return 最大的 id
      */
-    private static long getCurrentTimestamp() {
-        return System.currentTimeMillis();
+    public static long maxIdFor(Instant instant) {
+        long timestamp = instant.toEpochMilli() - START_STMP;
+        return timestamp < 0 ? -1 : Math.min(timestamp, MAX_TIMESTAMP) << TIMESTMP_LEFT | (-1L ^ (-1L << TIMESTMP_LEFT));
     }
 }
@@ -0,0 +1,611 @@
+package com.titlark.utils;
+
+import com.titlark.entity.SnowflakeId;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 雪花算法 ID 生成器
+ * <p>
+ * 与 {@link SnowFlakeUtil} 的全局同步方法不同，每个实例独立生成 ID：时间戳与序列号打包在一个 {@link AtomicLong} 中，
+ * 通过 CAS 无锁递增，多线程并发时不会在同一个监视器上排队。起始时间戳及各部分的位数均可配置，
+ * 默认配置与 {@link SnowFlakeUtil} 相同，生成的 ID 互相兼容。
+ * <p>
+ * 序列号用尽时以 {@link LockSupport#parkNanos(long)} 等待下一毫秒，不再空转；时钟回拨的处理方式见 {@link ClockStrategy}。
+ * <pre>
+ * SnowflakeGenerator generator = SnowflakeGenerator.builder().datacenterId(1).machineId(2).build();
+ * long id = generator.nextId();
+ * </pre>
+ */
+public final class SnowflakeGenerator {
+
+    /**
+     * 等待时钟前进时不足一毫秒的挂起时长
+     */
+    private static final long PARK_NANOS = 100_000L;
+
+    /**
+     * 起始的时间戳
+     */
+    private final long epoch;
+    /**
+     * 序列号占用的位数
+     */
+    private final int sequenceBits;
+    /**
+     * 序列号掩码
+     */
+    private final long sequenceMask;
+    /**
+     * 时间戳较最低位的偏移量
+     */
+    private final int timestampShift;
+    /**
+     * 时间戳部分的最大值
+     */
+    private final long maxTimestamp;
+    /**
+     * 预先计算好的数据中心和机器标识部分
+     */
+    private final long workerBits;
+    private final long datacenterId;
+    private final long machineId;
+    private final int machineBits;
+    private final int datacenterBits;
+    /**
+     * 分配状态，由 {@link #withWorker(long, long)} 和 {@link #withClockStrategy(ClockStrategy, long)} 创建的生成器共享
+     */
+    private final Sequence sequence;
+    /**
+     * 打包的状态：(上一次时间戳 - epoch) << sequenceBits | 序列号
+     */
+    private final AtomicLong state;
+    private final ClockStrategy clockStrategy;
+    /**
+     * 可容忍的时钟回拨或借用的毫秒数
+     */
+    private final long toleranceMillis;
+    /**
+     * 系统时钟，为 null 时使用 {@link System#currentTimeMillis()}，仅用于测试时模拟时钟调整
+     */
+    private final LongSupplier wallClock;
+    /**
+     * 分配了工作节点标识的分配器，租约失效后拒绝生成 ID；手动指定标识时为 null
+     */
+    private final WorkerIdAllocator lease;
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder backwardsCount = new LongAdder();
+    private final LongAdder rejectCount = new LongAdder();
+
+    private SnowflakeGenerator(Builder builder, Sequence sequence, WorkerIdAllocator lease) {
+        if (builder.sequenceBits < 1 || builder.machineBits < 0 || builder.datacenterBits < 0
+                || builder.sequenceBits + builder.machineBits + builder.datacenterBits > 31) {
+            throw new IllegalArgumentException("无效的位数配置");
+        }
+        long maxMachineId = ~(-1L << builder.machineBits);
+        long maxDatacenterId = ~(-1L << builder.datacenterBits);
+        if (builder.machineId < 0 || builder.machineId > maxMachineId) {
+            throw new IllegalArgumentException("机器标识的取值范围为 0 ~ " + maxMachineId + "：" + builder.machineId);
+        }
+        if (builder.datacenterId < 0 || builder.datacenterId > maxDatacenterId) {
+            throw new IllegalArgumentException("数据中心的取值范围为 0 ~ " + maxDatacenterId + "：" + builder.datacenterId);
+        }
+        if (builder.clockStrategy == null || builder.toleranceMillis < 0) {
+            throw new IllegalArgumentException("无效的时钟回拨策略");
+        }
+        this.epoch = builder.epoch;
+        this.sequenceBits = builder.sequenceBits;
+        this.machineBits = builder.machineBits;
+        this.datacenterBits = builder.datacenterBits;
+        this.datacenterId = builder.datacenterId;
+        this.machineId = builder.machineId;
+        this.sequenceMask = ~(-1L << sequenceBits);
+        this.timestampShift = sequenceBits + machineBits + datacenterBits;
+        this.maxTimestamp = ~(-1L << (63 - timestampShift));
+        this.workerBits = builder.datacenterId << (sequenceBits + machineBits) | builder.machineId << sequenceBits;
+        this.clockStrategy = builder.clockStrategy;
+        this.toleranceMillis = builder.toleranceMillis;
+        this.wallClock = builder.wallClock;
+        this.lease = lease;
+        this.sequence = sequence == null ? new Sequence(wallClock() - epoch) : sequence;
+        this.state = this.sequence.state;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 产生下一个ID
+     *
+     * @return id
+     */
+    public long nextId() {
+        return toId(reserve(1));
+    }
+
+    /**
+     * 批量产生ID，整批只做一次 CAS 和一次时钟读取；超过一毫秒的序列号容量时会占用后续的毫秒
+     *
+     * @param n 数量
+     * @return 递增的 id 数组
+     */
+    public long[] nextIds(int n) {
+        long[] ids = new long[n];
+        nextIds(ids);
+        return ids;
+    }
+
+    /**
+     * 批量产生ID并写入数组，数组中的 ID 连续递增
+     *
+     * @param dest 目标数组
+     */
+    public void nextIds(long[] dest) {
+        if (dest.length == 0) {
+            return;
+        }
+        long packed = reserve(dest.length);
+        for (int i = 0; i < dest.length; i++, packed++) {
+            dest[i] = toId(packed);
+        }
+    }
+
+    /**
+     * 预留连续的 count 个 (时间戳, 序列号)，返回第一个
+     *
+     * @param count 数量
+     * @return 打包的第一个 (时间戳, 序列号)
+     */
+    private long reserve(long count) {
+        if (lease != null && !lease.isValid()) {
+            throw new IllegalStateException("工作节点标识的租约已失效，拒绝生成 ID：datacenterId=" + datacenterId + ", machineId=" + machineId);
+        }
+        long now = currentTimestamp();
+        long prev;
+        long first;
+        do {
+            prev = state.get();
+            // 进入新的毫秒时序列号从0开始；否则在上一次的时间戳上自增，序列号用尽时自然进位到下一毫秒
+            first = now > prev >>> sequenceBits ? now << sequenceBits : prev + 1;
+        } while (!state.compareAndSet(prev, first + count - 1));
+
+        long lastTimestamp = (first + count - 1) >>> sequenceBits;
+        if (lastTimestamp > maxTimestamp) {
+            throw new IllegalStateException("时间戳超出可表示的范围");
+        }
+        if (lastTimestamp > now) {
+            // 序列号用尽进位、批量预留或时钟回拨后沿用了之前的时间戳，ID 中的时间领先于时钟
+            if (clockStrategy == ClockStrategy.BORROW && lastTimestamp - now <= toleranceMillis) {
+                borrowCount.increment();
+            } else {
+                waitCount.increment();
+                awaitTimestamp(clockStrategy == ClockStrategy.BORROW ? lastTimestamp - toleranceMillis : lastTimestamp);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * 挂起等待时钟追上指定的时间戳
+     *
+     * @param timestamp 时间戳
+     */
+    private void awaitTimestamp(long timestamp) {
+        long remaining;
+        while ((remaining = timestamp - clock()) > 0) {
+            LockSupport.parkNanos(remaining > 1 ? (remaining - 1) * 1_000_000L : PARK_NANOS);
+        }
+    }
+
+    /**
+     * 由打包的状态组装 ID
+     *
+     * @param packed (时间戳 - epoch) << sequenceBits | 序列号
+     * @return id
+     */
+    private long toId(long packed) {
+        return (packed >>> sequenceBits) << timestampShift | workerBits | (packed & sequenceMask);
+    }
+
+    /**
+     * 相对于 epoch 的当前时间戳
+     *
+     * @return 当前时间戳
+     */
+    private long clock() {
+        if (clockStrategy == ClockStrategy.MONOTONIC) {
+            return sequence.baseTimestamp + (System.nanoTime() - sequence.baseNanos) / 1_000_000L;
+        }
+        return wallClock() - epoch;
+    }
+
+    private long wallClock() {
+        return wallClock == null ? System.currentTimeMillis() : wallClock.getAsLong();
+    }
+
+    /**
+     * 读取当前时间戳，读到的时钟比之前读到的更早时认为时钟发生了回拨，按策略拒绝或交给调用方等待、借用
+     *
+     * @return 当前时间戳
+     */
+    private long currentTimestamp() {
+        long now = clock();
+        long last = sequence.lastClock;
+        if (now > last) {
+            sequence.lastClock = now;
+            return now;
+        }
+        if (now == last) {
+            return now;
+        }
+        // 可能只是读取时钟后被其他线程抢先更新了 lastClock，重新读取一次确认
+        now = clock();
+        if (now >= last) {
+            return now;
+        }
+        backwardsCount.increment();
+        if (clockStrategy == ClockStrategy.FAIL || last - now > toleranceMillis) {
+            rejectCount.increment();
+            throw new RuntimeException("Clock moved backwards.  Refusing to generate id");
+        }
+        return now;
+    }
+
+    /**
+     * 解码 ID
+     *
+     * @param id 按本生成器的位布局生成的 id
+     * @return 解码结果
+     */
+    public SnowflakeId decode(long id) {
+        return new SnowflakeId(id, timestampOf(id), datacenterIdOf(id), machineIdOf(id), sequenceOf(id));
+    }
+
+    /**
+     * 获取 ID 的生成时间
+     *
+     * @param id id
+     * @return 毫秒时间戳
+     */
+    public long timestampOf(long id) {
+        return (id >>> timestampShift) + epoch;
+    }
+
+    public long datacenterIdOf(long id) {
+        return id >>> (sequenceBits + machineBits) & ~(-1L << datacenterBits);
+    }
+
+    public long machineIdOf(long id) {
+        return id >>> sequenceBits & ~(-1L << machineBits);
+    }
+
+    public long sequenceOf(long id) {
+        return id & sequenceMask;
+    }
+
+    /**
+     * 指定时刻（毫秒）生成的 ID 的最小值，与 {@link #maxIdFor(Instant)} 一起将时间范围转换为 ID 范围，
+     * 如 id BETWEEN minIdFor(from) AND maxIdFor(to)；早于起始时间戳时返回 0
+     *
+     * @param instant 时刻
+     * @return 最小的 id
+     */
+    public long minIdFor(Instant instant) {
+        long timestamp = instant.toEpochMilli() - epoch;
+        if (timestamp < 0) {
+            return 0;
+        }
+        return Math.min(timestamp, maxTimestamp) << timestampShift;
+    }
+
+    /**
+     * 指定时刻（毫秒）生成的 ID 的最大值；早于起始时间戳时返回 -1，即不存在这样的 ID
+     *
+     * @param instant 时刻
+     * @return 最大的 id
+     */
+    public long maxIdFor(Instant instant) {
+        long timestamp = instant.toEpochMilli() - epoch;
+        if (timestamp < 0) {
+            return -1;
+        }
+        return Math.min(timestamp, maxTimestamp) << timestampShift | ~(-1L << timestampShift);
+    }
+
+    /**
+     * 以相同的配置创建指定数据中心和机器标识的生成器，与本生成器共享分配状态
+     *
+     * @param datacenterId 数据中心
+     * @param machineId    机器标识
+     * @return 新的生成器
+     */
+    SnowflakeGenerator withWorker(long datacenterId, long machineId) {
+        return copy(datacenterId, machineId, clockStrategy, toleranceMillis, null);
+    }
+
+    /**
+     * 以相同的配置创建使用分配器分配的工作节点标识的生成器，与本生成器共享分配状态
+     *
+     * @param workerId  工作节点标识
+     * @param allocator 分配器，租约失效后新的生成器拒绝生成 ID
+     * @return 新的生成器
+     */
+    SnowflakeGenerator withWorker(long workerId, WorkerIdAllocator allocator) {
+        return copy(workerId >>> machineBits, workerId & ~(-1L << machineBits), clockStrategy, toleranceMillis,
+                allocator.isValid() ? allocator : null);
+    }
+
+    /**
+     * 以相同的配置创建指定时钟回拨策略的生成器，与本生成器共享分配状态，新旧实例同时使用也不会产生重复的 ID
+     *
+     * @param clockStrategy   时钟回拨策略
+     * @param toleranceMillis 可容忍的毫秒数
+     * @return 新的生成器
+     */
+    SnowflakeGenerator withClockStrategy(ClockStrategy clockStrategy, long toleranceMillis) {
+        return copy(datacenterId, machineId, clockStrategy, toleranceMillis, lease);
+    }
+
+    private SnowflakeGenerator copy(long datacenterId, long machineId, ClockStrategy clockStrategy, long toleranceMillis,
+                                    WorkerIdAllocator lease) {
+        Builder builder = builder().epoch(epoch).sequenceBits(sequenceBits).machineBits(machineBits)
+                .datacenterBits(datacenterBits).datacenterId(datacenterId).machineId(machineId)
+                .clockStrategy(clockStrategy, toleranceMillis).wallClock(wallClock);
+        return new SnowflakeGenerator(builder, sequence, lease);
+    }
+
+    /**
+     * 通过分配器申请工作节点标识，失败时退回到由本机 MAC、IP 和进程号散列得到的标识
+     *
+     * @param allocator   分配器
+     * @param maxWorkerId 最大的工作节点标识
+     * @return 工作节点标识
+     */
+    static long acquireWorkerId(WorkerIdAllocator allocator, long maxWorkerId) {
+        try {
+            long workerId = allocator.acquire(maxWorkerId);
+            if (workerId < 0 || workerId > maxWorkerId) {
+                throw new IllegalStateException("工作节点标识的取值范围为 0 ~ " + maxWorkerId + "：" + workerId);
+            }
+            return workerId;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new HostHashWorkerIdAllocator().acquire(maxWorkerId);
+        }
+    }
+
+    /**
+     * 因 ID 中的时间领先于时钟而挂起等待的次数
+     *
+     * @return 次数
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * {@link ClockStrategy#BORROW} 策略下借用未来时间而未等待的次数
+     *
+     * @return 次数
+     */
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    /**
+     * 检测到时钟回拨的次数
+     *
+     * @return 次数
+     */
+    public long getClockBackwardsCount() {
+        return backwardsCount.sum();
+    }
+
+    /**
+     * 因时钟回拨而拒绝生成 ID 的次数
+     *
+     * @return 次数
+     */
+    public long getRejectCount() {
+        return rejectCount.sum();
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    public long getMachineId() {
+        return machineId;
+    }
+
+    public ClockStrategy getClockStrategy() {
+        return clockStrategy;
+    }
+
+    /**
+     * 时钟回拨的处理策略
+     */
+    public enum ClockStrategy {
+        /**
+         * 时钟回拨时抛出异常，与 {@link SnowFlakeUtil} 原有的行为一致
+         */
+        FAIL,
+        /**
+         * 回拨不超过容忍范围时挂起等待时钟追上，超出则抛出异常
+         */
+        WAIT,
+        /**
+         * 沿用之前的时间戳继续分配，ID 中的时间最多领先时钟容忍的毫秒数，序列号用尽时也同样借用，超出才挂起等待；
+         * 回拨超出容忍范围时抛出异常
+         */
+        BORROW,
+        /**
+         * 以创建时的时间戳加上 {@link System#nanoTime()} 的偏移作为时钟，不受系统时间调整的影响，
+         * 长时间运行后可能与系统时间略有偏差
+         */
+        MONOTONIC
+    }
+
+    /**
+     * 雪花算法 ID 生成器构建器
+     */
+    public static final class Builder {
+        /**
+         * 默认起始时间戳 2020-12-31 0:0:0
+         */
+        private long epoch = 1609344000000L;
+        private int sequenceBits = 12;
+        private int machineBits = 5;
+        private int datacenterBits = 5;
+        private long datacenterId;
+        private long machineId;
+        private ClockStrategy clockStrategy = ClockStrategy.FAIL;
+        private long toleranceMillis = 10L;
+        private LongSupplier wallClock;
+        private WorkerIdAllocator workerIdAllocator;
+
+        private Builder() {
+        }
+
+        /**
+         * 起始时间戳（毫秒），ID 中保存的是相对于该时间的毫秒数
+         *
+         * @param epoch 起始时间戳
+         * @return this
+         */
+        public Builder epoch(long epoch) {
+            this.epoch = epoch;
+            return this;
+        }
+
+        /**
+         * 序列号占用的位数，默认12位
+         *
+         * @param sequenceBits 位数
+         * @return this
+         */
+        public Builder sequenceBits(int sequenceBits) {
+            this.sequenceBits = sequenceBits;
+            return this;
+        }
+
+        /**
+         * 机器标识占用的位数，默认5位
+         *
+         * @param machineBits 位数
+         * @return this
+         */
+        public Builder machineBits(int machineBits) {
+            this.machineBits = machineBits;
+            return this;
+        }
+
+        /**
+         * 数据中心占用的位数，默认5位
+         *
+         * @param datacenterBits 位数
+         * @return this
+         */
+        public Builder datacenterBits(int datacenterBits) {
+            this.datacenterBits = datacenterBits;
+            return this;
+        }
+
+        public Builder datacenterId(long datacenterId) {
+            this.datacenterId = datacenterId;
+            return this;
+        }
+
+        public Builder machineId(long machineId) {
+            this.machineId = machineId;
+            return this;
+        }
+
+        /**
+         * 时钟回拨策略，默认 {@link ClockStrategy#FAIL}
+         *
+         * @param clockStrategy 时钟回拨策略
+         * @return this
+         */
+        public Builder clockStrategy(ClockStrategy clockStrategy) {
+            this.clockStrategy = clockStrategy;
+            return this;
+        }
+
+        /**
+         * 时钟回拨策略及可容忍的回拨或借用毫秒数，默认10毫秒
+         *
+         * @param clockStrategy   时钟回拨策略
+         * @param toleranceMillis 可容忍的毫秒数
+         * @return this
+         */
+        public Builder clockStrategy(ClockStrategy clockStrategy, long toleranceMillis) {
+            this.clockStrategy = clockStrategy;
+            this.toleranceMillis = toleranceMillis;
+            return this;
+        }
+
+        /**
+         * 由分配器自动分配数据中心和机器标识，两者合起来作为工作节点标识，优先于手动设置的值；
+         * 分配器不可用时退回到 {@link HostHashWorkerIdAllocator}
+         *
+         * @param workerIdAllocator 工作节点标识分配器，由调用方负责关闭
+         * @return this
+         */
+        public Builder workerIdAllocator(WorkerIdAllocator workerIdAllocator) {
+            this.workerIdAllocator = workerIdAllocator;
+            return this;
+        }
+
+        Builder wallClock(LongSupplier wallClock) {
+            this.wallClock = wallClock;
+            return this;
+        }
+
+        public SnowflakeGenerator build() {
+            WorkerIdAllocator lease = null;
+            if (workerIdAllocator != null && machineBits >= 0 && datacenterBits >= 0 && machineBits + datacenterBits < 31) {
+                long workerId = acquireWorkerId(workerIdAllocator, ~(-1L << (machineBits + datacenterBits)));
+                machineId = workerId & ~(-1L << machineBits);
+                datacenterId = workerId >>> machineBits;
+                // 退回到散列的标识时分配器没有租约
+                lease = workerIdAllocator.isValid() ? workerIdAllocator : null;
+            }
+            return new SnowflakeGenerator(this, null, lease);
+        }
+    }
+
+    /**
+     * 分配状态，同一系列的生成器共享同一个实例
+     */
+    private static final class Sequence {
+        /**
+         * 打包的状态：(上一次时间戳 - epoch) << sequenceBits | 序列号
+         */
+        private final AtomicLong state = new AtomicLong();
+        /**
+         * 最近一次读取到的时钟，用于识别时钟回拨；序列号进位或批量预留会让 state 领先时钟，不能用它判断
+         */
+        private volatile long lastClock;
+        /**
+         * 单调时钟的基准：创建时的时间戳和 {@link System#nanoTime()}
+         */
+        private final long baseTimestamp;
+        private final long baseNanos = System.nanoTime();
+
+        Sequence(long baseTimestamp) {
+            this.baseTimestamp = baseTimestamp;
+        }
+    }
+}
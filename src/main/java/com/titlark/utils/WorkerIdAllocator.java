@@ -0,0 +1,35 @@
+package com.titlark.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 雪花算法工作节点标识（数据中心 + 机器标识）分配器
+ * <p>
+ * 启动时通过 {@link #acquire(long)} 占用一个未被其他进程使用的标识，{@link #close()} 时释放。
+ * 需要续租的实现自行在后台续租，不会阻塞 ID 的生成；租约失效后 {@link SnowflakeGenerator} 拒绝生成 ID。
+ *
+ * @see FileLockWorkerIdAllocator
+ * @see LeaseWorkerIdAllocator
+ * @see HostHashWorkerIdAllocator
+ */
+public interface WorkerIdAllocator extends Closeable {
+
+    /**
+     * 申请一个 0 ~ maxWorkerId 之间未被占用的工作节点标识
+     *
+     * @param maxWorkerId 最大的工作节点标识
+     * @return 工作节点标识
+     * @throws IOException 没有可用的标识或访问存储失败
+     */
+    long acquire(long maxWorkerId) throws IOException;
+
+    /**
+     * 申请到的标识当前是否仍归本进程所有，续租失败后返回 false；生成每个 ID 前都会调用，应当足够轻量
+     *
+     * @return 是否有效
+     */
+    default boolean isValid() {
+        return true;
+    }
+}
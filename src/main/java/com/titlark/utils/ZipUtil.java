@@ -96,9 +96,9 @@ public class ZipUtil {
      * @return true：写入成功 false：写入失败
      */
     private static boolean write(InputStream inputStream, OutputStream outputStream) {
+        byte[] buffer = BufferPool.heap().acquireArray(8192);
         try {
             int len = 0;
-            byte[] buffer = new byte[1024];
             while ((len = inputStream.read(buffer)) != -1) {
                 outputStream.write(buffer, 0, len);
             }
@@ -107,6 +107,8 @@ public class ZipUtil {
         } catch (IOException e) {
             e.printStackTrace();
             return false;
+        } finally {
+            BufferPool.heap().release(buffer);
         }
     }
 
@@ -0,0 +1,89 @@
+package com.titlark.entity;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 地区代码对照表测试类
+ */
+public class AreaCodeMappingTableTest extends TestCase {
+
+    public void testGetRegion() {
+        assertEquals("北京市东城区", AreaCodeMappingTable.getRegion("110101"));
+        assertEquals("北京市东城区", AreaCodeMappingTable.getRegion(110101));
+        assertNull(AreaCodeMappingTable.getRegion("999999"));
+        assertNull(AreaCodeMappingTable.getRegion("11010x"));
+        assertNull(AreaCodeMappingTable.getRegion("1101011"));
+        assertNull(AreaCodeMappingTable.getRegion((String) null));
+    }
+
+    public void testResolveRegion() {
+        Region county = AreaCodeMappingTable.resolveRegion("130102");
+        assertEquals("河北省", county.getProvince());
+        assertEquals("石家庄市", county.getCity());
+        assertEquals("长安区", county.getCounty());
+        assertEquals(130000, county.getProvinceCode());
+        assertEquals(130100, county.getCityCode());
+        assertEquals(Region.LEVEL_COUNTY, county.getLevel());
+
+        // 直辖市没有地级一级
+        Region district = AreaCodeMappingTable.resolveRegion(110101);
+        assertEquals("北京市", district.getProvince());
+        assertNull(district.getCity());
+        assertEquals("东城区", district.getCounty());
+
+        // 未收录的县级代码回退到地级、省级
+        assertEquals(130100, AreaCodeMappingTable.resolveRegion(130199).getCode());
+        assertEquals(130000, AreaCodeMappingTable.resolveRegion(139999).getCode());
+        assertNull(AreaCodeMappingTable.resolveRegion(990101));
+
+        // 同一省份的名称实例共享
+        assertSame(county.getProvince(), AreaCodeMappingTable.resolveRegion(130104).getProvince());
+    }
+
+    /**
+     * 从外部文件重新加载代码表
+     */
+    public void testReload() throws Exception {
+        Map<Integer, String> table = new TreeMap<>();
+        table.put(110000, "北京市");
+        table.put(110101, "北京市东城区");
+        table.put(990101, "测试省测试县");
+        File file = File.createTempFile("area-code", ".bin");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            AreaCodeTableFile.write(table, out);
+        }
+        try {
+            assertEquals(3, AreaCodeMappingTable.reload(AreaCodeLoader.file(file.toPath())));
+            assertEquals("测试省测试县", AreaCodeMappingTable.getRegion(990101));
+            assertNull(AreaCodeMappingTable.getRegion(130102));
+        } finally {
+            AreaCodeMappingTable.reload(AreaCodeLoader.classpath());
+        }
+        assertEquals("河北省石家庄市长安区", AreaCodeMappingTable.getRegion(130102));
+    }
+
+    /**
+     * 对比一次性读入与内存映射两种加载方式的耗时
+     */
+    public void testLoadBenchmark() throws Exception {
+        ByteBuffer resource = AreaCodeLoader.classpath().load();
+        File file = File.createTempFile("area-code", ".bin");
+        file.deleteOnExit();
+        try (FileChannel channel = new FileOutputStream(file).getChannel()) {
+            channel.write(resource);
+        }
+        TimeTracker.track("类路径一次性读入", () -> AreaCodeMappingTable.reload(AreaCodeLoader.classpath()));
+        TimeTracker.track("内存映射文件", () -> AreaCodeMappingTable.reload(AreaCodeLoader.file(file.toPath())));
+        AreaCodeMappingTable.reload(AreaCodeLoader.classpath());
+    }
+}
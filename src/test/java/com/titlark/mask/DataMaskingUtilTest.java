@@ -1,5 +1,6 @@
 package com.titlark.mask;
 
+import com.titlark.track.TimeTracker;
 import junit.framework.TestCase;
 
 /**
@@ -25,4 +26,59 @@ public class DataMaskingUtilTest extends TestCase {
         System.out.println("mask = " + mask);
     }
 
+    public void testMaskTo() {
+        DataMaskingUtil.setDefaultMaskSymbol("*");
+        assertEquals("士*****", DataMaskingUtil.maskName("士大夫士大夫"));
+        assertEquals("110101********1234", DataMaskingUtil.maskIdCard("110101199001011234"));
+        assertEquals("*c", DataMaskingUtil.mask("abc", 0, 2));
+
+        StringBuilder out = new StringBuilder("name=");
+        DataMaskingUtil.maskName("士大夫", out).append(", idCard=");
+        DataMaskingUtil.maskIdCard("110101199001011234", out);
+        assertEquals("name=士**, idCard=110101********1234", out.toString());
+
+        char[] dest = new char[32];
+        int len = DataMaskingUtil.maskIdCard("110101199001011234", dest, 2);
+        assertEquals("110101********1234", new String(dest, 2, len));
+        len = DataMaskingUtil.maskName(new StringBuilder("士大夫"), dest, 0);
+        assertEquals("士**", new String(dest, 0, len));
+        len = DataMaskingUtil.mask("abcdef", 1, 4, dest, 0);
+        assertEquals("a*ef", new String(dest, 0, len));
+    }
+
+    public void testEmptyMaskSymbol() {
+        DataMaskingUtil.setDefaultMaskSymbol("#");
+        DataMaskingUtil.setDefaultMaskSymbol(null);
+        assertEquals("士**", DataMaskingUtil.maskName("士大夫"));
+        DataMaskingUtil.setDefaultMaskSymbol("#");
+        DataMaskingUtil.setDefaultMaskSymbol("");
+        assertEquals("士**", DataMaskingUtil.maskName("士大夫"));
+    }
+
+    /**
+     * 对比逐字符拼接与缓存脱敏符号连续段的耗时
+     */
+    public void testBenchmark() {
+        DataMaskingUtil.setDefaultMaskSymbol("*");
+        int rounds = 1_000_000;
+        String idCard = "110101199001011234";
+        StringBuilder out = new StringBuilder(32);
+        long[] lengths = new long[2];
+        TimeTracker.track("逐字符拼接 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                StringBuilder sb = new StringBuilder();
+                for (int j = 0; j < 8; j++) {
+                    sb.append("*");
+                }
+                lengths[0] += (idCard.substring(0, 6) + sb + idCard.substring(idCard.length() - 4)).length();
+            }
+        });
+        TimeTracker.track("写入调用方 StringBuilder " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                out.setLength(0);
+                lengths[1] += DataMaskingUtil.maskIdCard(idCard, out).length();
+            }
+        });
+        assertEquals(lengths[0], lengths[1]);
+    }
 }
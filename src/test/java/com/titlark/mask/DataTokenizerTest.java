@@ -0,0 +1,85 @@
+package com.titlark.mask;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 保留格式的确定性脱敏测试类
+ */
+public class DataTokenizerTest extends TestCase {
+
+    private final DataTokenizer tokenizer = new DataTokenizer("secret");
+
+    public void testTokenize() {
+        String idCard = tokenizer.tokenizeIdCard("11010519491231002X");
+        assertEquals(18, idCard.length());
+        assertTrue(idCard.startsWith("110105") && idCard.endsWith("002X"));
+        assertTrue(idCard.substring(6, 14).chars().allMatch(Character::isDigit));
+        assertEquals(idCard, tokenizer.tokenizeIdCard("11010519491231002X"));
+        assertEquals(idCard, new DataTokenizer("secret").tokenizeIdCard("11010519491231002X"));
+        assertFalse(idCard.equals(new DataTokenizer("other").tokenizeIdCard("11010519491231002X")));
+
+        String phone = tokenizer.tokenizePhone("13812345678");
+        assertTrue(phone.matches("138\\d{4}5678"));
+        assertFalse(phone.equals(tokenizer.tokenizePhone("13812355678")));
+
+        String email = tokenizer.tokenizeEmail("Alice.Smith_01@163.com");
+        assertTrue(email, email.matches("A[a-z]{4}\\.[A-Z][a-z]{4}_\\d{2}@163\\.com"));
+        assertEquals("a@163.com", tokenizer.tokenizeEmail("a@163.com"));
+
+        // 释放线程上下文后结果不变
+        tokenizer.removeContext();
+        assertEquals(phone, tokenizer.tokenizePhone("13812345678"));
+    }
+
+    /**
+     * 手机号码中间 4 位的全部 10000 种取值必须一一对应
+     */
+    public void testPhoneDigitsAreInjective() {
+        DataTokenizer uncached = new DataTokenizer("secret".getBytes(), 0);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            String token = uncached.tokenizePhone(String.format("138%04d5678", i));
+            assertTrue(token, token.matches("138\\d{4}5678"));
+            assertTrue("重复的假名: " + token, tokens.add(token));
+        }
+        // 不同的前后缀使用不同的调整值
+        assertFalse(uncached.tokenizePhone("13800005678").substring(3, 7)
+                .equals(uncached.tokenizePhone("13900005678").substring(3, 7)));
+    }
+
+    public void testLongDigitRuns() {
+        DataTokenizer uncached = new DataTokenizer("secret".getBytes(), 0);
+        String phone = "1380123456789012345678901235678";
+        String token = uncached.tokenizePhone(phone);
+        assertEquals(phone.length(), token.length());
+        assertTrue(token, token.matches("138\\d+5678"));
+        assertEquals(token, uncached.tokenizePhone(phone));
+    }
+
+    /**
+     * 对比无缓存与缓存命中的耗时
+     */
+    public void testBenchmark() {
+        int rounds = 1_000_000;
+        String[] phones = new String[1000];
+        for (int i = 0; i < phones.length; i++) {
+            phones[i] = "138" + (10000000 + i * 7919);
+        }
+        DataTokenizer uncached = new DataTokenizer("secret".getBytes(), 0);
+        // 每次未命中需要 10 轮 HMAC，无缓存时只测十分之一的次数
+        TimeTracker.track("无缓存 " + rounds / 10 + " 次", () -> {
+            for (int i = 0; i < rounds / 10; i++) {
+                uncached.tokenizePhone(phones[i % phones.length]);
+            }
+        });
+        TimeTracker.track("缓存命中 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                tokenizer.tokenizePhone(phones[i % phones.length]);
+            }
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.titlark.mask;
+
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 脱敏策略测试类
+ */
+public class MaskingPolicyTest extends TestCase {
+
+    private final MaskingPolicy policy = MaskingPolicy.builder()
+            .name("name")
+            .phone("mobile")
+            .idCard("idCard")
+            .email("email")
+            .keepLast("bankCard", 4)
+            .fixedWidth("password", 6)
+            .build();
+
+    public void testMask() {
+        assertEquals("张**", policy.mask("name", "张三丰"));
+        assertEquals("138****5678", policy.mask("mobile", "13812345678"));
+        assertEquals("110101********1234", policy.mask("idCard", "110101199001011234"));
+        assertEquals("a**@163.com", policy.mask("email", "abc@163.com"));
+        assertEquals("************3456", policy.mask("bankCard", "6222020012343456"));
+        assertEquals("******", policy.mask("password", "123"));
+        assertEquals("***", policy.mask("mobile", "138"));
+        assertEquals("abc", policy.mask("other", "abc"));
+
+        MaskingPolicy hash = MaskingPolicy.builder().maskSymbol("#").phone("mobile").name("name").build();
+        assertEquals("138####5678", hash.mask("mobile", "13812345678"));
+        assertEquals("张##", hash.mask("name", "张三丰"));
+    }
+
+    /**
+     * 姓名规则与 DataMaskingUtil.maskName 一致，单个字符的姓名不脱敏
+     */
+    public void testNameMatchesDataMaskingUtil() {
+        assertEquals("", policy.mask("name", ""));
+        assertEquals("张", policy.mask("name", "张"));
+        assertEquals("张*", policy.mask("name", "张三"));
+        assertEquals("欧***", policy.mask("name", "欧阳娜娜"));
+    }
+
+    public void testNegativeFixedWidth() {
+        try {
+            MaskingPolicy.builder().fixedWidth("password", -1);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testApplyMap() {
+        Map<String, Object> record = new HashMap<>();
+        record.put("name", "张三丰");
+        record.put("mobile", "13812345678");
+        record.put("age", 18);
+        Map<String, Object> masked = policy.apply(record);
+        assertEquals("张**", masked.get("name"));
+        assertEquals("138****5678", masked.get("mobile"));
+        assertEquals(18, masked.get("age"));
+        assertEquals("张三丰", record.get("name"));
+    }
+
+    public void testApplyBean() {
+        User user = new User();
+        user.name = "张三丰";
+        user.mobile = "13812345678";
+        user.email = "abc@163.com";
+        policy.apply(user);
+        assertEquals("张**", user.name);
+        assertEquals("138****5678", user.mobile);
+        assertEquals("a**@163.com", user.email);
+    }
+
+    private static class Person {
+        String name;
+    }
+
+    private static class User extends Person {
+        String mobile;
+        String email;
+    }
+}
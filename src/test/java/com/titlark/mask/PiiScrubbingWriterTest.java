@@ -0,0 +1,131 @@
+package com.titlark.mask;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 敏感信息脱敏输出流测试类
+ */
+public class PiiScrubbingWriterTest extends TestCase {
+
+    private static final String LOG = "用户 张三 身份证:11010519491231002X, 手机 13812345678, 邮箱 abc@163.com. "
+            + "订单号 138123456789 无效证件 110105194912310021 trace=a13812345678";
+
+    private static final String EXPECTED = "用户 张三 身份证:110105********002X, 手机 138****5678, 邮箱 a**@163.com. "
+            + "订单号 138123456789 无效证件 110105194912310021 trace=a138****5678";
+
+    public void testWriter() throws IOException {
+        StringWriter target = new StringWriter();
+        try (Writer writer = new PiiScrubbingWriter(target)) {
+            // 逐字符写入，验证跨多次写入的敏感信息也能被识别
+            for (int i = 0; i < LOG.length(); i++) {
+                writer.write(LOG.charAt(i));
+                if (i % 7 == 0) writer.flush();
+            }
+        }
+        assertEquals(EXPECTED, target.toString());
+    }
+
+    public void testOutputStream() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (OutputStream out = new PiiScrubbingOutputStream(target)) {
+            out.write(LOG.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(EXPECTED, new String(target.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testOutputStreamMaskSymbol() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (OutputStream out = new PiiScrubbingOutputStream(target, "#")) {
+            out.write("手机 13812345678".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals("手机 138####5678", new String(target.toByteArray(), StandardCharsets.UTF_8));
+        try {
+            new PiiScrubbingOutputStream(new ByteArrayOutputStream(), "●");
+            fail("非 ASCII 脱敏符号应被拒绝");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        StringWriter writer = new StringWriter();
+        try (Writer scrubbing = new PiiScrubbingWriter(writer, "●")) {
+            scrubbing.write("手机 13812345678");
+        }
+        assertEquals("手机 138●●●●5678", writer.toString());
+    }
+
+    public void testReader() throws IOException {
+        StringBuilder result = new StringBuilder();
+        try (PiiScrubbingReader reader = new PiiScrubbingReader(new StringReader(LOG))) {
+            char[] buf = new char[5];
+            int len;
+            while ((len = reader.read(buf, 0, buf.length)) != -1) {
+                result.append(buf, 0, len);
+            }
+        }
+        assertEquals(EXPECTED, result.toString());
+    }
+
+    public void testReaderSkip() throws IOException {
+        try (PiiScrubbingReader reader = new PiiScrubbingReader(new StringReader("手机 13812345678"))) {
+            assertEquals(0, reader.skip(0));
+            try {
+                reader.skip(-1);
+                fail();
+            } catch (IllegalArgumentException expected) {
+            }
+            assertEquals(3, reader.skip(3));
+            char[] buf = new char[32];
+            assertEquals("138****5678", new String(buf, 0, reader.read(buf, 0, buf.length)));
+        }
+    }
+
+    public void testPrefixedDigitRuns() throws IOException {
+        assertEquals("+86138****5678", scrub("+8613812345678"));
+        assertEquals("tel:+86138****5678", scrub("tel:+8613812345678"));
+        assertEquals("0086138****5678", scrub("008613812345678"));
+        assertEquals("uid_138****5678", scrub("uid_13812345678"));
+        assertEquals("x-138****5678", scrub("x-13812345678"));
+        assertEquals("...138****5678...", scrub("...13812345678..."));
+        assertEquals("id=110105********002X;", scrub("id=11010519491231002X;"));
+        assertEquals("no.110105********002X-", scrub("no.11010519491231002X-"));
+        assertEquals("...a**@163.com.", scrub("...abc@163.com."));
+        // 更长的数字串不是手机号码
+        assertEquals("+8613812345678901", scrub("+8613812345678901"));
+    }
+
+    /**
+     * 超长候选词（如 base64、URL 编码的片段）中的手机号码和身份证号码
+     */
+    public void testOverflowToken() throws IOException {
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            prefix.append((char) ('a' + i % 26));
+        }
+        assertEquals(prefix + "-138****5678", scrub(prefix + "-13812345678"));
+        assertEquals(prefix + "%2B86138****5678.x", scrub(prefix + "%2B8613812345678.x"));
+        assertEquals(prefix + "_110105********002X_end", scrub(prefix + "_11010519491231002X_end"));
+        // 数字串跨越超长的边界
+        String head = prefix.substring(0, 250);
+        assertEquals(head + "138****5678" + prefix, scrub(head + "13812345678" + prefix));
+        // 数字串过长或不是手机号码时原样输出
+        assertEquals(prefix + "1381234567812345678901", scrub(prefix + "1381234567812345678901"));
+        assertEquals(prefix + "12345678901", scrub(prefix + "12345678901"));
+        // 超长之前已完整的数字串同样脱敏
+        assertEquals("138****5678-" + prefix, scrub("13812345678-" + prefix));
+    }
+
+    private static String scrub(String text) throws IOException {
+        StringWriter target = new StringWriter();
+        try (Writer writer = new PiiScrubbingWriter(target)) {
+            writer.write(text);
+        }
+        return target.toString();
+    }
+}
@@ -2,6 +2,10 @@ package com.titlark.security;
 
 import junit.framework.TestCase;
 
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 /**
  * 签名/验签工具类
  */
@@ -21,4 +25,10 @@ public class SignatureUtilTest  extends TestCase {
         boolean verify = SignatureUtil.verifySignature(KEY, plainText, signature);
         System.out.println("verify = " + verify);
     }
+
+    public void testCreateHmacSha256() {
+        Mac mac = SignatureUtil.createHmacSha256(KEY.getBytes(StandardCharsets.UTF_8));
+        String signature = Base64.getEncoder().encodeToString(mac.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(SignatureUtil.signature(KEY, plainText), signature);
+    }
 }
@@ -0,0 +1,113 @@
+package com.titlark.utils;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 缓冲区池
+ */
+public class BufferPoolTest extends TestCase {
+
+    public void testSizeClasses() {
+        BufferPool pool = new BufferPool(false, 4);
+        assertEquals(1024, pool.acquireArray(1).length);
+        assertEquals(1024, pool.acquireArray(1024).length);
+        assertEquals(2048, pool.acquireArray(1025).length);
+        assertEquals(4 * 1024 * 1024, pool.acquireArray(3 * 1024 * 1024).length);
+        // 超出最大级别，按需分配
+        assertEquals(5 * 1024 * 1024, pool.acquireArray(5 * 1024 * 1024).length);
+    }
+
+    public void testReuse() {
+        BufferPool pool = new BufferPool(false, 4);
+        byte[] first = pool.acquireArray(8192);
+        assertEquals(1, pool.getMissCount());
+        pool.release(first);
+        assertSame(first, pool.acquireArray(8000));
+        assertEquals(1, pool.getHitCount());
+
+        // 归还的缓冲区进入共享队列，其他线程也能借到
+        byte[] second = pool.acquireArray(8192);
+        pool.release(first);
+        pool.release(second);
+        byte[][] borrowed = new byte[1][];
+        Thread thread = new Thread(() -> borrowed[0] = pool.acquireArray(8192));
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            fail();
+        }
+        assertTrue(borrowed[0] == first || borrowed[0] == second);
+
+        // 非级别大小的数组不回收
+        pool.release(new byte[1000]);
+        pool.release((byte[]) null);
+    }
+
+    /**
+     * 每次新建线程申请、归还，缓冲区不会随线程一起被丢弃
+     */
+    public void testShortLivedThreads() throws InterruptedException {
+        BufferPool pool = new BufferPool(true, 4);
+        for (int i = 0; i < 100; i++) {
+            Thread thread = new Thread(() -> pool.release(pool.acquire(8192)));
+            thread.start();
+            thread.join();
+        }
+        System.out.println(pool);
+        assertEquals(1, pool.getMissCount());
+        assertEquals(99, pool.getHitCount());
+    }
+
+    public void testDirect() {
+        BufferPool pool = new BufferPool(true, 4);
+        ByteBuffer buffer = pool.acquire(100_000);
+        assertTrue(buffer.isDirect());
+        assertEquals(128 * 1024, buffer.capacity());
+        buffer.put((byte) 1).flip();
+        pool.release(buffer);
+        ByteBuffer again = pool.acquire(100_000);
+        assertSame(buffer, again);
+        assertEquals(0, again.position());
+        assertEquals(again.capacity(), again.limit());
+        // 堆内缓冲区不会进入直接内存池
+        pool.release(ByteBuffer.allocate(128 * 1024));
+        try {
+            pool.acquireArray(1024);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    public void testHeapByteBuffer() {
+        BufferPool pool = new BufferPool(false, 4);
+        ByteBuffer buffer = pool.acquire(4096);
+        assertFalse(buffer.isDirect());
+        pool.release(buffer);
+        assertSame(buffer.array(), pool.acquireArray(4096));
+    }
+
+    public void testBenchmark() {
+        int rounds = 1_000_000;
+        long[] sum = new long[1];
+        TimeTracker.track("new byte[8192] " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                byte[] buffer = new byte[8192];
+                sum[0] += buffer.length;
+            }
+        });
+        BufferPool pool = new BufferPool(false, 16);
+        TimeTracker.track("缓冲区池 8192 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                byte[] buffer = pool.acquireArray(8192);
+                sum[0] += buffer.length;
+                pool.release(buffer);
+            }
+        });
+        System.out.println(pool);
+        assertEquals(rounds - 1, pool.getHitCount());
+    }
+}
@@ -1,12 +1,52 @@
 package com.titlark.utils;
 
+import com.titlark.track.TimeTracker;
 import junit.framework.TestCase;
 
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
 public class EmailUtilTest extends TestCase {
 
+    private final String[] samples = {"abc@163.com", "a.b+c@mail.example.co", "abc@163.c", "@163.com", "abc@.com",
+            "abc@163..com", "abc@163.com1", "abc@@163.com", "ab c@163.com", "邮箱@163.com", "abc@163", "a@b.cn"};
+
     public void testIsValidEmail() {
         String email = "abc@163.com";
         boolean validEmail = EmailUtil.isValidEmail(email);
         System.out.println("validEmail = " + validEmail);
     }
+
+    /**
+     * 与原正则表达式的结果保持一致
+     */
+    public void testSameAsRegex() {
+        Pattern regex = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+        for (String sample : samples) {
+            boolean expected = regex.matcher(sample).matches();
+            assertEquals(sample, expected, EmailUtil.isValidEmail(sample));
+            byte[] utf8 = sample.getBytes(StandardCharsets.UTF_8);
+            assertEquals(sample, expected, EmailUtil.isValidEmail(utf8, 0, utf8.length));
+        }
+        assertFalse(EmailUtil.isValidEmail((String) null));
+    }
+
+    /**
+     * 对比正则与查表校验的耗时
+     */
+    public void testBenchmark() {
+        int rounds = 1_000_000;
+        int[] hits = new int[2];
+        TimeTracker.track("正则校验 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                if (Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$").matcher(samples[i % samples.length]).matches()) hits[0]++;
+            }
+        });
+        TimeTracker.track("查表校验 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                if (EmailUtil.isValidEmail(samples[i % samples.length])) hits[1]++;
+            }
+        });
+        assertEquals(hits[0], hits[1]);
+    }
 }
@@ -0,0 +1,246 @@
+package com.titlark.utils;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文件工具类
+ */
+public class FileUtilTest extends TestCase {
+
+    private File directory;
+
+    @Override
+    protected void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-util").toFile();
+    }
+
+    @Override
+    protected void tearDown() {
+        delete(directory);
+    }
+
+    public void testRead() throws IOException {
+        for (int size : new int[]{0, 1, 256 * 1024, 1024 * 1024 + 7}) {
+            File file = randomFile("read-" + size, size);
+            byte[] expected = Files.readAllBytes(file.toPath());
+            assertTrue(Arrays.equals(expected, FileUtil.read(file)));
+            assertTrue(Arrays.equals(expected, FileUtil.read(file.getPath())));
+
+            MappedByteBuffer mapped = FileUtil.readMapped(file);
+            assertTrue(mapped.isReadOnly());
+            byte[] actual = new byte[mapped.remaining()];
+            mapped.get(actual);
+            assertTrue(Arrays.equals(expected, actual));
+        }
+        assertNull(FileUtil.read(new File(directory, "missing")));
+
+        // 超过 2G 的稀疏文件不能映射为一个缓冲区
+        File huge = new File(directory, "huge");
+        try (RandomAccessFile raf = new RandomAccessFile(huge, "rw")) {
+            raf.setLength(Integer.MAX_VALUE + 1L);
+        }
+        assertNull(FileUtil.readMapped(huge));
+        assertTrue(huge.delete());
+    }
+
+    /**
+     * 原来经过 ByteArrayOutputStream 的读取与按文件大小一次分配的对比
+     */
+    public void testReadBenchmark() throws IOException {
+        File file = randomFile("large", 64 * 1024 * 1024);
+        TimeTracker.track("ByteArrayOutputStream 读取 64M", () -> {
+            try (FileInputStream fis = new FileInputStream(file)) {
+                assertEquals(file.length(), FileUtil.convert(fis).length);
+            }
+        });
+        TimeTracker.track("按大小读取 64M", () -> {
+            assertEquals(file.length(), FileUtil.read(file).length);
+        });
+        TimeTracker.track("内存映射 64M", () -> {
+            assertEquals(file.length(), FileUtil.readMapped(file).remaining());
+        });
+    }
+
+    public void testBase64Streaming() throws IOException {
+        for (int size : new int[]{0, 1, 2, 3, 100_001}) {
+            File in = randomFile("base64-" + size, size);
+            byte[] data = Files.readAllBytes(in.toPath());
+            String expected = Base64.getEncoder().encodeToString(data);
+
+            StringWriter writer = new StringWriter();
+            assertTrue(FileUtil.writeBase64(in, writer));
+            assertEquals(expected, writer.toString());
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            assertTrue(FileUtil.writeBase64(in, bytes));
+            assertEquals(expected, bytes.toString("US-ASCII"));
+
+            File out = new File(directory, "decoded-" + size);
+            assertTrue(FileUtil.convertFile(new StringBuilder(expected), out));
+            assertTrue(Arrays.equals(data, Files.readAllBytes(out.toPath())));
+            assertTrue(FileUtil.convertFile(new StringReader(expected), out));
+            assertTrue(Arrays.equals(data, Files.readAllBytes(out.toPath())));
+            assertTrue(FileUtil.convertFile(new ByteArrayInputStream(bytes.toByteArray()), out));
+            assertTrue(Arrays.equals(data, Files.readAllBytes(out.toPath())));
+            assertTrue(FileUtil.convertFile(expected, out));
+            assertTrue(Arrays.equals(data, Files.readAllBytes(out.toPath())));
+        }
+        File out = new File(directory, "invalid");
+        assertFalse(FileUtil.convertFile("QUJD*A==", out));
+        assertFalse(FileUtil.convertFile(new StringBuilder("QUJ\u0144"), out));
+        assertFalse(out.exists());
+
+        // 非法输入不会破坏已有的文件，也不会留下临时文件
+        File existing = new File(directory, "existing");
+        Files.write(existing.toPath(), "ABC".getBytes("US-ASCII"));
+        assertFalse(FileUtil.convertFile("QUJDREVGR0hJSktM" + "*A==", existing));
+        assertFalse(FileUtil.convertFile(new StringReader("QUJDREVG\u0144"), existing));
+        assertEquals("ABC", new String(Files.readAllBytes(existing.toPath()), "US-ASCII"));
+        assertTrue(FileUtil.convertFile("REVG", existing));
+        assertEquals("DEF", new String(Files.readAllBytes(existing.toPath()), "US-ASCII"));
+        String[] left = directory.list((dir, name) -> name.endsWith(".tmp"));
+        assertEquals(0, left.length);
+
+        // 符号链接保留，替换其指向的文件，权限沿用原文件
+        Path link = new File(directory, "link").toPath();
+        try {
+            Files.createSymbolicLink(link, existing.toPath());
+        } catch (UnsupportedOperationException | IOException e) {
+            return;
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(existing.toPath(), permissions);
+        assertTrue(FileUtil.convertFile("QUJD", link.toFile()));
+        assertTrue(Files.isSymbolicLink(link));
+        assertEquals("ABC", new String(Files.readAllBytes(existing.toPath()), "US-ASCII"));
+        assertEquals(permissions, Files.getPosixFilePermissions(existing.toPath()));
+        Files.delete(link);
+    }
+
+    public void testCopy() throws IOException {
+        for (int size : new int[]{0, 1, 1023, 1024 * 1024 + 7}) {
+            File in = randomFile("in-" + size, size);
+            File out = new File(directory, "out-" + size);
+            FileUtil.CopyResult result = FileUtil.copy(in, out);
+            assertEquals(size, result.getBytes());
+            assertTrue(Arrays.equals(Files.readAllBytes(in.toPath()), Files.readAllBytes(out.toPath())));
+        }
+    }
+
+    public void testCopyFileOverwrites() throws IOException {
+        File in = randomFile("in", 100);
+        File out = randomFile("out", 10_000);
+        assertTrue(FileUtil.copyFile(in, out, 16));
+        assertTrue(Arrays.equals(Files.readAllBytes(in.toPath()), Files.readAllBytes(out.toPath())));
+        assertFalse(FileUtil.copyFile(new File(directory, "missing"), out));
+    }
+
+    public void testCopyParallel() throws IOException {
+        File in = randomFile("in", 20 * 1024 * 1024 + 3);
+        File out = new File(directory, "out");
+        AtomicLong last = new AtomicLong();
+        FileUtil.CopyResult result = FileUtil.copyParallel(in, out, 4, (copied, total) -> {
+            assertEquals(in.length(), total);
+            last.accumulateAndGet(copied, Math::max);
+        });
+        assertEquals(in.length(), result.getBytes());
+        assertEquals(in.length(), last.get());
+        assertTrue(Arrays.equals(Files.readAllBytes(in.toPath()), Files.readAllBytes(out.toPath())));
+    }
+
+    public void testCopyDirectory() throws IOException {
+        File source = new File(directory, "source");
+        new File(source, "a/b").mkdirs();
+        new File(source, "empty").mkdirs();
+        File[] files = {
+                randomFile("source/root.txt", 10),
+                randomFile("source/a/one.bin", 100_000),
+                randomFile("source/a/b/two.bin", 3_000_000)
+        };
+        File target = new File(directory, "target");
+        AtomicLong last = new AtomicLong();
+        FileUtil.CopyResult result = FileUtil.copyDirectory(source, target, 2, (copied, total) -> last.accumulateAndGet(copied, Math::max));
+        assertEquals(3_100_010, result.getBytes());
+        assertEquals(3_100_010, last.get());
+        assertTrue(new File(target, "empty").isDirectory());
+        for (File file : files) {
+            File copied = new File(target, source.toPath().relativize(file.toPath()).toString());
+            assertTrue(Arrays.equals(Files.readAllBytes(file.toPath()), Files.readAllBytes(copied.toPath())));
+        }
+    }
+
+    /**
+     * 单线程 transferTo 与多线程分区间拷贝的吞吐量对比
+     */
+    public void testParallelCopyBenchmark() throws IOException {
+        File in = randomFile("large", 128 * 1024 * 1024);
+        File out = new File(directory, "out");
+        for (int parallelism : new int[]{1, 2, 4}) {
+            FileUtil.CopyResult result = FileUtil.copyParallel(in, out, parallelism, null);
+            System.out.println(parallelism + " 线程：" + result);
+        }
+        assertEquals(in.length(), out.length());
+    }
+
+    /**
+     * 与原来 1K 字节数组流式拷贝的对比
+     */
+    public void testCopyBenchmark() throws IOException {
+        File in = randomFile("large", 64 * 1024 * 1024);
+        File streamed = new File(directory, "streamed");
+        File transferred = new File(directory, "transferred");
+        TimeTracker.track("流式拷贝 64M", () -> {
+            try (FileInputStream fis = new FileInputStream(in); FileOutputStream fos = new FileOutputStream(streamed)) {
+                byte[] buffer = new byte[1024];
+                int len;
+                while ((len = fis.read(buffer)) != -1) {
+                    fos.write(buffer, 0, len);
+                }
+            }
+        });
+        FileUtil.CopyResult[] result = new FileUtil.CopyResult[1];
+        TimeTracker.track("transferTo 拷贝 64M", () -> {
+            result[0] = FileUtil.copy(in, transferred);
+        });
+        System.out.println("result = " + result[0]);
+        assertEquals(in.length(), transferred.length());
+    }
+
+    File randomFile(String name, int size) throws IOException {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        File file = new File(directory, name);
+        Files.write(file.toPath(), data);
+        return file;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
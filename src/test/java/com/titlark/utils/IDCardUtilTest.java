@@ -1,7 +1,18 @@
 package com.titlark.utils;
 
+import com.titlark.entity.IdCardInfo;
+import com.titlark.entity.MutableIdCardInfo;
+import com.titlark.track.TimeTracker;
 import junit.framework.TestCase;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 /**
  * 身份证工具测试类
  */
@@ -42,4 +53,108 @@ public class IDCardUtilTest extends TestCase {
         String gender = IDCardUtil.getGender(idCard);
         System.out.println("gender = " + gender);
     }
+
+    /**
+     * 出生日期需为真实存在的日期
+     */
+    public void testIsValidIdCardCalendar() {
+        assertTrue(IDCardUtil.isValidIdCard("11010519491231002X"));
+        assertFalse(IDCardUtil.isValidIdCard("11010519491231002x"));
+        assertFalse(IDCardUtil.isValidIdCard("110105194912310020"));
+        assertTrue(IDCardUtil.isValidIdCard("110101200002290018"));
+        assertFalse(IDCardUtil.isValidIdCard("110101190002290011"));
+        assertFalse(IDCardUtil.isValidIdCard("110101199002300014"));
+        assertFalse(IDCardUtil.isValidIdCard("011010519491231002"));
+        assertFalse(IDCardUtil.isValidIdCard((CharSequence) null));
+    }
+
+    public void testValidateAll() {
+        String[] idCards = {"11010519491231002X", idCard, null, "110101200002290018"};
+        BitSet valid = IDCardUtil.validateAll(idCards);
+        assertEquals("{0, 3}", valid.toString());
+        assertEquals(valid, IDCardUtil.validateAll(Arrays.asList(idCards)));
+    }
+
+    /**
+     * 对比每次编译正则与单次遍历校验的耗时
+     */
+    public void testValidateBenchmark() {
+        String[] idCards = {"11010519491231002X", idCard, "110101200002290018", "110101199002300014"};
+        int rounds = 1_000_000;
+        Pattern regex = Pattern.compile("^[1-9]\\d{5}(18|19|20)\\d{2}(0[1-9]|1[0-2])(0[1-9]|[12]\\d|3[01])\\d{3}[0-9Xx]$");
+        int[] hits = new int[2];
+        TimeTracker.track("正则校验 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                if (Pattern.compile(regex.pattern()).matcher(idCards[i & 3]).matches()) hits[0]++;
+            }
+        });
+        TimeTracker.track("单次遍历校验 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                if (IDCardUtil.isValidIdCard(idCards[i & 3])) hits[1]++;
+            }
+        });
+        System.out.println("hits = " + Arrays.toString(hits));
+    }
+
+    public void testParse() {
+        IdCardInfo info = IDCardUtil.parse("11010519491231002X");
+        assertEquals(19491231, info.getBirthday());
+        assertEquals(LocalDate.of(1949, 12, 31), info.getBirthDate());
+        assertEquals(70, info.getAge(LocalDate.of(2020, 12, 30)));
+        assertEquals(71, info.getAge(LocalDate.of(2020, 12, 31)));
+        assertEquals("女", info.getGender());
+        assertEquals(110105, info.getAreaCode());
+        assertEquals("北京市朝阳区", info.getRegion());
+
+        MutableIdCardInfo holder = new MutableIdCardInfo();
+        assertTrue(IDCardUtil.parse("11010519491231002X", holder));
+        assertEquals(info, holder.toIdCardInfo());
+        assertFalse(IDCardUtil.parse(idCard, holder));
+        assertEquals(19491231, holder.getBirthday());
+    }
+
+    /**
+     * 对比分别调用四个方法与解析一次的耗时
+     */
+    public void testParseBenchmark() {
+        String valid = "11010519491231002X";
+        int rounds = 200_000;
+        MutableIdCardInfo holder = new MutableIdCardInfo();
+        long[] sums = new long[2];
+        TimeTracker.track("分别获取出生日期、年龄、性别、归属地 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                sums[0] += IDCardUtil.getBirthday(valid).length() + IDCardUtil.getAge(valid)
+                        + IDCardUtil.getGender(valid).length() + IDCardUtil.getRegion(valid).length();
+            }
+        });
+        TimeTracker.track("解析一次 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                IDCardUtil.parse(valid, holder);
+                sums[1] += holder.getBirthday() + holder.getAreaCode() + (holder.isMale() ? 1 : 0);
+            }
+        });
+        System.out.println("sums = " + Arrays.toString(sums));
+    }
+
+    /**
+     * 15位身份证号码
+     */
+    public void testLegacyIdCard() {
+        String idCard15 = "110105491231002";
+        assertTrue(IDCardUtil.isValidIdCard(idCard15));
+        assertFalse(IDCardUtil.isValidIdCard("110105490230002"));
+        assertEquals("19491231", IDCardUtil.getBirthday(idCard15));
+        assertEquals("女", IDCardUtil.getGender(idCard15));
+        assertEquals(110105, IDCardUtil.parse(idCard15).getAreaCode());
+
+        assertEquals("11010519491231002X", IDCardUtil.upgradeTo18(idCard15));
+        assertEquals(IDCardUtil.parse(idCard15), IDCardUtil.parse(IDCardUtil.upgradeTo18(idCard15)));
+
+        List<String> idCards = Arrays.asList(idCard15, "11010519491231002X", "abc", null);
+        List<String> expected = Arrays.asList("11010519491231002X", "11010519491231002X", "abc", null);
+        List<String> upgraded = new ArrayList<>();
+        IDCardUtil.upgradeTo18(idCards.iterator()).forEachRemaining(upgraded::add);
+        assertEquals(expected, upgraded);
+        assertEquals(expected, IDCardUtil.upgradeTo18(idCards.stream()).collect(Collectors.toList()));
+    }
 }
@@ -0,0 +1,117 @@
+package com.titlark.utils;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * ID 字符串编码
+ */
+public class IdCodecUtilTest extends TestCase {
+
+    private final long id = 767512617265659917L;
+
+    public void testBase32() {
+        assertEquals("0N9P0N2RC000D", IdCodecUtil.toBase32(id));
+        assertEquals("0000000000000", IdCodecUtil.toBase32(0));
+        assertEquals("FZZZZZZZZZZZZ", IdCodecUtil.toBase32(-1L));
+        assertEquals(id, IdCodecUtil.fromBase32("0N9P0N2RC000D"));
+        // Crockford 容错：小写，O 视为 0
+        assertEquals(id, IdCodecUtil.fromBase32("on9pon2rcooOd"));
+        assertEquals(-1L, IdCodecUtil.fromBase32("FZZZZZZZZZZZZ"));
+        assertInvalid32("GZZZZZZZZZZZZ");
+        assertInvalid32("0N9P0N2RC000U");
+        assertInvalid32("0N9P0N2RC000");
+    }
+
+    public void testBase62() {
+        assertEquals("0uhDO27EkbV", IdCodecUtil.toBase62(id));
+        assertEquals("00000000000", IdCodecUtil.toBase62(0));
+        assertEquals("LygHa16AHYF", IdCodecUtil.toBase62(-1L));
+        assertEquals(id, IdCodecUtil.fromBase62("0uhDO27EkbV"));
+        assertEquals(-1L, IdCodecUtil.fromBase62("LygHa16AHYF"));
+        assertInvalid62("LygHa16AHYG");
+        assertInvalid62("zzzzzzzzzzz");
+        assertInvalid62("0uhDO27Ekb-");
+        assertInvalid62("0uhDO27Ekb");
+    }
+
+    public void testArrays() {
+        char[] chars = new char[30];
+        assertEquals(13, IdCodecUtil.toBase32(id, chars, 2));
+        assertEquals(11, IdCodecUtil.toBase62(id, chars, 15));
+        assertEquals("0N9P0N2RC000D", new String(chars, 2, 13));
+        assertEquals("0uhDO27EkbV", new String(chars, 15, 11));
+
+        byte[] bytes = new byte[30];
+        IdCodecUtil.toBase32(id, bytes, 1);
+        IdCodecUtil.toBase62(id, bytes, 14);
+        assertEquals(id, IdCodecUtil.fromBase32(bytes, 1));
+        assertEquals(id, IdCodecUtil.fromBase62(bytes, 14));
+    }
+
+    public void testSortOrder() {
+        Random random = new Random(42);
+        long[] ids = new long[10_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = random.nextLong() >>> (1 + random.nextInt(63));
+        }
+        ids[0] = 0;
+        ids[1] = Long.MAX_VALUE;
+        Arrays.sort(ids);
+        String[] base32 = new String[ids.length];
+        String[] base62 = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            base32[i] = IdCodecUtil.toBase32(ids[i]);
+            base62[i] = IdCodecUtil.toBase62(ids[i]);
+            assertEquals(ids[i], IdCodecUtil.fromBase32(base32[i]));
+            assertEquals(ids[i], IdCodecUtil.fromBase62(base62[i]));
+        }
+        String[] sorted32 = base32.clone();
+        String[] sorted62 = base62.clone();
+        Arrays.sort(sorted32);
+        Arrays.sort(sorted62);
+        assertTrue(Arrays.equals(base32, sorted32));
+        assertTrue(Arrays.equals(base62, sorted62));
+    }
+
+    public void testBenchmark() {
+        int rounds = 1_000_000;
+        long[] sum = new long[1];
+        char[] buffer = new char[IdCodecUtil.BASE62_LENGTH];
+        TimeTracker.track("Long.toString " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                sum[0] += Long.toString(id + i).length();
+            }
+        });
+        TimeTracker.track("Base32 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                sum[0] += IdCodecUtil.toBase32(id + i).length();
+            }
+        });
+        TimeTracker.track("Base62 写入数组 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                sum[0] += IdCodecUtil.toBase62(id + i, buffer, 0);
+            }
+        });
+        assertTrue(sum[0] > 0);
+    }
+
+    private static void assertInvalid32(String text) {
+        try {
+            IdCodecUtil.fromBase32(text);
+            fail(text);
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static void assertInvalid62(String text) {
+        try {
+            IdCodecUtil.fromBase62(text);
+            fail(text);
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package com.titlark.utils;
 
+import com.titlark.entity.Carrier;
+import com.titlark.entity.PhoneSegmentTable;
+import com.titlark.track.TimeTracker;
 import junit.framework.TestCase;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * 电话工具类
  */
@@ -9,8 +20,89 @@ public class PhoneUtilTest extends TestCase {
 
     private final String phoneNumber = "15666666666";
 
+    private final String[] samples = {phoneNumber, "12666666666", "1566666666", "156666666661", "1566666666a", "25666666666", "19012345678", ""};
+
     public void testIsValidPhoneNumber() {
         boolean validPhoneNumber = PhoneUtil.isValidPhoneNumber(phoneNumber);
         System.out.println("validPhoneNumber = " + validPhoneNumber);
     }
+
+    /**
+     * 与原正则表达式的结果保持一致
+     */
+    public void testSameAsRegex() {
+        Pattern regex = Pattern.compile("^1[3-9]\\d{9}$");
+        for (String sample : samples) {
+            boolean expected = regex.matcher(sample).matches();
+            assertEquals(sample, expected, PhoneUtil.isValidPhoneNumber(sample));
+            byte[] utf8 = sample.getBytes(StandardCharsets.UTF_8);
+            assertEquals(sample, expected, PhoneUtil.isValidPhoneNumber(utf8, 0, utf8.length));
+        }
+        assertFalse(PhoneUtil.isValidPhoneNumber((String) null));
+        assertEquals("{0, 6}", PhoneUtil.validateAll(samples).toString());
+    }
+
+    public void testGetCarrier() {
+        assertEquals(Carrier.CHINA_MOBILE, PhoneUtil.getCarrier("13812345678"));
+        assertEquals(Carrier.CHINA_MOBILE, PhoneUtil.getCarrier("13481234567"));
+        assertEquals(Carrier.CHINA_TELECOM, PhoneUtil.getCarrier("13491234567"));
+        assertEquals(Carrier.CHINA_UNICOM, PhoneUtil.getCarrier(phoneNumber));
+        assertEquals(Carrier.CHINA_BROADNET, PhoneUtil.getCarrier("19212345678"));
+        assertEquals(Carrier.MOBILE_VIRTUAL, PhoneUtil.getCarrier("17031234567"));
+        assertEquals(Carrier.CHINA_MOBILE, PhoneUtil.getCarrier("17031234567").getHost());
+        assertEquals(Carrier.UNICOM_VIRTUAL, PhoneUtil.getCarrier("17112345678"));
+        assertEquals(Carrier.UNKNOWN, PhoneUtil.getCarrier("12345678901"));
+
+        int[] carrierCodes = PhoneUtil.classifyAll(new String[]{"13812345678", "18912345678", "abc"});
+        assertEquals(Carrier.CHINA_MOBILE.getCode(), carrierCodes[0]);
+        assertEquals(Carrier.CHINA_TELECOM.getCode(), carrierCodes[1]);
+        assertEquals(Carrier.UNKNOWN.getCode(), carrierCodes[2]);
+    }
+
+    public void testGetPhoneLocation() throws Exception {
+        Map<Integer, Integer> segments = new HashMap<>();
+        for (int segment = 1380000; segment < 1381000; segment++) {
+            segments.put(segment, segment < 1380500 ? 130100 : 110000);
+        }
+        segments.put(1566666, 130100);
+        File file = File.createTempFile("phone-segment", ".bin");
+        file.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(file)) {
+            PhoneSegmentTable.write(segments, out);
+        }
+        PhoneSegmentTable table = PhoneSegmentTable.map(file.toPath());
+        assertEquals(5, table.size());
+        assertEquals(130100, table.getAreaCode(1380499));
+        assertEquals(110000, table.getAreaCode(1380500));
+        assertEquals(0, table.getAreaCode(1381000));
+        assertEquals(0, table.getAreaCode(1300000));
+
+        PhoneUtil.setSegmentTable(table);
+        try {
+            assertEquals("河北省石家庄市", PhoneUtil.getPhoneLocation(phoneNumber));
+            assertEquals("北京市", PhoneUtil.resolvePhoneRegion("13809991234").getProvince());
+            assertNull(PhoneUtil.getPhoneLocation("13912345678"));
+        } finally {
+            PhoneUtil.setSegmentTable(null);
+        }
+    }
+
+    /**
+     * 对比正则与逐字符校验的耗时
+     */
+    public void testBenchmark() {
+        int rounds = 1_000_000;
+        int[] hits = new int[2];
+        TimeTracker.track("正则校验 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                if (Pattern.matches("^1[3-9]\\d{9}$", samples[i & 7])) hits[0]++;
+            }
+        });
+        TimeTracker.track("逐字符校验 " + rounds + " 次", () -> {
+            for (int i = 0; i < rounds; i++) {
+                if (PhoneUtil.isValidPhoneNumber(samples[i & 7])) hits[1]++;
+            }
+        });
+        assertEquals(hits[0], hits[1]);
+    }
 }
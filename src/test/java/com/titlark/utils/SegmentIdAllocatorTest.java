@@ -0,0 +1,116 @@
+package com.titlark.utils;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 号段模式 ID 分配器
+ */
+public class SegmentIdAllocatorTest extends TestCase {
+
+    public void testDenseAndMonotonic() {
+        CountingStore store = new CountingStore(new InMemorySegmentStore());
+        SegmentIdAllocator allocator = new SegmentIdAllocator(store, "t_order", 1000);
+        for (long expected = 1; expected <= 10_500; expected++) {
+            assertEquals(expected, allocator.nextId());
+        }
+        // 11 个号段，加上最后一个号段触发的预取
+        assertTrue(store.calls.get() >= 11 && store.calls.get() <= 12);
+    }
+
+    public void testKeysAreIndependent() {
+        InMemorySegmentStore store = new InMemorySegmentStore(100);
+        SegmentIdAllocator orders = new SegmentIdAllocator(store, "t_order", 10);
+        SegmentIdAllocator users = new SegmentIdAllocator(store, "t_user", 10);
+        assertEquals(100, orders.nextId());
+        assertEquals(100, users.nextId());
+        assertEquals(101, orders.nextId());
+    }
+
+    public void testConcurrentUnique() throws InterruptedException {
+        SegmentIdAllocator allocator = new SegmentIdAllocator(new InMemorySegmentStore(0), "t_order", 500);
+        int threads = 8;
+        int perThread = 25_000;
+        BitSet[] seen = new BitSet[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            BitSet bits = seen[t] = new BitSet();
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    bits.set((int) allocator.nextId());
+                }
+            });
+            workers[t].start();
+        }
+        BitSet all = new BitSet();
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+            assertFalse(all.intersects(seen[t]));
+            all.or(seen[t]);
+        }
+        assertEquals(threads * perThread, all.cardinality());
+    }
+
+    public void testFileStore() throws IOException {
+        Path directory = Files.createTempDirectory("segment");
+        Path file = directory.resolve("t_order.segment");
+        try {
+            FileSegmentStore store = new FileSegmentStore(directory);
+            SegmentIdAllocator first = new SegmentIdAllocator(store, "t_order", 100);
+            assertEquals(1, first.nextId());
+            // 模拟重启：新的分配器从未被占用的号段开始
+            SegmentIdAllocator second = new SegmentIdAllocator(new FileSegmentStore(directory), "t_order", 100);
+            long id = second.nextId();
+            assertTrue(id > 100);
+            assertEquals(Long.toString(id + 100), new String(Files.readAllBytes(file), "US-ASCII"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    public void testStoreFailure() {
+        SegmentIdAllocator allocator = new SegmentIdAllocator((key, step) -> {
+            throw new IOException("不可用");
+        }, "t_order", 100);
+        try {
+            allocator.nextId();
+            fail();
+        } catch (RuntimeException expected) {
+            assertTrue(expected.getCause() instanceof IOException);
+        }
+    }
+
+    public void testBenchmark() {
+        SegmentIdAllocator allocator = new SegmentIdAllocator(new InMemorySegmentStore(), "t_order", 10_000);
+        int rounds = 10_000_000;
+        long[] sum = new long[1];
+        TimeTracker.track("号段分配 " + rounds + " 个", () -> {
+            for (int i = 0; i < rounds; i++) {
+                sum[0] += allocator.nextId();
+            }
+        });
+        assertTrue(sum[0] > 0);
+    }
+
+    private static final class CountingStore implements SegmentStore {
+        final SegmentStore delegate;
+        final AtomicInteger calls = new AtomicInteger();
+
+        CountingStore(SegmentStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long nextSegment(String key, long step) throws IOException {
+            calls.incrementAndGet();
+            return delegate.nextSegment(key, step);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.titlark.utils;
 
+import com.titlark.entity.SnowflakeId;
 import junit.framework.TestCase;
 
+import java.time.Instant;
+
 public class SnowFlakeUtilTest extends TestCase {
 
     public void testNextId() {
@@ -11,4 +14,56 @@ public class SnowFlakeUtilTest extends TestCase {
         }
 
     }
+
+    public void testNextIds() {
+        long[] ids = SnowFlakeUtil.nextIds(5000);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+        }
+        assertTrue(SnowFlakeUtil.nextId() > ids[ids.length - 1]);
+    }
+
+    public void testDecode() {
+        long before = System.currentTimeMillis();
+        long id = SnowFlakeUtil.nextId();
+        SnowflakeId decoded = SnowFlakeUtil.decode(id);
+        assertTrue(decoded.getTimestamp() >= before && decoded.getTimestamp() <= System.currentTimeMillis());
+        assertEquals(SnowFlakeUtil.getDatacenterId(), decoded.getDatacenterId());
+        assertEquals(SnowFlakeUtil.getMachineId(), decoded.getMachineId());
+        assertEquals(id & 4095, decoded.getSequence());
+        assertEquals(id, decoded.getId());
+
+        long crafted = (12345L << 22) | (17L << 17) | (9L << 12) | 4000;
+        assertEquals(1609344000000L + 12345, SnowFlakeUtil.timestampOf(crafted));
+        assertEquals(17, SnowFlakeUtil.datacenterIdOf(crafted));
+        assertEquals(9, SnowFlakeUtil.machineIdOf(crafted));
+        assertEquals(4000, SnowFlakeUtil.sequenceOf(crafted));
+    }
+
+    public void testIdRangeForInstant() {
+        Instant now = Instant.ofEpochMilli(System.currentTimeMillis());
+        long min = SnowFlakeUtil.minIdFor(now);
+        long max = SnowFlakeUtil.maxIdFor(now);
+        assertEquals(now.toEpochMilli(), SnowFlakeUtil.timestampOf(min));
+        assertEquals(now.toEpochMilli(), SnowFlakeUtil.timestampOf(max));
+        assertEquals(4095, SnowFlakeUtil.sequenceOf(max));
+        assertEquals(min + (1L << 22), SnowFlakeUtil.maxIdFor(now) + 1);
+
+        Instant from = Instant.now();
+        long id = SnowFlakeUtil.nextId();
+        Instant to = Instant.now();
+        assertTrue(id >= SnowFlakeUtil.minIdFor(from) && id <= SnowFlakeUtil.maxIdFor(to));
+
+        assertEquals(0, SnowFlakeUtil.minIdFor(Instant.EPOCH));
+        assertEquals(-1, SnowFlakeUtil.maxIdFor(Instant.EPOCH));
+
+        // 41 位时间戳可表示的最后一毫秒及之后的时刻
+        Instant last = Instant.ofEpochMilli(1609344000000L + (1L << 41) - 1);
+        assertEquals(Long.MAX_VALUE, SnowFlakeUtil.maxIdFor(last));
+        assertEquals(Long.MAX_VALUE, SnowFlakeUtil.maxIdFor(last.plusMillis(1)));
+        assertEquals(Long.MAX_VALUE, SnowFlakeUtil.maxIdFor(Instant.parse("9999-12-31T00:00:00Z")));
+        assertEquals(((1L << 41) - 1) << 22, SnowFlakeUtil.minIdFor(last));
+        assertEquals(SnowFlakeUtil.minIdFor(last), SnowFlakeUtil.minIdFor(last.plusSeconds(86400L * 365 * 100)));
+        assertTrue(SnowFlakeUtil.minIdFor(Instant.parse("9999-12-31T00:00:00Z")) > 0);
+    }
 }
@@ -0,0 +1,337 @@
+package com.titlark.utils;
+
+import com.titlark.track.TimeTracker;
+import junit.framework.TestCase;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 雪花算法 ID 生成器
+ */
+public class SnowflakeGeneratorTest extends TestCase {
+
+    private static final int THREADS = 64;
+
+    public void testNextIdIncreasing() {
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().datacenterId(3).machineId(7).build();
+        long last = -1;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > last);
+            assertEquals(3, id >>> 17 & 31);
+            assertEquals(7, id >>> 12 & 31);
+            last = id;
+        }
+    }
+
+    public void testDefaultLayoutMatchesSnowFlakeUtil() {
+        long before = System.currentTimeMillis();
+        long id = SnowflakeGenerator.builder().build().nextId();
+        long timestamp = (id >>> 22) + 1609344000000L;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+        assertTrue(SnowFlakeUtil.nextId() > 0);
+    }
+
+    public void testCustomLayout() {
+        long epoch = System.currentTimeMillis() - 1000;
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().epoch(epoch)
+                .sequenceBits(8).machineBits(4).datacenterBits(0).machineId(15).build();
+        long id = generator.nextId();
+        assertEquals(15, id >>> 8 & 15);
+        assertTrue((id >>> 12) >= 1000 && (id >>> 12) < 60_000);
+    }
+
+    public void testDecode() {
+        long epoch = 1_700_000_000_000L;
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().epoch(epoch)
+                .sequenceBits(10).machineBits(6).datacenterBits(3).datacenterId(5).machineId(40).build();
+        long id = generator.nextId();
+        assertEquals(5, generator.datacenterIdOf(id));
+        assertEquals(40, generator.machineIdOf(id));
+        assertEquals(generator.decode(id).getTimestamp(), generator.timestampOf(id));
+        assertEquals(id & 1023, generator.sequenceOf(id));
+
+        Instant instant = Instant.ofEpochMilli(generator.timestampOf(id));
+        assertTrue(generator.minIdFor(instant) <= id && id <= generator.maxIdFor(instant));
+        assertEquals(generator.maxIdFor(instant) + 1, generator.minIdFor(instant.plusMillis(1)));
+        assertEquals(0, generator.minIdFor(Instant.ofEpochMilli(epoch - 1)));
+        assertEquals(-1, generator.maxIdFor(Instant.ofEpochMilli(epoch - 1)));
+    }
+
+    public void testInvalidWorker() {
+        try {
+            SnowflakeGenerator.builder().machineId(32).build();
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            SnowflakeGenerator.builder().datacenterId(-1).build();
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            SnowflakeGenerator.builder().sequenceBits(20).machineBits(10).datacenterBits(10).build();
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testNextIds() {
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().machineId(1).build();
+        long before = generator.nextId();
+        long[] ids = generator.nextIds(10_000);
+        assertTrue(ids[0] > before);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+            assertEquals(1, ids[i] >>> 12 & 31);
+        }
+        // 超过一毫秒 4096 个的容量，占用了后续的毫秒，且不早于当前时间
+        assertTrue((ids[ids.length - 1] >>> 22) - (ids[0] >>> 22) >= 2);
+        assertTrue((ids[ids.length - 1] >>> 22) + 1609344000000L <= System.currentTimeMillis());
+        assertTrue(generator.nextId() > ids[ids.length - 1]);
+        generator.nextIds(new long[0]);
+    }
+
+    public void testClockBackwardsFail() {
+        AtomicLong clock = new AtomicLong(1000);
+        SnowflakeGenerator generator = manualClock(SnowflakeGenerator.ClockStrategy.FAIL, clock);
+        generator.nextId();
+        clock.set(999);
+        try {
+            generator.nextId();
+            fail();
+        } catch (RuntimeException expected) {
+        }
+        assertEquals(1, generator.getClockBackwardsCount());
+        assertEquals(1, generator.getRejectCount());
+        clock.set(1001);
+        assertEquals(1001, generator.nextId() >>> 22);
+    }
+
+    public void testClockBackwardsBorrow() {
+        AtomicLong clock = new AtomicLong(1000);
+        SnowflakeGenerator generator = manualClock(SnowflakeGenerator.ClockStrategy.BORROW, clock);
+        long first = generator.nextId();
+        clock.set(995);
+        long borrowed = generator.nextId();
+        assertEquals(first + 1, borrowed);
+        assertEquals(1, generator.getBorrowCount());
+        assertEquals(0, generator.getWaitCount());
+        // 时钟不动时序列号用尽也借用下一毫秒，不挂起
+        clock.set(1000);
+        long[] ids = generator.nextIds(5000);
+        assertEquals(1001, ids[ids.length - 1] >>> 22);
+        assertEquals(0, generator.getWaitCount());
+        clock.set(980);
+        try {
+            generator.nextId();
+            fail();
+        } catch (RuntimeException expected) {
+        }
+        assertEquals(1, generator.getRejectCount());
+    }
+
+    public void testClockBackwardsWait() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(1000);
+        SnowflakeGenerator generator = manualClock(SnowflakeGenerator.ClockStrategy.WAIT, clock);
+        long first = generator.nextId();
+        clock.set(995);
+        Thread ntp = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ignored) {
+            }
+            clock.set(1001);
+        });
+        ntp.start();
+        long id = generator.nextId();
+        ntp.join();
+        assertTrue(id > first);
+        assertEquals(1, generator.getWaitCount());
+        assertEquals(0, generator.getRejectCount());
+    }
+
+    public void testMonotonicClock() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        SnowflakeGenerator generator = manualClock(SnowflakeGenerator.ClockStrategy.MONOTONIC, clock);
+        long first = generator.nextId();
+        clock.set(0);
+        long second = generator.nextId();
+        assertTrue(second > first);
+        assertEquals(0, generator.getClockBackwardsCount());
+    }
+
+    public void testSequenceExhaustedParks() {
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().build();
+        for (int i = 0; i < 20_000; i++) {
+            generator.nextId();
+        }
+        assertTrue(generator.getWaitCount() > 0);
+        assertEquals(0, generator.getBorrowCount());
+    }
+
+    /**
+     * 切换时钟回拨策略后，新旧两个实例交替使用也不会产生重复的 ID
+     */
+    public void testCopiesShareState() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        SnowflakeGenerator generator = manualClock(SnowflakeGenerator.ClockStrategy.FAIL, clock);
+        SnowflakeGenerator copy = generator.withClockStrategy(SnowflakeGenerator.ClockStrategy.BORROW, 10);
+        long[] ids = new long[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (i & 1) == 0 ? generator.nextId() : copy.nextId();
+            if (i % 100 == 0) clock.incrementAndGet();
+        }
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1]);
+        }
+    }
+
+    private static SnowflakeGenerator manualClock(SnowflakeGenerator.ClockStrategy strategy, AtomicLong clock) {
+        return SnowflakeGenerator.builder().epoch(0).clockStrategy(strategy, 10).wallClock(clock::get).build();
+    }
+
+    public void testConcurrentUnique() throws InterruptedException {
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().build();
+        int perThread = 20_000;
+        long[][] ids = generate(generator::nextId, 8, perThread);
+        long[][] batches = new long[8][];
+        for (int t = 0; t < batches.length; t++) {
+            batches[t] = new long[perThread];
+        }
+        generateBatches(generator, batches);
+        ids = concat(ids, batches);
+        long[] all = new long[ids.length * perThread];
+        for (int t = 0; t < ids.length; t++) {
+            System.arraycopy(ids[t], 0, all, t * perThread, perThread);
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i] != all[i - 1]);
+        }
+    }
+
+    /**
+     * 64 线程下与原来全局同步实现的吞吐量对比；默认 12 位序列号每毫秒最多 4096 个，
+     * 两者都会被时钟限速，因此另外用 22 位序列号比较纯粹的竞争开销
+     */
+    public void testBenchmark() throws Exception {
+        int perThread = 50_000;
+        for (int sequenceBits : new int[]{12, 22}) {
+            LegacySnowflake legacy = new LegacySnowflake(sequenceBits);
+            SnowflakeGenerator generator = SnowflakeGenerator.builder()
+                    .sequenceBits(sequenceBits).machineBits(0).datacenterBits(0).build();
+            String suffix = " " + THREADS + " 线程 " + sequenceBits + " 位序列号 " + THREADS * perThread + " 个";
+            TimeTracker.trackThrows("同步实现" + suffix, () -> {
+                generate(legacy::nextId, THREADS, perThread);
+            });
+            TimeTracker.trackThrows("CAS 实现" + suffix, () -> {
+                generate(generator::nextId, THREADS, perThread);
+            });
+        }
+    }
+
+    /**
+     * 逐个生成与批量生成的对比，使用 22 位序列号避免被每毫秒 4096 个的容量限速
+     */
+    public void testBatchBenchmark() {
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().sequenceBits(22).machineBits(0).datacenterBits(0).build();
+        int rounds = 100;
+        long[] ids = new long[10_000];
+        TimeTracker.track("逐个生成 " + rounds + " × " + ids.length, () -> {
+            for (int r = 0; r < rounds; r++) {
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = generator.nextId();
+                }
+            }
+        });
+        TimeTracker.track("批量生成 " + rounds + " × " + ids.length, () -> {
+            for (int r = 0; r < rounds; r++) {
+                generator.nextIds(ids);
+            }
+        });
+    }
+
+    private static void generateBatches(SnowflakeGenerator generator, long[][] batches) throws InterruptedException {
+        Thread[] workers = new Thread[batches.length];
+        for (int t = 0; t < batches.length; t++) {
+            long[] dest = batches[t];
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < dest.length; i += 1000) {
+                    long[] batch = generator.nextIds(Math.min(1000, dest.length - i));
+                    System.arraycopy(batch, 0, dest, i, batch.length);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private static long[][] concat(long[][] a, long[][] b) {
+        long[][] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static long[][] generate(LongSupplier supplier, int threads, int perThread) throws InterruptedException {
+        long[][] ids = new long[threads][perThread];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long[] dest = ids[t];
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < dest.length; i++) {
+                    dest[i] = supplier.getAsLong();
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return ids;
+    }
+
+    /**
+     * 原 SnowFlakeUtil 的全局同步算法，作为基准
+     */
+    private static final class LegacySnowflake {
+        private final int sequenceBits;
+        private final long maxSequence;
+        private long sequence;
+        private long lastStmp = -1L;
+
+        LegacySnowflake(int sequenceBits) {
+            this.sequenceBits = sequenceBits;
+            this.maxSequence = ~(-1L << sequenceBits);
+        }
+
+        synchronized long nextId() {
+            long currStmp = System.currentTimeMillis();
+            if (currStmp == lastStmp) {
+                sequence = (sequence + 1) & maxSequence;
+                if (sequence == 0L) {
+                    while (currStmp <= lastStmp) {
+                        currStmp = System.currentTimeMillis();
+                    }
+                }
+            } else {
+                sequence = 0L;
+            }
+            lastStmp = currStmp;
+            return (currStmp - 1609344000000L) << sequenceBits | sequence;
+        }
+    }
+}
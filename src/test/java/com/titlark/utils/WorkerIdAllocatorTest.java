@@ -0,0 +1,194 @@
+package com.titlark.utils;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 工作节点标识分配器
+ */
+public class WorkerIdAllocatorTest extends TestCase {
+
+    private Path directory;
+
+    @Override
+    protected void setUp() throws IOException {
+        directory = Files.createTempDirectory("worker-id");
+    }
+
+    @Override
+    protected void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    public void testFileLockUnique() throws IOException {
+        FileLockWorkerIdAllocator[] allocators = new FileLockWorkerIdAllocator[4];
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < allocators.length; i++) {
+            allocators[i] = new FileLockWorkerIdAllocator(directory);
+            assertTrue(ids.add(allocators[i].acquire(3)));
+            assertTrue(allocators[i].isValid());
+        }
+        try {
+            new FileLockWorkerIdAllocator(directory).acquire(3);
+            fail();
+        } catch (IOException expected) {
+        }
+        long released = ids.iterator().next();
+        for (FileLockWorkerIdAllocator allocator : allocators) {
+            allocator.close();
+        }
+        try (FileLockWorkerIdAllocator allocator = new FileLockWorkerIdAllocator(directory)) {
+            assertTrue(allocator.acquire(3) <= 3);
+        }
+        assertTrue(released <= 3);
+    }
+
+    public void testLeaseUnique() throws IOException {
+        try (LeaseWorkerIdAllocator a = new LeaseWorkerIdAllocator(directory, 60_000);
+             LeaseWorkerIdAllocator b = new LeaseWorkerIdAllocator(directory, 60_000)) {
+            long first = a.acquire(1);
+            long second = b.acquire(1);
+            assertTrue(first != second);
+            try {
+                new LeaseWorkerIdAllocator(directory, 60_000).acquire(1);
+                fail();
+            } catch (IOException expected) {
+            }
+        }
+        // 关闭后租约被删除
+        try (LeaseWorkerIdAllocator c = new LeaseWorkerIdAllocator(directory, 60_000)) {
+            c.acquire(1);
+        }
+    }
+
+    public void testLeaseTakeOverExpired() throws IOException {
+        Path stale = directory.resolve("worker-0.lease");
+        Files.write(stale, ("dead\n" + (System.currentTimeMillis() - 1)).getBytes(StandardCharsets.UTF_8));
+        try (LeaseWorkerIdAllocator allocator = new LeaseWorkerIdAllocator(directory, 60_000)) {
+            assertEquals(0, allocator.acquire(0));
+            assertTrue(allocator.isValid());
+        }
+    }
+
+    public void testLeaseRenewAndLoss() throws Exception {
+        try (LeaseWorkerIdAllocator allocator = new LeaseWorkerIdAllocator(directory, 300)) {
+            long workerId = allocator.acquire(0);
+            Path file = directory.resolve("worker-" + workerId + ".lease");
+            long expires = Long.parseLong(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n")[1]);
+            Thread.sleep(400);
+            // 后台续租后租约仍然有效且到期时间后移
+            assertTrue(allocator.isValid());
+            assertTrue(Long.parseLong(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n")[1]) > expires);
+            Files.write(file, ("other\n" + Long.MAX_VALUE).getBytes(StandardCharsets.UTF_8));
+            allocator.renew();
+            assertFalse(allocator.isValid());
+        }
+        // 他人的租约在关闭时不会被删除
+        assertTrue(Files.exists(directory.resolve("worker-0.lease")));
+    }
+
+    public void testLeaseLock() throws Exception {
+        Path lock = directory.resolve("worker-0.lease.lock");
+        Files.write(lock, "other".getBytes(StandardCharsets.UTF_8));
+        // 其他进程正持有锁时不抢占
+        try (LeaseWorkerIdAllocator allocator = new LeaseWorkerIdAllocator(directory, 60_000)) {
+            allocator.acquire(0);
+            fail();
+        } catch (IOException expected) {
+        }
+        // 持有者崩溃遗留的锁超过租期后被清除
+        Files.setLastModifiedTime(lock, FileTime.fromMillis(System.currentTimeMillis() - 120_000));
+        try (LeaseWorkerIdAllocator allocator = new LeaseWorkerIdAllocator(directory, 60_000)) {
+            assertEquals(0, allocator.acquire(0));
+            assertFalse(Files.exists(lock));
+        }
+    }
+
+    public void testLeaseExpiresWithoutRenewal() throws Exception {
+        try (LeaseWorkerIdAllocator allocator = new LeaseWorkerIdAllocator(directory, 300)) {
+            allocator.acquire(0);
+            Path lock = directory.resolve("worker-0.lease.lock");
+            Files.write(lock, "other".getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(lock, FileTime.fromMillis(Long.MAX_VALUE / 2));
+            Thread.sleep(400);
+            // 锁一直被占用，未能续租，到期后失效
+            assertFalse(allocator.isValid());
+            Files.delete(lock);
+            allocator.renew();
+            assertTrue(allocator.isValid());
+        }
+    }
+
+    public void testGeneratorRejectsLostLease() throws IOException {
+        try (LeaseWorkerIdAllocator allocator = new LeaseWorkerIdAllocator(directory, 60_000)) {
+            SnowflakeGenerator generator = SnowflakeGenerator.builder().workerIdAllocator(allocator).build();
+            SnowflakeGenerator copy = generator.withClockStrategy(SnowflakeGenerator.ClockStrategy.BORROW, 10);
+            generator.nextId();
+            Path file = directory.resolve("worker-" + (generator.getDatacenterId() << 5 | generator.getMachineId()) + ".lease");
+            Files.write(file, ("other\n" + Long.MAX_VALUE).getBytes(StandardCharsets.UTF_8));
+            allocator.renew();
+            for (SnowflakeGenerator g : new SnowflakeGenerator[]{generator, copy}) {
+                try {
+                    g.nextId();
+                    fail();
+                } catch (IllegalStateException expected) {
+                }
+            }
+        }
+    }
+
+    public void testHostHash() {
+        long workerId = new HostHashWorkerIdAllocator().acquire(1023);
+        assertTrue(workerId >= 0 && workerId <= 1023);
+        assertEquals(workerId, new HostHashWorkerIdAllocator().acquire(1023));
+    }
+
+    public void testGeneratorWithAllocator() throws IOException {
+        try (FileLockWorkerIdAllocator allocator = new FileLockWorkerIdAllocator(directory)) {
+            SnowflakeGenerator generator = SnowflakeGenerator.builder().workerIdAllocator(allocator).build();
+            long id = generator.nextId();
+            assertEquals(generator.getDatacenterId(), id >>> 17 & 31);
+            assertEquals(generator.getMachineId(), id >>> 12 & 31);
+        }
+        // 分配器不可用时退回到散列
+        WorkerIdAllocator broken = new WorkerIdAllocator() {
+            @Override
+            public long acquire(long maxWorkerId) throws IOException {
+                throw new IOException("不可用");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        long expected = new HostHashWorkerIdAllocator().acquire(1023);
+        SnowflakeGenerator generator = SnowflakeGenerator.builder().workerIdAllocator(broken).build();
+        assertEquals(expected, generator.getDatacenterId() << 5 | generator.getMachineId());
+    }
+
+    public void testSnowFlakeUtilValidation() {
+        try {
+            SnowFlakeUtil.setMachineId(32);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            SnowFlakeUtil.setDatacenterId(-1);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}